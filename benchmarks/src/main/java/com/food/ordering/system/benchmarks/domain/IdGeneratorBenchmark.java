@@ -0,0 +1,61 @@
+package com.food.ordering.system.benchmarks.domain;
+
+import com.food.ordering.system.domain.IdGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IdGeneratorBenchmark {
+
+    public enum Generator {
+        RANDOM(UUID::randomUUID),
+        TIME_ORDERED(IdGenerator::newId);
+
+        private final Supplier<UUID> supplier;
+
+        Generator(Supplier<UUID> supplier) {
+            this.supplier = supplier;
+        }
+    }
+
+    @Param({"RANDOM", "TIME_ORDERED"})
+    private Generator generator;
+
+    @Param({"100000"})
+    private int indexSize;
+
+    private TreeSet<UUID> index;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        index = new TreeSet<>();
+    }
+
+    @Benchmark
+    public UUID newId() {
+        return generator.supplier.get();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public UUID newIdContended() {
+        return generator.supplier.get();
+    }
+
+    @Benchmark
+    public boolean insertIntoIndex() {
+        if (index.size() == indexSize) {
+            index.clear();
+        }
+        return index.add(generator.supplier.get());
+    }
+}
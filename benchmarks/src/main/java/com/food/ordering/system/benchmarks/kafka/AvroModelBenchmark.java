@@ -0,0 +1,121 @@
+package com.food.ordering.system.benchmarks.kafka;
+
+import com.food.ordering.system.kafka.order.avro.model.PaymentOrderStatus;
+import com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.Product;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantOrderStatus;
+import com.food.ordering.system.kafka.order.avro.serde.AvroBinaryDeserializer;
+import com.food.ordering.system.kafka.order.avro.serde.AvroBinarySerializer;
+import com.food.ordering.system.kafka.order.avro.serde.AvroUuidConverter;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AvroModelBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int productCount;
+
+    private PaymentRequestAvroModel paymentRequestAvroModel;
+    private RestaurantApprovalRequestAvroModel restaurantApprovalRequestAvroModel;
+    private ByteBuffer paymentRequestBytes;
+    private ByteBuffer restaurantApprovalRequestBytes;
+    private AvroBinarySerializer<PaymentRequestAvroModel> serializer;
+    private AvroBinaryDeserializer<PaymentRequestAvroModel> deserializer;
+    private byte[] paymentRequestSerdeBytes;
+
+    @Setup
+    public void setUp() throws IOException {
+        UUID id = UUID.randomUUID();
+        paymentRequestAvroModel = PaymentRequestAvroModel.newBuilder()
+                .setId(id.toString())
+                .setIdFixed(AvroUuidConverter.toAvro(id))
+                .setSagaId(id.toString())
+                .setSagaIdFixed(AvroUuidConverter.toAvro(id))
+                .setCustomerId(id.toString())
+                .setCustomerIdFixed(AvroUuidConverter.toAvro(id))
+                .setOrderId(id.toString())
+                .setOrderIdFixed(AvroUuidConverter.toAvro(id))
+                .setPrice(new BigDecimal("200.00"))
+                .setCreatedAt(Instant.now())
+                .setPaymentOrderStatus(PaymentOrderStatus.PENDING)
+                .build();
+
+        List<Product> products = new ArrayList<>(productCount);
+        for (int i = 0; i < productCount; i++) {
+            products.add(Product.newBuilder()
+                    .setId(id.toString())
+                    .setIdFixed(AvroUuidConverter.toAvro(id))
+                    .setQuantity(i + 1)
+                    .build());
+        }
+        restaurantApprovalRequestAvroModel = RestaurantApprovalRequestAvroModel.newBuilder()
+                .setId(id.toString())
+                .setIdFixed(AvroUuidConverter.toAvro(id))
+                .setSagaId(id.toString())
+                .setSagaIdFixed(AvroUuidConverter.toAvro(id))
+                .setRestaurantId(id.toString())
+                .setRestaurantIdFixed(AvroUuidConverter.toAvro(id))
+                .setOrderId(id.toString())
+                .setOrderIdFixed(AvroUuidConverter.toAvro(id))
+                .setRestaurantOrderStatus(RestaurantOrderStatus.PAID)
+                .setProducts(products)
+                .setPrice(new BigDecimal("200.00"))
+                .setCreatedAt(Instant.now())
+                .build();
+
+        paymentRequestBytes = paymentRequestAvroModel.toByteBuffer();
+        restaurantApprovalRequestBytes = restaurantApprovalRequestAvroModel.toByteBuffer();
+
+        serializer = new AvroBinarySerializer<>();
+        serializer.configure(Map.of(), false);
+        deserializer = new AvroBinaryDeserializer<>();
+        deserializer.configure(Map.of(), false);
+        paymentRequestSerdeBytes = serializer.serialize("payment-request", paymentRequestAvroModel);
+    }
+
+    @Benchmark
+    public ByteBuffer encodePaymentRequest() throws IOException {
+        return paymentRequestAvroModel.toByteBuffer();
+    }
+
+    @Benchmark
+    public PaymentRequestAvroModel decodePaymentRequest() throws IOException {
+        return PaymentRequestAvroModel.fromByteBuffer(paymentRequestBytes.duplicate());
+    }
+
+    @Benchmark
+    public ByteBuffer encodeRestaurantApprovalRequest() throws IOException {
+        return restaurantApprovalRequestAvroModel.toByteBuffer();
+    }
+
+    @Benchmark
+    public RestaurantApprovalRequestAvroModel decodeRestaurantApprovalRequest() throws IOException {
+        return RestaurantApprovalRequestAvroModel.fromByteBuffer(restaurantApprovalRequestBytes.duplicate());
+    }
+
+    @Benchmark
+    public byte[] serializePaymentRequest() {
+        return serializer.serialize("payment-request", paymentRequestAvroModel);
+    }
+
+    @Benchmark
+    public PaymentRequestAvroModel deserializePaymentRequest() {
+        return deserializer.deserialize("payment-request", paymentRequestSerdeBytes);
+    }
+}
@@ -0,0 +1,54 @@
+package com.food.ordering.system.benchmarks.order;
+
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.OrderItem;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderBenchmark {
+
+    @Param({"1", "10", "100", "1000"})
+    private int itemCount;
+
+    private List<OrderItem> items;
+
+    @Setup
+    public void setUp() {
+        items = confirmedOrderItems();
+    }
+
+    @Benchmark
+    public List<OrderItem> createOrderItems() {
+        return confirmedOrderItems();
+    }
+
+    @Benchmark
+    public Order validateOrder() {
+        Order order = OrderFixtures.order(items);
+        order.validateOrder();
+        return order;
+    }
+
+    @Benchmark
+    public Order validateAndInitializeOrder() {
+        Order order = OrderFixtures.order(confirmedOrderItems());
+        order.validateOrder();
+        order.initializeOrder();
+        return order;
+    }
+
+    private List<OrderItem> confirmedOrderItems() {
+        List<OrderItem> orderItems = OrderFixtures.orderItems(itemCount, itemCount);
+        orderItems.forEach(orderItem -> orderItem.getProduct()
+                .updateWithConfirmedNameAndPrice("product", orderItem.getPrice()));
+        return orderItems;
+    }
+}
@@ -0,0 +1,46 @@
+package com.food.ordering.system.benchmarks.order;
+
+import com.food.ordering.system.order.service.domain.OrderDomainService;
+import com.food.ordering.system.order.service.domain.OrderDomainServiceImpl;
+import com.food.ordering.system.order.service.domain.entity.OrderItem;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderDomainServiceBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int itemCount;
+
+    @Param({"10", "1000", "10000"})
+    private int menuSize;
+
+    private final OrderDomainService orderDomainService = new OrderDomainServiceImpl();
+
+    private Restaurant restaurant;
+
+    @Setup
+    public void setUp() {
+        restaurant = OrderFixtures.restaurant(menuSize);
+    }
+
+    @Benchmark
+    public List<OrderItem> createOrderItems() {
+        return OrderFixtures.orderItems(itemCount, menuSize);
+    }
+
+    @Benchmark
+    public OrderCreatedEvent validateAndInitiateOrder() {
+        return orderDomainService.validateAndInitiateOrder(
+                OrderFixtures.order(OrderFixtures.orderItems(itemCount, menuSize)), restaurant);
+    }
+}
@@ -0,0 +1,99 @@
+package com.food.ordering.system.benchmarks.order;
+
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.ProductId;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
+import com.food.ordering.system.order.service.domain.dto.create.OrderAddress;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.OrderItem;
+import com.food.ordering.system.order.service.domain.entity.Product;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.valueobject.StreetAddress;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+final class OrderFixtures {
+
+    static final UUID CUSTOMER_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb41");
+    static final UUID RESTAURANT_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb45");
+    static final BigDecimal PRODUCT_PRICE = new BigDecimal("12.50");
+
+    private OrderFixtures() {
+    }
+
+    static List<Product> menu(int menuSize) {
+        List<Product> products = new ArrayList<>(menuSize);
+        for (int i = 0; i < menuSize; i++) {
+            products.add(new Product(new ProductId(productId(i)), "product-" + i, new Money(PRODUCT_PRICE)));
+        }
+        return products;
+    }
+
+    static Restaurant restaurant(int menuSize) {
+        return Restaurant.Builder.builder()
+                .id(new RestaurantId(RESTAURANT_ID))
+                .productList(menu(menuSize))
+                .active(true)
+                .build();
+    }
+
+    static List<OrderItem> orderItems(int itemCount, int menuSize) {
+        List<OrderItem> items = new ArrayList<>(itemCount);
+        Money price = new Money(PRODUCT_PRICE);
+        for (int i = 0; i < itemCount; i++) {
+            items.add(OrderItem.Builder.builder()
+                    .product(new Product(new ProductId(productId(spread(i, itemCount, menuSize)))))
+                    .price(price)
+                    .quantity(1)
+                    .subtotal(price)
+                    .build());
+        }
+        return items;
+    }
+
+    static Order order(List<OrderItem> items) {
+        return Order.Builder.builder()
+                .customerId(new CustomerId(CUSTOMER_ID))
+                .restaurantId(new RestaurantId(RESTAURANT_ID))
+                .deliveryAddress(new StreetAddress(UUID.randomUUID(), "street_1", "1000AB", "Paris"))
+                .price(new Money(PRODUCT_PRICE.multiply(BigDecimal.valueOf(items.size()))))
+                .items(items)
+                .build();
+    }
+
+    static CreateOrderCommand createOrderCommand(int itemCount) {
+        List<com.food.ordering.system.order.service.domain.dto.create.OrderItem> items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            items.add(com.food.ordering.system.order.service.domain.dto.create.OrderItem.builder()
+                    .productId(productId(i))
+                    .quantity(1)
+                    .price(PRODUCT_PRICE)
+                    .subtotal(PRODUCT_PRICE)
+                    .build());
+        }
+        return CreateOrderCommand.builder()
+                .customerId(CUSTOMER_ID)
+                .restaurantId(RESTAURANT_ID)
+                .address(OrderAddress.builder()
+                        .street("street_1")
+                        .postalCode("1000AB")
+                        .city("Paris")
+                        .build())
+                .price(PRODUCT_PRICE.multiply(BigDecimal.valueOf(itemCount)))
+                .orderItemList(items)
+                .build();
+    }
+
+    static UUID productId(int index) {
+        return new UUID(RESTAURANT_ID.getMostSignificantBits(), index);
+    }
+
+    private static int spread(int itemIndex, int itemCount, int menuSize) {
+        return (int) ((long) itemIndex * menuSize / itemCount);
+    }
+}
@@ -0,0 +1,64 @@
+package com.food.ordering.system.benchmarks.order;
+
+import com.food.ordering.system.order.service.dataaccess.order.entity.OrderEntity;
+import com.food.ordering.system.order.service.dataaccess.order.mapper.OrderAccessMapper;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OrderMapperBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int itemCount;
+
+    private final OrderDataMapper orderDataMapper = new OrderDataMapper();
+    private final OrderAccessMapper orderAccessMapper = new OrderAccessMapper();
+
+    private CreateOrderCommand createOrderCommand;
+    private Order order;
+    private OrderEntity orderEntity;
+
+    @Setup
+    public void setUp() {
+        createOrderCommand = OrderFixtures.createOrderCommand(itemCount);
+        order = OrderFixtures.order(OrderFixtures.orderItems(itemCount, itemCount));
+        order.initializeOrder();
+        orderEntity = orderAccessMapper.orderToOrderEntity(order);
+    }
+
+    @Benchmark
+    public Order createOrderCommandToOrder() {
+        return orderDataMapper.createOrderCommandToOrder(createOrderCommand);
+    }
+
+    @Benchmark
+    public Restaurant createOrderCommandToRestaurant() {
+        return orderDataMapper.createOrderCommandToRestaurant(createOrderCommand);
+    }
+
+    @Benchmark
+    public TrackOrderResponse orderToTrackOrderResponse() {
+        return orderDataMapper.orderToTrackOrderResponse(order);
+    }
+
+    @Benchmark
+    public OrderEntity orderToOrderEntity() {
+        return orderAccessMapper.orderToOrderEntity(order);
+    }
+
+    @Benchmark
+    public Order orderEntityToOrder() {
+        return orderAccessMapper.orderEntityToOrder(orderEntity);
+    }
+}
@@ -0,0 +1,52 @@
+package com.food.ordering.system.benchmarks.outbox;
+
+import com.food.ordering.system.outbox.execution.BoundedExecutor;
+import com.food.ordering.system.outbox.execution.ExecutionMode;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BoundedExecutorBenchmark {
+
+    @Param({"SEQUENTIAL", "BOUNDED"})
+    private ExecutionMode mode;
+
+    @Param({"10", "100"})
+    private int batchSize;
+
+    @Param({"200"})
+    private long ioMicros;
+
+    private BoundedExecutor boundedExecutor;
+    private List<UUID> sagaIds;
+
+    @Setup
+    public void setUp() {
+        boundedExecutor = BoundedExecutor.create("benchmark", mode, 32);
+        sagaIds = new ArrayList<>(batchSize);
+        for (int i = 0; i < batchSize; i++) {
+            sagaIds.add(UUID.randomUUID());
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        boundedExecutor.close();
+    }
+
+    @Benchmark
+    public void publishBatch() {
+        boundedExecutor.forEachByKey(sagaIds, sagaId -> sagaId, sagaId ->
+                LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(ioMicros)));
+    }
+}
@@ -0,0 +1,87 @@
+package com.food.ordering.system.benchmarks.payment;
+
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.OrderId;
+import com.food.ordering.system.payment.service.domain.PaymentDomainService;
+import com.food.ordering.system.payment.service.domain.PaymentDomainServiceImpl;
+import com.food.ordering.system.payment.service.domain.entity.CreditEntry;
+import com.food.ordering.system.payment.service.domain.entity.CreditHistory;
+import com.food.ordering.system.payment.service.domain.entity.Payment;
+import com.food.ordering.system.payment.service.domain.event.PaymentEvent;
+import com.food.ordering.system.payment.service.domain.valueobject.CreditEntryId;
+import com.food.ordering.system.payment.service.domain.valueobject.CreditHistoryId;
+import com.food.ordering.system.payment.service.domain.valueobject.TransactionType;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PaymentDomainServiceBenchmark {
+
+    private static final CustomerId CUSTOMER_ID =
+            new CustomerId(UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb41"));
+    private static final Money CREDIT_AMOUNT = new Money(new BigDecimal("100.00"));
+    private static final Money DEBIT_AMOUNT = new Money(new BigDecimal("10.00"));
+    private static final Money PAYMENT_PRICE = new Money(new BigDecimal("25.00"));
+
+    @Param({"10", "1000", "100000"})
+    private int historySize;
+
+    private final PaymentDomainService paymentDomainService = new PaymentDomainServiceImpl();
+
+    private List<CreditHistory> history;
+    private Money creditTotal;
+
+    private Payment payment;
+    private CreditEntry creditEntry;
+
+    @Setup(Level.Trial)
+    public void setUpHistory() {
+        history = new ArrayList<>(historySize);
+        creditTotal = Money.ZERO;
+        for (int i = 0; i < historySize; i++) {
+            boolean credit = i % 2 == 0;
+            Money amount = credit ? CREDIT_AMOUNT : DEBIT_AMOUNT;
+            history.add(CreditHistory.Builder.builder()
+                    .id(new CreditHistoryId(UUID.randomUUID()))
+                    .customerId(CUSTOMER_ID)
+                    .amount(amount)
+                    .transactionType(credit ? TransactionType.CREDIT : TransactionType.DEBIT)
+                    .build());
+            creditTotal = credit ? creditTotal.add(amount) : creditTotal.subtract(amount);
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void setUpPayment() {
+        payment = Payment.Builder.builder()
+                .orderId(new OrderId(UUID.randomUUID()))
+                .customerId(CUSTOMER_ID)
+                .price(PAYMENT_PRICE)
+                .build();
+        creditEntry = CreditEntry.Builder.builder()
+                .id(new CreditEntryId(UUID.randomUUID()))
+                .customerId(CUSTOMER_ID)
+                .totalCreditAmount(creditTotal)
+                .build();
+    }
+
+    @Benchmark
+    public PaymentEvent validateAndInitiatePayment() {
+        PaymentEvent paymentEvent =
+                paymentDomainService.validateAndInitiatePayment(payment, creditEntry, history, new ArrayList<>());
+        history.remove(history.size() - 1);
+        creditEntry.addCreditAmount(PAYMENT_PRICE);
+        return paymentEvent;
+    }
+}
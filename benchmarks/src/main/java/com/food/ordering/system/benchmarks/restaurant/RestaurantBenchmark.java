@@ -0,0 +1,64 @@
+package com.food.ordering.system.benchmarks.restaurant;
+
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.OrderId;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.domain.valueobject.ProductId;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.restaurant.service.domain.entity.OrderDetail;
+import com.food.ordering.system.restaurant.service.domain.entity.Product;
+import com.food.ordering.system.restaurant.service.domain.entity.Restaurant;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RestaurantBenchmark {
+
+    private static final Money PRODUCT_PRICE = new Money(new BigDecimal("12.50"));
+
+    @Param({"1", "10", "100", "1000"})
+    private int productCount;
+
+    private Restaurant restaurant;
+
+    @Setup
+    public void setUp() {
+        List<Product> products = new ArrayList<>(productCount);
+        for (int i = 0; i < productCount; i++) {
+            products.add(Product.builder()
+                    .productId(new ProductId(UUID.randomUUID()))
+                    .name("product-" + i)
+                    .price(PRODUCT_PRICE)
+                    .quantity(2)
+                    .available(true)
+                    .build());
+        }
+        restaurant = Restaurant.builder()
+                .restaurantId(new RestaurantId(UUID.randomUUID()))
+                .active(true)
+                .orderDetail(OrderDetail.builder()
+                        .orderId(new OrderId(UUID.randomUUID()))
+                        .orderStatus(OrderStatus.PAID)
+                        .totalAmount(PRODUCT_PRICE.multiply(2 * productCount))
+                        .products(products)
+                        .build())
+                .build();
+    }
+
+    @Benchmark
+    public List<String> validateOrder() {
+        List<String> failureMessages = new ArrayList<>();
+        restaurant.validateOrder(failureMessages);
+        return failureMessages;
+    }
+}
@@ -0,0 +1,16 @@
+package com.food.ordering.system.dataaccess.inmemory;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@Profile("in-memory")
+@Configuration
+public class InMemoryDataAccessConfiguration {
+
+    @Bean
+    public PlatformTransactionManager transactionManager() {
+        return new InMemoryTransactionManager();
+    }
+}
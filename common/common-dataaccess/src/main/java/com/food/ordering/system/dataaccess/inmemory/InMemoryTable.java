@@ -0,0 +1,308 @@
+package com.food.ordering.system.dataaccess.inmemory;
+
+import org.postgresql.util.PSQLState;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.function.ObjIntConsumer;
+import java.util.function.Predicate;
+import java.util.function.ToIntFunction;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class InMemoryTable<K, E> {
+
+    private final String tableName;
+    private final Function<E, K> primaryKey;
+    private final Function<E, ?> uniqueKey;
+    private final Function<E, ?> indexKey;
+    private final ToIntFunction<E> version;
+    private final ObjIntConsumer<E> versionUpdater;
+
+    private final ConcurrentMap<K, Row<E>> rows = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Object, K> uniqueIndex = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Object, Set<K>> index = new ConcurrentHashMap<>();
+
+    public InMemoryTable(String tableName, Function<E, K> primaryKey) {
+        this(tableName, primaryKey, null, null, null, null);
+    }
+
+    public InMemoryTable(String tableName, Function<E, K> primaryKey, Function<E, ?> uniqueKey) {
+        this(tableName, primaryKey, uniqueKey, null, null, null);
+    }
+
+    public InMemoryTable(String tableName,
+                         Function<E, K> primaryKey,
+                         Function<E, ?> uniqueKey,
+                         ToIntFunction<E> version,
+                         ObjIntConsumer<E> versionUpdater) {
+        this(tableName, primaryKey, uniqueKey, null, version, versionUpdater);
+    }
+
+    public InMemoryTable(String tableName,
+                         Function<E, K> primaryKey,
+                         Function<E, ?> uniqueKey,
+                         Function<E, ?> indexKey,
+                         ToIntFunction<E> version,
+                         ObjIntConsumer<E> versionUpdater) {
+        this.tableName = tableName;
+        this.primaryKey = primaryKey;
+        this.uniqueKey = uniqueKey;
+        this.indexKey = indexKey;
+        this.version = version;
+        this.versionUpdater = versionUpdater;
+    }
+
+    public E insert(E entity) {
+        return write(changes -> insert(changes, entity));
+    }
+
+    public List<E> insertAll(List<E> entities) {
+        return write(changes -> entities.stream()
+                .map(entity -> insert(changes, entity))
+                .collect(Collectors.toList()));
+    }
+
+    public E save(E entity) {
+        return write(changes -> {
+            K id = primaryKey.apply(entity);
+            Row<E> existing = changes.visible(id);
+            if (existing == null) {
+                return insert(changes, entity);
+            }
+            if (version != null) {
+                int expectedVersion = version.applyAsInt(entity);
+                if (version.applyAsInt(existing.entity) != expectedVersion) {
+                    throw new ObjectOptimisticLockingFailureException(tableName, id);
+                }
+                versionUpdater.accept(entity, expectedVersion + 1);
+            }
+            checkUniqueKey(changes, id, entity);
+            changes.record(id, entity);
+            return entity;
+        });
+    }
+
+    public boolean update(K id, Predicate<E> condition, UnaryOperator<E> copyAndUpdate) {
+        return write(changes -> {
+            Row<E> existing = changes.visible(id);
+            if (existing == null || !condition.test(existing.entity)) {
+                return false;
+            }
+            E updated = copyAndUpdate.apply(existing.entity);
+            if (version != null) {
+                versionUpdater.accept(updated, version.applyAsInt(existing.entity) + 1);
+            }
+            checkUniqueKey(changes, id, updated);
+            changes.record(id, updated);
+            return true;
+        });
+    }
+
+    public Optional<E> findById(K id) {
+        Row<E> row = visible(InMemoryTransactionManager.boundChanges(this), id);
+        return row != null ? Optional.of(row.entity) : Optional.empty();
+    }
+
+    public Optional<E> findFirst(Predicate<E> condition) {
+        return visibleEntities(InMemoryTransactionManager.boundChanges(this))
+                .filter(condition)
+                .findFirst();
+    }
+
+    public List<E> findAll(Predicate<E> condition) {
+        return visibleEntities(InMemoryTransactionManager.boundChanges(this))
+                .filter(condition)
+                .collect(Collectors.toList());
+    }
+
+    public List<E> findAllByIndex(Object key) {
+        Changes changes = InMemoryTransactionManager.boundChanges(this);
+        Stream<K> ids = index.getOrDefault(key, Set.of()).stream();
+        if (changes != null) {
+            ids = Stream.concat(ids, changes.writes.keySet().stream()).distinct();
+        }
+        return ids.map(id -> visible(changes, id))
+                .filter(Objects::nonNull)
+                .map(row -> row.entity)
+                .filter(entity -> key.equals(indexKey.apply(entity)))
+                .collect(Collectors.toList());
+    }
+
+    public int deleteAll(Predicate<E> condition) {
+        return write(changes -> {
+            List<K> ids = visibleEntities(changes)
+                    .filter(condition)
+                    .map(primaryKey)
+                    .collect(Collectors.toList());
+            ids.forEach(id -> changes.record(id, null));
+            return ids.size();
+        });
+    }
+
+    private <T> T write(Function<Changes, T> statement) {
+        Changes changes = InMemoryTransactionManager.boundChanges(this, Changes::new);
+        if (changes != null) {
+            return statement.apply(changes);
+        }
+        return InMemoryTransactionManager.autoCommit(() -> {
+            Changes autoCommitChanges = new Changes();
+            T result = statement.apply(autoCommitChanges);
+            autoCommitChanges.validate();
+            autoCommitChanges.apply();
+            return result;
+        });
+    }
+
+    private E insert(Changes changes, E entity) {
+        K id = primaryKey.apply(entity);
+        if (changes.visible(id) != null) {
+            throw duplicateKey("(id)=(" + id + ")");
+        }
+        checkUniqueKey(changes, id, entity);
+        changes.record(id, entity);
+        return entity;
+    }
+
+    private Row<E> visible(Changes changes, K id) {
+        return changes != null ? changes.visible(id) : rows.get(id);
+    }
+
+    private Stream<E> visibleEntities(Changes changes) {
+        if (changes == null) {
+            return rows.values().stream().map(row -> row.entity);
+        }
+        return Stream.concat(
+                rows.entrySet().stream()
+                        .filter(entry -> !changes.writes.containsKey(entry.getKey()))
+                        .map(entry -> entry.getValue().entity),
+                changes.writes.values().stream()
+                        .filter(write -> write.row != null)
+                        .map(write -> write.row.entity));
+    }
+
+    private void checkUniqueKey(Changes changes, K id, E entity) {
+        if (uniqueKey == null) {
+            return;
+        }
+        Object key = uniqueKey.apply(entity);
+        boolean taken = changes.isCommittedKeyTaken(id, key) || changes.writes.entrySet().stream()
+                .anyMatch(entry -> !entry.getKey().equals(id) && entry.getValue().row != null &&
+                        key.equals(uniqueKey.apply(entry.getValue().row.entity)));
+        if (taken) {
+            throw duplicateKey(key.toString());
+        }
+    }
+
+    private void addToIndexes(K id, E entity) {
+        if (uniqueKey != null) {
+            uniqueIndex.put(uniqueKey.apply(entity), id);
+        }
+        if (indexKey != null) {
+            index.computeIfAbsent(indexKey.apply(entity), key -> ConcurrentHashMap.newKeySet()).add(id);
+        }
+    }
+
+    private void removeFromIndexes(K id, E entity) {
+        if (uniqueKey != null) {
+            uniqueIndex.remove(uniqueKey.apply(entity), id);
+        }
+        if (indexKey != null) {
+            index.computeIfPresent(indexKey.apply(entity), (key, ids) -> {
+                ids.remove(id);
+                return ids.isEmpty() ? null : ids;
+            });
+        }
+    }
+
+    private DuplicateKeyException duplicateKey(String key) {
+        String message = "Duplicate key value violates unique constraint of " + tableName + ": " + key;
+        return new DuplicateKeyException(message, new SQLException(message, PSQLState.UNIQUE_VIOLATION.getState()));
+    }
+
+    private final class Changes implements InMemoryTransactionManager.TableChanges {
+        private final Map<K, Write<E>> writes = new LinkedHashMap<>();
+
+        private Row<E> visible(K id) {
+            Write<E> write = writes.get(id);
+            return write != null ? write.row : rows.get(id);
+        }
+
+        private void record(K id, E entity) {
+            Write<E> previous = writes.get(id);
+            writes.put(id, new Write<>(previous != null ? previous.base : rows.get(id),
+                    entity != null ? new Row<>(entity) : null));
+        }
+
+        private boolean isCommittedKeyTaken(K id, Object key) {
+            K owner = uniqueIndex.get(key);
+            if (owner == null || owner.equals(id)) {
+                return false;
+            }
+            Write<E> ownerWrite = writes.get(owner);
+            return ownerWrite == null || ownerWrite.row != null && key.equals(uniqueKey.apply(ownerWrite.row.entity));
+        }
+
+        @Override
+        public void validate() {
+            writes.forEach((id, write) -> {
+                if (rows.get(id) != write.base) {
+                    if (write.base == null) {
+                        throw duplicateKey("(id)=(" + id + ")");
+                    }
+                    throw new ObjectOptimisticLockingFailureException(tableName, id);
+                }
+                if (write.row != null && uniqueKey != null) {
+                    Object key = uniqueKey.apply(write.row.entity);
+                    if (isCommittedKeyTaken(id, key)) {
+                        throw duplicateKey(key.toString());
+                    }
+                }
+            });
+        }
+
+        @Override
+        public void apply() {
+            writes.forEach((id, write) -> {
+                if (write.base != null) {
+                    removeFromIndexes(id, write.base.entity);
+                }
+                if (write.row != null) {
+                    rows.put(id, write.row);
+                    addToIndexes(id, write.row.entity);
+                } else {
+                    rows.remove(id);
+                }
+            });
+        }
+    }
+
+    private static final class Write<E> {
+        private final Row<E> base;
+        private final Row<E> row;
+
+        private Write(Row<E> base, Row<E> row) {
+            this.base = base;
+            this.row = row;
+        }
+    }
+
+    private static final class Row<E> {
+        private final E entity;
+
+        private Row(E entity) {
+            this.entity = entity;
+        }
+    }
+}
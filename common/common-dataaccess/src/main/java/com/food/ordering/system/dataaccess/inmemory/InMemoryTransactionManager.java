@@ -0,0 +1,113 @@
+package com.food.ordering.system.dataaccess.inmemory;
+
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.SmartTransactionObject;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+public class InMemoryTransactionManager extends AbstractPlatformTransactionManager {
+
+    private static final Object TRANSACTION_RESOURCE_KEY = InMemoryTransactionManager.class;
+    private static final Object COMMIT_LOCK = new Object();
+
+    interface TableChanges {
+        void validate();
+
+        void apply();
+    }
+
+    @SuppressWarnings("unchecked")
+    static <C extends TableChanges> C boundChanges(Object table) {
+        InMemoryTransaction transaction = boundTransaction();
+        return transaction != null ? (C) transaction.changes.get(table) : null;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <C extends TableChanges> C boundChanges(Object table, Supplier<C> changesFactory) {
+        InMemoryTransaction transaction = boundTransaction();
+        return transaction != null ? (C) transaction.changes.computeIfAbsent(table, key -> changesFactory.get()) : null;
+    }
+
+    static <T> T autoCommit(Supplier<T> statement) {
+        synchronized (COMMIT_LOCK) {
+            return statement.get();
+        }
+    }
+
+    private static void commit(Collection<TableChanges> changes) {
+        synchronized (COMMIT_LOCK) {
+            changes.forEach(TableChanges::validate);
+            changes.forEach(TableChanges::apply);
+        }
+    }
+
+    @Override
+    protected Object doGetTransaction() {
+        InMemoryTransaction transaction = boundTransaction();
+        return transaction != null ? transaction : new InMemoryTransaction();
+    }
+
+    @Override
+    protected boolean isExistingTransaction(Object transaction) {
+        return boundTransaction() == transaction;
+    }
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+        TransactionSynchronizationManager.bindResource(TRANSACTION_RESOURCE_KEY, transaction);
+    }
+
+    @Override
+    protected Object doSuspend(Object transaction) {
+        return TransactionSynchronizationManager.unbindResource(TRANSACTION_RESOURCE_KEY);
+    }
+
+    @Override
+    protected void doResume(Object transaction, Object suspendedResources) {
+        TransactionSynchronizationManager.bindResource(TRANSACTION_RESOURCE_KEY, suspendedResources);
+    }
+
+    @Override
+    protected void doCommit(DefaultTransactionStatus status) {
+        commit(((InMemoryTransaction) status.getTransaction()).changes.values());
+    }
+
+    @Override
+    protected void doRollback(DefaultTransactionStatus status) {
+        ((InMemoryTransaction) status.getTransaction()).changes.clear();
+    }
+
+    @Override
+    protected void doSetRollbackOnly(DefaultTransactionStatus status) {
+        ((InMemoryTransaction) status.getTransaction()).rollbackOnly = true;
+    }
+
+    @Override
+    protected void doCleanupAfterCompletion(Object transaction) {
+        TransactionSynchronizationManager.unbindResource(TRANSACTION_RESOURCE_KEY);
+    }
+
+    private static InMemoryTransaction boundTransaction() {
+        return (InMemoryTransaction) TransactionSynchronizationManager.getResource(TRANSACTION_RESOURCE_KEY);
+    }
+
+    private static final class InMemoryTransaction implements SmartTransactionObject {
+        private final Map<Object, TableChanges> changes = new IdentityHashMap<>();
+        private boolean rollbackOnly;
+
+        @Override
+        public boolean isRollbackOnly() {
+            return rollbackOnly;
+        }
+
+        @Override
+        public void flush() {
+        }
+    }
+}
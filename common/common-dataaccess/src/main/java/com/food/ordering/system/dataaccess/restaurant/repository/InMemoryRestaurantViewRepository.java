@@ -0,0 +1,32 @@
+package com.food.ordering.system.dataaccess.restaurant.repository;
+
+import com.food.ordering.system.dataaccess.inmemory.InMemoryTable;
+import com.food.ordering.system.dataaccess.restaurant.entity.RestaurantEntity;
+import com.food.ordering.system.dataaccess.restaurant.entity.RestaurantEntityId;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+@Profile("in-memory")
+@Component
+public class InMemoryRestaurantViewRepository {
+
+    private final InMemoryTable<RestaurantEntityId, RestaurantEntity> restaurantView =
+            new InMemoryTable<>("order_restaurant_m_view", restaurantEntity ->
+                    new RestaurantEntityId(restaurantEntity.getId(), restaurantEntity.getProductId()));
+
+    public RestaurantEntity save(RestaurantEntity restaurantEntity) {
+        return restaurantView.save(restaurantEntity);
+    }
+
+    public List<RestaurantEntity> findByIdAndProductIdIn(UUID restaurantId, Collection<UUID> productIds) {
+        Set<UUID> productIdSet = new HashSet<>(productIds);
+        return restaurantView.findAll(restaurantEntity -> restaurantEntity.getId().equals(restaurantId) &&
+                productIdSet.contains(restaurantEntity.getProductId()));
+    }
+}
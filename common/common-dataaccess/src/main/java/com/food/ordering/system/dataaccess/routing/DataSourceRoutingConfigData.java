@@ -0,0 +1,18 @@
+package com.food.ordering.system.dataaccess.routing;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "datasource-routing")
+public class DataSourceRoutingConfigData {
+    private Boolean enabled = false;
+    private List<String> replicaUrls = new ArrayList<>();
+    private Long maxReplicaLagMillis = 1000L;
+    private Long lagCheckIntervalMillis = 1000L;
+}
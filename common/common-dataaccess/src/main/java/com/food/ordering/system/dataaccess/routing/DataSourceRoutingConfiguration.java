@@ -0,0 +1,74 @@
+package com.food.ordering.system.dataaccess.routing;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+
+@Profile("!in-memory")
+// ShardingConfiguration rejects enabling both, it declares the primary data source itself
+@ConditionalOnExpression("${datasource-routing.enabled:false} and !${sharding-config.enabled:false}")
+@Configuration
+public class DataSourceRoutingConfiguration {
+
+    private final DataSourceRoutingConfigData dataSourceRoutingConfigData;
+    private final DataSourceProperties dataSourceProperties;
+    private final Environment environment;
+
+    public DataSourceRoutingConfiguration(DataSourceRoutingConfigData dataSourceRoutingConfigData,
+                                          DataSourceProperties dataSourceProperties,
+                                          Environment environment) {
+        this.dataSourceRoutingConfigData = dataSourceRoutingConfigData;
+        this.dataSourceProperties = dataSourceProperties;
+        this.environment = environment;
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReplicaRoutingDataSource replicaRoutingDataSource() {
+        List<DataSource> replicas = new ArrayList<>();
+        List<String> replicaUrls = dataSourceRoutingConfigData.getReplicaUrls();
+        for (int replica = 0; replica < replicaUrls.size(); replica++) {
+            HikariDataSource replicaDataSource = createDataSource(replicaUrls.get(replica), "replica-" + replica);
+            replicaDataSource.setReadOnly(true);
+            replicas.add(replicaDataSource);
+        }
+        ReplicaLagMonitor replicaLagMonitor = new ReplicaLagMonitor(replicas,
+                dataSourceRoutingConfigData.getMaxReplicaLagMillis(),
+                dataSourceRoutingConfigData.getLagCheckIntervalMillis());
+        return new ReplicaRoutingDataSource(createDataSource(dataSourceProperties.determineUrl(), "primary"),
+                replicas, replicaLagMonitor);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy();
+        dataSource.setTargetDataSource(replicaRoutingDataSource);
+        dataSource.setDefaultAutoCommit(true);
+        dataSource.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        dataSource.afterPropertiesSet();
+        return dataSource;
+    }
+
+    private HikariDataSource createDataSource(String url, String poolName) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(url)
+                .build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(dataSource));
+        dataSource.setPoolName(poolName);
+        return dataSource;
+    }
+}
@@ -0,0 +1,94 @@
+package com.food.ordering.system.dataaccess.routing;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+@Slf4j
+public class ReplicaLagMonitor implements AutoCloseable {
+
+    private static final long UNAVAILABLE = Long.MAX_VALUE;
+    private static final String REPLICA_LAG_QUERY = "SELECT CASE " +
+            "WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+            "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()) * 1000, 0) END";
+
+    private final List<DataSource> replicas;
+    private final long maxReplicaLagMillis;
+    private final AtomicLongArray replicaLagMillis;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final ScheduledExecutorService lagChecker;
+
+    public ReplicaLagMonitor(List<DataSource> replicas, long maxReplicaLagMillis, long lagCheckIntervalMillis) {
+        this.replicas = List.copyOf(replicas);
+        this.maxReplicaLagMillis = maxReplicaLagMillis;
+        this.replicaLagMillis = new AtomicLongArray(replicas.size());
+        for (int replica = 0; replica < replicas.size(); replica++) {
+            replicaLagMillis.set(replica, UNAVAILABLE);
+        }
+        this.lagChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        lagChecker.scheduleWithFixedDelay(this::checkReplicaLag, 0, lagCheckIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public OptionalInt nextAvailableReplica() {
+        int replicaCount = replicas.size();
+        if (replicaCount == 0) {
+            return OptionalInt.empty();
+        }
+        int start = Math.floorMod(nextReplica.getAndIncrement(), replicaCount);
+        for (int i = 0; i < replicaCount; i++) {
+            int replica = (start + i) % replicaCount;
+            if (replicaLagMillis.get(replica) <= maxReplicaLagMillis) {
+                return OptionalInt.of(replica);
+            }
+        }
+        return OptionalInt.empty();
+    }
+
+    @Override
+    public void close() {
+        lagChecker.shutdownNow();
+    }
+
+    private void checkReplicaLag() {
+        for (int replica = 0; replica < replicas.size(); replica++) {
+            long lagMillis = queryReplicaLag(replica);
+            long previousLagMillis = replicaLagMillis.getAndSet(replica, lagMillis);
+            boolean available = lagMillis <= maxReplicaLagMillis;
+            if (available != previousLagMillis <= maxReplicaLagMillis) {
+                if (available) {
+                    log.info("Replica {} is {} ms behind the primary, routing read only transactions to it",
+                            replica, lagMillis);
+                } else {
+                    log.warn("Replica {} is unavailable or more than {} ms behind the primary, " +
+                            "routing its read only transactions to the primary", replica, maxReplicaLagMillis);
+                }
+            }
+        }
+    }
+
+    private long queryReplicaLag(int replica) {
+        try (Connection connection = replicas.get(replica).getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(REPLICA_LAG_QUERY)) {
+            return resultSet.next() ? resultSet.getLong(1) : UNAVAILABLE;
+        } catch (SQLException e) {
+            log.debug("Could not check lag of replica {}: {}", replica, e.getMessage());
+            return UNAVAILABLE;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.food.ordering.system.dataaccess.routing;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    private static final String PRIMARY = "primary";
+
+    private final DataSource primary;
+    private final List<DataSource> replicas;
+    private final ReplicaLagMonitor replicaLagMonitor;
+
+    public ReplicaRoutingDataSource(DataSource primary,
+                                    List<DataSource> replicas,
+                                    ReplicaLagMonitor replicaLagMonitor) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.replicaLagMonitor = replicaLagMonitor;
+        Map<Object, Object> targetDataSources = new HashMap<>();
+        targetDataSources.put(PRIMARY, primary);
+        for (int replica = 0; replica < replicas.size(); replica++) {
+            targetDataSources.put(replica, replicas.get(replica));
+        }
+        setTargetDataSources(targetDataSources);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        OptionalInt replica = replicaLagMonitor.nextAvailableReplica();
+        return replica.isPresent() ? replica.getAsInt() : PRIMARY;
+    }
+
+    @Override
+    public void close() {
+        replicaLagMonitor.close();
+        replicas.forEach(this::closeDataSource);
+        closeDataSource(primary);
+    }
+
+    private void closeDataSource(DataSource dataSource) {
+        if (dataSource instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                log.warn("Could not close data source {}", dataSource, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.food.ordering.system.dataaccess.sharding;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+class ShardContext {
+
+    private static final ThreadLocal<Integer> CURRENT_SHARD = new ThreadLocal<>();
+
+    private ShardContext() {
+    }
+
+    static <T> T callOnShard(int shard, Supplier<T> work) {
+        bindTransaction(shard);
+        Integer previousShard = CURRENT_SHARD.get();
+        CURRENT_SHARD.set(shard);
+        try {
+            return work.get();
+        } finally {
+            if (previousShard == null) {
+                CURRENT_SHARD.remove();
+            } else {
+                CURRENT_SHARD.set(previousShard);
+            }
+        }
+    }
+
+    static int currentShard(int defaultShard) {
+        Optional<ShardBinding> shardBinding = transactionShardBinding();
+        if (shardBinding.isPresent()) {
+            return shardBinding.get().shard;
+        }
+        Integer currentShard = CURRENT_SHARD.get();
+        int shard = currentShard != null ? currentShard : defaultShard;
+        bindTransaction(shard);
+        return shard;
+    }
+
+    private static void bindTransaction(int shard) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        Optional<ShardBinding> shardBinding = transactionShardBinding();
+        if (shardBinding.isEmpty()) {
+            TransactionSynchronizationManager.registerSynchronization(new ShardBinding(shard));
+        } else if (shardBinding.get().shard != shard) {
+            throw new ShardRoutingException(String.format("Transaction is bound to shard %d and cannot access " +
+                    "shard %d!", shardBinding.get().shard, shard));
+        }
+    }
+
+    private static Optional<ShardBinding> transactionShardBinding() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return Optional.empty();
+        }
+        return TransactionSynchronizationManager.getSynchronizations().stream()
+                .filter(ShardBinding.class::isInstance)
+                .map(ShardBinding.class::cast)
+                .findFirst();
+    }
+
+    private static final class ShardBinding implements TransactionSynchronization {
+        private final int shard;
+
+        private ShardBinding(int shard) {
+            this.shard = shard;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.food.ordering.system.dataaccess.sharding;
+
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+public class ShardRouter {
+
+    private final int shardCount;
+    private final TransactionTemplate readWriteTransactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    public ShardRouter(int shardCount, PlatformTransactionManager transactionManager) {
+        this.shardCount = shardCount;
+        this.readWriteTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readWriteTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    public <T> T onShard(int shard, Supplier<T> work) {
+        if (shard < 0 || shard >= shardCount) {
+            throw new ShardRoutingException(String.format("Shard %d does not exist, shard count is %d!",
+                    shard, shardCount));
+        }
+        return ShardContext.callOnShard(shard, work);
+    }
+
+    public <T> List<T> onEveryShard(Supplier<List<T>> work) {
+        TransactionTemplate transactionTemplate = TransactionSynchronizationManager.isCurrentTransactionReadOnly() ?
+                readOnlyTransactionTemplate : readWriteTransactionTemplate;
+        List<T> results = new ArrayList<>();
+        for (int shard = 0; shard < shardCount; shard++) {
+            int currentShard = shard;
+            List<T> shardResults = transactionTemplate.execute(status -> onShard(currentShard, work));
+            if (shardResults != null) {
+                results.addAll(shardResults);
+            }
+        }
+        return results;
+    }
+
+    public void runOnEveryShard(Runnable work) {
+        onEveryShard(() -> {
+            work.run();
+            return List.of();
+        });
+    }
+}
@@ -0,0 +1,8 @@
+package com.food.ordering.system.dataaccess.sharding;
+
+public class ShardRoutingException extends RuntimeException {
+
+    public ShardRoutingException(String message) {
+        super(message);
+    }
+}
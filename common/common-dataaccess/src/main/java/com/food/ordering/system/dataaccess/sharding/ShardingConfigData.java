@@ -0,0 +1,16 @@
+package com.food.ordering.system.dataaccess.sharding;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "sharding-config")
+public class ShardingConfigData {
+    private Boolean enabled = false;
+    private List<String> shardUrls = new ArrayList<>();
+}
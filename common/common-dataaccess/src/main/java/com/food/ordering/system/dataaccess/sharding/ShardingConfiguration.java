@@ -0,0 +1,106 @@
+package com.food.ordering.system.dataaccess.sharding;
+
+import com.food.ordering.system.dataaccess.routing.DataSourceRoutingConfigData;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.sql.init.SqlDataSourceScriptDatabaseInitializer;
+import org.springframework.boot.autoconfigure.sql.init.SqlInitializationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@Profile("!in-memory")
+@ConditionalOnProperty(prefix = "sharding-config", name = "enabled", havingValue = "true")
+@Configuration
+public class ShardingConfiguration {
+
+    private final ShardingConfigData shardingConfigData;
+    private final DataSourceProperties dataSourceProperties;
+    private final Environment environment;
+    private final ResourceLoader resourceLoader;
+
+    public ShardingConfiguration(ShardingConfigData shardingConfigData,
+                                 DataSourceProperties dataSourceProperties,
+                                 DataSourceRoutingConfigData dataSourceRoutingConfigData,
+                                 Environment environment,
+                                 ResourceLoader resourceLoader) {
+        if (Boolean.TRUE.equals(dataSourceRoutingConfigData.getEnabled())) {
+            throw new IllegalStateException("sharding-config.enabled and datasource-routing.enabled cannot both " +
+                    "be true, read replica routing is not supported for sharded order data");
+        }
+        this.shardingConfigData = shardingConfigData;
+        this.dataSourceProperties = dataSourceProperties;
+        this.environment = environment;
+        this.resourceLoader = resourceLoader;
+    }
+
+    @Bean(destroyMethod = "close")
+    public ShardRoutingDataSource shardRoutingDataSource() {
+        List<String> shardUrls = shardingConfigData.getShardUrls().isEmpty() ?
+                List.of(dataSourceProperties.determineUrl()) : shardingConfigData.getShardUrls();
+        List<DataSource> shards = new ArrayList<>();
+        for (int shard = 0; shard < shardUrls.size(); shard++) {
+            HikariDataSource shardDataSource = createDataSource(shardUrls.get(shard), "shard-" + shard);
+            if (shard > 0) {
+                initializeShard(shardDataSource, shard);
+            }
+            shards.add(shardDataSource);
+        }
+        log.info("Order data is sharded across {} data sources", shards.size());
+        return new ShardRoutingDataSource(shards);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ShardRoutingDataSource shardRoutingDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy();
+        dataSource.setTargetDataSource(shardRoutingDataSource);
+        dataSource.setDefaultAutoCommit(true);
+        dataSource.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        dataSource.afterPropertiesSet();
+        return dataSource;
+    }
+
+    @Bean
+    public ShardRouter shardRouter(ShardRoutingDataSource shardRoutingDataSource,
+                                   PlatformTransactionManager transactionManager) {
+        return new ShardRouter(shardRoutingDataSource.getShardCount(), transactionManager);
+    }
+
+    private HikariDataSource createDataSource(String url, String poolName) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(url)
+                .build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(dataSource));
+        dataSource.setPoolName(poolName);
+        return dataSource;
+    }
+
+    private void initializeShard(DataSource shardDataSource, int shard) {
+        SqlInitializationProperties sqlInitializationProperties = Binder.get(environment)
+                .bind("spring.sql.init", SqlInitializationProperties.class)
+                .orElseGet(SqlInitializationProperties::new);
+        SqlDataSourceScriptDatabaseInitializer databaseInitializer =
+                new SqlDataSourceScriptDatabaseInitializer(shardDataSource, sqlInitializationProperties);
+        databaseInitializer.setResourceLoader(resourceLoader);
+        if (databaseInitializer.initializeDatabase()) {
+            log.info("Initialized schema of shard {}", shard);
+        }
+    }
+}
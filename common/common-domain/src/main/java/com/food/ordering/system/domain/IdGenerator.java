@@ -0,0 +1,47 @@
+package com.food.ordering.system.domain;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class IdGenerator {
+    private IdGenerator() {
+    }
+
+    private final static long VERSION_7 = 0x7000L;
+    private final static long VARIANT_RFC_4122 = 0x8000000000000000L;
+    private final static long RANDOM_B_MASK = 0x3FFFFFFFFFFFFFFFL;
+    private final static int MAX_SEQUENCE = 0xFFF;
+    private final static int SEQUENCE_SEED_BOUND = 0x800;
+
+    private final static ThreadLocal<Clock> CLOCK = ThreadLocal.withInitial(Clock::new);
+
+    public static UUID newId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Clock clock = CLOCK.get();
+        clock.tick(System.currentTimeMillis(), random);
+        long mostSignificantBits = clock.millis << 16 | VERSION_7 | clock.sequence;
+        long leastSignificantBits = VARIANT_RFC_4122 | random.nextLong() & RANDOM_B_MASK;
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    public static long timestampOf(UUID id) {
+        return id.getMostSignificantBits() >>> 16;
+    }
+
+    private static class Clock {
+        private long millis;
+        private int sequence;
+
+        private void tick(long now, ThreadLocalRandom random) {
+            if (now > millis) {
+                millis = now;
+                sequence = random.nextInt(SEQUENCE_SEED_BOUND);
+            } else if (sequence < MAX_SEQUENCE) {
+                sequence++;
+            } else {
+                millis++;
+                sequence = random.nextInt(SEQUENCE_SEED_BOUND);
+            }
+        }
+    }
+}
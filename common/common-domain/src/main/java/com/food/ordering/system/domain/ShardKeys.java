@@ -0,0 +1,32 @@
+package com.food.ordering.system.domain;
+
+import java.util.UUID;
+
+public class ShardKeys {
+    private ShardKeys() {
+    }
+
+    public final static int BUCKET_COUNT = 1024;
+
+    private final static long BUCKET_MASK = BUCKET_COUNT - 1;
+
+    public static int bucketOf(UUID customerId) {
+        return Math.floorMod(customerId.hashCode(), BUCKET_COUNT);
+    }
+
+    public static int embeddedBucketOf(UUID id) {
+        return (int) (id.getLeastSignificantBits() & BUCKET_MASK);
+    }
+
+    public static UUID newId(UUID customerId) {
+        return withBucket(IdGenerator.newId(), bucketOf(customerId));
+    }
+
+    public static UUID newTrackingId(UUID customerId) {
+        return withBucket(UUID.randomUUID(), bucketOf(customerId));
+    }
+
+    private static UUID withBucket(UUID id, int bucket) {
+        return new UUID(id.getMostSignificantBits(), (id.getLeastSignificantBits() & ~BUCKET_MASK) | bucket);
+    }
+}
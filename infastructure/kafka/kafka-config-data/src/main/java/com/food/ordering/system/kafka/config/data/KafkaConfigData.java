@@ -4,6 +4,9 @@ import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Data
 @Configuration
 @ConfigurationProperties(prefix = "kafka-config")
@@ -11,6 +14,9 @@ public class KafkaConfigData {
     private String bootstrapServers;
     private String schemaRegistryUrlKey;
     private String schemaRegistryUrl;
+    private String schemaStoreDirKey;
+    private String schemaStoreDir;
     private Integer numOfPartitions;
     private Short replicationFactor;
+    private List<String> topicNames = new ArrayList<>();
 }
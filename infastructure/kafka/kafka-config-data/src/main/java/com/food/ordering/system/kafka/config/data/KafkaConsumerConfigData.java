@@ -11,6 +11,8 @@ import org.springframework.context.annotation.Configuration;
 public class KafkaConsumerConfigData {
     private String keyDeserializer;
     private String valueDeserializer;
+    private String confluentValueDeserializerKey;
+    private String confluentValueDeserializer;
     private String autoOffsetReset;
     private String specificAvroReaderKey;
     private String specificAvroReader;
@@ -24,4 +26,20 @@ public class KafkaConsumerConfigData {
     private Integer maxPollRecords;
     private Integer maxPartitionFetchBytesDefault;
     private Integer maxPartitionFetchBytesBoostFactor;
+    private Boolean concurrencyAutoscaleEnabled;
+    private Integer minConcurrencyLevel;
+    private Integer maxConcurrencyLevel;
+    private Long lagPerConsumerThread;
+    private Long lagCheckIntervalMs;
+    private Long scaleCooldownMs;
+    private String partitionAssignmentStrategy;
+    private Boolean staticMembershipEnabled;
+    private String groupInstanceIdPrefix;
+    private String groupInstanceOrdinal;
+    private Long shutdownTimeoutMs;
+    private String deadLetterTopicSuffix;
+
+    public boolean isConcurrencyAutoscaleActive() {
+        return Boolean.TRUE.equals(concurrencyAutoscaleEnabled) && !Boolean.TRUE.equals(staticMembershipEnabled);
+    }
 }
@@ -2,30 +2,57 @@ package com.food.ordering.system.kafka.consumer.config;
 
 import com.food.ordering.system.kafka.config.data.KafkaConfigData;
 import com.food.ordering.system.kafka.config.data.KafkaConsumerConfigData;
+import com.food.ordering.system.kafka.config.data.KafkaProducerConfigData;
+import com.food.ordering.system.kafka.consumer.interceptor.DeserializationFailureInterceptor;
+import com.food.ordering.system.kafka.consumer.interceptor.HopLatencyInterceptor;
+import com.food.ordering.system.outbox.config.ExecutionConfigData;
+import com.food.ordering.system.outbox.execution.BoundedExecutor;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.avro.specific.SpecificRecordBase;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.config.KafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.CompositeBatchInterceptor;
 import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
 
 import java.io.Serializable;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
+@Slf4j
 @Configuration
 public class KafkaConsumerConfig<K extends Serializable, V extends SpecificRecordBase> {
 
     private final KafkaConfigData kafkaConfigData;
     private final KafkaConsumerConfigData kafkaConsumerConfigData;
+    private final KafkaProducerConfigData kafkaProducerConfigData;
+    private final MeterRegistry meterRegistry;
 
     public KafkaConsumerConfig(KafkaConfigData kafkaConfigData,
-                               KafkaConsumerConfigData kafkaConsumerConfigData) {
+                               KafkaConsumerConfigData kafkaConsumerConfigData,
+                               KafkaProducerConfigData kafkaProducerConfigData,
+                               MeterRegistry meterRegistry) {
         this.kafkaConfigData = kafkaConfigData;
         this.kafkaConsumerConfigData = kafkaConsumerConfigData;
+        this.kafkaProducerConfigData = kafkaProducerConfigData;
+        this.meterRegistry = meterRegistry;
     }
 
     @Bean
@@ -33,9 +60,13 @@ public class KafkaConsumerConfig<K extends Serializable, V extends SpecificRecor
         Map<String, Object> props = new HashMap<>();
         props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaConfigData.getBootstrapServers());
         props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, kafkaConsumerConfigData.getKeyDeserializer());
-        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, kafkaConsumerConfigData.getValueDeserializer());
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
+        props.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, kafkaConsumerConfigData.getValueDeserializer());
+        props.put(kafkaConsumerConfigData.getConfluentValueDeserializerKey(),
+                kafkaConsumerConfigData.getConfluentValueDeserializer());
         props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, kafkaConsumerConfigData.getAutoOffsetReset());
         props.put(kafkaConfigData.getSchemaRegistryUrlKey(), kafkaConfigData.getSchemaRegistryUrl());
+        props.put(kafkaConfigData.getSchemaStoreDirKey(), kafkaConfigData.getSchemaStoreDir());
         props.put(kafkaConsumerConfigData.getSpecificAvroReaderKey(), kafkaConsumerConfigData.getSpecificAvroReader());
         props.put(ConsumerConfig.SESSION_TIMEOUT_MS_CONFIG, kafkaConsumerConfigData.getSessionTimeoutMs());
         props.put(ConsumerConfig.HEARTBEAT_INTERVAL_MS_CONFIG, kafkaConsumerConfigData.getHeartbeatIntervalMs());
@@ -44,6 +75,25 @@ public class KafkaConsumerConfig<K extends Serializable, V extends SpecificRecor
                 kafkaConsumerConfigData.getMaxPartitionFetchBytesDefault() *
                         kafkaConsumerConfigData.getMaxPartitionFetchBytesBoostFactor());
         props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, kafkaConsumerConfigData.getMaxPollRecords());
+        props.put(ConsumerConfig.PARTITION_ASSIGNMENT_STRATEGY_CONFIG,
+                kafkaConsumerConfigData.getPartitionAssignmentStrategy());
+        if (Boolean.TRUE.equals(kafkaConsumerConfigData.getStaticMembershipEnabled())) {
+            if (Boolean.TRUE.equals(kafkaConsumerConfigData.getConcurrencyAutoscaleEnabled())) {
+                throw new IllegalStateException("kafka-consumer-config.concurrency-autoscale-enabled and " +
+                        "static-membership-enabled cannot both be true: consumers added by autoscaling have no " +
+                        "stable group instance id and each scaling step would rebalance the static members");
+            }
+            String instanceOrdinal = kafkaConsumerConfigData.getGroupInstanceOrdinal();
+            if (instanceOrdinal == null || instanceOrdinal.isBlank()) {
+                throw new IllegalStateException("kafka-consumer-config.group-instance-ordinal must be set to a " +
+                        "value unique among the instances of this service on a host when static membership is enabled");
+            }
+            String hostName = hostName();
+            if (hostName != null) {
+                props.put(ConsumerConfig.GROUP_INSTANCE_ID_CONFIG,
+                        kafkaConsumerConfigData.getGroupInstanceIdPrefix() + "-" + hostName + "-" + instanceOrdinal);
+            }
+        }
         return props;
     }
 
@@ -57,9 +107,59 @@ public class KafkaConsumerConfig<K extends Serializable, V extends SpecificRecor
         ConcurrentKafkaListenerContainerFactory<K, V> factory = new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(consumerFactory());
         factory.setBatchListener(kafkaConsumerConfigData.getBatchListener());
-        factory.setConcurrency(kafkaConsumerConfigData.getConcurrencyLevel());
+        factory.setConcurrency(kafkaConsumerConfigData.isConcurrencyAutoscaleActive() ?
+                kafkaConsumerConfigData.getMinConcurrencyLevel() : kafkaConsumerConfigData.getConcurrencyLevel());
         factory.setAutoStartup(kafkaConsumerConfigData.getAutoStartup());
         factory.getContainerProperties().setPollTimeout(kafkaConsumerConfigData.getPollTimeoutMs());
+        factory.getContainerProperties().setShutdownTimeout(kafkaConsumerConfigData.getShutdownTimeoutMs());
+        factory.setCommonErrorHandler(new DefaultErrorHandler(deadLetterPublishingRecoverer()));
+        HopLatencyInterceptor<K, V> hopLatencyInterceptor = new HopLatencyInterceptor<>(meterRegistry);
+        factory.setBatchInterceptor(new CompositeBatchInterceptor<>(
+                new DeserializationFailureInterceptor<>(meterRegistry), hopLatencyInterceptor));
+        factory.setRecordInterceptor(hopLatencyInterceptor);
         return factory;
     }
+
+    @Bean
+    public DeadLetterPublishingRecoverer deadLetterPublishingRecoverer() {
+        // records that could not be deserialized are republished with their original bytes
+        Map<Class<?>, KafkaOperations<?, ?>> templates = new LinkedHashMap<>();
+        templates.put(byte[].class, deadLetterTemplate(ByteArraySerializer.class.getName()));
+        templates.put(Object.class, deadLetterTemplate(kafkaProducerConfigData.getValueSerializerClass()));
+        String suffix = kafkaConsumerConfigData.getDeadLetterTopicSuffix();
+        return new DeadLetterPublishingRecoverer(templates,
+                (record, exception) -> new TopicPartition(record.topic() + suffix, record.partition()));
+    }
+
+    private KafkaTemplate<Object, Object> deadLetterTemplate(String valueSerializerClass) {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaConfigData.getBootstrapServers());
+        props.put(kafkaConfigData.getSchemaRegistryUrlKey(), kafkaConfigData.getSchemaRegistryUrl());
+        props.put(kafkaConfigData.getSchemaStoreDirKey(), kafkaConfigData.getSchemaStoreDir());
+        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, kafkaProducerConfigData.getKeySerializerClass());
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, valueSerializerClass);
+        props.put(ProducerConfig.ACKS_CONFIG, kafkaProducerConfigData.getAcks());
+        props.put(ProducerConfig.REQUEST_TIMEOUT_MS_CONFIG, kafkaProducerConfigData.getRequestTimeoutMs());
+        props.put(ProducerConfig.RETRIES_CONFIG, kafkaProducerConfigData.getRetryCount());
+        return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(props));
+    }
+
+    @Bean(destroyMethod = "close")
+    public BoundedExecutor kafkaRecordExecutor(ExecutionConfigData executionConfigData) {
+        return BoundedExecutor.create("kafka-record", executionConfigData.getMode(),
+                executionConfigData.getMaxConcurrentRecords());
+    }
+
+    private String hostName() {
+        String hostName = System.getenv("HOSTNAME");
+        if (hostName != null && !hostName.isBlank()) {
+            return hostName;
+        }
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            log.warn("Could not resolve host name, static group membership is disabled: {}", e.getMessage());
+            return null;
+        }
+    }
 }
@@ -0,0 +1,45 @@
+package com.food.ordering.system.kafka.consumer.config;
+
+import com.food.ordering.system.kafka.config.data.KafkaConfigData;
+import com.food.ordering.system.kafka.config.data.KafkaConsumerConfigData;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.KafkaAdmin;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+@Configuration
+public class KafkaTopicConfig {
+
+    private final KafkaConfigData kafkaConfigData;
+    private final KafkaConsumerConfigData kafkaConsumerConfigData;
+
+    public KafkaTopicConfig(KafkaConfigData kafkaConfigData, KafkaConsumerConfigData kafkaConsumerConfigData) {
+        this.kafkaConfigData = kafkaConfigData;
+        this.kafkaConsumerConfigData = kafkaConsumerConfigData;
+    }
+
+    @Bean
+    public KafkaAdmin kafkaAdmin() {
+        Map<String, Object> props = new HashMap<>();
+        props.put(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, kafkaConfigData.getBootstrapServers());
+        return new KafkaAdmin(props);
+    }
+
+    @Bean
+    public KafkaAdmin.NewTopics provisionedTopics() {
+        return new KafkaAdmin.NewTopics(kafkaConfigData.getTopicNames().stream()
+                .flatMap(topicName -> Stream.of(topicName,
+                        topicName + kafkaConsumerConfigData.getDeadLetterTopicSuffix()))
+                .map(topicName -> TopicBuilder.name(topicName)
+                        .partitions(kafkaConfigData.getNumOfPartitions())
+                        .replicas(kafkaConfigData.getReplicationFactor())
+                        .build())
+                .toArray(NewTopic[]::new));
+    }
+}
@@ -0,0 +1,52 @@
+package com.food.ordering.system.kafka.consumer.interceptor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.logging.LogFactory;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.springframework.core.log.LogAccessor;
+import org.springframework.kafka.listener.BatchInterceptor;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.listener.ListenerUtils;
+import org.springframework.kafka.support.serializer.DeserializationException;
+import org.springframework.kafka.support.serializer.SerializationUtils;
+
+@Slf4j
+public class DeserializationFailureInterceptor<K, V> implements BatchInterceptor<K, V> {
+
+    private static final String DESERIALIZATION_FAILURE_COUNTER = "kafka.consumer.deserialization.failures";
+
+    private static final LogAccessor LOG_ACCESSOR =
+            new LogAccessor(LogFactory.getLog(DeserializationFailureInterceptor.class));
+
+    private final MeterRegistry meterRegistry;
+
+    public DeserializationFailureInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public ConsumerRecords<K, V> intercept(ConsumerRecords<K, V> records, Consumer<K, V> consumer) {
+        // the error handler commits the records before the failed one, dead-letters it and redelivers the rest
+        for (ConsumerRecord<K, V> record : records) {
+            if (record.value() != null) {
+                continue;
+            }
+            DeserializationException failure = ListenerUtils.getExceptionFromHeader(record,
+                    SerializationUtils.VALUE_DESERIALIZER_EXCEPTION_HEADER, LOG_ACCESSOR);
+            if (failure != null) {
+                log.error("Record at offset {} of {}-{} could not be deserialized and is sent to the dead letter topic",
+                        record.offset(), record.topic(), record.partition());
+                Counter.builder(DESERIALIZATION_FAILURE_COUNTER)
+                        .tag("topic", record.topic())
+                        .register(meterRegistry)
+                        .increment();
+                throw new BatchListenerFailedException("Record could not be deserialized", failure, record);
+            }
+        }
+        return records;
+    }
+}
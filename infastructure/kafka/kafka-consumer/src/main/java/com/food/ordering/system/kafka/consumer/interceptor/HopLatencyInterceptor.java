@@ -0,0 +1,49 @@
+package com.food.ordering.system.kafka.consumer.interceptor;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.springframework.kafka.listener.BatchInterceptor;
+import org.springframework.kafka.listener.RecordInterceptor;
+
+import java.util.concurrent.TimeUnit;
+
+public class HopLatencyInterceptor<K, V> implements BatchInterceptor<K, V>, RecordInterceptor<K, V> {
+
+    private static final String HOP_LATENCY_TIMER = "kafka.consumer.hop.latency";
+
+    private final MeterRegistry meterRegistry;
+
+    public HopLatencyInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public ConsumerRecords<K, V> intercept(ConsumerRecords<K, V> records, Consumer<K, V> consumer) {
+        records.forEach(this::recordHopLatency);
+        return records;
+    }
+
+    @Override
+    public ConsumerRecord<K, V> intercept(ConsumerRecord<K, V> record, Consumer<K, V> consumer) {
+        recordHopLatency(record);
+        return record;
+    }
+
+    @Override
+    @Deprecated
+    public ConsumerRecord<K, V> intercept(ConsumerRecord<K, V> record) {
+        return intercept(record, null);
+    }
+
+    private void recordHopLatency(ConsumerRecord<K, V> record) {
+        long latencyMs = Math.max(0, System.currentTimeMillis() - record.timestamp());
+        Timer.builder(HOP_LATENCY_TIMER)
+                .tag("topic", record.topic())
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(latencyMs, TimeUnit.MILLISECONDS);
+    }
+}
@@ -0,0 +1,199 @@
+package com.food.ordering.system.kafka.consumer.scaling;
+
+import com.food.ordering.system.kafka.config.data.KafkaConsumerConfigData;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.ListConsumerGroupOffsetsOptions;
+import org.apache.kafka.clients.admin.ListOffsetsResult;
+import org.apache.kafka.clients.admin.OffsetSpec;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.kafka.config.KafkaListenerContainerFactory;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Slf4j
+@Component
+public class ConsumerLagController implements DisposableBean {
+
+    private static final String CONSUMER_LAG_GAUGE = "kafka.consumer.lag";
+    private static final String CONSUMER_CONCURRENCY_GAUGE = "kafka.consumer.concurrency";
+    private static final long ADMIN_TIMEOUT_SECONDS = 10;
+
+    private final KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry;
+    private final KafkaListenerContainerFactory<?> kafkaListenerContainerFactory;
+    private final KafkaConsumerConfigData kafkaConsumerConfigData;
+    private final MeterRegistry meterRegistry;
+    private final AdminClient adminClient;
+    private final boolean autoscaleEnabled;
+    private final Map<String, AtomicLong> lags = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> concurrencies = new ConcurrentHashMap<>();
+    private final Map<String, Long> lastScaledAt = new ConcurrentHashMap<>();
+    private final Map<String, Deque<MessageListenerContainer>> extraContainers = new ConcurrentHashMap<>();
+
+    public ConsumerLagController(KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry,
+                                 KafkaListenerContainerFactory<?> kafkaListenerContainerFactory,
+                                 KafkaConsumerConfigData kafkaConsumerConfigData,
+                                 MeterRegistry meterRegistry,
+                                 KafkaAdmin kafkaAdmin) {
+        this.kafkaListenerEndpointRegistry = kafkaListenerEndpointRegistry;
+        this.kafkaListenerContainerFactory = kafkaListenerContainerFactory;
+        this.kafkaConsumerConfigData = kafkaConsumerConfigData;
+        this.meterRegistry = meterRegistry;
+        this.adminClient = AdminClient.create(kafkaAdmin.getConfigurationProperties());
+        this.autoscaleEnabled = kafkaConsumerConfigData.isConcurrencyAutoscaleActive();
+    }
+
+    @Scheduled(fixedDelayString = "${kafka-consumer-config.lag-check-interval-ms}",
+            initialDelayString = "${kafka-consumer-config.lag-check-interval-ms}")
+    public void adjustConcurrency() {
+        for (MessageListenerContainer container : kafkaListenerEndpointRegistry.getListenerContainers()) {
+            if (container instanceof ConcurrentMessageListenerContainer<?, ?> concurrentContainer &&
+                    concurrentContainer.isRunning()) {
+                try {
+                    adjustConcurrency(concurrentContainer);
+                } catch (ExecutionException | TimeoutException e) {
+                    log.warn("Could not read consumer lag for listener {}: {}",
+                            container.getListenerId(), e.getMessage());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        extraContainers.values().forEach(containers -> containers.forEach(MessageListenerContainer::stop));
+        extraContainers.clear();
+        adminClient.close();
+    }
+
+    private void adjustConcurrency(ConcurrentMessageListenerContainer<?, ?> container)
+            throws ExecutionException, InterruptedException, TimeoutException {
+        String listenerId = container.getListenerId();
+        String[] topics = container.getContainerProperties().getTopics();
+        if (topics == null) {
+            return;
+        }
+        Deque<MessageListenerContainer> extras = extraContainers.computeIfAbsent(listenerId,
+                id -> new ConcurrentLinkedDeque<>());
+        int concurrency = container.getConcurrency() + extras.size();
+        // other instances of the group own the remaining partitions and scale on their own lag
+        List<TopicPartition> assignedPartitions = assignedPartitions(container, extras);
+        long lag = assignedPartitions.isEmpty() ? 0 : lag(container.getGroupId(), assignedPartitions);
+        gauge(lags, CONSUMER_LAG_GAUGE, listenerId).set(lag);
+        gauge(concurrencies, CONSUMER_CONCURRENCY_GAUGE, listenerId).set(concurrency);
+
+        if (!autoscaleEnabled || assignedPartitions.isEmpty()) {
+            return;
+        }
+
+        int desiredConcurrency =
+                Math.max(container.getConcurrency(), desiredConcurrency(lag, assignedPartitions.size()));
+        if (desiredConcurrency == concurrency || isCoolingDown(listenerId)) {
+            return;
+        }
+
+        log.info("Scaling listener {} from {} to {} consumer threads for lag {}",
+                listenerId, concurrency, desiredConcurrency, lag);
+        while (container.getConcurrency() + extras.size() < desiredConcurrency) {
+            MessageListenerContainer extra = extraContainer(container, topics, extras.size());
+            extra.start();
+            extras.push(extra);
+        }
+        List<MessageListenerContainer> stopped = new ArrayList<>();
+        while (container.getConcurrency() + extras.size() > desiredConcurrency) {
+            stopped.add(extras.pop());
+        }
+        stopped.forEach(MessageListenerContainer::stop);
+        gauge(concurrencies, CONSUMER_CONCURRENCY_GAUGE, listenerId).set(container.getConcurrency() + extras.size());
+        lastScaledAt.put(listenerId, System.currentTimeMillis());
+    }
+
+    private MessageListenerContainer extraContainer(ConcurrentMessageListenerContainer<?, ?> container,
+                                                    String[] topics, int index) {
+        MessageListenerContainer extra = kafkaListenerContainerFactory.createContainer(topics);
+        if (extra instanceof ConcurrentMessageListenerContainer<?, ?> concurrentExtra) {
+            concurrentExtra.setConcurrency(1);
+            concurrentExtra.setBeanName(container.getListenerId() + "-extra-" + index);
+            concurrentExtra.setApplicationEventPublisher(container.getApplicationEventPublisher());
+            concurrentExtra.setCommonErrorHandler(container.getCommonErrorHandler());
+        }
+        extra.getContainerProperties().setGroupId(container.getGroupId());
+        extra.setupMessageListener(container.getContainerProperties().getMessageListener());
+        return extra;
+    }
+
+    private List<TopicPartition> assignedPartitions(MessageListenerContainer container,
+                                                    Collection<MessageListenerContainer> extras) {
+        return Stream.concat(Stream.of(container), extras.stream())
+                .map(MessageListenerContainer::getAssignedPartitions)
+                .filter(Objects::nonNull)
+                .flatMap(Collection::stream)
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    private long lag(String groupId, List<TopicPartition> partitions)
+            throws ExecutionException, InterruptedException, TimeoutException {
+        Map<TopicPartition, ListOffsetsResult.ListOffsetsResultInfo> endOffsets = adminClient
+                .listOffsets(partitions.stream()
+                        .collect(Collectors.toMap(Function.identity(), partition -> OffsetSpec.latest())))
+                .all()
+                .get(ADMIN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        Map<TopicPartition, OffsetAndMetadata> committedOffsets = adminClient
+                .listConsumerGroupOffsets(groupId, new ListConsumerGroupOffsetsOptions().topicPartitions(partitions))
+                .partitionsToOffsetAndMetadata()
+                .get(ADMIN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        return endOffsets.entrySet().stream()
+                .mapToLong(entry -> {
+                    OffsetAndMetadata committed = committedOffsets.get(entry.getKey());
+                    return Math.max(0, entry.getValue().offset() - (committed == null ? 0 : committed.offset()));
+                })
+                .sum();
+    }
+
+    private int desiredConcurrency(long lag, int partitionCount) {
+        int upperBound = Math.max(1, Math.min(kafkaConsumerConfigData.getMaxConcurrencyLevel(), partitionCount));
+        int lowerBound = Math.min(kafkaConsumerConfigData.getMinConcurrencyLevel(), upperBound);
+        long needed = (lag + kafkaConsumerConfigData.getLagPerConsumerThread() - 1) /
+                kafkaConsumerConfigData.getLagPerConsumerThread();
+        return (int) Math.max(lowerBound, Math.min(upperBound, needed));
+    }
+
+    private boolean isCoolingDown(String listenerId) {
+        Long scaledAt = lastScaledAt.get(listenerId);
+        return scaledAt != null &&
+                System.currentTimeMillis() - scaledAt < kafkaConsumerConfigData.getScaleCooldownMs();
+    }
+
+    private AtomicLong gauge(Map<String, AtomicLong> gauges, String name, String listenerId) {
+        return gauges.computeIfAbsent(listenerId, id ->
+                meterRegistry.gauge(name, Tags.of("listener", id), new AtomicLong()));
+    }
+}
@@ -0,0 +1,514 @@
+/**
+ * Autogenerated by Avro
+ *
+ * DO NOT EDIT DIRECTLY
+ */
+package com.food.ordering.system.kafka.order.avro.model;
+
+import org.apache.avro.generic.GenericArray;
+import org.apache.avro.specific.SpecificData;
+import org.apache.avro.util.Utf8;
+import org.apache.avro.message.BinaryMessageEncoder;
+import org.apache.avro.message.BinaryMessageDecoder;
+import org.apache.avro.message.SchemaStore;
+
+@org.apache.avro.specific.AvroGenerated
+public class CustomerAvroModel extends org.apache.avro.specific.SpecificRecordBase implements org.apache.avro.specific.SpecificRecord {
+  private static final long serialVersionUID = -861064569672548277L;
+
+
+  public static final org.apache.avro.Schema SCHEMA$ = new org.apache.avro.Schema.Parser().parse("{\"type\":\"record\",\"name\":\"CustomerAvroModel\",\"namespace\":\"com.food.ordering.system.kafka.order.avro.model\",\"fields\":[{\"name\":\"id\",\"type\":{\"type\":\"string\",\"logicalType\":\"uuid\"}},{\"name\":\"username\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"}},{\"name\":\"firstName\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"}},{\"name\":\"lastName\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"}}]}");
+  public static org.apache.avro.Schema getClassSchema() { return SCHEMA$; }
+
+  private static final SpecificData MODEL$ = new SpecificData();
+
+  private static final BinaryMessageEncoder<CustomerAvroModel> ENCODER =
+      new BinaryMessageEncoder<CustomerAvroModel>(MODEL$, SCHEMA$);
+
+  private static final BinaryMessageDecoder<CustomerAvroModel> DECODER =
+      new BinaryMessageDecoder<CustomerAvroModel>(MODEL$, SCHEMA$);
+
+  /**
+   * Return the BinaryMessageEncoder instance used by this class.
+   * @return the message encoder used by this class
+   */
+  public static BinaryMessageEncoder<CustomerAvroModel> getEncoder() {
+    return ENCODER;
+  }
+
+  /**
+   * Return the BinaryMessageDecoder instance used by this class.
+   * @return the message decoder used by this class
+   */
+  public static BinaryMessageDecoder<CustomerAvroModel> getDecoder() {
+    return DECODER;
+  }
+
+  /**
+   * Create a new BinaryMessageDecoder instance for this class that uses the specified {@link SchemaStore}.
+   * @param resolver a {@link SchemaStore} used to find schemas by fingerprint
+   * @return a BinaryMessageDecoder instance for this class backed by the given SchemaStore
+   */
+  public static BinaryMessageDecoder<CustomerAvroModel> createDecoder(SchemaStore resolver) {
+    return new BinaryMessageDecoder<CustomerAvroModel>(MODEL$, SCHEMA$, resolver);
+  }
+
+  /**
+   * Serializes this CustomerAvroModel to a ByteBuffer.
+   * @return a buffer holding the serialized data for this instance
+   * @throws java.io.IOException if this instance could not be serialized
+   */
+  public java.nio.ByteBuffer toByteBuffer() throws java.io.IOException {
+    return ENCODER.encode(this);
+  }
+
+  /**
+   * Deserializes a CustomerAvroModel from a ByteBuffer.
+   * @param b a byte buffer holding serialized data for an instance of this class
+   * @return a CustomerAvroModel instance decoded from the given buffer
+   * @throws java.io.IOException if the given bytes could not be deserialized into an instance of this class
+   */
+  public static CustomerAvroModel fromByteBuffer(
+      java.nio.ByteBuffer b) throws java.io.IOException {
+    return DECODER.decode(b);
+  }
+
+  private java.lang.String id;
+  private java.lang.String username;
+  private java.lang.String firstName;
+  private java.lang.String lastName;
+
+  /**
+   * Default constructor.  Note that this does not initialize fields
+   * to their default values from the schema.  If that is desired then
+   * one should use <code>newBuilder()</code>.
+   */
+  public CustomerAvroModel() {}
+
+  /**
+   * All-args constructor.
+   * @param id The new value for id
+   * @param username The new value for username
+   * @param firstName The new value for firstName
+   * @param lastName The new value for lastName
+   */
+  public CustomerAvroModel(java.lang.String id, java.lang.String username, java.lang.String firstName, java.lang.String lastName) {
+    this.id = id;
+    this.username = username;
+    this.firstName = firstName;
+    this.lastName = lastName;
+  }
+
+  public org.apache.avro.specific.SpecificData getSpecificData() { return MODEL$; }
+  public org.apache.avro.Schema getSchema() { return SCHEMA$; }
+  // Used by DatumWriter.  Applications should not call.
+  public java.lang.Object get(int field$) {
+    switch (field$) {
+    case 0: return id;
+    case 1: return username;
+    case 2: return firstName;
+    case 3: return lastName;
+    default: throw new IndexOutOfBoundsException("Invalid index: " + field$);
+    }
+  }
+
+  private static final org.apache.avro.Conversion<?>[] conversions =
+      new org.apache.avro.Conversion<?>[] {
+      null,
+      null,
+      null,
+      null,
+      null
+  };
+
+  @Override
+  public org.apache.avro.Conversion<?> getConversion(int field) {
+    return conversions[field];
+  }
+
+  // Used by DatumReader.  Applications should not call.
+  @SuppressWarnings(value="unchecked")
+  public void put(int field$, java.lang.Object value$) {
+    switch (field$) {
+    case 0: id = value$ != null ? value$.toString() : null; break;
+    case 1: username = value$ != null ? value$.toString() : null; break;
+    case 2: firstName = value$ != null ? value$.toString() : null; break;
+    case 3: lastName = value$ != null ? value$.toString() : null; break;
+    default: throw new IndexOutOfBoundsException("Invalid index: " + field$);
+    }
+  }
+
+  /**
+   * Gets the value of the 'id' field.
+   * @return The value of the 'id' field.
+   */
+  public java.lang.String getId() {
+    return id;
+  }
+
+
+  /**
+   * Sets the value of the 'id' field.
+   * @param value the value to set.
+   */
+  public void setId(java.lang.String value) {
+    this.id = value;
+  }
+
+  /**
+   * Gets the value of the 'username' field.
+   * @return The value of the 'username' field.
+   */
+  public java.lang.String getUsername() {
+    return username;
+  }
+
+
+  /**
+   * Sets the value of the 'username' field.
+   * @param value the value to set.
+   */
+  public void setUsername(java.lang.String value) {
+    this.username = value;
+  }
+
+  /**
+   * Gets the value of the 'firstName' field.
+   * @return The value of the 'firstName' field.
+   */
+  public java.lang.String getFirstName() {
+    return firstName;
+  }
+
+
+  /**
+   * Sets the value of the 'firstName' field.
+   * @param value the value to set.
+   */
+  public void setFirstName(java.lang.String value) {
+    this.firstName = value;
+  }
+
+  /**
+   * Gets the value of the 'lastName' field.
+   * @return The value of the 'lastName' field.
+   */
+  public java.lang.String getLastName() {
+    return lastName;
+  }
+
+
+  /**
+   * Sets the value of the 'lastName' field.
+   * @param value the value to set.
+   */
+  public void setLastName(java.lang.String value) {
+    this.lastName = value;
+  }
+
+  /**
+   * Creates a new CustomerAvroModel RecordBuilder.
+   * @return A new CustomerAvroModel RecordBuilder
+   */
+  public static com.food.ordering.system.kafka.order.avro.model.CustomerAvroModel.Builder newBuilder() {
+    return new com.food.ordering.system.kafka.order.avro.model.CustomerAvroModel.Builder();
+  }
+
+  /**
+   * Creates a new CustomerAvroModel RecordBuilder by copying an existing Builder.
+   * @param other The existing builder to copy.
+   * @return A new CustomerAvroModel RecordBuilder
+   */
+  public static com.food.ordering.system.kafka.order.avro.model.CustomerAvroModel.Builder newBuilder(com.food.ordering.system.kafka.order.avro.model.CustomerAvroModel.Builder other) {
+    if (other == null) {
+      return new com.food.ordering.system.kafka.order.avro.model.CustomerAvroModel.Builder();
+    } else {
+      return new com.food.ordering.system.kafka.order.avro.model.CustomerAvroModel.Builder(other);
+    }
+  }
+
+  /**
+   * Creates a new CustomerAvroModel RecordBuilder by copying an existing CustomerAvroModel instance.
+   * @param other The existing instance to copy.
+   * @return A new CustomerAvroModel RecordBuilder
+   */
+  public static com.food.ordering.system.kafka.order.avro.model.CustomerAvroModel.Builder newBuilder(com.food.ordering.system.kafka.order.avro.model.CustomerAvroModel other) {
+    if (other == null) {
+      return new com.food.ordering.system.kafka.order.avro.model.CustomerAvroModel.Builder();
+    } else {
+      return new com.food.ordering.system.kafka.order.avro.model.CustomerAvroModel.Builder(other);
+    }
+  }
+
+  /**
+   * RecordBuilder for CustomerAvroModel instances.
+   */
+  @org.apache.avro.specific.AvroGenerated
+  public static class Builder extends org.apache.avro.specific.SpecificRecordBuilderBase<CustomerAvroModel>
+    implements org.apache.avro.data.RecordBuilder<CustomerAvroModel> {
+
+    private java.lang.String id;
+    private java.lang.String username;
+    private java.lang.String firstName;
+    private java.lang.String lastName;
+
+    /** Creates a new Builder */
+    private Builder() {
+      super(SCHEMA$, MODEL$);
+    }
+
+    /**
+     * Creates a Builder by copying an existing Builder.
+     * @param other The existing Builder to copy.
+     */
+    private Builder(com.food.ordering.system.kafka.order.avro.model.CustomerAvroModel.Builder other) {
+      super(other);
+      if (isValidValue(fields()[0], other.id)) {
+        this.id = data().deepCopy(fields()[0].schema(), other.id);
+        fieldSetFlags()[0] = other.fieldSetFlags()[0];
+      }
+      if (isValidValue(fields()[1], other.username)) {
+        this.username = data().deepCopy(fields()[1].schema(), other.username);
+        fieldSetFlags()[1] = other.fieldSetFlags()[1];
+      }
+      if (isValidValue(fields()[2], other.firstName)) {
+        this.firstName = data().deepCopy(fields()[2].schema(), other.firstName);
+        fieldSetFlags()[2] = other.fieldSetFlags()[2];
+      }
+      if (isValidValue(fields()[3], other.lastName)) {
+        this.lastName = data().deepCopy(fields()[3].schema(), other.lastName);
+        fieldSetFlags()[3] = other.fieldSetFlags()[3];
+      }
+    }
+
+    /**
+     * Creates a Builder by copying an existing CustomerAvroModel instance
+     * @param other The existing instance to copy.
+     */
+    private Builder(com.food.ordering.system.kafka.order.avro.model.CustomerAvroModel other) {
+      super(SCHEMA$, MODEL$);
+      if (isValidValue(fields()[0], other.id)) {
+        this.id = data().deepCopy(fields()[0].schema(), other.id);
+        fieldSetFlags()[0] = true;
+      }
+      if (isValidValue(fields()[1], other.username)) {
+        this.username = data().deepCopy(fields()[1].schema(), other.username);
+        fieldSetFlags()[1] = true;
+      }
+      if (isValidValue(fields()[2], other.firstName)) {
+        this.firstName = data().deepCopy(fields()[2].schema(), other.firstName);
+        fieldSetFlags()[2] = true;
+      }
+      if (isValidValue(fields()[3], other.lastName)) {
+        this.lastName = data().deepCopy(fields()[3].schema(), other.lastName);
+        fieldSetFlags()[3] = true;
+      }
+    }
+
+    /**
+      * Gets the value of the 'id' field.
+      * @return The value.
+      */
+    public java.lang.String getId() {
+      return id;
+    }
+
+
+    /**
+      * Sets the value of the 'id' field.
+      * @param value The value of 'id'.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.CustomerAvroModel.Builder setId(java.lang.String value) {
+      validate(fields()[0], value);
+      this.id = value;
+      fieldSetFlags()[0] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'id' field has been set.
+      * @return True if the 'id' field has been set, false otherwise.
+      */
+    public boolean hasId() {
+      return fieldSetFlags()[0];
+    }
+
+
+    /**
+      * Clears the value of the 'id' field.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.CustomerAvroModel.Builder clearId() {
+      id = null;
+      fieldSetFlags()[0] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'username' field.
+      * @return The value.
+      */
+    public java.lang.String getUsername() {
+      return username;
+    }
+
+
+    /**
+      * Sets the value of the 'username' field.
+      * @param value The value of 'username'.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.CustomerAvroModel.Builder setUsername(java.lang.String value) {
+      validate(fields()[1], value);
+      this.username = value;
+      fieldSetFlags()[1] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'username' field has been set.
+      * @return True if the 'username' field has been set, false otherwise.
+      */
+    public boolean hasUsername() {
+      return fieldSetFlags()[1];
+    }
+
+
+    /**
+      * Clears the value of the 'username' field.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.CustomerAvroModel.Builder clearUsername() {
+      username = null;
+      fieldSetFlags()[1] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'firstName' field.
+      * @return The value.
+      */
+    public java.lang.String getFirstName() {
+      return firstName;
+    }
+
+
+    /**
+      * Sets the value of the 'firstName' field.
+      * @param value The value of 'firstName'.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.CustomerAvroModel.Builder setFirstName(java.lang.String value) {
+      validate(fields()[2], value);
+      this.firstName = value;
+      fieldSetFlags()[2] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'firstName' field has been set.
+      * @return True if the 'firstName' field has been set, false otherwise.
+      */
+    public boolean hasFirstName() {
+      return fieldSetFlags()[2];
+    }
+
+
+    /**
+      * Clears the value of the 'firstName' field.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.CustomerAvroModel.Builder clearFirstName() {
+      firstName = null;
+      fieldSetFlags()[2] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'lastName' field.
+      * @return The value.
+      */
+    public java.lang.String getLastName() {
+      return lastName;
+    }
+
+
+    /**
+      * Sets the value of the 'lastName' field.
+      * @param value The value of 'lastName'.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.CustomerAvroModel.Builder setLastName(java.lang.String value) {
+      validate(fields()[3], value);
+      this.lastName = value;
+      fieldSetFlags()[3] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'lastName' field has been set.
+      * @return True if the 'lastName' field has been set, false otherwise.
+      */
+    public boolean hasLastName() {
+      return fieldSetFlags()[3];
+    }
+
+
+    /**
+      * Clears the value of the 'lastName' field.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.CustomerAvroModel.Builder clearLastName() {
+      lastName = null;
+      fieldSetFlags()[3] = false;
+      return this;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public CustomerAvroModel build() {
+      try {
+        CustomerAvroModel record = new CustomerAvroModel();
+        record.id = fieldSetFlags()[0] ? this.id : (java.lang.String) defaultValue(fields()[0]);
+        record.username = fieldSetFlags()[1] ? this.username : (java.lang.String) defaultValue(fields()[1]);
+        record.firstName = fieldSetFlags()[2] ? this.firstName : (java.lang.String) defaultValue(fields()[2]);
+        record.lastName = fieldSetFlags()[3] ? this.lastName : (java.lang.String) defaultValue(fields()[3]);
+        return record;
+      } catch (org.apache.avro.AvroMissingFieldException e) {
+        throw e;
+      } catch (java.lang.Exception e) {
+        throw new org.apache.avro.AvroRuntimeException(e);
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private static final org.apache.avro.io.DatumWriter<CustomerAvroModel>
+    WRITER$ = (org.apache.avro.io.DatumWriter<CustomerAvroModel>)MODEL$.createDatumWriter(SCHEMA$);
+
+  @Override public void writeExternal(java.io.ObjectOutput out)
+    throws java.io.IOException {
+    WRITER$.write(this, SpecificData.getEncoder(out));
+  }
+
+  @SuppressWarnings("unchecked")
+  private static final org.apache.avro.io.DatumReader<CustomerAvroModel>
+    READER$ = (org.apache.avro.io.DatumReader<CustomerAvroModel>)MODEL$.createDatumReader(SCHEMA$);
+
+  @Override public void readExternal(java.io.ObjectInput in)
+    throws java.io.IOException {
+    READER$.read(this, SpecificData.getDecoder(in));
+  }
+
+}
+
+
+
+
+
+
+
+
+
+
@@ -14,10 +14,10 @@ import org.apache.avro.message.SchemaStore;
 
 @org.apache.avro.specific.AvroGenerated
 public class PaymentRequestAvroModel extends org.apache.avro.specific.SpecificRecordBase implements org.apache.avro.specific.SpecificRecord {
-  private static final long serialVersionUID = 1425163749928760031L;
+  private static final long serialVersionUID = 6452994792331389534L;
 
 
-  public static final org.apache.avro.Schema SCHEMA$ = new org.apache.avro.Schema.Parser().parse("{\"type\":\"record\",\"name\":\"PaymentRequestAvroModel\",\"namespace\":\"com.food.ordering.system.kafka.order.avro.model\",\"fields\":[{\"name\":\"id\",\"type\":{\"type\":\"string\",\"logicalType\":\"uuid\"}},{\"name\":\"sagaId\",\"type\":{\"type\":\"string\",\"logicalType\":\"uuid\"}},{\"name\":\"customerId\",\"type\":{\"type\":\"string\",\"logicalType\":\"uuid\"}},{\"name\":\"orderId\",\"type\":{\"type\":\"string\",\"logicalType\":\"uuid\"}},{\"name\":\"price\",\"type\":{\"type\":\"bytes\",\"logicalType\":\"decimal\",\"precision\":10,\"scale\":2}},{\"name\":\"createdAt\",\"type\":{\"type\":\"long\",\"logicalType\":\"timestamp-millis\"}},{\"name\":\"paymentOrderStatus\",\"type\":{\"type\":\"enum\",\"name\":\"PaymentOrderStatus\",\"symbols\":[\"PENDING\",\"CANCELLED\"]}}]}");
+  public static final org.apache.avro.Schema SCHEMA$ = new org.apache.avro.Schema.Parser().parse("{\"type\":\"record\",\"name\":\"PaymentRequestAvroModel\",\"namespace\":\"com.food.ordering.system.kafka.order.avro.model\",\"fields\":[{\"name\":\"id\",\"type\":{\"type\":\"string\",\"logicalType\":\"uuid\"}},{\"name\":\"idFixed\",\"type\":[\"null\",{\"type\":\"fixed\",\"name\":\"Uuid\",\"size\":16}],\"default\":null},{\"name\":\"sagaId\",\"type\":{\"type\":\"string\",\"logicalType\":\"uuid\"}},{\"name\":\"sagaIdFixed\",\"type\":[\"null\",\"Uuid\"],\"default\":null},{\"name\":\"customerId\",\"type\":{\"type\":\"string\",\"logicalType\":\"uuid\"}},{\"name\":\"customerIdFixed\",\"type\":[\"null\",\"Uuid\"],\"default\":null},{\"name\":\"orderId\",\"type\":{\"type\":\"string\",\"logicalType\":\"uuid\"}},{\"name\":\"orderIdFixed\",\"type\":[\"null\",\"Uuid\"],\"default\":null},{\"name\":\"price\",\"type\":{\"type\":\"bytes\",\"logicalType\":\"decimal\",\"precision\":10,\"scale\":2}},{\"name\":\"createdAt\",\"type\":{\"type\":\"long\",\"logicalType\":\"timestamp-millis\"}},{\"name\":\"paymentOrderStatus\",\"type\":{\"type\":\"enum\",\"name\":\"PaymentOrderStatus\",\"symbols\":[\"PENDING\",\"CANCELLED\"]}}]}");
   public static org.apache.avro.Schema getClassSchema() { return SCHEMA$; }
 
   private static final SpecificData MODEL$ = new SpecificData();
@@ -78,9 +78,13 @@ public class PaymentRequestAvroModel extends org.apache.avro.specific.SpecificRe
   }
 
   private java.lang.String id;
+  private com.food.ordering.system.kafka.order.avro.model.Uuid idFixed;
   private java.lang.String sagaId;
+  private com.food.ordering.system.kafka.order.avro.model.Uuid sagaIdFixed;
   private java.lang.String customerId;
+  private com.food.ordering.system.kafka.order.avro.model.Uuid customerIdFixed;
   private java.lang.String orderId;
+  private com.food.ordering.system.kafka.order.avro.model.Uuid orderIdFixed;
   private java.math.BigDecimal price;
   private java.time.Instant createdAt;
   private com.food.ordering.system.kafka.order.avro.model.PaymentOrderStatus paymentOrderStatus;
@@ -95,18 +99,26 @@ public class PaymentRequestAvroModel extends org.apache.avro.specific.SpecificRe
   /**
    * All-args constructor.
    * @param id The new value for id
+   * @param idFixed The new value for idFixed
    * @param sagaId The new value for sagaId
+   * @param sagaIdFixed The new value for sagaIdFixed
    * @param customerId The new value for customerId
+   * @param customerIdFixed The new value for customerIdFixed
    * @param orderId The new value for orderId
+   * @param orderIdFixed The new value for orderIdFixed
    * @param price The new value for price
    * @param createdAt The new value for createdAt
    * @param paymentOrderStatus The new value for paymentOrderStatus
    */
-  public PaymentRequestAvroModel(java.lang.String id, java.lang.String sagaId, java.lang.String customerId, java.lang.String orderId, java.math.BigDecimal price, java.time.Instant createdAt, com.food.ordering.system.kafka.order.avro.model.PaymentOrderStatus paymentOrderStatus) {
+  public PaymentRequestAvroModel(java.lang.String id, com.food.ordering.system.kafka.order.avro.model.Uuid idFixed, java.lang.String sagaId, com.food.ordering.system.kafka.order.avro.model.Uuid sagaIdFixed, java.lang.String customerId, com.food.ordering.system.kafka.order.avro.model.Uuid customerIdFixed, java.lang.String orderId, com.food.ordering.system.kafka.order.avro.model.Uuid orderIdFixed, java.math.BigDecimal price, java.time.Instant createdAt, com.food.ordering.system.kafka.order.avro.model.PaymentOrderStatus paymentOrderStatus) {
     this.id = id;
+    this.idFixed = idFixed;
     this.sagaId = sagaId;
+    this.sagaIdFixed = sagaIdFixed;
     this.customerId = customerId;
+    this.customerIdFixed = customerIdFixed;
     this.orderId = orderId;
+    this.orderIdFixed = orderIdFixed;
     this.price = price;
     this.createdAt = createdAt.truncatedTo(java.time.temporal.ChronoUnit.MILLIS);
     this.paymentOrderStatus = paymentOrderStatus;
@@ -118,12 +130,16 @@ public class PaymentRequestAvroModel extends org.apache.avro.specific.SpecificRe
   public java.lang.Object get(int field$) {
     switch (field$) {
     case 0: return id;
-    case 1: return sagaId;
-    case 2: return customerId;
-    case 3: return orderId;
-    case 4: return price;
-    case 5: return createdAt;
-    case 6: return paymentOrderStatus;
+    case 1: return idFixed;
+    case 2: return sagaId;
+    case 3: return sagaIdFixed;
+    case 4: return customerId;
+    case 5: return customerIdFixed;
+    case 6: return orderId;
+    case 7: return orderIdFixed;
+    case 8: return price;
+    case 9: return createdAt;
+    case 10: return paymentOrderStatus;
     default: throw new IndexOutOfBoundsException("Invalid index: " + field$);
     }
   }
@@ -134,6 +150,10 @@ public class PaymentRequestAvroModel extends org.apache.avro.specific.SpecificRe
       null,
       null,
       null,
+      null,
+      null,
+      null,
+      null,
       new org.apache.avro.Conversions.DecimalConversion(),
       new org.apache.avro.data.TimeConversions.TimestampMillisConversion(),
       null,
@@ -150,12 +170,16 @@ public class PaymentRequestAvroModel extends org.apache.avro.specific.SpecificRe
   public void put(int field$, java.lang.Object value$) {
     switch (field$) {
     case 0: id = value$ != null ? value$.toString() : null; break;
-    case 1: sagaId = value$ != null ? value$.toString() : null; break;
-    case 2: customerId = value$ != null ? value$.toString() : null; break;
-    case 3: orderId = value$ != null ? value$.toString() : null; break;
-    case 4: price = (java.math.BigDecimal)value$; break;
-    case 5: createdAt = (java.time.Instant)value$; break;
-    case 6: paymentOrderStatus = (com.food.ordering.system.kafka.order.avro.model.PaymentOrderStatus)value$; break;
+    case 1: idFixed = (com.food.ordering.system.kafka.order.avro.model.Uuid)value$; break;
+    case 2: sagaId = value$ != null ? value$.toString() : null; break;
+    case 3: sagaIdFixed = (com.food.ordering.system.kafka.order.avro.model.Uuid)value$; break;
+    case 4: customerId = value$ != null ? value$.toString() : null; break;
+    case 5: customerIdFixed = (com.food.ordering.system.kafka.order.avro.model.Uuid)value$; break;
+    case 6: orderId = value$ != null ? value$.toString() : null; break;
+    case 7: orderIdFixed = (com.food.ordering.system.kafka.order.avro.model.Uuid)value$; break;
+    case 8: price = (java.math.BigDecimal)value$; break;
+    case 9: createdAt = (java.time.Instant)value$; break;
+    case 10: paymentOrderStatus = (com.food.ordering.system.kafka.order.avro.model.PaymentOrderStatus)value$; break;
     default: throw new IndexOutOfBoundsException("Invalid index: " + field$);
     }
   }
@@ -177,6 +201,23 @@ public class PaymentRequestAvroModel extends org.apache.avro.specific.SpecificRe
     this.id = value;
   }
 
+  /**
+   * Gets the value of the 'idFixed' field.
+   * @return The value of the 'idFixed' field.
+   */
+  public com.food.ordering.system.kafka.order.avro.model.Uuid getIdFixed() {
+    return idFixed;
+  }
+
+
+  /**
+   * Sets the value of the 'idFixed' field.
+   * @param value the value to set.
+   */
+  public void setIdFixed(com.food.ordering.system.kafka.order.avro.model.Uuid value) {
+    this.idFixed = value;
+  }
+
   /**
    * Gets the value of the 'sagaId' field.
    * @return The value of the 'sagaId' field.
@@ -194,6 +235,23 @@ public class PaymentRequestAvroModel extends org.apache.avro.specific.SpecificRe
     this.sagaId = value;
   }
 
+  /**
+   * Gets the value of the 'sagaIdFixed' field.
+   * @return The value of the 'sagaIdFixed' field.
+   */
+  public com.food.ordering.system.kafka.order.avro.model.Uuid getSagaIdFixed() {
+    return sagaIdFixed;
+  }
+
+
+  /**
+   * Sets the value of the 'sagaIdFixed' field.
+   * @param value the value to set.
+   */
+  public void setSagaIdFixed(com.food.ordering.system.kafka.order.avro.model.Uuid value) {
+    this.sagaIdFixed = value;
+  }
+
   /**
    * Gets the value of the 'customerId' field.
    * @return The value of the 'customerId' field.
@@ -211,6 +269,23 @@ public class PaymentRequestAvroModel extends org.apache.avro.specific.SpecificRe
     this.customerId = value;
   }
 
+  /**
+   * Gets the value of the 'customerIdFixed' field.
+   * @return The value of the 'customerIdFixed' field.
+   */
+  public com.food.ordering.system.kafka.order.avro.model.Uuid getCustomerIdFixed() {
+    return customerIdFixed;
+  }
+
+
+  /**
+   * Sets the value of the 'customerIdFixed' field.
+   * @param value the value to set.
+   */
+  public void setCustomerIdFixed(com.food.ordering.system.kafka.order.avro.model.Uuid value) {
+    this.customerIdFixed = value;
+  }
+
   /**
    * Gets the value of the 'orderId' field.
    * @return The value of the 'orderId' field.
@@ -228,6 +303,23 @@ public class PaymentRequestAvroModel extends org.apache.avro.specific.SpecificRe
     this.orderId = value;
   }
 
+  /**
+   * Gets the value of the 'orderIdFixed' field.
+   * @return The value of the 'orderIdFixed' field.
+   */
+  public com.food.ordering.system.kafka.order.avro.model.Uuid getOrderIdFixed() {
+    return orderIdFixed;
+  }
+
+
+  /**
+   * Sets the value of the 'orderIdFixed' field.
+   * @param value the value to set.
+   */
+  public void setOrderIdFixed(com.food.ordering.system.kafka.order.avro.model.Uuid value) {
+    this.orderIdFixed = value;
+  }
+
   /**
    * Gets the value of the 'price' field.
    * @return The value of the 'price' field.
@@ -321,9 +413,13 @@ public class PaymentRequestAvroModel extends org.apache.avro.specific.SpecificRe
     implements org.apache.avro.data.RecordBuilder<PaymentRequestAvroModel> {
 
     private java.lang.String id;
+    private com.food.ordering.system.kafka.order.avro.model.Uuid idFixed;
     private java.lang.String sagaId;
+    private com.food.ordering.system.kafka.order.avro.model.Uuid sagaIdFixed;
     private java.lang.String customerId;
+    private com.food.ordering.system.kafka.order.avro.model.Uuid customerIdFixed;
     private java.lang.String orderId;
+    private com.food.ordering.system.kafka.order.avro.model.Uuid orderIdFixed;
     private java.math.BigDecimal price;
     private java.time.Instant createdAt;
     private com.food.ordering.system.kafka.order.avro.model.PaymentOrderStatus paymentOrderStatus;
@@ -343,30 +439,46 @@ public class PaymentRequestAvroModel extends org.apache.avro.specific.SpecificRe
         this.id = data().deepCopy(fields()[0].schema(), other.id);
         fieldSetFlags()[0] = other.fieldSetFlags()[0];
       }
-      if (isValidValue(fields()[1], other.sagaId)) {
-        this.sagaId = data().deepCopy(fields()[1].schema(), other.sagaId);
+      if (isValidValue(fields()[1], other.idFixed)) {
+        this.idFixed = data().deepCopy(fields()[1].schema(), other.idFixed);
         fieldSetFlags()[1] = other.fieldSetFlags()[1];
       }
-      if (isValidValue(fields()[2], other.customerId)) {
-        this.customerId = data().deepCopy(fields()[2].schema(), other.customerId);
+      if (isValidValue(fields()[2], other.sagaId)) {
+        this.sagaId = data().deepCopy(fields()[2].schema(), other.sagaId);
         fieldSetFlags()[2] = other.fieldSetFlags()[2];
       }
-      if (isValidValue(fields()[3], other.orderId)) {
-        this.orderId = data().deepCopy(fields()[3].schema(), other.orderId);
+      if (isValidValue(fields()[3], other.sagaIdFixed)) {
+        this.sagaIdFixed = data().deepCopy(fields()[3].schema(), other.sagaIdFixed);
         fieldSetFlags()[3] = other.fieldSetFlags()[3];
       }
-      if (isValidValue(fields()[4], other.price)) {
-        this.price = data().deepCopy(fields()[4].schema(), other.price);
+      if (isValidValue(fields()[4], other.customerId)) {
+        this.customerId = data().deepCopy(fields()[4].schema(), other.customerId);
         fieldSetFlags()[4] = other.fieldSetFlags()[4];
       }
-      if (isValidValue(fields()[5], other.createdAt)) {
-        this.createdAt = data().deepCopy(fields()[5].schema(), other.createdAt);
+      if (isValidValue(fields()[5], other.customerIdFixed)) {
+        this.customerIdFixed = data().deepCopy(fields()[5].schema(), other.customerIdFixed);
         fieldSetFlags()[5] = other.fieldSetFlags()[5];
       }
-      if (isValidValue(fields()[6], other.paymentOrderStatus)) {
-        this.paymentOrderStatus = data().deepCopy(fields()[6].schema(), other.paymentOrderStatus);
+      if (isValidValue(fields()[6], other.orderId)) {
+        this.orderId = data().deepCopy(fields()[6].schema(), other.orderId);
         fieldSetFlags()[6] = other.fieldSetFlags()[6];
       }
+      if (isValidValue(fields()[7], other.orderIdFixed)) {
+        this.orderIdFixed = data().deepCopy(fields()[7].schema(), other.orderIdFixed);
+        fieldSetFlags()[7] = other.fieldSetFlags()[7];
+      }
+      if (isValidValue(fields()[8], other.price)) {
+        this.price = data().deepCopy(fields()[8].schema(), other.price);
+        fieldSetFlags()[8] = other.fieldSetFlags()[8];
+      }
+      if (isValidValue(fields()[9], other.createdAt)) {
+        this.createdAt = data().deepCopy(fields()[9].schema(), other.createdAt);
+        fieldSetFlags()[9] = other.fieldSetFlags()[9];
+      }
+      if (isValidValue(fields()[10], other.paymentOrderStatus)) {
+        this.paymentOrderStatus = data().deepCopy(fields()[10].schema(), other.paymentOrderStatus);
+        fieldSetFlags()[10] = other.fieldSetFlags()[10];
+      }
     }
 
     /**
@@ -379,30 +491,46 @@ public class PaymentRequestAvroModel extends org.apache.avro.specific.SpecificRe
         this.id = data().deepCopy(fields()[0].schema(), other.id);
         fieldSetFlags()[0] = true;
       }
-      if (isValidValue(fields()[1], other.sagaId)) {
-        this.sagaId = data().deepCopy(fields()[1].schema(), other.sagaId);
+      if (isValidValue(fields()[1], other.idFixed)) {
+        this.idFixed = data().deepCopy(fields()[1].schema(), other.idFixed);
         fieldSetFlags()[1] = true;
       }
-      if (isValidValue(fields()[2], other.customerId)) {
-        this.customerId = data().deepCopy(fields()[2].schema(), other.customerId);
+      if (isValidValue(fields()[2], other.sagaId)) {
+        this.sagaId = data().deepCopy(fields()[2].schema(), other.sagaId);
         fieldSetFlags()[2] = true;
       }
-      if (isValidValue(fields()[3], other.orderId)) {
-        this.orderId = data().deepCopy(fields()[3].schema(), other.orderId);
+      if (isValidValue(fields()[3], other.sagaIdFixed)) {
+        this.sagaIdFixed = data().deepCopy(fields()[3].schema(), other.sagaIdFixed);
         fieldSetFlags()[3] = true;
       }
-      if (isValidValue(fields()[4], other.price)) {
-        this.price = data().deepCopy(fields()[4].schema(), other.price);
+      if (isValidValue(fields()[4], other.customerId)) {
+        this.customerId = data().deepCopy(fields()[4].schema(), other.customerId);
         fieldSetFlags()[4] = true;
       }
-      if (isValidValue(fields()[5], other.createdAt)) {
-        this.createdAt = data().deepCopy(fields()[5].schema(), other.createdAt);
+      if (isValidValue(fields()[5], other.customerIdFixed)) {
+        this.customerIdFixed = data().deepCopy(fields()[5].schema(), other.customerIdFixed);
         fieldSetFlags()[5] = true;
       }
-      if (isValidValue(fields()[6], other.paymentOrderStatus)) {
-        this.paymentOrderStatus = data().deepCopy(fields()[6].schema(), other.paymentOrderStatus);
+      if (isValidValue(fields()[6], other.orderId)) {
+        this.orderId = data().deepCopy(fields()[6].schema(), other.orderId);
         fieldSetFlags()[6] = true;
       }
+      if (isValidValue(fields()[7], other.orderIdFixed)) {
+        this.orderIdFixed = data().deepCopy(fields()[7].schema(), other.orderIdFixed);
+        fieldSetFlags()[7] = true;
+      }
+      if (isValidValue(fields()[8], other.price)) {
+        this.price = data().deepCopy(fields()[8].schema(), other.price);
+        fieldSetFlags()[8] = true;
+      }
+      if (isValidValue(fields()[9], other.createdAt)) {
+        this.createdAt = data().deepCopy(fields()[9].schema(), other.createdAt);
+        fieldSetFlags()[9] = true;
+      }
+      if (isValidValue(fields()[10], other.paymentOrderStatus)) {
+        this.paymentOrderStatus = data().deepCopy(fields()[10].schema(), other.paymentOrderStatus);
+        fieldSetFlags()[10] = true;
+      }
     }
 
     /**
@@ -445,6 +573,46 @@ public class PaymentRequestAvroModel extends org.apache.avro.specific.SpecificRe
       return this;
     }
 
+    /**
+      * Gets the value of the 'idFixed' field.
+      * @return The value.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.Uuid getIdFixed() {
+      return idFixed;
+    }
+
+
+    /**
+      * Sets the value of the 'idFixed' field.
+      * @param value The value of 'idFixed'.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel.Builder setIdFixed(com.food.ordering.system.kafka.order.avro.model.Uuid value) {
+      validate(fields()[1], value);
+      this.idFixed = value;
+      fieldSetFlags()[1] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'idFixed' field has been set.
+      * @return True if the 'idFixed' field has been set, false otherwise.
+      */
+    public boolean hasIdFixed() {
+      return fieldSetFlags()[1];
+    }
+
+
+    /**
+      * Clears the value of the 'idFixed' field.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel.Builder clearIdFixed() {
+      idFixed = null;
+      fieldSetFlags()[1] = false;
+      return this;
+    }
+
     /**
       * Gets the value of the 'sagaId' field.
       * @return The value.
@@ -460,9 +628,9 @@ public class PaymentRequestAvroModel extends org.apache.avro.specific.SpecificRe
       * @return This builder.
       */
     public com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel.Builder setSagaId(java.lang.String value) {
-      validate(fields()[1], value);
+      validate(fields()[2], value);
       this.sagaId = value;
-      fieldSetFlags()[1] = true;
+      fieldSetFlags()[2] = true;
       return this;
     }
 
@@ -471,7 +639,7 @@ public class PaymentRequestAvroModel extends org.apache.avro.specific.SpecificRe
       * @return True if the 'sagaId' field has been set, false otherwise.
       */
     public boolean hasSagaId() {
-      return fieldSetFlags()[1];
+      return fieldSetFlags()[2];
     }
 
 
@@ -481,7 +649,47 @@ public class PaymentRequestAvroModel extends org.apache.avro.specific.SpecificRe
       */
     public com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel.Builder clearSagaId() {
       sagaId = null;
-      fieldSetFlags()[1] = false;
+      fieldSetFlags()[2] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'sagaIdFixed' field.
+      * @return The value.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.Uuid getSagaIdFixed() {
+      return sagaIdFixed;
+    }
+
+
+    /**
+      * Sets the value of the 'sagaIdFixed' field.
+      * @param value The value of 'sagaIdFixed'.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel.Builder setSagaIdFixed(com.food.ordering.system.kafka.order.avro.model.Uuid value) {
+      validate(fields()[3], value);
+      this.sagaIdFixed = value;
+      fieldSetFlags()[3] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'sagaIdFixed' field has been set.
+      * @return True if the 'sagaIdFixed' field has been set, false otherwise.
+      */
+    public boolean hasSagaIdFixed() {
+      return fieldSetFlags()[3];
+    }
+
+
+    /**
+      * Clears the value of the 'sagaIdFixed' field.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel.Builder clearSagaIdFixed() {
+      sagaIdFixed = null;
+      fieldSetFlags()[3] = false;
       return this;
     }
 
@@ -500,9 +708,9 @@ public class PaymentRequestAvroModel extends org.apache.avro.specific.SpecificRe
       * @return This builder.
       */
     public com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel.Builder setCustomerId(java.lang.String value) {
-      validate(fields()[2], value);
+      validate(fields()[4], value);
       this.customerId = value;
-      fieldSetFlags()[2] = true;
+      fieldSetFlags()[4] = true;
       return this;
     }
 
@@ -511,7 +719,7 @@ public class PaymentRequestAvroModel extends org.apache.avro.specific.SpecificRe
       * @return True if the 'customerId' field has been set, false otherwise.
       */
     public boolean hasCustomerId() {
-      return fieldSetFlags()[2];
+      return fieldSetFlags()[4];
     }
 
 
@@ -521,7 +729,47 @@ public class PaymentRequestAvroModel extends org.apache.avro.specific.SpecificRe
       */
     public com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel.Builder clearCustomerId() {
       customerId = null;
-      fieldSetFlags()[2] = false;
+      fieldSetFlags()[4] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'customerIdFixed' field.
+      * @return The value.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.Uuid getCustomerIdFixed() {
+      return customerIdFixed;
+    }
+
+
+    /**
+      * Sets the value of the 'customerIdFixed' field.
+      * @param value The value of 'customerIdFixed'.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel.Builder setCustomerIdFixed(com.food.ordering.system.kafka.order.avro.model.Uuid value) {
+      validate(fields()[5], value);
+      this.customerIdFixed = value;
+      fieldSetFlags()[5] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'customerIdFixed' field has been set.
+      * @return True if the 'customerIdFixed' field has been set, false otherwise.
+      */
+    public boolean hasCustomerIdFixed() {
+      return fieldSetFlags()[5];
+    }
+
+
+    /**
+      * Clears the value of the 'customerIdFixed' field.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel.Builder clearCustomerIdFixed() {
+      customerIdFixed = null;
+      fieldSetFlags()[5] = false;
       return this;
     }
 
@@ -540,9 +788,9 @@ public class PaymentRequestAvroModel extends org.apache.avro.specific.SpecificRe
       * @return This builder.
       */
     public com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel.Builder setOrderId(java.lang.String value) {
-      validate(fields()[3], value);
+      validate(fields()[6], value);
       this.orderId = value;
-      fieldSetFlags()[3] = true;
+      fieldSetFlags()[6] = true;
       return this;
     }
 
@@ -551,7 +799,7 @@ public class PaymentRequestAvroModel extends org.apache.avro.specific.SpecificRe
       * @return True if the 'orderId' field has been set, false otherwise.
       */
     public boolean hasOrderId() {
-      return fieldSetFlags()[3];
+      return fieldSetFlags()[6];
     }
 
 
@@ -561,7 +809,47 @@ public class PaymentRequestAvroModel extends org.apache.avro.specific.SpecificRe
       */
     public com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel.Builder clearOrderId() {
       orderId = null;
-      fieldSetFlags()[3] = false;
+      fieldSetFlags()[6] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'orderIdFixed' field.
+      * @return The value.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.Uuid getOrderIdFixed() {
+      return orderIdFixed;
+    }
+
+
+    /**
+      * Sets the value of the 'orderIdFixed' field.
+      * @param value The value of 'orderIdFixed'.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel.Builder setOrderIdFixed(com.food.ordering.system.kafka.order.avro.model.Uuid value) {
+      validate(fields()[7], value);
+      this.orderIdFixed = value;
+      fieldSetFlags()[7] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'orderIdFixed' field has been set.
+      * @return True if the 'orderIdFixed' field has been set, false otherwise.
+      */
+    public boolean hasOrderIdFixed() {
+      return fieldSetFlags()[7];
+    }
+
+
+    /**
+      * Clears the value of the 'orderIdFixed' field.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel.Builder clearOrderIdFixed() {
+      orderIdFixed = null;
+      fieldSetFlags()[7] = false;
       return this;
     }
 
@@ -580,9 +868,9 @@ public class PaymentRequestAvroModel extends org.apache.avro.specific.SpecificRe
       * @return This builder.
       */
     public com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel.Builder setPrice(java.math.BigDecimal value) {
-      validate(fields()[4], value);
+      validate(fields()[8], value);
       this.price = value;
-      fieldSetFlags()[4] = true;
+      fieldSetFlags()[8] = true;
       return this;
     }
 
@@ -591,7 +879,7 @@ public class PaymentRequestAvroModel extends org.apache.avro.specific.SpecificRe
       * @return True if the 'price' field has been set, false otherwise.
       */
     public boolean hasPrice() {
-      return fieldSetFlags()[4];
+      return fieldSetFlags()[8];
     }
 
 
@@ -601,7 +889,7 @@ public class PaymentRequestAvroModel extends org.apache.avro.specific.SpecificRe
       */
     public com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel.Builder clearPrice() {
       price = null;
-      fieldSetFlags()[4] = false;
+      fieldSetFlags()[8] = false;
       return this;
     }
 
@@ -620,9 +908,9 @@ public class PaymentRequestAvroModel extends org.apache.avro.specific.SpecificRe
       * @return This builder.
       */
     public com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel.Builder setCreatedAt(java.time.Instant value) {
-      validate(fields()[5], value);
+      validate(fields()[9], value);
       this.createdAt = value.truncatedTo(java.time.temporal.ChronoUnit.MILLIS);
-      fieldSetFlags()[5] = true;
+      fieldSetFlags()[9] = true;
       return this;
     }
 
@@ -631,7 +919,7 @@ public class PaymentRequestAvroModel extends org.apache.avro.specific.SpecificRe
       * @return True if the 'createdAt' field has been set, false otherwise.
       */
     public boolean hasCreatedAt() {
-      return fieldSetFlags()[5];
+      return fieldSetFlags()[9];
     }
 
 
@@ -640,7 +928,7 @@ public class PaymentRequestAvroModel extends org.apache.avro.specific.SpecificRe
       * @return This builder.
       */
     public com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel.Builder clearCreatedAt() {
-      fieldSetFlags()[5] = false;
+      fieldSetFlags()[9] = false;
       return this;
     }
 
@@ -659,9 +947,9 @@ public class PaymentRequestAvroModel extends org.apache.avro.specific.SpecificRe
       * @return This builder.
       */
     public com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel.Builder setPaymentOrderStatus(com.food.ordering.system.kafka.order.avro.model.PaymentOrderStatus value) {
-      validate(fields()[6], value);
+      validate(fields()[10], value);
       this.paymentOrderStatus = value;
-      fieldSetFlags()[6] = true;
+      fieldSetFlags()[10] = true;
       return this;
     }
 
@@ -670,7 +958,7 @@ public class PaymentRequestAvroModel extends org.apache.avro.specific.SpecificRe
       * @return True if the 'paymentOrderStatus' field has been set, false otherwise.
       */
     public boolean hasPaymentOrderStatus() {
-      return fieldSetFlags()[6];
+      return fieldSetFlags()[10];
     }
 
 
@@ -680,7 +968,7 @@ public class PaymentRequestAvroModel extends org.apache.avro.specific.SpecificRe
       */
     public com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel.Builder clearPaymentOrderStatus() {
       paymentOrderStatus = null;
-      fieldSetFlags()[6] = false;
+      fieldSetFlags()[10] = false;
       return this;
     }
 
@@ -690,12 +978,16 @@ public class PaymentRequestAvroModel extends org.apache.avro.specific.SpecificRe
       try {
         PaymentRequestAvroModel record = new PaymentRequestAvroModel();
         record.id = fieldSetFlags()[0] ? this.id : (java.lang.String) defaultValue(fields()[0]);
-        record.sagaId = fieldSetFlags()[1] ? this.sagaId : (java.lang.String) defaultValue(fields()[1]);
-        record.customerId = fieldSetFlags()[2] ? this.customerId : (java.lang.String) defaultValue(fields()[2]);
-        record.orderId = fieldSetFlags()[3] ? this.orderId : (java.lang.String) defaultValue(fields()[3]);
-        record.price = fieldSetFlags()[4] ? this.price : (java.math.BigDecimal) defaultValue(fields()[4]);
-        record.createdAt = fieldSetFlags()[5] ? this.createdAt : (java.time.Instant) defaultValue(fields()[5]);
-        record.paymentOrderStatus = fieldSetFlags()[6] ? this.paymentOrderStatus : (com.food.ordering.system.kafka.order.avro.model.PaymentOrderStatus) defaultValue(fields()[6]);
+        record.idFixed = fieldSetFlags()[1] ? this.idFixed : (com.food.ordering.system.kafka.order.avro.model.Uuid) defaultValue(fields()[1]);
+        record.sagaId = fieldSetFlags()[2] ? this.sagaId : (java.lang.String) defaultValue(fields()[2]);
+        record.sagaIdFixed = fieldSetFlags()[3] ? this.sagaIdFixed : (com.food.ordering.system.kafka.order.avro.model.Uuid) defaultValue(fields()[3]);
+        record.customerId = fieldSetFlags()[4] ? this.customerId : (java.lang.String) defaultValue(fields()[4]);
+        record.customerIdFixed = fieldSetFlags()[5] ? this.customerIdFixed : (com.food.ordering.system.kafka.order.avro.model.Uuid) defaultValue(fields()[5]);
+        record.orderId = fieldSetFlags()[6] ? this.orderId : (java.lang.String) defaultValue(fields()[6]);
+        record.orderIdFixed = fieldSetFlags()[7] ? this.orderIdFixed : (com.food.ordering.system.kafka.order.avro.model.Uuid) defaultValue(fields()[7]);
+        record.price = fieldSetFlags()[8] ? this.price : (java.math.BigDecimal) defaultValue(fields()[8]);
+        record.createdAt = fieldSetFlags()[9] ? this.createdAt : (java.time.Instant) defaultValue(fields()[9]);
+        record.paymentOrderStatus = fieldSetFlags()[10] ? this.paymentOrderStatus : (com.food.ordering.system.kafka.order.avro.model.PaymentOrderStatus) defaultValue(fields()[10]);
         return record;
       } catch (org.apache.avro.AvroMissingFieldException e) {
         throw e;
@@ -14,10 +14,10 @@ import org.apache.avro.message.SchemaStore;
 
 @org.apache.avro.specific.AvroGenerated
 public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificRecordBase implements org.apache.avro.specific.SpecificRecord {
-  private static final long serialVersionUID = -2126784712017759782L;
+  private static final long serialVersionUID = 6224144546379670104L;
 
 
-  public static final org.apache.avro.Schema SCHEMA$ = new org.apache.avro.Schema.Parser().parse("{\"type\":\"record\",\"name\":\"PaymentResponseAvroModel\",\"namespace\":\"com.food.ordering.system.kafka.order.avro.model\",\"fields\":[{\"name\":\"id\",\"type\":{\"type\":\"string\",\"logicalType\":\"uuid\"}},{\"name\":\"sagaId\",\"type\":{\"type\":\"string\",\"logicalType\":\"uuid\"}},{\"name\":\"paymentId\",\"type\":{\"type\":\"string\",\"logicalType\":\"uuid\"}},{\"name\":\"customerId\",\"type\":{\"type\":\"string\",\"logicalType\":\"uuid\"}},{\"name\":\"orderId\",\"type\":{\"type\":\"string\",\"logicalType\":\"uuid\"}},{\"name\":\"price\",\"type\":{\"type\":\"bytes\",\"logicalType\":\"decimal\",\"precision\":10,\"scale\":2}},{\"name\":\"createdAt\",\"type\":{\"type\":\"long\",\"logicalType\":\"timestamp-millis\"}},{\"name\":\"paymentStatus\",\"type\":{\"type\":\"enum\",\"name\":\"PaymentStatus\",\"symbols\":[\"COMPLETED\",\"CANCELLED\",\"FAILED\"]}},{\"name\":\"failureMessages\",\"type\":{\"type\":\"array\",\"items\":{\"type\":\"string\",\"avro.java.string\":\"String\"}}}]}");
+  public static final org.apache.avro.Schema SCHEMA$ = new org.apache.avro.Schema.Parser().parse("{\"type\":\"record\",\"name\":\"PaymentResponseAvroModel\",\"namespace\":\"com.food.ordering.system.kafka.order.avro.model\",\"fields\":[{\"name\":\"id\",\"type\":{\"type\":\"string\",\"logicalType\":\"uuid\"}},{\"name\":\"idFixed\",\"type\":[\"null\",{\"type\":\"fixed\",\"name\":\"Uuid\",\"size\":16}],\"default\":null},{\"name\":\"sagaId\",\"type\":{\"type\":\"string\",\"logicalType\":\"uuid\"}},{\"name\":\"sagaIdFixed\",\"type\":[\"null\",\"Uuid\"],\"default\":null},{\"name\":\"paymentId\",\"type\":{\"type\":\"string\",\"logicalType\":\"uuid\"}},{\"name\":\"paymentIdFixed\",\"type\":[\"null\",\"Uuid\"],\"default\":null},{\"name\":\"customerId\",\"type\":{\"type\":\"string\",\"logicalType\":\"uuid\"}},{\"name\":\"customerIdFixed\",\"type\":[\"null\",\"Uuid\"],\"default\":null},{\"name\":\"orderId\",\"type\":{\"type\":\"string\",\"logicalType\":\"uuid\"}},{\"name\":\"orderIdFixed\",\"type\":[\"null\",\"Uuid\"],\"default\":null},{\"name\":\"price\",\"type\":{\"type\":\"bytes\",\"logicalType\":\"decimal\",\"precision\":10,\"scale\":2}},{\"name\":\"createdAt\",\"type\":{\"type\":\"long\",\"logicalType\":\"timestamp-millis\"}},{\"name\":\"paymentStatus\",\"type\":{\"type\":\"enum\",\"name\":\"PaymentStatus\",\"symbols\":[\"COMPLETED\",\"CANCELLED\",\"FAILED\"]}},{\"name\":\"failureMessages\",\"type\":{\"type\":\"array\",\"items\":{\"type\":\"string\",\"avro.java.string\":\"String\"}}}]}");
   public static org.apache.avro.Schema getClassSchema() { return SCHEMA$; }
 
   private static final SpecificData MODEL$ = new SpecificData();
@@ -78,10 +78,15 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
   }
 
   private java.lang.String id;
+  private com.food.ordering.system.kafka.order.avro.model.Uuid idFixed;
   private java.lang.String sagaId;
+  private com.food.ordering.system.kafka.order.avro.model.Uuid sagaIdFixed;
   private java.lang.String paymentId;
+  private com.food.ordering.system.kafka.order.avro.model.Uuid paymentIdFixed;
   private java.lang.String customerId;
+  private com.food.ordering.system.kafka.order.avro.model.Uuid customerIdFixed;
   private java.lang.String orderId;
+  private com.food.ordering.system.kafka.order.avro.model.Uuid orderIdFixed;
   private java.math.BigDecimal price;
   private java.time.Instant createdAt;
   private com.food.ordering.system.kafka.order.avro.model.PaymentStatus paymentStatus;
@@ -97,21 +102,31 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
   /**
    * All-args constructor.
    * @param id The new value for id
+   * @param idFixed The new value for idFixed
    * @param sagaId The new value for sagaId
+   * @param sagaIdFixed The new value for sagaIdFixed
    * @param paymentId The new value for paymentId
+   * @param paymentIdFixed The new value for paymentIdFixed
    * @param customerId The new value for customerId
+   * @param customerIdFixed The new value for customerIdFixed
    * @param orderId The new value for orderId
+   * @param orderIdFixed The new value for orderIdFixed
    * @param price The new value for price
    * @param createdAt The new value for createdAt
    * @param paymentStatus The new value for paymentStatus
    * @param failureMessages The new value for failureMessages
    */
-  public PaymentResponseAvroModel(java.lang.String id, java.lang.String sagaId, java.lang.String paymentId, java.lang.String customerId, java.lang.String orderId, java.math.BigDecimal price, java.time.Instant createdAt, com.food.ordering.system.kafka.order.avro.model.PaymentStatus paymentStatus, java.util.List<java.lang.String> failureMessages) {
+  public PaymentResponseAvroModel(java.lang.String id, com.food.ordering.system.kafka.order.avro.model.Uuid idFixed, java.lang.String sagaId, com.food.ordering.system.kafka.order.avro.model.Uuid sagaIdFixed, java.lang.String paymentId, com.food.ordering.system.kafka.order.avro.model.Uuid paymentIdFixed, java.lang.String customerId, com.food.ordering.system.kafka.order.avro.model.Uuid customerIdFixed, java.lang.String orderId, com.food.ordering.system.kafka.order.avro.model.Uuid orderIdFixed, java.math.BigDecimal price, java.time.Instant createdAt, com.food.ordering.system.kafka.order.avro.model.PaymentStatus paymentStatus, java.util.List<java.lang.String> failureMessages) {
     this.id = id;
+    this.idFixed = idFixed;
     this.sagaId = sagaId;
+    this.sagaIdFixed = sagaIdFixed;
     this.paymentId = paymentId;
+    this.paymentIdFixed = paymentIdFixed;
     this.customerId = customerId;
+    this.customerIdFixed = customerIdFixed;
     this.orderId = orderId;
+    this.orderIdFixed = orderIdFixed;
     this.price = price;
     this.createdAt = createdAt.truncatedTo(java.time.temporal.ChronoUnit.MILLIS);
     this.paymentStatus = paymentStatus;
@@ -124,14 +139,19 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
   public java.lang.Object get(int field$) {
     switch (field$) {
     case 0: return id;
-    case 1: return sagaId;
-    case 2: return paymentId;
-    case 3: return customerId;
-    case 4: return orderId;
-    case 5: return price;
-    case 6: return createdAt;
-    case 7: return paymentStatus;
-    case 8: return failureMessages;
+    case 1: return idFixed;
+    case 2: return sagaId;
+    case 3: return sagaIdFixed;
+    case 4: return paymentId;
+    case 5: return paymentIdFixed;
+    case 6: return customerId;
+    case 7: return customerIdFixed;
+    case 8: return orderId;
+    case 9: return orderIdFixed;
+    case 10: return price;
+    case 11: return createdAt;
+    case 12: return paymentStatus;
+    case 13: return failureMessages;
     default: throw new IndexOutOfBoundsException("Invalid index: " + field$);
     }
   }
@@ -143,6 +163,11 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
       null,
       null,
       null,
+      null,
+      null,
+      null,
+      null,
+      null,
       new org.apache.avro.Conversions.DecimalConversion(),
       new org.apache.avro.data.TimeConversions.TimestampMillisConversion(),
       null,
@@ -160,14 +185,19 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
   public void put(int field$, java.lang.Object value$) {
     switch (field$) {
     case 0: id = value$ != null ? value$.toString() : null; break;
-    case 1: sagaId = value$ != null ? value$.toString() : null; break;
-    case 2: paymentId = value$ != null ? value$.toString() : null; break;
-    case 3: customerId = value$ != null ? value$.toString() : null; break;
-    case 4: orderId = value$ != null ? value$.toString() : null; break;
-    case 5: price = (java.math.BigDecimal)value$; break;
-    case 6: createdAt = (java.time.Instant)value$; break;
-    case 7: paymentStatus = (com.food.ordering.system.kafka.order.avro.model.PaymentStatus)value$; break;
-    case 8: failureMessages = (java.util.List<java.lang.String>)value$; break;
+    case 1: idFixed = (com.food.ordering.system.kafka.order.avro.model.Uuid)value$; break;
+    case 2: sagaId = value$ != null ? value$.toString() : null; break;
+    case 3: sagaIdFixed = (com.food.ordering.system.kafka.order.avro.model.Uuid)value$; break;
+    case 4: paymentId = value$ != null ? value$.toString() : null; break;
+    case 5: paymentIdFixed = (com.food.ordering.system.kafka.order.avro.model.Uuid)value$; break;
+    case 6: customerId = value$ != null ? value$.toString() : null; break;
+    case 7: customerIdFixed = (com.food.ordering.system.kafka.order.avro.model.Uuid)value$; break;
+    case 8: orderId = value$ != null ? value$.toString() : null; break;
+    case 9: orderIdFixed = (com.food.ordering.system.kafka.order.avro.model.Uuid)value$; break;
+    case 10: price = (java.math.BigDecimal)value$; break;
+    case 11: createdAt = (java.time.Instant)value$; break;
+    case 12: paymentStatus = (com.food.ordering.system.kafka.order.avro.model.PaymentStatus)value$; break;
+    case 13: failureMessages = (java.util.List<java.lang.String>)value$; break;
     default: throw new IndexOutOfBoundsException("Invalid index: " + field$);
     }
   }
@@ -189,6 +219,23 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
     this.id = value;
   }
 
+  /**
+   * Gets the value of the 'idFixed' field.
+   * @return The value of the 'idFixed' field.
+   */
+  public com.food.ordering.system.kafka.order.avro.model.Uuid getIdFixed() {
+    return idFixed;
+  }
+
+
+  /**
+   * Sets the value of the 'idFixed' field.
+   * @param value the value to set.
+   */
+  public void setIdFixed(com.food.ordering.system.kafka.order.avro.model.Uuid value) {
+    this.idFixed = value;
+  }
+
   /**
    * Gets the value of the 'sagaId' field.
    * @return The value of the 'sagaId' field.
@@ -206,6 +253,23 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
     this.sagaId = value;
   }
 
+  /**
+   * Gets the value of the 'sagaIdFixed' field.
+   * @return The value of the 'sagaIdFixed' field.
+   */
+  public com.food.ordering.system.kafka.order.avro.model.Uuid getSagaIdFixed() {
+    return sagaIdFixed;
+  }
+
+
+  /**
+   * Sets the value of the 'sagaIdFixed' field.
+   * @param value the value to set.
+   */
+  public void setSagaIdFixed(com.food.ordering.system.kafka.order.avro.model.Uuid value) {
+    this.sagaIdFixed = value;
+  }
+
   /**
    * Gets the value of the 'paymentId' field.
    * @return The value of the 'paymentId' field.
@@ -223,6 +287,23 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
     this.paymentId = value;
   }
 
+  /**
+   * Gets the value of the 'paymentIdFixed' field.
+   * @return The value of the 'paymentIdFixed' field.
+   */
+  public com.food.ordering.system.kafka.order.avro.model.Uuid getPaymentIdFixed() {
+    return paymentIdFixed;
+  }
+
+
+  /**
+   * Sets the value of the 'paymentIdFixed' field.
+   * @param value the value to set.
+   */
+  public void setPaymentIdFixed(com.food.ordering.system.kafka.order.avro.model.Uuid value) {
+    this.paymentIdFixed = value;
+  }
+
   /**
    * Gets the value of the 'customerId' field.
    * @return The value of the 'customerId' field.
@@ -240,6 +321,23 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
     this.customerId = value;
   }
 
+  /**
+   * Gets the value of the 'customerIdFixed' field.
+   * @return The value of the 'customerIdFixed' field.
+   */
+  public com.food.ordering.system.kafka.order.avro.model.Uuid getCustomerIdFixed() {
+    return customerIdFixed;
+  }
+
+
+  /**
+   * Sets the value of the 'customerIdFixed' field.
+   * @param value the value to set.
+   */
+  public void setCustomerIdFixed(com.food.ordering.system.kafka.order.avro.model.Uuid value) {
+    this.customerIdFixed = value;
+  }
+
   /**
    * Gets the value of the 'orderId' field.
    * @return The value of the 'orderId' field.
@@ -257,6 +355,23 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
     this.orderId = value;
   }
 
+  /**
+   * Gets the value of the 'orderIdFixed' field.
+   * @return The value of the 'orderIdFixed' field.
+   */
+  public com.food.ordering.system.kafka.order.avro.model.Uuid getOrderIdFixed() {
+    return orderIdFixed;
+  }
+
+
+  /**
+   * Sets the value of the 'orderIdFixed' field.
+   * @param value the value to set.
+   */
+  public void setOrderIdFixed(com.food.ordering.system.kafka.order.avro.model.Uuid value) {
+    this.orderIdFixed = value;
+  }
+
   /**
    * Gets the value of the 'price' field.
    * @return The value of the 'price' field.
@@ -367,10 +482,15 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
     implements org.apache.avro.data.RecordBuilder<PaymentResponseAvroModel> {
 
     private java.lang.String id;
+    private com.food.ordering.system.kafka.order.avro.model.Uuid idFixed;
     private java.lang.String sagaId;
+    private com.food.ordering.system.kafka.order.avro.model.Uuid sagaIdFixed;
     private java.lang.String paymentId;
+    private com.food.ordering.system.kafka.order.avro.model.Uuid paymentIdFixed;
     private java.lang.String customerId;
+    private com.food.ordering.system.kafka.order.avro.model.Uuid customerIdFixed;
     private java.lang.String orderId;
+    private com.food.ordering.system.kafka.order.avro.model.Uuid orderIdFixed;
     private java.math.BigDecimal price;
     private java.time.Instant createdAt;
     private com.food.ordering.system.kafka.order.avro.model.PaymentStatus paymentStatus;
@@ -391,38 +511,58 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
         this.id = data().deepCopy(fields()[0].schema(), other.id);
         fieldSetFlags()[0] = other.fieldSetFlags()[0];
       }
-      if (isValidValue(fields()[1], other.sagaId)) {
-        this.sagaId = data().deepCopy(fields()[1].schema(), other.sagaId);
+      if (isValidValue(fields()[1], other.idFixed)) {
+        this.idFixed = data().deepCopy(fields()[1].schema(), other.idFixed);
         fieldSetFlags()[1] = other.fieldSetFlags()[1];
       }
-      if (isValidValue(fields()[2], other.paymentId)) {
-        this.paymentId = data().deepCopy(fields()[2].schema(), other.paymentId);
+      if (isValidValue(fields()[2], other.sagaId)) {
+        this.sagaId = data().deepCopy(fields()[2].schema(), other.sagaId);
         fieldSetFlags()[2] = other.fieldSetFlags()[2];
       }
-      if (isValidValue(fields()[3], other.customerId)) {
-        this.customerId = data().deepCopy(fields()[3].schema(), other.customerId);
+      if (isValidValue(fields()[3], other.sagaIdFixed)) {
+        this.sagaIdFixed = data().deepCopy(fields()[3].schema(), other.sagaIdFixed);
         fieldSetFlags()[3] = other.fieldSetFlags()[3];
       }
-      if (isValidValue(fields()[4], other.orderId)) {
-        this.orderId = data().deepCopy(fields()[4].schema(), other.orderId);
+      if (isValidValue(fields()[4], other.paymentId)) {
+        this.paymentId = data().deepCopy(fields()[4].schema(), other.paymentId);
         fieldSetFlags()[4] = other.fieldSetFlags()[4];
       }
-      if (isValidValue(fields()[5], other.price)) {
-        this.price = data().deepCopy(fields()[5].schema(), other.price);
+      if (isValidValue(fields()[5], other.paymentIdFixed)) {
+        this.paymentIdFixed = data().deepCopy(fields()[5].schema(), other.paymentIdFixed);
         fieldSetFlags()[5] = other.fieldSetFlags()[5];
       }
-      if (isValidValue(fields()[6], other.createdAt)) {
-        this.createdAt = data().deepCopy(fields()[6].schema(), other.createdAt);
+      if (isValidValue(fields()[6], other.customerId)) {
+        this.customerId = data().deepCopy(fields()[6].schema(), other.customerId);
         fieldSetFlags()[6] = other.fieldSetFlags()[6];
       }
-      if (isValidValue(fields()[7], other.paymentStatus)) {
-        this.paymentStatus = data().deepCopy(fields()[7].schema(), other.paymentStatus);
+      if (isValidValue(fields()[7], other.customerIdFixed)) {
+        this.customerIdFixed = data().deepCopy(fields()[7].schema(), other.customerIdFixed);
         fieldSetFlags()[7] = other.fieldSetFlags()[7];
       }
-      if (isValidValue(fields()[8], other.failureMessages)) {
-        this.failureMessages = data().deepCopy(fields()[8].schema(), other.failureMessages);
+      if (isValidValue(fields()[8], other.orderId)) {
+        this.orderId = data().deepCopy(fields()[8].schema(), other.orderId);
         fieldSetFlags()[8] = other.fieldSetFlags()[8];
       }
+      if (isValidValue(fields()[9], other.orderIdFixed)) {
+        this.orderIdFixed = data().deepCopy(fields()[9].schema(), other.orderIdFixed);
+        fieldSetFlags()[9] = other.fieldSetFlags()[9];
+      }
+      if (isValidValue(fields()[10], other.price)) {
+        this.price = data().deepCopy(fields()[10].schema(), other.price);
+        fieldSetFlags()[10] = other.fieldSetFlags()[10];
+      }
+      if (isValidValue(fields()[11], other.createdAt)) {
+        this.createdAt = data().deepCopy(fields()[11].schema(), other.createdAt);
+        fieldSetFlags()[11] = other.fieldSetFlags()[11];
+      }
+      if (isValidValue(fields()[12], other.paymentStatus)) {
+        this.paymentStatus = data().deepCopy(fields()[12].schema(), other.paymentStatus);
+        fieldSetFlags()[12] = other.fieldSetFlags()[12];
+      }
+      if (isValidValue(fields()[13], other.failureMessages)) {
+        this.failureMessages = data().deepCopy(fields()[13].schema(), other.failureMessages);
+        fieldSetFlags()[13] = other.fieldSetFlags()[13];
+      }
     }
 
     /**
@@ -435,38 +575,58 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
         this.id = data().deepCopy(fields()[0].schema(), other.id);
         fieldSetFlags()[0] = true;
       }
-      if (isValidValue(fields()[1], other.sagaId)) {
-        this.sagaId = data().deepCopy(fields()[1].schema(), other.sagaId);
+      if (isValidValue(fields()[1], other.idFixed)) {
+        this.idFixed = data().deepCopy(fields()[1].schema(), other.idFixed);
         fieldSetFlags()[1] = true;
       }
-      if (isValidValue(fields()[2], other.paymentId)) {
-        this.paymentId = data().deepCopy(fields()[2].schema(), other.paymentId);
+      if (isValidValue(fields()[2], other.sagaId)) {
+        this.sagaId = data().deepCopy(fields()[2].schema(), other.sagaId);
         fieldSetFlags()[2] = true;
       }
-      if (isValidValue(fields()[3], other.customerId)) {
-        this.customerId = data().deepCopy(fields()[3].schema(), other.customerId);
+      if (isValidValue(fields()[3], other.sagaIdFixed)) {
+        this.sagaIdFixed = data().deepCopy(fields()[3].schema(), other.sagaIdFixed);
         fieldSetFlags()[3] = true;
       }
-      if (isValidValue(fields()[4], other.orderId)) {
-        this.orderId = data().deepCopy(fields()[4].schema(), other.orderId);
+      if (isValidValue(fields()[4], other.paymentId)) {
+        this.paymentId = data().deepCopy(fields()[4].schema(), other.paymentId);
         fieldSetFlags()[4] = true;
       }
-      if (isValidValue(fields()[5], other.price)) {
-        this.price = data().deepCopy(fields()[5].schema(), other.price);
+      if (isValidValue(fields()[5], other.paymentIdFixed)) {
+        this.paymentIdFixed = data().deepCopy(fields()[5].schema(), other.paymentIdFixed);
         fieldSetFlags()[5] = true;
       }
-      if (isValidValue(fields()[6], other.createdAt)) {
-        this.createdAt = data().deepCopy(fields()[6].schema(), other.createdAt);
+      if (isValidValue(fields()[6], other.customerId)) {
+        this.customerId = data().deepCopy(fields()[6].schema(), other.customerId);
         fieldSetFlags()[6] = true;
       }
-      if (isValidValue(fields()[7], other.paymentStatus)) {
-        this.paymentStatus = data().deepCopy(fields()[7].schema(), other.paymentStatus);
+      if (isValidValue(fields()[7], other.customerIdFixed)) {
+        this.customerIdFixed = data().deepCopy(fields()[7].schema(), other.customerIdFixed);
         fieldSetFlags()[7] = true;
       }
-      if (isValidValue(fields()[8], other.failureMessages)) {
-        this.failureMessages = data().deepCopy(fields()[8].schema(), other.failureMessages);
+      if (isValidValue(fields()[8], other.orderId)) {
+        this.orderId = data().deepCopy(fields()[8].schema(), other.orderId);
         fieldSetFlags()[8] = true;
       }
+      if (isValidValue(fields()[9], other.orderIdFixed)) {
+        this.orderIdFixed = data().deepCopy(fields()[9].schema(), other.orderIdFixed);
+        fieldSetFlags()[9] = true;
+      }
+      if (isValidValue(fields()[10], other.price)) {
+        this.price = data().deepCopy(fields()[10].schema(), other.price);
+        fieldSetFlags()[10] = true;
+      }
+      if (isValidValue(fields()[11], other.createdAt)) {
+        this.createdAt = data().deepCopy(fields()[11].schema(), other.createdAt);
+        fieldSetFlags()[11] = true;
+      }
+      if (isValidValue(fields()[12], other.paymentStatus)) {
+        this.paymentStatus = data().deepCopy(fields()[12].schema(), other.paymentStatus);
+        fieldSetFlags()[12] = true;
+      }
+      if (isValidValue(fields()[13], other.failureMessages)) {
+        this.failureMessages = data().deepCopy(fields()[13].schema(), other.failureMessages);
+        fieldSetFlags()[13] = true;
+      }
     }
 
     /**
@@ -509,6 +669,46 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
       return this;
     }
 
+    /**
+      * Gets the value of the 'idFixed' field.
+      * @return The value.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.Uuid getIdFixed() {
+      return idFixed;
+    }
+
+
+    /**
+      * Sets the value of the 'idFixed' field.
+      * @param value The value of 'idFixed'.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel.Builder setIdFixed(com.food.ordering.system.kafka.order.avro.model.Uuid value) {
+      validate(fields()[1], value);
+      this.idFixed = value;
+      fieldSetFlags()[1] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'idFixed' field has been set.
+      * @return True if the 'idFixed' field has been set, false otherwise.
+      */
+    public boolean hasIdFixed() {
+      return fieldSetFlags()[1];
+    }
+
+
+    /**
+      * Clears the value of the 'idFixed' field.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel.Builder clearIdFixed() {
+      idFixed = null;
+      fieldSetFlags()[1] = false;
+      return this;
+    }
+
     /**
       * Gets the value of the 'sagaId' field.
       * @return The value.
@@ -524,9 +724,9 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
       * @return This builder.
       */
     public com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel.Builder setSagaId(java.lang.String value) {
-      validate(fields()[1], value);
+      validate(fields()[2], value);
       this.sagaId = value;
-      fieldSetFlags()[1] = true;
+      fieldSetFlags()[2] = true;
       return this;
     }
 
@@ -535,7 +735,7 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
       * @return True if the 'sagaId' field has been set, false otherwise.
       */
     public boolean hasSagaId() {
-      return fieldSetFlags()[1];
+      return fieldSetFlags()[2];
     }
 
 
@@ -545,7 +745,47 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
       */
     public com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel.Builder clearSagaId() {
       sagaId = null;
-      fieldSetFlags()[1] = false;
+      fieldSetFlags()[2] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'sagaIdFixed' field.
+      * @return The value.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.Uuid getSagaIdFixed() {
+      return sagaIdFixed;
+    }
+
+
+    /**
+      * Sets the value of the 'sagaIdFixed' field.
+      * @param value The value of 'sagaIdFixed'.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel.Builder setSagaIdFixed(com.food.ordering.system.kafka.order.avro.model.Uuid value) {
+      validate(fields()[3], value);
+      this.sagaIdFixed = value;
+      fieldSetFlags()[3] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'sagaIdFixed' field has been set.
+      * @return True if the 'sagaIdFixed' field has been set, false otherwise.
+      */
+    public boolean hasSagaIdFixed() {
+      return fieldSetFlags()[3];
+    }
+
+
+    /**
+      * Clears the value of the 'sagaIdFixed' field.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel.Builder clearSagaIdFixed() {
+      sagaIdFixed = null;
+      fieldSetFlags()[3] = false;
       return this;
     }
 
@@ -564,9 +804,9 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
       * @return This builder.
       */
     public com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel.Builder setPaymentId(java.lang.String value) {
-      validate(fields()[2], value);
+      validate(fields()[4], value);
       this.paymentId = value;
-      fieldSetFlags()[2] = true;
+      fieldSetFlags()[4] = true;
       return this;
     }
 
@@ -575,7 +815,7 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
       * @return True if the 'paymentId' field has been set, false otherwise.
       */
     public boolean hasPaymentId() {
-      return fieldSetFlags()[2];
+      return fieldSetFlags()[4];
     }
 
 
@@ -585,7 +825,47 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
       */
     public com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel.Builder clearPaymentId() {
       paymentId = null;
-      fieldSetFlags()[2] = false;
+      fieldSetFlags()[4] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'paymentIdFixed' field.
+      * @return The value.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.Uuid getPaymentIdFixed() {
+      return paymentIdFixed;
+    }
+
+
+    /**
+      * Sets the value of the 'paymentIdFixed' field.
+      * @param value The value of 'paymentIdFixed'.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel.Builder setPaymentIdFixed(com.food.ordering.system.kafka.order.avro.model.Uuid value) {
+      validate(fields()[5], value);
+      this.paymentIdFixed = value;
+      fieldSetFlags()[5] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'paymentIdFixed' field has been set.
+      * @return True if the 'paymentIdFixed' field has been set, false otherwise.
+      */
+    public boolean hasPaymentIdFixed() {
+      return fieldSetFlags()[5];
+    }
+
+
+    /**
+      * Clears the value of the 'paymentIdFixed' field.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel.Builder clearPaymentIdFixed() {
+      paymentIdFixed = null;
+      fieldSetFlags()[5] = false;
       return this;
     }
 
@@ -604,9 +884,9 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
       * @return This builder.
       */
     public com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel.Builder setCustomerId(java.lang.String value) {
-      validate(fields()[3], value);
+      validate(fields()[6], value);
       this.customerId = value;
-      fieldSetFlags()[3] = true;
+      fieldSetFlags()[6] = true;
       return this;
     }
 
@@ -615,7 +895,7 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
       * @return True if the 'customerId' field has been set, false otherwise.
       */
     public boolean hasCustomerId() {
-      return fieldSetFlags()[3];
+      return fieldSetFlags()[6];
     }
 
 
@@ -625,7 +905,47 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
       */
     public com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel.Builder clearCustomerId() {
       customerId = null;
-      fieldSetFlags()[3] = false;
+      fieldSetFlags()[6] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'customerIdFixed' field.
+      * @return The value.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.Uuid getCustomerIdFixed() {
+      return customerIdFixed;
+    }
+
+
+    /**
+      * Sets the value of the 'customerIdFixed' field.
+      * @param value The value of 'customerIdFixed'.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel.Builder setCustomerIdFixed(com.food.ordering.system.kafka.order.avro.model.Uuid value) {
+      validate(fields()[7], value);
+      this.customerIdFixed = value;
+      fieldSetFlags()[7] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'customerIdFixed' field has been set.
+      * @return True if the 'customerIdFixed' field has been set, false otherwise.
+      */
+    public boolean hasCustomerIdFixed() {
+      return fieldSetFlags()[7];
+    }
+
+
+    /**
+      * Clears the value of the 'customerIdFixed' field.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel.Builder clearCustomerIdFixed() {
+      customerIdFixed = null;
+      fieldSetFlags()[7] = false;
       return this;
     }
 
@@ -644,9 +964,9 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
       * @return This builder.
       */
     public com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel.Builder setOrderId(java.lang.String value) {
-      validate(fields()[4], value);
+      validate(fields()[8], value);
       this.orderId = value;
-      fieldSetFlags()[4] = true;
+      fieldSetFlags()[8] = true;
       return this;
     }
 
@@ -655,7 +975,7 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
       * @return True if the 'orderId' field has been set, false otherwise.
       */
     public boolean hasOrderId() {
-      return fieldSetFlags()[4];
+      return fieldSetFlags()[8];
     }
 
 
@@ -665,7 +985,47 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
       */
     public com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel.Builder clearOrderId() {
       orderId = null;
-      fieldSetFlags()[4] = false;
+      fieldSetFlags()[8] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'orderIdFixed' field.
+      * @return The value.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.Uuid getOrderIdFixed() {
+      return orderIdFixed;
+    }
+
+
+    /**
+      * Sets the value of the 'orderIdFixed' field.
+      * @param value The value of 'orderIdFixed'.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel.Builder setOrderIdFixed(com.food.ordering.system.kafka.order.avro.model.Uuid value) {
+      validate(fields()[9], value);
+      this.orderIdFixed = value;
+      fieldSetFlags()[9] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'orderIdFixed' field has been set.
+      * @return True if the 'orderIdFixed' field has been set, false otherwise.
+      */
+    public boolean hasOrderIdFixed() {
+      return fieldSetFlags()[9];
+    }
+
+
+    /**
+      * Clears the value of the 'orderIdFixed' field.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel.Builder clearOrderIdFixed() {
+      orderIdFixed = null;
+      fieldSetFlags()[9] = false;
       return this;
     }
 
@@ -684,9 +1044,9 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
       * @return This builder.
       */
     public com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel.Builder setPrice(java.math.BigDecimal value) {
-      validate(fields()[5], value);
+      validate(fields()[10], value);
       this.price = value;
-      fieldSetFlags()[5] = true;
+      fieldSetFlags()[10] = true;
       return this;
     }
 
@@ -695,7 +1055,7 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
       * @return True if the 'price' field has been set, false otherwise.
       */
     public boolean hasPrice() {
-      return fieldSetFlags()[5];
+      return fieldSetFlags()[10];
     }
 
 
@@ -705,7 +1065,7 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
       */
     public com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel.Builder clearPrice() {
       price = null;
-      fieldSetFlags()[5] = false;
+      fieldSetFlags()[10] = false;
       return this;
     }
 
@@ -724,9 +1084,9 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
       * @return This builder.
       */
     public com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel.Builder setCreatedAt(java.time.Instant value) {
-      validate(fields()[6], value);
+      validate(fields()[11], value);
       this.createdAt = value.truncatedTo(java.time.temporal.ChronoUnit.MILLIS);
-      fieldSetFlags()[6] = true;
+      fieldSetFlags()[11] = true;
       return this;
     }
 
@@ -735,7 +1095,7 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
       * @return True if the 'createdAt' field has been set, false otherwise.
       */
     public boolean hasCreatedAt() {
-      return fieldSetFlags()[6];
+      return fieldSetFlags()[11];
     }
 
 
@@ -744,7 +1104,7 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
       * @return This builder.
       */
     public com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel.Builder clearCreatedAt() {
-      fieldSetFlags()[6] = false;
+      fieldSetFlags()[11] = false;
       return this;
     }
 
@@ -763,9 +1123,9 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
       * @return This builder.
       */
     public com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel.Builder setPaymentStatus(com.food.ordering.system.kafka.order.avro.model.PaymentStatus value) {
-      validate(fields()[7], value);
+      validate(fields()[12], value);
       this.paymentStatus = value;
-      fieldSetFlags()[7] = true;
+      fieldSetFlags()[12] = true;
       return this;
     }
 
@@ -774,7 +1134,7 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
       * @return True if the 'paymentStatus' field has been set, false otherwise.
       */
     public boolean hasPaymentStatus() {
-      return fieldSetFlags()[7];
+      return fieldSetFlags()[12];
     }
 
 
@@ -784,7 +1144,7 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
       */
     public com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel.Builder clearPaymentStatus() {
       paymentStatus = null;
-      fieldSetFlags()[7] = false;
+      fieldSetFlags()[12] = false;
       return this;
     }
 
@@ -803,9 +1163,9 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
       * @return This builder.
       */
     public com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel.Builder setFailureMessages(java.util.List<java.lang.String> value) {
-      validate(fields()[8], value);
+      validate(fields()[13], value);
       this.failureMessages = value;
-      fieldSetFlags()[8] = true;
+      fieldSetFlags()[13] = true;
       return this;
     }
 
@@ -814,7 +1174,7 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
       * @return True if the 'failureMessages' field has been set, false otherwise.
       */
     public boolean hasFailureMessages() {
-      return fieldSetFlags()[8];
+      return fieldSetFlags()[13];
     }
 
 
@@ -824,7 +1184,7 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
       */
     public com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel.Builder clearFailureMessages() {
       failureMessages = null;
-      fieldSetFlags()[8] = false;
+      fieldSetFlags()[13] = false;
       return this;
     }
 
@@ -834,14 +1194,19 @@ public class PaymentResponseAvroModel extends org.apache.avro.specific.SpecificR
       try {
         PaymentResponseAvroModel record = new PaymentResponseAvroModel();
         record.id = fieldSetFlags()[0] ? this.id : (java.lang.String) defaultValue(fields()[0]);
-        record.sagaId = fieldSetFlags()[1] ? this.sagaId : (java.lang.String) defaultValue(fields()[1]);
-        record.paymentId = fieldSetFlags()[2] ? this.paymentId : (java.lang.String) defaultValue(fields()[2]);
-        record.customerId = fieldSetFlags()[3] ? this.customerId : (java.lang.String) defaultValue(fields()[3]);
-        record.orderId = fieldSetFlags()[4] ? this.orderId : (java.lang.String) defaultValue(fields()[4]);
-        record.price = fieldSetFlags()[5] ? this.price : (java.math.BigDecimal) defaultValue(fields()[5]);
-        record.createdAt = fieldSetFlags()[6] ? this.createdAt : (java.time.Instant) defaultValue(fields()[6]);
-        record.paymentStatus = fieldSetFlags()[7] ? this.paymentStatus : (com.food.ordering.system.kafka.order.avro.model.PaymentStatus) defaultValue(fields()[7]);
-        record.failureMessages = fieldSetFlags()[8] ? this.failureMessages : (java.util.List<java.lang.String>) defaultValue(fields()[8]);
+        record.idFixed = fieldSetFlags()[1] ? this.idFixed : (com.food.ordering.system.kafka.order.avro.model.Uuid) defaultValue(fields()[1]);
+        record.sagaId = fieldSetFlags()[2] ? this.sagaId : (java.lang.String) defaultValue(fields()[2]);
+        record.sagaIdFixed = fieldSetFlags()[3] ? this.sagaIdFixed : (com.food.ordering.system.kafka.order.avro.model.Uuid) defaultValue(fields()[3]);
+        record.paymentId = fieldSetFlags()[4] ? this.paymentId : (java.lang.String) defaultValue(fields()[4]);
+        record.paymentIdFixed = fieldSetFlags()[5] ? this.paymentIdFixed : (com.food.ordering.system.kafka.order.avro.model.Uuid) defaultValue(fields()[5]);
+        record.customerId = fieldSetFlags()[6] ? this.customerId : (java.lang.String) defaultValue(fields()[6]);
+        record.customerIdFixed = fieldSetFlags()[7] ? this.customerIdFixed : (com.food.ordering.system.kafka.order.avro.model.Uuid) defaultValue(fields()[7]);
+        record.orderId = fieldSetFlags()[8] ? this.orderId : (java.lang.String) defaultValue(fields()[8]);
+        record.orderIdFixed = fieldSetFlags()[9] ? this.orderIdFixed : (com.food.ordering.system.kafka.order.avro.model.Uuid) defaultValue(fields()[9]);
+        record.price = fieldSetFlags()[10] ? this.price : (java.math.BigDecimal) defaultValue(fields()[10]);
+        record.createdAt = fieldSetFlags()[11] ? this.createdAt : (java.time.Instant) defaultValue(fields()[11]);
+        record.paymentStatus = fieldSetFlags()[12] ? this.paymentStatus : (com.food.ordering.system.kafka.order.avro.model.PaymentStatus) defaultValue(fields()[12]);
+        record.failureMessages = fieldSetFlags()[13] ? this.failureMessages : (java.util.List<java.lang.String>) defaultValue(fields()[13]);
         return record;
       } catch (org.apache.avro.AvroMissingFieldException e) {
         throw e;
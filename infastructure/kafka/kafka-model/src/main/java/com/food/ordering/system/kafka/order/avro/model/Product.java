@@ -14,10 +14,10 @@ import org.apache.avro.message.SchemaStore;
 
 @org.apache.avro.specific.AvroGenerated
 public class Product extends org.apache.avro.specific.SpecificRecordBase implements org.apache.avro.specific.SpecificRecord {
-  private static final long serialVersionUID = -6511580554663840009L;
+  private static final long serialVersionUID = 5910675648884516258L;
 
 
-  public static final org.apache.avro.Schema SCHEMA$ = new org.apache.avro.Schema.Parser().parse("{\"type\":\"record\",\"name\":\"Product\",\"namespace\":\"com.food.ordering.system.kafka.order.avro.model\",\"fields\":[{\"name\":\"id\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"},\"logicalType\":\"uuid\"},{\"name\":\"quantity\",\"type\":\"int\"}]}");
+  public static final org.apache.avro.Schema SCHEMA$ = new org.apache.avro.Schema.Parser().parse("{\"type\":\"record\",\"name\":\"Product\",\"namespace\":\"com.food.ordering.system.kafka.order.avro.model\",\"fields\":[{\"name\":\"id\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"},\"logicalType\":\"uuid\"},{\"name\":\"idFixed\",\"type\":[\"null\",{\"type\":\"fixed\",\"name\":\"Uuid\",\"size\":16}],\"default\":null},{\"name\":\"quantity\",\"type\":\"int\"}]}");
   public static org.apache.avro.Schema getClassSchema() { return SCHEMA$; }
 
   private static final SpecificData MODEL$ = new SpecificData();
@@ -74,6 +74,7 @@ public class Product extends org.apache.avro.specific.SpecificRecordBase impleme
   }
 
   private java.lang.String id;
+  private com.food.ordering.system.kafka.order.avro.model.Uuid idFixed;
   private int quantity;
 
   /**
@@ -86,10 +87,12 @@ public class Product extends org.apache.avro.specific.SpecificRecordBase impleme
   /**
    * All-args constructor.
    * @param id The new value for id
+   * @param idFixed The new value for idFixed
    * @param quantity The new value for quantity
    */
-  public Product(java.lang.String id, java.lang.Integer quantity) {
+  public Product(java.lang.String id, com.food.ordering.system.kafka.order.avro.model.Uuid idFixed, java.lang.Integer quantity) {
     this.id = id;
+    this.idFixed = idFixed;
     this.quantity = quantity;
   }
 
@@ -99,7 +102,8 @@ public class Product extends org.apache.avro.specific.SpecificRecordBase impleme
   public java.lang.Object get(int field$) {
     switch (field$) {
     case 0: return id;
-    case 1: return quantity;
+    case 1: return idFixed;
+    case 2: return quantity;
     default: throw new IndexOutOfBoundsException("Invalid index: " + field$);
     }
   }
@@ -109,7 +113,8 @@ public class Product extends org.apache.avro.specific.SpecificRecordBase impleme
   public void put(int field$, java.lang.Object value$) {
     switch (field$) {
     case 0: id = value$ != null ? value$.toString() : null; break;
-    case 1: quantity = (java.lang.Integer)value$; break;
+    case 1: idFixed = (com.food.ordering.system.kafka.order.avro.model.Uuid)value$; break;
+    case 2: quantity = (java.lang.Integer)value$; break;
     default: throw new IndexOutOfBoundsException("Invalid index: " + field$);
     }
   }
@@ -131,6 +136,23 @@ public class Product extends org.apache.avro.specific.SpecificRecordBase impleme
     this.id = value;
   }
 
+  /**
+   * Gets the value of the 'idFixed' field.
+   * @return The value of the 'idFixed' field.
+   */
+  public com.food.ordering.system.kafka.order.avro.model.Uuid getIdFixed() {
+    return idFixed;
+  }
+
+
+  /**
+   * Sets the value of the 'idFixed' field.
+   * @param value the value to set.
+   */
+  public void setIdFixed(com.food.ordering.system.kafka.order.avro.model.Uuid value) {
+    this.idFixed = value;
+  }
+
   /**
    * Gets the value of the 'quantity' field.
    * @return The value of the 'quantity' field.
@@ -190,6 +212,7 @@ public class Product extends org.apache.avro.specific.SpecificRecordBase impleme
     implements org.apache.avro.data.RecordBuilder<Product> {
 
     private java.lang.String id;
+    private com.food.ordering.system.kafka.order.avro.model.Uuid idFixed;
     private int quantity;
 
     /** Creates a new Builder */
@@ -207,10 +230,14 @@ public class Product extends org.apache.avro.specific.SpecificRecordBase impleme
         this.id = data().deepCopy(fields()[0].schema(), other.id);
         fieldSetFlags()[0] = other.fieldSetFlags()[0];
       }
-      if (isValidValue(fields()[1], other.quantity)) {
-        this.quantity = data().deepCopy(fields()[1].schema(), other.quantity);
+      if (isValidValue(fields()[1], other.idFixed)) {
+        this.idFixed = data().deepCopy(fields()[1].schema(), other.idFixed);
         fieldSetFlags()[1] = other.fieldSetFlags()[1];
       }
+      if (isValidValue(fields()[2], other.quantity)) {
+        this.quantity = data().deepCopy(fields()[2].schema(), other.quantity);
+        fieldSetFlags()[2] = other.fieldSetFlags()[2];
+      }
     }
 
     /**
@@ -223,10 +250,14 @@ public class Product extends org.apache.avro.specific.SpecificRecordBase impleme
         this.id = data().deepCopy(fields()[0].schema(), other.id);
         fieldSetFlags()[0] = true;
       }
-      if (isValidValue(fields()[1], other.quantity)) {
-        this.quantity = data().deepCopy(fields()[1].schema(), other.quantity);
+      if (isValidValue(fields()[1], other.idFixed)) {
+        this.idFixed = data().deepCopy(fields()[1].schema(), other.idFixed);
         fieldSetFlags()[1] = true;
       }
+      if (isValidValue(fields()[2], other.quantity)) {
+        this.quantity = data().deepCopy(fields()[2].schema(), other.quantity);
+        fieldSetFlags()[2] = true;
+      }
     }
 
     /**
@@ -269,6 +300,46 @@ public class Product extends org.apache.avro.specific.SpecificRecordBase impleme
       return this;
     }
 
+    /**
+      * Gets the value of the 'idFixed' field.
+      * @return The value.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.Uuid getIdFixed() {
+      return idFixed;
+    }
+
+
+    /**
+      * Sets the value of the 'idFixed' field.
+      * @param value The value of 'idFixed'.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.Product.Builder setIdFixed(com.food.ordering.system.kafka.order.avro.model.Uuid value) {
+      validate(fields()[1], value);
+      this.idFixed = value;
+      fieldSetFlags()[1] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'idFixed' field has been set.
+      * @return True if the 'idFixed' field has been set, false otherwise.
+      */
+    public boolean hasIdFixed() {
+      return fieldSetFlags()[1];
+    }
+
+
+    /**
+      * Clears the value of the 'idFixed' field.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.Product.Builder clearIdFixed() {
+      idFixed = null;
+      fieldSetFlags()[1] = false;
+      return this;
+    }
+
     /**
       * Gets the value of the 'quantity' field.
       * @return The value.
@@ -284,9 +355,9 @@ public class Product extends org.apache.avro.specific.SpecificRecordBase impleme
       * @return This builder.
       */
     public com.food.ordering.system.kafka.order.avro.model.Product.Builder setQuantity(int value) {
-      validate(fields()[1], value);
+      validate(fields()[2], value);
       this.quantity = value;
-      fieldSetFlags()[1] = true;
+      fieldSetFlags()[2] = true;
       return this;
     }
 
@@ -295,7 +366,7 @@ public class Product extends org.apache.avro.specific.SpecificRecordBase impleme
       * @return True if the 'quantity' field has been set, false otherwise.
       */
     public boolean hasQuantity() {
-      return fieldSetFlags()[1];
+      return fieldSetFlags()[2];
     }
 
 
@@ -304,7 +375,7 @@ public class Product extends org.apache.avro.specific.SpecificRecordBase impleme
       * @return This builder.
       */
     public com.food.ordering.system.kafka.order.avro.model.Product.Builder clearQuantity() {
-      fieldSetFlags()[1] = false;
+      fieldSetFlags()[2] = false;
       return this;
     }
 
@@ -314,7 +385,8 @@ public class Product extends org.apache.avro.specific.SpecificRecordBase impleme
       try {
         Product record = new Product();
         record.id = fieldSetFlags()[0] ? this.id : (java.lang.String) defaultValue(fields()[0]);
-        record.quantity = fieldSetFlags()[1] ? this.quantity : (java.lang.Integer) defaultValue(fields()[1]);
+        record.idFixed = fieldSetFlags()[1] ? this.idFixed : (com.food.ordering.system.kafka.order.avro.model.Uuid) defaultValue(fields()[1]);
+        record.quantity = fieldSetFlags()[2] ? this.quantity : (java.lang.Integer) defaultValue(fields()[2]);
         return record;
       } catch (org.apache.avro.AvroMissingFieldException e) {
         throw e;
@@ -349,6 +421,14 @@ public class Product extends org.apache.avro.specific.SpecificRecordBase impleme
   {
     out.writeString(this.id);
 
+    if (this.idFixed == null) {
+      out.writeIndex(0);
+      out.writeNull();
+    } else {
+      out.writeIndex(1);
+      out.writeFixed(this.idFixed.bytes(), 0, 16);
+    }
+
     out.writeInt(this.quantity);
 
   }
@@ -360,16 +440,38 @@ public class Product extends org.apache.avro.specific.SpecificRecordBase impleme
     if (fieldOrder == null) {
       this.id = in.readString();
 
+      if (in.readIndex() != 1) {
+        in.readNull();
+        this.idFixed = null;
+      } else {
+        if (this.idFixed == null) {
+          this.idFixed = new com.food.ordering.system.kafka.order.avro.model.Uuid();
+        }
+        in.readFixed(this.idFixed.bytes(), 0, 16);
+      }
+
       this.quantity = in.readInt();
 
     } else {
-      for (int i = 0; i < 2; i++) {
+      for (int i = 0; i < 3; i++) {
         switch (fieldOrder[i].pos()) {
         case 0:
           this.id = in.readString();
           break;
 
         case 1:
+          if (in.readIndex() != 1) {
+            in.readNull();
+            this.idFixed = null;
+          } else {
+            if (this.idFixed == null) {
+              this.idFixed = new com.food.ordering.system.kafka.order.avro.model.Uuid();
+            }
+            in.readFixed(this.idFixed.bytes(), 0, 16);
+          }
+          break;
+
+        case 2:
           this.quantity = in.readInt();
           break;
 
@@ -14,10 +14,10 @@ import org.apache.avro.message.SchemaStore;
 
 @org.apache.avro.specific.AvroGenerated
 public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific.SpecificRecordBase implements org.apache.avro.specific.SpecificRecord {
-  private static final long serialVersionUID = -3917361261016430486L;
+  private static final long serialVersionUID = -7971878855683936406L;
 
 
-  public static final org.apache.avro.Schema SCHEMA$ = new org.apache.avro.Schema.Parser().parse("{\"type\":\"record\",\"name\":\"RestaurantApprovalRequestAvroModel\",\"namespace\":\"com.food.ordering.system.kafka.order.avro.model\",\"fields\":[{\"name\":\"id\",\"type\":{\"type\":\"string\",\"logicalType\":\"uuid\"}},{\"name\":\"sagaId\",\"type\":{\"type\":\"string\",\"logicalType\":\"uuid\"}},{\"name\":\"restaurantId\",\"type\":{\"type\":\"string\",\"logicalType\":\"uuid\"}},{\"name\":\"orderId\",\"type\":{\"type\":\"string\",\"logicalType\":\"uuid\"}},{\"name\":\"restaurantOrderStatus\",\"type\":{\"type\":\"enum\",\"name\":\"RestaurantOrderStatus\",\"symbols\":[\"PAID\"]}},{\"name\":\"products\",\"type\":{\"type\":\"array\",\"items\":{\"type\":\"record\",\"name\":\"Product\",\"fields\":[{\"name\":\"id\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"},\"logicalType\":\"uuid\"},{\"name\":\"quantity\",\"type\":\"int\"}]}}},{\"name\":\"price\",\"type\":{\"type\":\"bytes\",\"logicalType\":\"decimal\",\"precision\":10,\"scale\":2}},{\"name\":\"createdAt\",\"type\":{\"type\":\"long\",\"logicalType\":\"timestamp-millis\"}}]}");
+  public static final org.apache.avro.Schema SCHEMA$ = new org.apache.avro.Schema.Parser().parse("{\"type\":\"record\",\"name\":\"RestaurantApprovalRequestAvroModel\",\"namespace\":\"com.food.ordering.system.kafka.order.avro.model\",\"fields\":[{\"name\":\"id\",\"type\":{\"type\":\"string\",\"logicalType\":\"uuid\"}},{\"name\":\"idFixed\",\"type\":[\"null\",{\"type\":\"fixed\",\"name\":\"Uuid\",\"size\":16}],\"default\":null},{\"name\":\"sagaId\",\"type\":{\"type\":\"string\",\"logicalType\":\"uuid\"}},{\"name\":\"sagaIdFixed\",\"type\":[\"null\",\"Uuid\"],\"default\":null},{\"name\":\"restaurantId\",\"type\":{\"type\":\"string\",\"logicalType\":\"uuid\"}},{\"name\":\"restaurantIdFixed\",\"type\":[\"null\",\"Uuid\"],\"default\":null},{\"name\":\"orderId\",\"type\":{\"type\":\"string\",\"logicalType\":\"uuid\"}},{\"name\":\"orderIdFixed\",\"type\":[\"null\",\"Uuid\"],\"default\":null},{\"name\":\"restaurantOrderStatus\",\"type\":{\"type\":\"enum\",\"name\":\"RestaurantOrderStatus\",\"symbols\":[\"PAID\"]}},{\"name\":\"products\",\"type\":{\"type\":\"array\",\"items\":{\"type\":\"record\",\"name\":\"Product\",\"fields\":[{\"name\":\"id\",\"type\":{\"type\":\"string\",\"avro.java.string\":\"String\"},\"logicalType\":\"uuid\"},{\"name\":\"idFixed\",\"type\":[\"null\",\"Uuid\"],\"default\":null},{\"name\":\"quantity\",\"type\":\"int\"}]}}},{\"name\":\"price\",\"type\":{\"type\":\"bytes\",\"logicalType\":\"decimal\",\"precision\":10,\"scale\":2}},{\"name\":\"createdAt\",\"type\":{\"type\":\"long\",\"logicalType\":\"timestamp-millis\"}}]}");
   public static org.apache.avro.Schema getClassSchema() { return SCHEMA$; }
 
   private static final SpecificData MODEL$ = new SpecificData();
@@ -78,9 +78,13 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
   }
 
   private java.lang.String id;
+  private com.food.ordering.system.kafka.order.avro.model.Uuid idFixed;
   private java.lang.String sagaId;
+  private com.food.ordering.system.kafka.order.avro.model.Uuid sagaIdFixed;
   private java.lang.String restaurantId;
+  private com.food.ordering.system.kafka.order.avro.model.Uuid restaurantIdFixed;
   private java.lang.String orderId;
+  private com.food.ordering.system.kafka.order.avro.model.Uuid orderIdFixed;
   private com.food.ordering.system.kafka.order.avro.model.RestaurantOrderStatus restaurantOrderStatus;
   private java.util.List<com.food.ordering.system.kafka.order.avro.model.Product> products;
   private java.math.BigDecimal price;
@@ -96,19 +100,27 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
   /**
    * All-args constructor.
    * @param id The new value for id
+   * @param idFixed The new value for idFixed
    * @param sagaId The new value for sagaId
+   * @param sagaIdFixed The new value for sagaIdFixed
    * @param restaurantId The new value for restaurantId
+   * @param restaurantIdFixed The new value for restaurantIdFixed
    * @param orderId The new value for orderId
+   * @param orderIdFixed The new value for orderIdFixed
    * @param restaurantOrderStatus The new value for restaurantOrderStatus
    * @param products The new value for products
    * @param price The new value for price
    * @param createdAt The new value for createdAt
    */
-  public RestaurantApprovalRequestAvroModel(java.lang.String id, java.lang.String sagaId, java.lang.String restaurantId, java.lang.String orderId, com.food.ordering.system.kafka.order.avro.model.RestaurantOrderStatus restaurantOrderStatus, java.util.List<com.food.ordering.system.kafka.order.avro.model.Product> products, java.math.BigDecimal price, java.time.Instant createdAt) {
+  public RestaurantApprovalRequestAvroModel(java.lang.String id, com.food.ordering.system.kafka.order.avro.model.Uuid idFixed, java.lang.String sagaId, com.food.ordering.system.kafka.order.avro.model.Uuid sagaIdFixed, java.lang.String restaurantId, com.food.ordering.system.kafka.order.avro.model.Uuid restaurantIdFixed, java.lang.String orderId, com.food.ordering.system.kafka.order.avro.model.Uuid orderIdFixed, com.food.ordering.system.kafka.order.avro.model.RestaurantOrderStatus restaurantOrderStatus, java.util.List<com.food.ordering.system.kafka.order.avro.model.Product> products, java.math.BigDecimal price, java.time.Instant createdAt) {
     this.id = id;
+    this.idFixed = idFixed;
     this.sagaId = sagaId;
+    this.sagaIdFixed = sagaIdFixed;
     this.restaurantId = restaurantId;
+    this.restaurantIdFixed = restaurantIdFixed;
     this.orderId = orderId;
+    this.orderIdFixed = orderIdFixed;
     this.restaurantOrderStatus = restaurantOrderStatus;
     this.products = products;
     this.price = price;
@@ -121,13 +133,17 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
   public java.lang.Object get(int field$) {
     switch (field$) {
     case 0: return id;
-    case 1: return sagaId;
-    case 2: return restaurantId;
-    case 3: return orderId;
-    case 4: return restaurantOrderStatus;
-    case 5: return products;
-    case 6: return price;
-    case 7: return createdAt;
+    case 1: return idFixed;
+    case 2: return sagaId;
+    case 3: return sagaIdFixed;
+    case 4: return restaurantId;
+    case 5: return restaurantIdFixed;
+    case 6: return orderId;
+    case 7: return orderIdFixed;
+    case 8: return restaurantOrderStatus;
+    case 9: return products;
+    case 10: return price;
+    case 11: return createdAt;
     default: throw new IndexOutOfBoundsException("Invalid index: " + field$);
     }
   }
@@ -140,6 +156,10 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
       null,
       null,
       null,
+      null,
+      null,
+      null,
+      null,
       new org.apache.avro.Conversions.DecimalConversion(),
       new org.apache.avro.data.TimeConversions.TimestampMillisConversion(),
       null
@@ -155,13 +175,17 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
   public void put(int field$, java.lang.Object value$) {
     switch (field$) {
     case 0: id = value$ != null ? value$.toString() : null; break;
-    case 1: sagaId = value$ != null ? value$.toString() : null; break;
-    case 2: restaurantId = value$ != null ? value$.toString() : null; break;
-    case 3: orderId = value$ != null ? value$.toString() : null; break;
-    case 4: restaurantOrderStatus = (com.food.ordering.system.kafka.order.avro.model.RestaurantOrderStatus)value$; break;
-    case 5: products = (java.util.List<com.food.ordering.system.kafka.order.avro.model.Product>)value$; break;
-    case 6: price = (java.math.BigDecimal)value$; break;
-    case 7: createdAt = (java.time.Instant)value$; break;
+    case 1: idFixed = (com.food.ordering.system.kafka.order.avro.model.Uuid)value$; break;
+    case 2: sagaId = value$ != null ? value$.toString() : null; break;
+    case 3: sagaIdFixed = (com.food.ordering.system.kafka.order.avro.model.Uuid)value$; break;
+    case 4: restaurantId = value$ != null ? value$.toString() : null; break;
+    case 5: restaurantIdFixed = (com.food.ordering.system.kafka.order.avro.model.Uuid)value$; break;
+    case 6: orderId = value$ != null ? value$.toString() : null; break;
+    case 7: orderIdFixed = (com.food.ordering.system.kafka.order.avro.model.Uuid)value$; break;
+    case 8: restaurantOrderStatus = (com.food.ordering.system.kafka.order.avro.model.RestaurantOrderStatus)value$; break;
+    case 9: products = (java.util.List<com.food.ordering.system.kafka.order.avro.model.Product>)value$; break;
+    case 10: price = (java.math.BigDecimal)value$; break;
+    case 11: createdAt = (java.time.Instant)value$; break;
     default: throw new IndexOutOfBoundsException("Invalid index: " + field$);
     }
   }
@@ -183,6 +207,23 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
     this.id = value;
   }
 
+  /**
+   * Gets the value of the 'idFixed' field.
+   * @return The value of the 'idFixed' field.
+   */
+  public com.food.ordering.system.kafka.order.avro.model.Uuid getIdFixed() {
+    return idFixed;
+  }
+
+
+  /**
+   * Sets the value of the 'idFixed' field.
+   * @param value the value to set.
+   */
+  public void setIdFixed(com.food.ordering.system.kafka.order.avro.model.Uuid value) {
+    this.idFixed = value;
+  }
+
   /**
    * Gets the value of the 'sagaId' field.
    * @return The value of the 'sagaId' field.
@@ -200,6 +241,23 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
     this.sagaId = value;
   }
 
+  /**
+   * Gets the value of the 'sagaIdFixed' field.
+   * @return The value of the 'sagaIdFixed' field.
+   */
+  public com.food.ordering.system.kafka.order.avro.model.Uuid getSagaIdFixed() {
+    return sagaIdFixed;
+  }
+
+
+  /**
+   * Sets the value of the 'sagaIdFixed' field.
+   * @param value the value to set.
+   */
+  public void setSagaIdFixed(com.food.ordering.system.kafka.order.avro.model.Uuid value) {
+    this.sagaIdFixed = value;
+  }
+
   /**
    * Gets the value of the 'restaurantId' field.
    * @return The value of the 'restaurantId' field.
@@ -217,6 +275,23 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
     this.restaurantId = value;
   }
 
+  /**
+   * Gets the value of the 'restaurantIdFixed' field.
+   * @return The value of the 'restaurantIdFixed' field.
+   */
+  public com.food.ordering.system.kafka.order.avro.model.Uuid getRestaurantIdFixed() {
+    return restaurantIdFixed;
+  }
+
+
+  /**
+   * Sets the value of the 'restaurantIdFixed' field.
+   * @param value the value to set.
+   */
+  public void setRestaurantIdFixed(com.food.ordering.system.kafka.order.avro.model.Uuid value) {
+    this.restaurantIdFixed = value;
+  }
+
   /**
    * Gets the value of the 'orderId' field.
    * @return The value of the 'orderId' field.
@@ -234,6 +309,23 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
     this.orderId = value;
   }
 
+  /**
+   * Gets the value of the 'orderIdFixed' field.
+   * @return The value of the 'orderIdFixed' field.
+   */
+  public com.food.ordering.system.kafka.order.avro.model.Uuid getOrderIdFixed() {
+    return orderIdFixed;
+  }
+
+
+  /**
+   * Sets the value of the 'orderIdFixed' field.
+   * @param value the value to set.
+   */
+  public void setOrderIdFixed(com.food.ordering.system.kafka.order.avro.model.Uuid value) {
+    this.orderIdFixed = value;
+  }
+
   /**
    * Gets the value of the 'restaurantOrderStatus' field.
    * @return The value of the 'restaurantOrderStatus' field.
@@ -344,9 +436,13 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
     implements org.apache.avro.data.RecordBuilder<RestaurantApprovalRequestAvroModel> {
 
     private java.lang.String id;
+    private com.food.ordering.system.kafka.order.avro.model.Uuid idFixed;
     private java.lang.String sagaId;
+    private com.food.ordering.system.kafka.order.avro.model.Uuid sagaIdFixed;
     private java.lang.String restaurantId;
+    private com.food.ordering.system.kafka.order.avro.model.Uuid restaurantIdFixed;
     private java.lang.String orderId;
+    private com.food.ordering.system.kafka.order.avro.model.Uuid orderIdFixed;
     private com.food.ordering.system.kafka.order.avro.model.RestaurantOrderStatus restaurantOrderStatus;
     private java.util.List<com.food.ordering.system.kafka.order.avro.model.Product> products;
     private java.math.BigDecimal price;
@@ -367,34 +463,50 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
         this.id = data().deepCopy(fields()[0].schema(), other.id);
         fieldSetFlags()[0] = other.fieldSetFlags()[0];
       }
-      if (isValidValue(fields()[1], other.sagaId)) {
-        this.sagaId = data().deepCopy(fields()[1].schema(), other.sagaId);
+      if (isValidValue(fields()[1], other.idFixed)) {
+        this.idFixed = data().deepCopy(fields()[1].schema(), other.idFixed);
         fieldSetFlags()[1] = other.fieldSetFlags()[1];
       }
-      if (isValidValue(fields()[2], other.restaurantId)) {
-        this.restaurantId = data().deepCopy(fields()[2].schema(), other.restaurantId);
+      if (isValidValue(fields()[2], other.sagaId)) {
+        this.sagaId = data().deepCopy(fields()[2].schema(), other.sagaId);
         fieldSetFlags()[2] = other.fieldSetFlags()[2];
       }
-      if (isValidValue(fields()[3], other.orderId)) {
-        this.orderId = data().deepCopy(fields()[3].schema(), other.orderId);
+      if (isValidValue(fields()[3], other.sagaIdFixed)) {
+        this.sagaIdFixed = data().deepCopy(fields()[3].schema(), other.sagaIdFixed);
         fieldSetFlags()[3] = other.fieldSetFlags()[3];
       }
-      if (isValidValue(fields()[4], other.restaurantOrderStatus)) {
-        this.restaurantOrderStatus = data().deepCopy(fields()[4].schema(), other.restaurantOrderStatus);
+      if (isValidValue(fields()[4], other.restaurantId)) {
+        this.restaurantId = data().deepCopy(fields()[4].schema(), other.restaurantId);
         fieldSetFlags()[4] = other.fieldSetFlags()[4];
       }
-      if (isValidValue(fields()[5], other.products)) {
-        this.products = data().deepCopy(fields()[5].schema(), other.products);
+      if (isValidValue(fields()[5], other.restaurantIdFixed)) {
+        this.restaurantIdFixed = data().deepCopy(fields()[5].schema(), other.restaurantIdFixed);
         fieldSetFlags()[5] = other.fieldSetFlags()[5];
       }
-      if (isValidValue(fields()[6], other.price)) {
-        this.price = data().deepCopy(fields()[6].schema(), other.price);
+      if (isValidValue(fields()[6], other.orderId)) {
+        this.orderId = data().deepCopy(fields()[6].schema(), other.orderId);
         fieldSetFlags()[6] = other.fieldSetFlags()[6];
       }
-      if (isValidValue(fields()[7], other.createdAt)) {
-        this.createdAt = data().deepCopy(fields()[7].schema(), other.createdAt);
+      if (isValidValue(fields()[7], other.orderIdFixed)) {
+        this.orderIdFixed = data().deepCopy(fields()[7].schema(), other.orderIdFixed);
         fieldSetFlags()[7] = other.fieldSetFlags()[7];
       }
+      if (isValidValue(fields()[8], other.restaurantOrderStatus)) {
+        this.restaurantOrderStatus = data().deepCopy(fields()[8].schema(), other.restaurantOrderStatus);
+        fieldSetFlags()[8] = other.fieldSetFlags()[8];
+      }
+      if (isValidValue(fields()[9], other.products)) {
+        this.products = data().deepCopy(fields()[9].schema(), other.products);
+        fieldSetFlags()[9] = other.fieldSetFlags()[9];
+      }
+      if (isValidValue(fields()[10], other.price)) {
+        this.price = data().deepCopy(fields()[10].schema(), other.price);
+        fieldSetFlags()[10] = other.fieldSetFlags()[10];
+      }
+      if (isValidValue(fields()[11], other.createdAt)) {
+        this.createdAt = data().deepCopy(fields()[11].schema(), other.createdAt);
+        fieldSetFlags()[11] = other.fieldSetFlags()[11];
+      }
     }
 
     /**
@@ -407,34 +519,50 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
         this.id = data().deepCopy(fields()[0].schema(), other.id);
         fieldSetFlags()[0] = true;
       }
-      if (isValidValue(fields()[1], other.sagaId)) {
-        this.sagaId = data().deepCopy(fields()[1].schema(), other.sagaId);
+      if (isValidValue(fields()[1], other.idFixed)) {
+        this.idFixed = data().deepCopy(fields()[1].schema(), other.idFixed);
         fieldSetFlags()[1] = true;
       }
-      if (isValidValue(fields()[2], other.restaurantId)) {
-        this.restaurantId = data().deepCopy(fields()[2].schema(), other.restaurantId);
+      if (isValidValue(fields()[2], other.sagaId)) {
+        this.sagaId = data().deepCopy(fields()[2].schema(), other.sagaId);
         fieldSetFlags()[2] = true;
       }
-      if (isValidValue(fields()[3], other.orderId)) {
-        this.orderId = data().deepCopy(fields()[3].schema(), other.orderId);
+      if (isValidValue(fields()[3], other.sagaIdFixed)) {
+        this.sagaIdFixed = data().deepCopy(fields()[3].schema(), other.sagaIdFixed);
         fieldSetFlags()[3] = true;
       }
-      if (isValidValue(fields()[4], other.restaurantOrderStatus)) {
-        this.restaurantOrderStatus = data().deepCopy(fields()[4].schema(), other.restaurantOrderStatus);
+      if (isValidValue(fields()[4], other.restaurantId)) {
+        this.restaurantId = data().deepCopy(fields()[4].schema(), other.restaurantId);
         fieldSetFlags()[4] = true;
       }
-      if (isValidValue(fields()[5], other.products)) {
-        this.products = data().deepCopy(fields()[5].schema(), other.products);
+      if (isValidValue(fields()[5], other.restaurantIdFixed)) {
+        this.restaurantIdFixed = data().deepCopy(fields()[5].schema(), other.restaurantIdFixed);
         fieldSetFlags()[5] = true;
       }
-      if (isValidValue(fields()[6], other.price)) {
-        this.price = data().deepCopy(fields()[6].schema(), other.price);
+      if (isValidValue(fields()[6], other.orderId)) {
+        this.orderId = data().deepCopy(fields()[6].schema(), other.orderId);
         fieldSetFlags()[6] = true;
       }
-      if (isValidValue(fields()[7], other.createdAt)) {
-        this.createdAt = data().deepCopy(fields()[7].schema(), other.createdAt);
+      if (isValidValue(fields()[7], other.orderIdFixed)) {
+        this.orderIdFixed = data().deepCopy(fields()[7].schema(), other.orderIdFixed);
         fieldSetFlags()[7] = true;
       }
+      if (isValidValue(fields()[8], other.restaurantOrderStatus)) {
+        this.restaurantOrderStatus = data().deepCopy(fields()[8].schema(), other.restaurantOrderStatus);
+        fieldSetFlags()[8] = true;
+      }
+      if (isValidValue(fields()[9], other.products)) {
+        this.products = data().deepCopy(fields()[9].schema(), other.products);
+        fieldSetFlags()[9] = true;
+      }
+      if (isValidValue(fields()[10], other.price)) {
+        this.price = data().deepCopy(fields()[10].schema(), other.price);
+        fieldSetFlags()[10] = true;
+      }
+      if (isValidValue(fields()[11], other.createdAt)) {
+        this.createdAt = data().deepCopy(fields()[11].schema(), other.createdAt);
+        fieldSetFlags()[11] = true;
+      }
     }
 
     /**
@@ -477,6 +605,46 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
       return this;
     }
 
+    /**
+      * Gets the value of the 'idFixed' field.
+      * @return The value.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.Uuid getIdFixed() {
+      return idFixed;
+    }
+
+
+    /**
+      * Sets the value of the 'idFixed' field.
+      * @param value The value of 'idFixed'.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel.Builder setIdFixed(com.food.ordering.system.kafka.order.avro.model.Uuid value) {
+      validate(fields()[1], value);
+      this.idFixed = value;
+      fieldSetFlags()[1] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'idFixed' field has been set.
+      * @return True if the 'idFixed' field has been set, false otherwise.
+      */
+    public boolean hasIdFixed() {
+      return fieldSetFlags()[1];
+    }
+
+
+    /**
+      * Clears the value of the 'idFixed' field.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel.Builder clearIdFixed() {
+      idFixed = null;
+      fieldSetFlags()[1] = false;
+      return this;
+    }
+
     /**
       * Gets the value of the 'sagaId' field.
       * @return The value.
@@ -492,9 +660,9 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
       * @return This builder.
       */
     public com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel.Builder setSagaId(java.lang.String value) {
-      validate(fields()[1], value);
+      validate(fields()[2], value);
       this.sagaId = value;
-      fieldSetFlags()[1] = true;
+      fieldSetFlags()[2] = true;
       return this;
     }
 
@@ -503,7 +671,7 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
       * @return True if the 'sagaId' field has been set, false otherwise.
       */
     public boolean hasSagaId() {
-      return fieldSetFlags()[1];
+      return fieldSetFlags()[2];
     }
 
 
@@ -513,7 +681,47 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
       */
     public com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel.Builder clearSagaId() {
       sagaId = null;
-      fieldSetFlags()[1] = false;
+      fieldSetFlags()[2] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'sagaIdFixed' field.
+      * @return The value.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.Uuid getSagaIdFixed() {
+      return sagaIdFixed;
+    }
+
+
+    /**
+      * Sets the value of the 'sagaIdFixed' field.
+      * @param value The value of 'sagaIdFixed'.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel.Builder setSagaIdFixed(com.food.ordering.system.kafka.order.avro.model.Uuid value) {
+      validate(fields()[3], value);
+      this.sagaIdFixed = value;
+      fieldSetFlags()[3] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'sagaIdFixed' field has been set.
+      * @return True if the 'sagaIdFixed' field has been set, false otherwise.
+      */
+    public boolean hasSagaIdFixed() {
+      return fieldSetFlags()[3];
+    }
+
+
+    /**
+      * Clears the value of the 'sagaIdFixed' field.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel.Builder clearSagaIdFixed() {
+      sagaIdFixed = null;
+      fieldSetFlags()[3] = false;
       return this;
     }
 
@@ -532,9 +740,9 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
       * @return This builder.
       */
     public com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel.Builder setRestaurantId(java.lang.String value) {
-      validate(fields()[2], value);
+      validate(fields()[4], value);
       this.restaurantId = value;
-      fieldSetFlags()[2] = true;
+      fieldSetFlags()[4] = true;
       return this;
     }
 
@@ -543,7 +751,7 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
       * @return True if the 'restaurantId' field has been set, false otherwise.
       */
     public boolean hasRestaurantId() {
-      return fieldSetFlags()[2];
+      return fieldSetFlags()[4];
     }
 
 
@@ -553,7 +761,47 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
       */
     public com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel.Builder clearRestaurantId() {
       restaurantId = null;
-      fieldSetFlags()[2] = false;
+      fieldSetFlags()[4] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'restaurantIdFixed' field.
+      * @return The value.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.Uuid getRestaurantIdFixed() {
+      return restaurantIdFixed;
+    }
+
+
+    /**
+      * Sets the value of the 'restaurantIdFixed' field.
+      * @param value The value of 'restaurantIdFixed'.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel.Builder setRestaurantIdFixed(com.food.ordering.system.kafka.order.avro.model.Uuid value) {
+      validate(fields()[5], value);
+      this.restaurantIdFixed = value;
+      fieldSetFlags()[5] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'restaurantIdFixed' field has been set.
+      * @return True if the 'restaurantIdFixed' field has been set, false otherwise.
+      */
+    public boolean hasRestaurantIdFixed() {
+      return fieldSetFlags()[5];
+    }
+
+
+    /**
+      * Clears the value of the 'restaurantIdFixed' field.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel.Builder clearRestaurantIdFixed() {
+      restaurantIdFixed = null;
+      fieldSetFlags()[5] = false;
       return this;
     }
 
@@ -572,9 +820,9 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
       * @return This builder.
       */
     public com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel.Builder setOrderId(java.lang.String value) {
-      validate(fields()[3], value);
+      validate(fields()[6], value);
       this.orderId = value;
-      fieldSetFlags()[3] = true;
+      fieldSetFlags()[6] = true;
       return this;
     }
 
@@ -583,7 +831,7 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
       * @return True if the 'orderId' field has been set, false otherwise.
       */
     public boolean hasOrderId() {
-      return fieldSetFlags()[3];
+      return fieldSetFlags()[6];
     }
 
 
@@ -593,7 +841,47 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
       */
     public com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel.Builder clearOrderId() {
       orderId = null;
-      fieldSetFlags()[3] = false;
+      fieldSetFlags()[6] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'orderIdFixed' field.
+      * @return The value.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.Uuid getOrderIdFixed() {
+      return orderIdFixed;
+    }
+
+
+    /**
+      * Sets the value of the 'orderIdFixed' field.
+      * @param value The value of 'orderIdFixed'.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel.Builder setOrderIdFixed(com.food.ordering.system.kafka.order.avro.model.Uuid value) {
+      validate(fields()[7], value);
+      this.orderIdFixed = value;
+      fieldSetFlags()[7] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'orderIdFixed' field has been set.
+      * @return True if the 'orderIdFixed' field has been set, false otherwise.
+      */
+    public boolean hasOrderIdFixed() {
+      return fieldSetFlags()[7];
+    }
+
+
+    /**
+      * Clears the value of the 'orderIdFixed' field.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel.Builder clearOrderIdFixed() {
+      orderIdFixed = null;
+      fieldSetFlags()[7] = false;
       return this;
     }
 
@@ -612,9 +900,9 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
       * @return This builder.
       */
     public com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel.Builder setRestaurantOrderStatus(com.food.ordering.system.kafka.order.avro.model.RestaurantOrderStatus value) {
-      validate(fields()[4], value);
+      validate(fields()[8], value);
       this.restaurantOrderStatus = value;
-      fieldSetFlags()[4] = true;
+      fieldSetFlags()[8] = true;
       return this;
     }
 
@@ -623,7 +911,7 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
       * @return True if the 'restaurantOrderStatus' field has been set, false otherwise.
       */
     public boolean hasRestaurantOrderStatus() {
-      return fieldSetFlags()[4];
+      return fieldSetFlags()[8];
     }
 
 
@@ -633,7 +921,7 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
       */
     public com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel.Builder clearRestaurantOrderStatus() {
       restaurantOrderStatus = null;
-      fieldSetFlags()[4] = false;
+      fieldSetFlags()[8] = false;
       return this;
     }
 
@@ -652,9 +940,9 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
       * @return This builder.
       */
     public com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel.Builder setProducts(java.util.List<com.food.ordering.system.kafka.order.avro.model.Product> value) {
-      validate(fields()[5], value);
+      validate(fields()[9], value);
       this.products = value;
-      fieldSetFlags()[5] = true;
+      fieldSetFlags()[9] = true;
       return this;
     }
 
@@ -663,7 +951,7 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
       * @return True if the 'products' field has been set, false otherwise.
       */
     public boolean hasProducts() {
-      return fieldSetFlags()[5];
+      return fieldSetFlags()[9];
     }
 
 
@@ -673,7 +961,7 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
       */
     public com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel.Builder clearProducts() {
       products = null;
-      fieldSetFlags()[5] = false;
+      fieldSetFlags()[9] = false;
       return this;
     }
 
@@ -692,9 +980,9 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
       * @return This builder.
       */
     public com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel.Builder setPrice(java.math.BigDecimal value) {
-      validate(fields()[6], value);
+      validate(fields()[10], value);
       this.price = value;
-      fieldSetFlags()[6] = true;
+      fieldSetFlags()[10] = true;
       return this;
     }
 
@@ -703,7 +991,7 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
       * @return True if the 'price' field has been set, false otherwise.
       */
     public boolean hasPrice() {
-      return fieldSetFlags()[6];
+      return fieldSetFlags()[10];
     }
 
 
@@ -713,7 +1001,7 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
       */
     public com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel.Builder clearPrice() {
       price = null;
-      fieldSetFlags()[6] = false;
+      fieldSetFlags()[10] = false;
       return this;
     }
 
@@ -732,9 +1020,9 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
       * @return This builder.
       */
     public com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel.Builder setCreatedAt(java.time.Instant value) {
-      validate(fields()[7], value);
+      validate(fields()[11], value);
       this.createdAt = value.truncatedTo(java.time.temporal.ChronoUnit.MILLIS);
-      fieldSetFlags()[7] = true;
+      fieldSetFlags()[11] = true;
       return this;
     }
 
@@ -743,7 +1031,7 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
       * @return True if the 'createdAt' field has been set, false otherwise.
       */
     public boolean hasCreatedAt() {
-      return fieldSetFlags()[7];
+      return fieldSetFlags()[11];
     }
 
 
@@ -752,7 +1040,7 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
       * @return This builder.
       */
     public com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel.Builder clearCreatedAt() {
-      fieldSetFlags()[7] = false;
+      fieldSetFlags()[11] = false;
       return this;
     }
 
@@ -762,13 +1050,17 @@ public class RestaurantApprovalRequestAvroModel extends org.apache.avro.specific
       try {
         RestaurantApprovalRequestAvroModel record = new RestaurantApprovalRequestAvroModel();
         record.id = fieldSetFlags()[0] ? this.id : (java.lang.String) defaultValue(fields()[0]);
-        record.sagaId = fieldSetFlags()[1] ? this.sagaId : (java.lang.String) defaultValue(fields()[1]);
-        record.restaurantId = fieldSetFlags()[2] ? this.restaurantId : (java.lang.String) defaultValue(fields()[2]);
-        record.orderId = fieldSetFlags()[3] ? this.orderId : (java.lang.String) defaultValue(fields()[3]);
-        record.restaurantOrderStatus = fieldSetFlags()[4] ? this.restaurantOrderStatus : (com.food.ordering.system.kafka.order.avro.model.RestaurantOrderStatus) defaultValue(fields()[4]);
-        record.products = fieldSetFlags()[5] ? this.products : (java.util.List<com.food.ordering.system.kafka.order.avro.model.Product>) defaultValue(fields()[5]);
-        record.price = fieldSetFlags()[6] ? this.price : (java.math.BigDecimal) defaultValue(fields()[6]);
-        record.createdAt = fieldSetFlags()[7] ? this.createdAt : (java.time.Instant) defaultValue(fields()[7]);
+        record.idFixed = fieldSetFlags()[1] ? this.idFixed : (com.food.ordering.system.kafka.order.avro.model.Uuid) defaultValue(fields()[1]);
+        record.sagaId = fieldSetFlags()[2] ? this.sagaId : (java.lang.String) defaultValue(fields()[2]);
+        record.sagaIdFixed = fieldSetFlags()[3] ? this.sagaIdFixed : (com.food.ordering.system.kafka.order.avro.model.Uuid) defaultValue(fields()[3]);
+        record.restaurantId = fieldSetFlags()[4] ? this.restaurantId : (java.lang.String) defaultValue(fields()[4]);
+        record.restaurantIdFixed = fieldSetFlags()[5] ? this.restaurantIdFixed : (com.food.ordering.system.kafka.order.avro.model.Uuid) defaultValue(fields()[5]);
+        record.orderId = fieldSetFlags()[6] ? this.orderId : (java.lang.String) defaultValue(fields()[6]);
+        record.orderIdFixed = fieldSetFlags()[7] ? this.orderIdFixed : (com.food.ordering.system.kafka.order.avro.model.Uuid) defaultValue(fields()[7]);
+        record.restaurantOrderStatus = fieldSetFlags()[8] ? this.restaurantOrderStatus : (com.food.ordering.system.kafka.order.avro.model.RestaurantOrderStatus) defaultValue(fields()[8]);
+        record.products = fieldSetFlags()[9] ? this.products : (java.util.List<com.food.ordering.system.kafka.order.avro.model.Product>) defaultValue(fields()[9]);
+        record.price = fieldSetFlags()[10] ? this.price : (java.math.BigDecimal) defaultValue(fields()[10]);
+        record.createdAt = fieldSetFlags()[11] ? this.createdAt : (java.time.Instant) defaultValue(fields()[11]);
         return record;
       } catch (org.apache.avro.AvroMissingFieldException e) {
         throw e;
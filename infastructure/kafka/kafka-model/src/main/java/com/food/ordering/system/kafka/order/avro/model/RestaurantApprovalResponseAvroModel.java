@@ -14,10 +14,10 @@ import org.apache.avro.message.SchemaStore;
 
 @org.apache.avro.specific.AvroGenerated
 public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specific.SpecificRecordBase implements org.apache.avro.specific.SpecificRecord {
-  private static final long serialVersionUID = -3431989201238018220L;
+  private static final long serialVersionUID = 5963193211612147587L;
 
 
-  public static final org.apache.avro.Schema SCHEMA$ = new org.apache.avro.Schema.Parser().parse("{\"type\":\"record\",\"name\":\"RestaurantApprovalResponseAvroModel\",\"namespace\":\"com.food.ordering.system.kafka.order.avro.model\",\"fields\":[{\"name\":\"id\",\"type\":{\"type\":\"string\",\"logicalType\":\"uuid\"}},{\"name\":\"sagaId\",\"type\":{\"type\":\"string\",\"logicalType\":\"uuid\"}},{\"name\":\"restaurantId\",\"type\":{\"type\":\"string\",\"logicalType\":\"uuid\"}},{\"name\":\"orderId\",\"type\":{\"type\":\"string\",\"logicalType\":\"uuid\"}},{\"name\":\"createdAt\",\"type\":{\"type\":\"long\",\"logicalType\":\"timestamp-millis\"}},{\"name\":\"orderApprovalStatus\",\"type\":{\"type\":\"enum\",\"name\":\"OrderApprovalStatus\",\"symbols\":[\"APPROVED\",\"REJECTED\"]}},{\"name\":\"failureMessages\",\"type\":{\"type\":\"array\",\"items\":{\"type\":\"string\",\"avro.java.string\":\"String\"}}}]}");
+  public static final org.apache.avro.Schema SCHEMA$ = new org.apache.avro.Schema.Parser().parse("{\"type\":\"record\",\"name\":\"RestaurantApprovalResponseAvroModel\",\"namespace\":\"com.food.ordering.system.kafka.order.avro.model\",\"fields\":[{\"name\":\"id\",\"type\":{\"type\":\"string\",\"logicalType\":\"uuid\"}},{\"name\":\"idFixed\",\"type\":[\"null\",{\"type\":\"fixed\",\"name\":\"Uuid\",\"size\":16}],\"default\":null},{\"name\":\"sagaId\",\"type\":{\"type\":\"string\",\"logicalType\":\"uuid\"}},{\"name\":\"sagaIdFixed\",\"type\":[\"null\",\"Uuid\"],\"default\":null},{\"name\":\"restaurantId\",\"type\":{\"type\":\"string\",\"logicalType\":\"uuid\"}},{\"name\":\"restaurantIdFixed\",\"type\":[\"null\",\"Uuid\"],\"default\":null},{\"name\":\"orderId\",\"type\":{\"type\":\"string\",\"logicalType\":\"uuid\"}},{\"name\":\"orderIdFixed\",\"type\":[\"null\",\"Uuid\"],\"default\":null},{\"name\":\"createdAt\",\"type\":{\"type\":\"long\",\"logicalType\":\"timestamp-millis\"}},{\"name\":\"orderApprovalStatus\",\"type\":{\"type\":\"enum\",\"name\":\"OrderApprovalStatus\",\"symbols\":[\"APPROVED\",\"REJECTED\"]}},{\"name\":\"failureMessages\",\"type\":{\"type\":\"array\",\"items\":{\"type\":\"string\",\"avro.java.string\":\"String\"}}}]}");
   public static org.apache.avro.Schema getClassSchema() { return SCHEMA$; }
 
   private static final SpecificData MODEL$ = new SpecificData();
@@ -77,9 +77,13 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
   }
 
   private java.lang.String id;
+  private com.food.ordering.system.kafka.order.avro.model.Uuid idFixed;
   private java.lang.String sagaId;
+  private com.food.ordering.system.kafka.order.avro.model.Uuid sagaIdFixed;
   private java.lang.String restaurantId;
+  private com.food.ordering.system.kafka.order.avro.model.Uuid restaurantIdFixed;
   private java.lang.String orderId;
+  private com.food.ordering.system.kafka.order.avro.model.Uuid orderIdFixed;
   private java.time.Instant createdAt;
   private com.food.ordering.system.kafka.order.avro.model.OrderApprovalStatus orderApprovalStatus;
   private java.util.List<java.lang.String> failureMessages;
@@ -94,18 +98,26 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
   /**
    * All-args constructor.
    * @param id The new value for id
+   * @param idFixed The new value for idFixed
    * @param sagaId The new value for sagaId
+   * @param sagaIdFixed The new value for sagaIdFixed
    * @param restaurantId The new value for restaurantId
+   * @param restaurantIdFixed The new value for restaurantIdFixed
    * @param orderId The new value for orderId
+   * @param orderIdFixed The new value for orderIdFixed
    * @param createdAt The new value for createdAt
    * @param orderApprovalStatus The new value for orderApprovalStatus
    * @param failureMessages The new value for failureMessages
    */
-  public RestaurantApprovalResponseAvroModel(java.lang.String id, java.lang.String sagaId, java.lang.String restaurantId, java.lang.String orderId, java.time.Instant createdAt, com.food.ordering.system.kafka.order.avro.model.OrderApprovalStatus orderApprovalStatus, java.util.List<java.lang.String> failureMessages) {
+  public RestaurantApprovalResponseAvroModel(java.lang.String id, com.food.ordering.system.kafka.order.avro.model.Uuid idFixed, java.lang.String sagaId, com.food.ordering.system.kafka.order.avro.model.Uuid sagaIdFixed, java.lang.String restaurantId, com.food.ordering.system.kafka.order.avro.model.Uuid restaurantIdFixed, java.lang.String orderId, com.food.ordering.system.kafka.order.avro.model.Uuid orderIdFixed, java.time.Instant createdAt, com.food.ordering.system.kafka.order.avro.model.OrderApprovalStatus orderApprovalStatus, java.util.List<java.lang.String> failureMessages) {
     this.id = id;
+    this.idFixed = idFixed;
     this.sagaId = sagaId;
+    this.sagaIdFixed = sagaIdFixed;
     this.restaurantId = restaurantId;
+    this.restaurantIdFixed = restaurantIdFixed;
     this.orderId = orderId;
+    this.orderIdFixed = orderIdFixed;
     this.createdAt = createdAt.truncatedTo(java.time.temporal.ChronoUnit.MILLIS);
     this.orderApprovalStatus = orderApprovalStatus;
     this.failureMessages = failureMessages;
@@ -117,12 +129,16 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
   public java.lang.Object get(int field$) {
     switch (field$) {
     case 0: return id;
-    case 1: return sagaId;
-    case 2: return restaurantId;
-    case 3: return orderId;
-    case 4: return createdAt;
-    case 5: return orderApprovalStatus;
-    case 6: return failureMessages;
+    case 1: return idFixed;
+    case 2: return sagaId;
+    case 3: return sagaIdFixed;
+    case 4: return restaurantId;
+    case 5: return restaurantIdFixed;
+    case 6: return orderId;
+    case 7: return orderIdFixed;
+    case 8: return createdAt;
+    case 9: return orderApprovalStatus;
+    case 10: return failureMessages;
     default: throw new IndexOutOfBoundsException("Invalid index: " + field$);
     }
   }
@@ -133,6 +149,10 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
       null,
       null,
       null,
+      null,
+      null,
+      null,
+      null,
       new org.apache.avro.data.TimeConversions.TimestampMillisConversion(),
       null,
       null,
@@ -149,12 +169,16 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
   public void put(int field$, java.lang.Object value$) {
     switch (field$) {
     case 0: id = value$ != null ? value$.toString() : null; break;
-    case 1: sagaId = value$ != null ? value$.toString() : null; break;
-    case 2: restaurantId = value$ != null ? value$.toString() : null; break;
-    case 3: orderId = value$ != null ? value$.toString() : null; break;
-    case 4: createdAt = (java.time.Instant)value$; break;
-    case 5: orderApprovalStatus = (com.food.ordering.system.kafka.order.avro.model.OrderApprovalStatus)value$; break;
-    case 6: failureMessages = (java.util.List<java.lang.String>)value$; break;
+    case 1: idFixed = (com.food.ordering.system.kafka.order.avro.model.Uuid)value$; break;
+    case 2: sagaId = value$ != null ? value$.toString() : null; break;
+    case 3: sagaIdFixed = (com.food.ordering.system.kafka.order.avro.model.Uuid)value$; break;
+    case 4: restaurantId = value$ != null ? value$.toString() : null; break;
+    case 5: restaurantIdFixed = (com.food.ordering.system.kafka.order.avro.model.Uuid)value$; break;
+    case 6: orderId = value$ != null ? value$.toString() : null; break;
+    case 7: orderIdFixed = (com.food.ordering.system.kafka.order.avro.model.Uuid)value$; break;
+    case 8: createdAt = (java.time.Instant)value$; break;
+    case 9: orderApprovalStatus = (com.food.ordering.system.kafka.order.avro.model.OrderApprovalStatus)value$; break;
+    case 10: failureMessages = (java.util.List<java.lang.String>)value$; break;
     default: throw new IndexOutOfBoundsException("Invalid index: " + field$);
     }
   }
@@ -176,6 +200,23 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
     this.id = value;
   }
 
+  /**
+   * Gets the value of the 'idFixed' field.
+   * @return The value of the 'idFixed' field.
+   */
+  public com.food.ordering.system.kafka.order.avro.model.Uuid getIdFixed() {
+    return idFixed;
+  }
+
+
+  /**
+   * Sets the value of the 'idFixed' field.
+   * @param value the value to set.
+   */
+  public void setIdFixed(com.food.ordering.system.kafka.order.avro.model.Uuid value) {
+    this.idFixed = value;
+  }
+
   /**
    * Gets the value of the 'sagaId' field.
    * @return The value of the 'sagaId' field.
@@ -193,6 +234,23 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
     this.sagaId = value;
   }
 
+  /**
+   * Gets the value of the 'sagaIdFixed' field.
+   * @return The value of the 'sagaIdFixed' field.
+   */
+  public com.food.ordering.system.kafka.order.avro.model.Uuid getSagaIdFixed() {
+    return sagaIdFixed;
+  }
+
+
+  /**
+   * Sets the value of the 'sagaIdFixed' field.
+   * @param value the value to set.
+   */
+  public void setSagaIdFixed(com.food.ordering.system.kafka.order.avro.model.Uuid value) {
+    this.sagaIdFixed = value;
+  }
+
   /**
    * Gets the value of the 'restaurantId' field.
    * @return The value of the 'restaurantId' field.
@@ -210,6 +268,23 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
     this.restaurantId = value;
   }
 
+  /**
+   * Gets the value of the 'restaurantIdFixed' field.
+   * @return The value of the 'restaurantIdFixed' field.
+   */
+  public com.food.ordering.system.kafka.order.avro.model.Uuid getRestaurantIdFixed() {
+    return restaurantIdFixed;
+  }
+
+
+  /**
+   * Sets the value of the 'restaurantIdFixed' field.
+   * @param value the value to set.
+   */
+  public void setRestaurantIdFixed(com.food.ordering.system.kafka.order.avro.model.Uuid value) {
+    this.restaurantIdFixed = value;
+  }
+
   /**
    * Gets the value of the 'orderId' field.
    * @return The value of the 'orderId' field.
@@ -227,6 +302,23 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
     this.orderId = value;
   }
 
+  /**
+   * Gets the value of the 'orderIdFixed' field.
+   * @return The value of the 'orderIdFixed' field.
+   */
+  public com.food.ordering.system.kafka.order.avro.model.Uuid getOrderIdFixed() {
+    return orderIdFixed;
+  }
+
+
+  /**
+   * Sets the value of the 'orderIdFixed' field.
+   * @param value the value to set.
+   */
+  public void setOrderIdFixed(com.food.ordering.system.kafka.order.avro.model.Uuid value) {
+    this.orderIdFixed = value;
+  }
+
   /**
    * Gets the value of the 'createdAt' field.
    * @return The value of the 'createdAt' field.
@@ -320,9 +412,13 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
     implements org.apache.avro.data.RecordBuilder<RestaurantApprovalResponseAvroModel> {
 
     private java.lang.String id;
+    private com.food.ordering.system.kafka.order.avro.model.Uuid idFixed;
     private java.lang.String sagaId;
+    private com.food.ordering.system.kafka.order.avro.model.Uuid sagaIdFixed;
     private java.lang.String restaurantId;
+    private com.food.ordering.system.kafka.order.avro.model.Uuid restaurantIdFixed;
     private java.lang.String orderId;
+    private com.food.ordering.system.kafka.order.avro.model.Uuid orderIdFixed;
     private java.time.Instant createdAt;
     private com.food.ordering.system.kafka.order.avro.model.OrderApprovalStatus orderApprovalStatus;
     private java.util.List<java.lang.String> failureMessages;
@@ -342,30 +438,46 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
         this.id = data().deepCopy(fields()[0].schema(), other.id);
         fieldSetFlags()[0] = other.fieldSetFlags()[0];
       }
-      if (isValidValue(fields()[1], other.sagaId)) {
-        this.sagaId = data().deepCopy(fields()[1].schema(), other.sagaId);
+      if (isValidValue(fields()[1], other.idFixed)) {
+        this.idFixed = data().deepCopy(fields()[1].schema(), other.idFixed);
         fieldSetFlags()[1] = other.fieldSetFlags()[1];
       }
-      if (isValidValue(fields()[2], other.restaurantId)) {
-        this.restaurantId = data().deepCopy(fields()[2].schema(), other.restaurantId);
+      if (isValidValue(fields()[2], other.sagaId)) {
+        this.sagaId = data().deepCopy(fields()[2].schema(), other.sagaId);
         fieldSetFlags()[2] = other.fieldSetFlags()[2];
       }
-      if (isValidValue(fields()[3], other.orderId)) {
-        this.orderId = data().deepCopy(fields()[3].schema(), other.orderId);
+      if (isValidValue(fields()[3], other.sagaIdFixed)) {
+        this.sagaIdFixed = data().deepCopy(fields()[3].schema(), other.sagaIdFixed);
         fieldSetFlags()[3] = other.fieldSetFlags()[3];
       }
-      if (isValidValue(fields()[4], other.createdAt)) {
-        this.createdAt = data().deepCopy(fields()[4].schema(), other.createdAt);
+      if (isValidValue(fields()[4], other.restaurantId)) {
+        this.restaurantId = data().deepCopy(fields()[4].schema(), other.restaurantId);
         fieldSetFlags()[4] = other.fieldSetFlags()[4];
       }
-      if (isValidValue(fields()[5], other.orderApprovalStatus)) {
-        this.orderApprovalStatus = data().deepCopy(fields()[5].schema(), other.orderApprovalStatus);
+      if (isValidValue(fields()[5], other.restaurantIdFixed)) {
+        this.restaurantIdFixed = data().deepCopy(fields()[5].schema(), other.restaurantIdFixed);
         fieldSetFlags()[5] = other.fieldSetFlags()[5];
       }
-      if (isValidValue(fields()[6], other.failureMessages)) {
-        this.failureMessages = data().deepCopy(fields()[6].schema(), other.failureMessages);
+      if (isValidValue(fields()[6], other.orderId)) {
+        this.orderId = data().deepCopy(fields()[6].schema(), other.orderId);
         fieldSetFlags()[6] = other.fieldSetFlags()[6];
       }
+      if (isValidValue(fields()[7], other.orderIdFixed)) {
+        this.orderIdFixed = data().deepCopy(fields()[7].schema(), other.orderIdFixed);
+        fieldSetFlags()[7] = other.fieldSetFlags()[7];
+      }
+      if (isValidValue(fields()[8], other.createdAt)) {
+        this.createdAt = data().deepCopy(fields()[8].schema(), other.createdAt);
+        fieldSetFlags()[8] = other.fieldSetFlags()[8];
+      }
+      if (isValidValue(fields()[9], other.orderApprovalStatus)) {
+        this.orderApprovalStatus = data().deepCopy(fields()[9].schema(), other.orderApprovalStatus);
+        fieldSetFlags()[9] = other.fieldSetFlags()[9];
+      }
+      if (isValidValue(fields()[10], other.failureMessages)) {
+        this.failureMessages = data().deepCopy(fields()[10].schema(), other.failureMessages);
+        fieldSetFlags()[10] = other.fieldSetFlags()[10];
+      }
     }
 
     /**
@@ -378,30 +490,46 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
         this.id = data().deepCopy(fields()[0].schema(), other.id);
         fieldSetFlags()[0] = true;
       }
-      if (isValidValue(fields()[1], other.sagaId)) {
-        this.sagaId = data().deepCopy(fields()[1].schema(), other.sagaId);
+      if (isValidValue(fields()[1], other.idFixed)) {
+        this.idFixed = data().deepCopy(fields()[1].schema(), other.idFixed);
         fieldSetFlags()[1] = true;
       }
-      if (isValidValue(fields()[2], other.restaurantId)) {
-        this.restaurantId = data().deepCopy(fields()[2].schema(), other.restaurantId);
+      if (isValidValue(fields()[2], other.sagaId)) {
+        this.sagaId = data().deepCopy(fields()[2].schema(), other.sagaId);
         fieldSetFlags()[2] = true;
       }
-      if (isValidValue(fields()[3], other.orderId)) {
-        this.orderId = data().deepCopy(fields()[3].schema(), other.orderId);
+      if (isValidValue(fields()[3], other.sagaIdFixed)) {
+        this.sagaIdFixed = data().deepCopy(fields()[3].schema(), other.sagaIdFixed);
         fieldSetFlags()[3] = true;
       }
-      if (isValidValue(fields()[4], other.createdAt)) {
-        this.createdAt = data().deepCopy(fields()[4].schema(), other.createdAt);
+      if (isValidValue(fields()[4], other.restaurantId)) {
+        this.restaurantId = data().deepCopy(fields()[4].schema(), other.restaurantId);
         fieldSetFlags()[4] = true;
       }
-      if (isValidValue(fields()[5], other.orderApprovalStatus)) {
-        this.orderApprovalStatus = data().deepCopy(fields()[5].schema(), other.orderApprovalStatus);
+      if (isValidValue(fields()[5], other.restaurantIdFixed)) {
+        this.restaurantIdFixed = data().deepCopy(fields()[5].schema(), other.restaurantIdFixed);
         fieldSetFlags()[5] = true;
       }
-      if (isValidValue(fields()[6], other.failureMessages)) {
-        this.failureMessages = data().deepCopy(fields()[6].schema(), other.failureMessages);
+      if (isValidValue(fields()[6], other.orderId)) {
+        this.orderId = data().deepCopy(fields()[6].schema(), other.orderId);
         fieldSetFlags()[6] = true;
       }
+      if (isValidValue(fields()[7], other.orderIdFixed)) {
+        this.orderIdFixed = data().deepCopy(fields()[7].schema(), other.orderIdFixed);
+        fieldSetFlags()[7] = true;
+      }
+      if (isValidValue(fields()[8], other.createdAt)) {
+        this.createdAt = data().deepCopy(fields()[8].schema(), other.createdAt);
+        fieldSetFlags()[8] = true;
+      }
+      if (isValidValue(fields()[9], other.orderApprovalStatus)) {
+        this.orderApprovalStatus = data().deepCopy(fields()[9].schema(), other.orderApprovalStatus);
+        fieldSetFlags()[9] = true;
+      }
+      if (isValidValue(fields()[10], other.failureMessages)) {
+        this.failureMessages = data().deepCopy(fields()[10].schema(), other.failureMessages);
+        fieldSetFlags()[10] = true;
+      }
     }
 
     /**
@@ -444,6 +572,46 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
       return this;
     }
 
+    /**
+      * Gets the value of the 'idFixed' field.
+      * @return The value.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.Uuid getIdFixed() {
+      return idFixed;
+    }
+
+
+    /**
+      * Sets the value of the 'idFixed' field.
+      * @param value The value of 'idFixed'.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel.Builder setIdFixed(com.food.ordering.system.kafka.order.avro.model.Uuid value) {
+      validate(fields()[1], value);
+      this.idFixed = value;
+      fieldSetFlags()[1] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'idFixed' field has been set.
+      * @return True if the 'idFixed' field has been set, false otherwise.
+      */
+    public boolean hasIdFixed() {
+      return fieldSetFlags()[1];
+    }
+
+
+    /**
+      * Clears the value of the 'idFixed' field.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel.Builder clearIdFixed() {
+      idFixed = null;
+      fieldSetFlags()[1] = false;
+      return this;
+    }
+
     /**
       * Gets the value of the 'sagaId' field.
       * @return The value.
@@ -459,9 +627,9 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
       * @return This builder.
       */
     public com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel.Builder setSagaId(java.lang.String value) {
-      validate(fields()[1], value);
+      validate(fields()[2], value);
       this.sagaId = value;
-      fieldSetFlags()[1] = true;
+      fieldSetFlags()[2] = true;
       return this;
     }
 
@@ -470,7 +638,7 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
       * @return True if the 'sagaId' field has been set, false otherwise.
       */
     public boolean hasSagaId() {
-      return fieldSetFlags()[1];
+      return fieldSetFlags()[2];
     }
 
 
@@ -480,7 +648,47 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
       */
     public com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel.Builder clearSagaId() {
       sagaId = null;
-      fieldSetFlags()[1] = false;
+      fieldSetFlags()[2] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'sagaIdFixed' field.
+      * @return The value.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.Uuid getSagaIdFixed() {
+      return sagaIdFixed;
+    }
+
+
+    /**
+      * Sets the value of the 'sagaIdFixed' field.
+      * @param value The value of 'sagaIdFixed'.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel.Builder setSagaIdFixed(com.food.ordering.system.kafka.order.avro.model.Uuid value) {
+      validate(fields()[3], value);
+      this.sagaIdFixed = value;
+      fieldSetFlags()[3] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'sagaIdFixed' field has been set.
+      * @return True if the 'sagaIdFixed' field has been set, false otherwise.
+      */
+    public boolean hasSagaIdFixed() {
+      return fieldSetFlags()[3];
+    }
+
+
+    /**
+      * Clears the value of the 'sagaIdFixed' field.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel.Builder clearSagaIdFixed() {
+      sagaIdFixed = null;
+      fieldSetFlags()[3] = false;
       return this;
     }
 
@@ -499,9 +707,9 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
       * @return This builder.
       */
     public com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel.Builder setRestaurantId(java.lang.String value) {
-      validate(fields()[2], value);
+      validate(fields()[4], value);
       this.restaurantId = value;
-      fieldSetFlags()[2] = true;
+      fieldSetFlags()[4] = true;
       return this;
     }
 
@@ -510,7 +718,7 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
       * @return True if the 'restaurantId' field has been set, false otherwise.
       */
     public boolean hasRestaurantId() {
-      return fieldSetFlags()[2];
+      return fieldSetFlags()[4];
     }
 
 
@@ -520,7 +728,47 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
       */
     public com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel.Builder clearRestaurantId() {
       restaurantId = null;
-      fieldSetFlags()[2] = false;
+      fieldSetFlags()[4] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'restaurantIdFixed' field.
+      * @return The value.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.Uuid getRestaurantIdFixed() {
+      return restaurantIdFixed;
+    }
+
+
+    /**
+      * Sets the value of the 'restaurantIdFixed' field.
+      * @param value The value of 'restaurantIdFixed'.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel.Builder setRestaurantIdFixed(com.food.ordering.system.kafka.order.avro.model.Uuid value) {
+      validate(fields()[5], value);
+      this.restaurantIdFixed = value;
+      fieldSetFlags()[5] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'restaurantIdFixed' field has been set.
+      * @return True if the 'restaurantIdFixed' field has been set, false otherwise.
+      */
+    public boolean hasRestaurantIdFixed() {
+      return fieldSetFlags()[5];
+    }
+
+
+    /**
+      * Clears the value of the 'restaurantIdFixed' field.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel.Builder clearRestaurantIdFixed() {
+      restaurantIdFixed = null;
+      fieldSetFlags()[5] = false;
       return this;
     }
 
@@ -539,9 +787,9 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
       * @return This builder.
       */
     public com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel.Builder setOrderId(java.lang.String value) {
-      validate(fields()[3], value);
+      validate(fields()[6], value);
       this.orderId = value;
-      fieldSetFlags()[3] = true;
+      fieldSetFlags()[6] = true;
       return this;
     }
 
@@ -550,7 +798,7 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
       * @return True if the 'orderId' field has been set, false otherwise.
       */
     public boolean hasOrderId() {
-      return fieldSetFlags()[3];
+      return fieldSetFlags()[6];
     }
 
 
@@ -560,7 +808,47 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
       */
     public com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel.Builder clearOrderId() {
       orderId = null;
-      fieldSetFlags()[3] = false;
+      fieldSetFlags()[6] = false;
+      return this;
+    }
+
+    /**
+      * Gets the value of the 'orderIdFixed' field.
+      * @return The value.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.Uuid getOrderIdFixed() {
+      return orderIdFixed;
+    }
+
+
+    /**
+      * Sets the value of the 'orderIdFixed' field.
+      * @param value The value of 'orderIdFixed'.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel.Builder setOrderIdFixed(com.food.ordering.system.kafka.order.avro.model.Uuid value) {
+      validate(fields()[7], value);
+      this.orderIdFixed = value;
+      fieldSetFlags()[7] = true;
+      return this;
+    }
+
+    /**
+      * Checks whether the 'orderIdFixed' field has been set.
+      * @return True if the 'orderIdFixed' field has been set, false otherwise.
+      */
+    public boolean hasOrderIdFixed() {
+      return fieldSetFlags()[7];
+    }
+
+
+    /**
+      * Clears the value of the 'orderIdFixed' field.
+      * @return This builder.
+      */
+    public com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel.Builder clearOrderIdFixed() {
+      orderIdFixed = null;
+      fieldSetFlags()[7] = false;
       return this;
     }
 
@@ -579,9 +867,9 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
       * @return This builder.
       */
     public com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel.Builder setCreatedAt(java.time.Instant value) {
-      validate(fields()[4], value);
+      validate(fields()[8], value);
       this.createdAt = value.truncatedTo(java.time.temporal.ChronoUnit.MILLIS);
-      fieldSetFlags()[4] = true;
+      fieldSetFlags()[8] = true;
       return this;
     }
 
@@ -590,7 +878,7 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
       * @return True if the 'createdAt' field has been set, false otherwise.
       */
     public boolean hasCreatedAt() {
-      return fieldSetFlags()[4];
+      return fieldSetFlags()[8];
     }
 
 
@@ -599,7 +887,7 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
       * @return This builder.
       */
     public com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel.Builder clearCreatedAt() {
-      fieldSetFlags()[4] = false;
+      fieldSetFlags()[8] = false;
       return this;
     }
 
@@ -618,9 +906,9 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
       * @return This builder.
       */
     public com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel.Builder setOrderApprovalStatus(com.food.ordering.system.kafka.order.avro.model.OrderApprovalStatus value) {
-      validate(fields()[5], value);
+      validate(fields()[9], value);
       this.orderApprovalStatus = value;
-      fieldSetFlags()[5] = true;
+      fieldSetFlags()[9] = true;
       return this;
     }
 
@@ -629,7 +917,7 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
       * @return True if the 'orderApprovalStatus' field has been set, false otherwise.
       */
     public boolean hasOrderApprovalStatus() {
-      return fieldSetFlags()[5];
+      return fieldSetFlags()[9];
     }
 
 
@@ -639,7 +927,7 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
       */
     public com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel.Builder clearOrderApprovalStatus() {
       orderApprovalStatus = null;
-      fieldSetFlags()[5] = false;
+      fieldSetFlags()[9] = false;
       return this;
     }
 
@@ -658,9 +946,9 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
       * @return This builder.
       */
     public com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel.Builder setFailureMessages(java.util.List<java.lang.String> value) {
-      validate(fields()[6], value);
+      validate(fields()[10], value);
       this.failureMessages = value;
-      fieldSetFlags()[6] = true;
+      fieldSetFlags()[10] = true;
       return this;
     }
 
@@ -669,7 +957,7 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
       * @return True if the 'failureMessages' field has been set, false otherwise.
       */
     public boolean hasFailureMessages() {
-      return fieldSetFlags()[6];
+      return fieldSetFlags()[10];
     }
 
 
@@ -679,7 +967,7 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
       */
     public com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel.Builder clearFailureMessages() {
       failureMessages = null;
-      fieldSetFlags()[6] = false;
+      fieldSetFlags()[10] = false;
       return this;
     }
 
@@ -689,12 +977,16 @@ public class RestaurantApprovalResponseAvroModel extends org.apache.avro.specifi
       try {
         RestaurantApprovalResponseAvroModel record = new RestaurantApprovalResponseAvroModel();
         record.id = fieldSetFlags()[0] ? this.id : (java.lang.String) defaultValue(fields()[0]);
-        record.sagaId = fieldSetFlags()[1] ? this.sagaId : (java.lang.String) defaultValue(fields()[1]);
-        record.restaurantId = fieldSetFlags()[2] ? this.restaurantId : (java.lang.String) defaultValue(fields()[2]);
-        record.orderId = fieldSetFlags()[3] ? this.orderId : (java.lang.String) defaultValue(fields()[3]);
-        record.createdAt = fieldSetFlags()[4] ? this.createdAt : (java.time.Instant) defaultValue(fields()[4]);
-        record.orderApprovalStatus = fieldSetFlags()[5] ? this.orderApprovalStatus : (com.food.ordering.system.kafka.order.avro.model.OrderApprovalStatus) defaultValue(fields()[5]);
-        record.failureMessages = fieldSetFlags()[6] ? this.failureMessages : (java.util.List<java.lang.String>) defaultValue(fields()[6]);
+        record.idFixed = fieldSetFlags()[1] ? this.idFixed : (com.food.ordering.system.kafka.order.avro.model.Uuid) defaultValue(fields()[1]);
+        record.sagaId = fieldSetFlags()[2] ? this.sagaId : (java.lang.String) defaultValue(fields()[2]);
+        record.sagaIdFixed = fieldSetFlags()[3] ? this.sagaIdFixed : (com.food.ordering.system.kafka.order.avro.model.Uuid) defaultValue(fields()[3]);
+        record.restaurantId = fieldSetFlags()[4] ? this.restaurantId : (java.lang.String) defaultValue(fields()[4]);
+        record.restaurantIdFixed = fieldSetFlags()[5] ? this.restaurantIdFixed : (com.food.ordering.system.kafka.order.avro.model.Uuid) defaultValue(fields()[5]);
+        record.orderId = fieldSetFlags()[6] ? this.orderId : (java.lang.String) defaultValue(fields()[6]);
+        record.orderIdFixed = fieldSetFlags()[7] ? this.orderIdFixed : (com.food.ordering.system.kafka.order.avro.model.Uuid) defaultValue(fields()[7]);
+        record.createdAt = fieldSetFlags()[8] ? this.createdAt : (java.time.Instant) defaultValue(fields()[8]);
+        record.orderApprovalStatus = fieldSetFlags()[9] ? this.orderApprovalStatus : (com.food.ordering.system.kafka.order.avro.model.OrderApprovalStatus) defaultValue(fields()[9]);
+        record.failureMessages = fieldSetFlags()[10] ? this.failureMessages : (java.util.List<java.lang.String>) defaultValue(fields()[10]);
         return record;
       } catch (org.apache.avro.AvroMissingFieldException e) {
         throw e;
@@ -0,0 +1,103 @@
+package com.food.ordering.system.kafka.order.avro.serde;
+
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaCompatibility;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.DatumReader;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.specific.SpecificData;
+import org.apache.avro.specific.SpecificDatumReader;
+import org.apache.avro.specific.SpecificRecord;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.utils.Utils;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class AvroBinaryDeserializer<T extends SpecificRecord> implements Deserializer<T> {
+
+    private static final ThreadLocal<BinaryDecoder> DECODER = new ThreadLocal<>();
+
+    private final Map<Long, DatumReader<T>> readers = new ConcurrentHashMap<>();
+    private AvroSchemaRegistry schemaRegistry;
+    private Deserializer<T> confluentDeserializer;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        schemaRegistry = AvroSerdeConfig.schemaRegistry(configs);
+        Object confluentDeserializerClass = configs.get(AvroSerdeConfig.CONFLUENT_VALUE_DESERIALIZER_CONFIG);
+        if (confluentDeserializerClass != null && !confluentDeserializerClass.toString().isBlank()) {
+            try {
+                confluentDeserializer = Utils.newInstance(confluentDeserializerClass.toString(), Deserializer.class);
+            } catch (ClassNotFoundException e) {
+                throw new KafkaException("Could not load deserializer " + confluentDeserializerClass, e);
+            }
+            confluentDeserializer.configure(configs, isKey);
+        }
+    }
+
+    @Override
+    public T deserialize(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        if (data.length > 0 && data[0] == AvroSerdeConfig.CONFLUENT_MAGIC) {
+            if (confluentDeserializer == null) {
+                throw new SerializationException("Message on topic " + topic + " is Confluent framed and " +
+                        AvroSerdeConfig.CONFLUENT_VALUE_DESERIALIZER_CONFIG + " is not configured");
+            }
+            return confluentDeserializer.deserialize(topic, data);
+        }
+        if (data.length < AvroSerdeConfig.HEADER_LENGTH ||
+                data[0] != AvroSerdeConfig.SINGLE_OBJECT_MAGIC[0] ||
+                data[1] != AvroSerdeConfig.SINGLE_OBJECT_MAGIC[1]) {
+            throw new SerializationException("Message on topic " + topic + " is not avro single object encoded");
+        }
+        long fingerprint = 0;
+        for (int i = Long.BYTES - 1; i >= 0; i--) {
+            fingerprint = (fingerprint << 8) | (data[AvroSerdeConfig.SINGLE_OBJECT_MAGIC.length + i] & 0xFF);
+        }
+        DatumReader<T> datumReader = readers.computeIfAbsent(fingerprint, this::createReader);
+        BinaryDecoder decoder = DecoderFactory.get().binaryDecoder(data, AvroSerdeConfig.HEADER_LENGTH,
+                data.length - AvroSerdeConfig.HEADER_LENGTH, DECODER.get());
+        DECODER.set(decoder);
+        try {
+            return datumReader.read(null, decoder);
+        } catch (IOException e) {
+            throw new SerializationException("Could not deserialize message on topic " + topic, e);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (confluentDeserializer != null) {
+            confluentDeserializer.close();
+        }
+    }
+
+    private DatumReader<T> createReader(long fingerprint) {
+        if (schemaRegistry == null) {
+            schemaRegistry = AvroSerdeConfig.schemaRegistry(Map.of());
+        }
+        Schema writerSchema = schemaRegistry.findByFingerprint(fingerprint);
+        if (writerSchema == null) {
+            throw new SerializationException("Unknown schema fingerprint " + Long.toHexString(fingerprint));
+        }
+        Class<?> recordClass = SpecificData.get().getClass(writerSchema);
+        if (recordClass == null) {
+            throw new SerializationException("No compiled class for schema " + writerSchema.getFullName());
+        }
+        SpecificData specificData = SpecificData.getForClass(recordClass);
+        Schema readerSchema = specificData.getSchema(recordClass);
+        if (SchemaCompatibility.checkReaderWriterCompatibility(readerSchema, writerSchema).getType() !=
+                SchemaCompatibility.SchemaCompatibilityType.COMPATIBLE) {
+            throw new SerializationException("Schema " + Long.toHexString(fingerprint) + " of " +
+                    writerSchema.getFullName() + " cannot be read with the compiled schema");
+        }
+        return new SpecificDatumReader<>(writerSchema, readerSchema, specificData);
+    }
+}
@@ -0,0 +1,83 @@
+package com.food.ordering.system.kafka.order.avro.serde;
+
+import org.apache.avro.Schema;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DatumWriter;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.avro.specific.SpecificData;
+import org.apache.avro.specific.SpecificDatumWriter;
+import org.apache.avro.specific.SpecificRecord;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Serializer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class AvroBinarySerializer<T extends SpecificRecord> implements Serializer<T> {
+
+    private static final int INITIAL_BUFFER_SIZE = 512;
+    private static final int MAX_POOLED_BUFFER_SIZE = 1024 * 1024;
+    private static final ThreadLocal<EncoderState> ENCODER_STATE = ThreadLocal.withInitial(EncoderState::new);
+
+    private final Map<Class<?>, SchemaWriter> writers = new ConcurrentHashMap<>();
+    private AvroSchemaRegistry schemaRegistry;
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        schemaRegistry = AvroSerdeConfig.schemaRegistry(configs);
+    }
+
+    @Override
+    public byte[] serialize(String topic, T data) {
+        if (data == null) {
+            return null;
+        }
+        SchemaWriter schemaWriter = writers.computeIfAbsent(data.getClass(), type -> createWriter(data.getSchema()));
+        EncoderState state = ENCODER_STATE.get();
+        try {
+            state.buffer.reset();
+            state.buffer.write(AvroSerdeConfig.SINGLE_OBJECT_MAGIC);
+            state.buffer.write(schemaWriter.header);
+            state.encoder = EncoderFactory.get().binaryEncoder(state.buffer, state.encoder);
+            schemaWriter.datumWriter.write(data, state.encoder);
+            state.encoder.flush();
+            return state.buffer.toByteArray();
+        } catch (IOException e) {
+            throw new SerializationException("Could not serialize " + data.getSchema().getFullName() +
+                    " for topic " + topic, e);
+        } finally {
+            if (state.buffer.size() > MAX_POOLED_BUFFER_SIZE) {
+                ENCODER_STATE.remove();
+            }
+        }
+    }
+
+    private SchemaWriter createWriter(Schema schema) {
+        if (schemaRegistry == null) {
+            schemaRegistry = AvroSerdeConfig.schemaRegistry(Map.of());
+        }
+        long fingerprint = schemaRegistry.register(schema);
+        byte[] header = new byte[Long.BYTES];
+        for (int i = 0; i < Long.BYTES; i++) {
+            header[i] = (byte) (fingerprint >>> (8 * i));
+        }
+        return new SchemaWriter(header, new SpecificDatumWriter<>(schema, SpecificData.getForSchema(schema)));
+    }
+
+    private static final class SchemaWriter {
+        private final byte[] header;
+        private final DatumWriter<Object> datumWriter;
+
+        private SchemaWriter(byte[] header, DatumWriter<Object> datumWriter) {
+            this.header = header;
+            this.datumWriter = datumWriter;
+        }
+    }
+
+    private static final class EncoderState {
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream(INITIAL_BUFFER_SIZE);
+        private BinaryEncoder encoder;
+    }
+}
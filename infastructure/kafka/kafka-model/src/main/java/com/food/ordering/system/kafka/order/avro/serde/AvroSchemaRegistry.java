@@ -0,0 +1,8 @@
+package com.food.ordering.system.kafka.order.avro.serde;
+
+import org.apache.avro.Schema;
+import org.apache.avro.message.SchemaStore;
+
+public interface AvroSchemaRegistry extends SchemaStore {
+    long register(Schema schema);
+}
@@ -0,0 +1,30 @@
+package com.food.ordering.system.kafka.order.avro.serde;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class AvroSerdeConfig {
+
+    public static final String SCHEMA_STORE_DIR_CONFIG = "avro.schema.store.dir";
+    public static final String CONFLUENT_VALUE_DESERIALIZER_CONFIG = "avro.confluent.value.deserializer";
+
+    static final byte[] SINGLE_OBJECT_MAGIC = new byte[]{(byte) 0xC3, (byte) 0x01};
+    static final byte CONFLUENT_MAGIC = 0x00;
+    static final int HEADER_LENGTH = SINGLE_OBJECT_MAGIC.length + Long.BYTES;
+
+    private static final AvroSchemaRegistry COMPILED_SCHEMA_REGISTRY = new CompiledSchemaRegistry();
+    private static final Map<String, AvroSchemaRegistry> FILE_SCHEMA_REGISTRIES = new ConcurrentHashMap<>();
+
+    private AvroSerdeConfig() {
+    }
+
+    static AvroSchemaRegistry schemaRegistry(Map<String, ?> configs) {
+        Object schemaStoreDir = configs.get(SCHEMA_STORE_DIR_CONFIG);
+        if (schemaStoreDir == null || schemaStoreDir.toString().isBlank()) {
+            return COMPILED_SCHEMA_REGISTRY;
+        }
+        return FILE_SCHEMA_REGISTRIES.computeIfAbsent(schemaStoreDir.toString(), dir ->
+                new FileSchemaRegistry(COMPILED_SCHEMA_REGISTRY, Path.of(dir)));
+    }
+}
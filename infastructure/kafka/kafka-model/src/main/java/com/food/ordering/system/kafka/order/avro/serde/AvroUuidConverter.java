@@ -0,0 +1,46 @@
+package com.food.ordering.system.kafka.order.avro.serde;
+
+import com.food.ordering.system.kafka.order.avro.model.Uuid;
+
+import java.util.UUID;
+
+public final class AvroUuidConverter {
+
+    private AvroUuidConverter() {
+    }
+
+    public static Uuid toAvro(UUID uuid) {
+        byte[] bytes = new byte[16];
+        writeLong(bytes, 0, uuid.getMostSignificantBits());
+        writeLong(bytes, 8, uuid.getLeastSignificantBits());
+        return new Uuid(bytes);
+    }
+
+    public static Uuid toAvro(String uuid) {
+        return toAvro(UUID.fromString(uuid));
+    }
+
+    public static UUID toUUID(Uuid uuid) {
+        byte[] bytes = uuid.bytes();
+        return new UUID(readLong(bytes, 0), readLong(bytes, 8));
+    }
+
+    public static UUID toUUID(Uuid uuid, String fallback) {
+        return uuid != null ? toUUID(uuid) : UUID.fromString(fallback);
+    }
+
+    private static void writeLong(byte[] bytes, int offset, long value) {
+        for (int i = 7; i >= 0; i--) {
+            bytes[offset + i] = (byte) value;
+            value >>>= 8;
+        }
+    }
+
+    private static long readLong(byte[] bytes, int offset) {
+        long value = 0;
+        for (int i = 0; i < 8; i++) {
+            value = (value << 8) | (bytes[offset + i] & 0xFF);
+        }
+        return value;
+    }
+}
@@ -0,0 +1,62 @@
+package com.food.ordering.system.kafka.order.avro.serde;
+
+import com.food.ordering.system.kafka.order.avro.model.CustomerAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaNormalization;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class CompiledSchemaRegistry implements AvroSchemaRegistry {
+
+    private static final List<Schema> COMPILED_SCHEMAS = List.of(
+            PaymentRequestAvroModel.getClassSchema(),
+            PaymentResponseAvroModel.getClassSchema(),
+            RestaurantApprovalRequestAvroModel.getClassSchema(),
+            RestaurantApprovalResponseAvroModel.getClassSchema(),
+            CustomerAvroModel.getClassSchema());
+
+    private static final List<String> LEGACY_SCHEMA_RESOURCES = List.of(
+            "/avro-versions/v1/payment_request.avsc",
+            "/avro-versions/v1/payment_response.avsc",
+            "/avro-versions/v1/restaurant_approval_request.avsc",
+            "/avro-versions/v1/restaurant_approval_response.avsc");
+
+    private final Map<Long, Schema> schemas = new ConcurrentHashMap<>();
+
+    public CompiledSchemaRegistry() {
+        COMPILED_SCHEMAS.forEach(this::register);
+        LEGACY_SCHEMA_RESOURCES.forEach(resource -> register(parseResource(resource)));
+    }
+
+    @Override
+    public long register(Schema schema) {
+        long fingerprint = SchemaNormalization.parsingFingerprint64(schema);
+        schemas.putIfAbsent(fingerprint, schema);
+        return fingerprint;
+    }
+
+    @Override
+    public Schema findByFingerprint(long fingerprint) {
+        return schemas.get(fingerprint);
+    }
+
+    private static Schema parseResource(String resource) {
+        try (InputStream inputStream = CompiledSchemaRegistry.class.getResourceAsStream(resource)) {
+            if (inputStream == null) {
+                throw new IllegalStateException("Schema resource " + resource + " is missing");
+            }
+            return new Schema.Parser().parse(inputStream);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read schema resource " + resource, e);
+        }
+    }
+}
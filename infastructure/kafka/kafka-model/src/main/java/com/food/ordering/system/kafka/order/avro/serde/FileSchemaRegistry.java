@@ -0,0 +1,79 @@
+package com.food.ordering.system.kafka.order.avro.serde;
+
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaParseException;
+import org.apache.kafka.common.errors.SerializationException;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class FileSchemaRegistry implements AvroSchemaRegistry {
+
+    private static final String SCHEMA_FILE_SUFFIX = ".avsc";
+
+    private final AvroSchemaRegistry compiledSchemaRegistry;
+    private final Path directory;
+    private final Map<Long, Schema> schemas = new ConcurrentHashMap<>();
+
+    public FileSchemaRegistry(AvroSchemaRegistry compiledSchemaRegistry, Path directory) {
+        this.compiledSchemaRegistry = compiledSchemaRegistry;
+        this.directory = directory;
+    }
+
+    @Override
+    public long register(Schema schema) {
+        long fingerprint = compiledSchemaRegistry.register(schema);
+        if (schemas.putIfAbsent(fingerprint, schema) == null) {
+            writeSchemaFile(fingerprint, schema);
+        }
+        return fingerprint;
+    }
+
+    @Override
+    public Schema findByFingerprint(long fingerprint) {
+        Schema schema = compiledSchemaRegistry.findByFingerprint(fingerprint);
+        if (schema != null) {
+            return schema;
+        }
+        return schemas.computeIfAbsent(fingerprint, this::readSchemaFile);
+    }
+
+    private Schema readSchemaFile(long fingerprint) {
+        Path schemaFile = schemaFile(fingerprint);
+        if (!Files.exists(schemaFile)) {
+            return null;
+        }
+        try {
+            return new Schema.Parser().parse(Files.readString(schemaFile, StandardCharsets.UTF_8));
+        } catch (IOException | SchemaParseException e) {
+            throw new SerializationException("Could not read schema file " + schemaFile, e);
+        }
+    }
+
+    private void writeSchemaFile(long fingerprint, Schema schema) {
+        Path schemaFile = schemaFile(fingerprint);
+        if (Files.exists(schemaFile)) {
+            return;
+        }
+        try {
+            Files.createDirectories(directory);
+            Path tempFile = Files.createTempFile(directory, Long.toHexString(fingerprint), ".tmp");
+            Files.writeString(tempFile, schema.toString(), StandardCharsets.UTF_8);
+            Files.move(tempFile, schemaFile, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException e) {
+            // another process stored the same schema first
+        } catch (IOException e) {
+            throw new SerializationException("Could not write schema file " + schemaFile, e);
+        }
+    }
+
+    private Path schemaFile(long fingerprint) {
+        return directory.resolve(Long.toHexString(fingerprint) + SCHEMA_FILE_SUFFIX);
+    }
+}
@@ -0,0 +1,146 @@
+package com.food.ordering.system.kafka.order.avro.serde;
+
+import com.food.ordering.system.kafka.order.avro.model.PaymentOrderStatus;
+import com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaNormalization;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AvroBinarySerdeTest {
+
+    private static final String TOPIC = "payment-request";
+    private static final PaymentRequestAvroModel CONFLUENT_RECORD = paymentRequest();
+
+    private AvroBinarySerializer<PaymentRequestAvroModel> serializer;
+    private AvroBinaryDeserializer<PaymentRequestAvroModel> deserializer;
+
+    @BeforeEach
+    public void init() {
+        serializer = new AvroBinarySerializer<>();
+        serializer.configure(Map.of(), false);
+        deserializer = new AvroBinaryDeserializer<>();
+        deserializer.configure(Map.of(), false);
+    }
+
+    @Test
+    public void testRoundTripPreservesRecord() {
+        PaymentRequestAvroModel paymentRequest = paymentRequest();
+
+        byte[] data = serializer.serialize(TOPIC, paymentRequest);
+
+        assertEquals(paymentRequest, deserializer.deserialize(TOPIC, data));
+    }
+
+    @Test
+    public void testMessageStartsWithMagicAndLittleEndianFingerprint() {
+        byte[] data = serializer.serialize(TOPIC, paymentRequest());
+
+        long fingerprint = SchemaNormalization.parsingFingerprint64(PaymentRequestAvroModel.getClassSchema());
+        byte[] expectedHeader = new byte[AvroSerdeConfig.HEADER_LENGTH];
+        expectedHeader[0] = (byte) 0xC3;
+        expectedHeader[1] = (byte) 0x01;
+        for (int i = 0; i < Long.BYTES; i++) {
+            expectedHeader[2 + i] = (byte) (fingerprint >>> (8 * i));
+        }
+        byte[] header = new byte[AvroSerdeConfig.HEADER_LENGTH];
+        System.arraycopy(data, 0, header, 0, header.length);
+        assertArrayEquals(expectedHeader, header);
+    }
+
+    @Test
+    public void testNullRoundTripsAsNull() {
+        assertNull(serializer.serialize(TOPIC, null));
+        assertNull(deserializer.deserialize(TOPIC, null));
+    }
+
+    @Test
+    public void testUnknownFingerprintIsRejected() {
+        byte[] data = serializer.serialize(TOPIC, paymentRequest());
+        data[AvroSerdeConfig.SINGLE_OBJECT_MAGIC.length] ^= 0x7F;
+
+        assertThrows(SerializationException.class, () -> deserializer.deserialize(TOPIC, data));
+    }
+
+    @Test
+    public void testConfluentFramedMessageIsRejectedWithoutDelegate() {
+        byte[] data = new byte[]{0x00, 0x00, 0x00, 0x00, 0x01, 0x02};
+
+        assertThrows(SerializationException.class, () -> deserializer.deserialize(TOPIC, data));
+    }
+
+    @Test
+    public void testConfluentFramedMessageIsDelegated() {
+        deserializer.configure(Map.of(AvroSerdeConfig.CONFLUENT_VALUE_DESERIALIZER_CONFIG,
+                ConfluentStubDeserializer.class.getName()), false);
+
+        PaymentRequestAvroModel paymentRequest = paymentRequest();
+
+        assertSame(CONFLUENT_RECORD, deserializer.deserialize(TOPIC, new byte[]{0x00, 0x00, 0x00, 0x00, 0x01}));
+        assertEquals(paymentRequest, deserializer.deserialize(TOPIC, serializer.serialize(TOPIC, paymentRequest)));
+    }
+
+    @Test
+    public void testFileSchemaRegistryPersistsSchemasForOtherProcesses(@TempDir Path directory) {
+        Schema schema = PaymentRequestAvroModel.getClassSchema();
+        long fingerprint = new FileSchemaRegistry(new CompiledSchemaRegistry(), directory).register(schema);
+
+        assertTrue(Files.exists(directory.resolve(Long.toHexString(fingerprint) + ".avsc")));
+        FileSchemaRegistry otherProcessRegistry = new FileSchemaRegistry(new EmptySchemaRegistry(), directory);
+        assertEquals(schema, otherProcessRegistry.findByFingerprint(fingerprint));
+        assertNull(otherProcessRegistry.findByFingerprint(fingerprint + 1));
+    }
+
+    private static PaymentRequestAvroModel paymentRequest() {
+        UUID id = UUID.randomUUID();
+        return PaymentRequestAvroModel.newBuilder()
+                .setId(id.toString())
+                .setIdFixed(AvroUuidConverter.toAvro(id))
+                .setSagaId(id.toString())
+                .setSagaIdFixed(AvroUuidConverter.toAvro(id))
+                .setCustomerId(id.toString())
+                .setCustomerIdFixed(AvroUuidConverter.toAvro(id))
+                .setOrderId(id.toString())
+                .setOrderIdFixed(AvroUuidConverter.toAvro(id))
+                .setPrice(new BigDecimal("200.00"))
+                .setCreatedAt(Instant.ofEpochMilli(System.currentTimeMillis()))
+                .setPaymentOrderStatus(PaymentOrderStatus.PENDING)
+                .build();
+    }
+
+    public static class ConfluentStubDeserializer implements Deserializer<PaymentRequestAvroModel> {
+        @Override
+        public PaymentRequestAvroModel deserialize(String topic, byte[] data) {
+            return CONFLUENT_RECORD;
+        }
+    }
+
+    private static class EmptySchemaRegistry implements AvroSchemaRegistry {
+        @Override
+        public long register(Schema schema) {
+            return SchemaNormalization.parsingFingerprint64(schema);
+        }
+
+        @Override
+        public Schema findByFingerprint(long fingerprint) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.food.ordering.system.kafka.order.avro.serde;
+
+import com.food.ordering.system.kafka.order.avro.model.PaymentOrderStatus;
+import com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.PaymentStatus;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel;
+import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel;
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaCompatibility;
+import org.apache.avro.SchemaNormalization;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.GenericRecord;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.avro.specific.SpecificDatumReader;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class V1SchemaCompatibilityTest {
+
+    private static final Map<String, Schema> CURRENT_SCHEMAS = Map.of(
+            "payment_request", PaymentRequestAvroModel.getClassSchema(),
+            "payment_response", PaymentResponseAvroModel.getClassSchema(),
+            "restaurant_approval_request", RestaurantApprovalRequestAvroModel.getClassSchema(),
+            "restaurant_approval_response", RestaurantApprovalResponseAvroModel.getClassSchema());
+
+    private static final int CONFLUENT_SCHEMA_ID = 7;
+
+    @Test
+    public void testCurrentSchemasAreBackwardAndForwardCompatibleWithV1() throws IOException {
+        for (Map.Entry<String, Schema> entry : CURRENT_SCHEMAS.entrySet()) {
+            Schema v1Schema = parseV1Schema(entry.getKey());
+            assertEquals(SchemaCompatibility.SchemaCompatibilityType.COMPATIBLE,
+                    SchemaCompatibility.checkReaderWriterCompatibility(entry.getValue(), v1Schema).getType(),
+                    entry.getKey() + " cannot read v1 records");
+            assertEquals(SchemaCompatibility.SchemaCompatibilityType.COMPATIBLE,
+                    SchemaCompatibility.checkReaderWriterCompatibility(v1Schema, entry.getValue()).getType(),
+                    "v1 consumers cannot read current " + entry.getKey() + " records");
+        }
+    }
+
+    @Test
+    public void testV1ConfluentPaymentResponseDecodesWithDefaultConfig() throws IOException {
+        UUID orderId = UUID.randomUUID();
+        GenericRecord v1Record = v1PaymentResponse(orderId);
+
+        byte[] confluentPayload = encodeConfluent(v1Record);
+
+        // KafkaAvroDeserializer with specific.avro.reader=true: writer schema by id, reader schema from the class
+        Map<Integer, Schema> registeredSchemas = Map.of(CONFLUENT_SCHEMA_ID, v1Record.getSchema());
+        ByteBuffer buffer = ByteBuffer.wrap(confluentPayload);
+        assertEquals(AvroSerdeConfig.CONFLUENT_MAGIC, buffer.get());
+        Schema writerSchema = registeredSchemas.get(buffer.getInt());
+        PaymentResponseAvroModel paymentResponse = new SpecificDatumReader<PaymentResponseAvroModel>(
+                writerSchema, PaymentResponseAvroModel.getClassSchema())
+                .read(null, DecoderFactory.get().binaryDecoder(confluentPayload, buffer.position(),
+                        buffer.remaining(), null));
+
+        assertNull(paymentResponse.getOrderIdFixed());
+        assertEquals(orderId, AvroUuidConverter.toUUID(paymentResponse.getOrderIdFixed(),
+                paymentResponse.getOrderId()));
+        assertEquals(PaymentStatus.COMPLETED, paymentResponse.getPaymentStatus());
+        assertEquals(new BigDecimal("200.00"), paymentResponse.getPrice());
+        assertEquals(List.of("none"), paymentResponse.getFailureMessages());
+    }
+
+    @Test
+    public void testV1PaymentRequestDecodesWithBinarySerde() throws IOException {
+        Schema v1Schema = parseV1Schema("payment_request");
+        UUID orderId = UUID.randomUUID();
+        Instant createdAt = Instant.ofEpochMilli(System.currentTimeMillis());
+        GenericRecord v1Record = new GenericData.Record(v1Schema);
+        v1Record.put("id", UUID.randomUUID().toString());
+        v1Record.put("sagaId", UUID.randomUUID().toString());
+        v1Record.put("customerId", UUID.randomUUID().toString());
+        v1Record.put("orderId", orderId.toString());
+        v1Record.put("price", ByteBuffer.wrap(new BigDecimal("200.00").unscaledValue().toByteArray()));
+        v1Record.put("createdAt", createdAt.toEpochMilli());
+        v1Record.put("paymentOrderStatus", new GenericData.EnumSymbol(
+                v1Schema.getField("paymentOrderStatus").schema(), "CANCELLED"));
+
+        AvroBinaryDeserializer<PaymentRequestAvroModel> deserializer = new AvroBinaryDeserializer<>();
+        deserializer.configure(Map.of(), false);
+        PaymentRequestAvroModel paymentRequest = deserializer.deserialize("payment-request",
+                encodeSingleObject(v1Record));
+
+        assertEquals(orderId, AvroUuidConverter.toUUID(paymentRequest.getOrderIdFixed(),
+                paymentRequest.getOrderId()));
+        assertEquals(createdAt, paymentRequest.getCreatedAt());
+        assertEquals(PaymentOrderStatus.CANCELLED, paymentRequest.getPaymentOrderStatus());
+    }
+
+    private static GenericRecord v1PaymentResponse(UUID orderId) throws IOException {
+        Schema v1Schema = parseV1Schema("payment_response");
+        GenericRecord v1Record = new GenericData.Record(v1Schema);
+        v1Record.put("id", UUID.randomUUID().toString());
+        v1Record.put("sagaId", UUID.randomUUID().toString());
+        v1Record.put("paymentId", UUID.randomUUID().toString());
+        v1Record.put("customerId", UUID.randomUUID().toString());
+        v1Record.put("orderId", orderId.toString());
+        v1Record.put("price", ByteBuffer.wrap(new BigDecimal("200.00").unscaledValue().toByteArray()));
+        v1Record.put("createdAt", System.currentTimeMillis());
+        v1Record.put("paymentStatus", new GenericData.EnumSymbol(
+                v1Schema.getField("paymentStatus").schema(), "COMPLETED"));
+        v1Record.put("failureMessages", List.of("none"));
+        return v1Record;
+    }
+
+    private static byte[] encodeConfluent(GenericRecord record) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        outputStream.write(AvroSerdeConfig.CONFLUENT_MAGIC);
+        outputStream.write(ByteBuffer.allocate(Integer.BYTES).putInt(CONFLUENT_SCHEMA_ID).array());
+        writeBody(record, outputStream);
+        return outputStream.toByteArray();
+    }
+
+    private static byte[] encodeSingleObject(GenericRecord record) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        outputStream.write(AvroSerdeConfig.SINGLE_OBJECT_MAGIC);
+        long fingerprint = SchemaNormalization.parsingFingerprint64(record.getSchema());
+        for (int i = 0; i < Long.BYTES; i++) {
+            outputStream.write((byte) (fingerprint >>> (8 * i)));
+        }
+        writeBody(record, outputStream);
+        return outputStream.toByteArray();
+    }
+
+    private static void writeBody(GenericRecord record, ByteArrayOutputStream outputStream) throws IOException {
+        BinaryEncoder encoder = EncoderFactory.get().binaryEncoder(outputStream, null);
+        new GenericDatumWriter<GenericRecord>(record.getSchema()).write(record, encoder);
+        encoder.flush();
+    }
+
+    private static Schema parseV1Schema(String name) throws IOException {
+        try (InputStream inputStream = V1SchemaCompatibilityTest.class
+                .getResourceAsStream("/avro-versions/v1/" + name + ".avsc")) {
+            return new Schema.Parser().parse(inputStream);
+        }
+    }
+}
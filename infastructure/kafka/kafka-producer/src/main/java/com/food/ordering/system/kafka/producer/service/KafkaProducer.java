@@ -5,7 +5,11 @@ import org.springframework.kafka.support.SendResult;
 import org.springframework.util.concurrent.ListenableFutureCallback;
 
 import java.io.Serializable;
+import java.util.Map;
 
 public interface KafkaProducer<K extends Serializable, V extends SpecificRecordBase> {
     void send(String topicName, K key, V message, ListenableFutureCallback<SendResult<K, V>> callback);
+
+    void send(String topicName, K key, V message, Map<String, String> headers,
+              ListenableFutureCallback<SendResult<K, V>> callback);
 }
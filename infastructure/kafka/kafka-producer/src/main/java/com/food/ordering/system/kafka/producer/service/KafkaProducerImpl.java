@@ -3,6 +3,7 @@ package com.food.ordering.system.kafka.producer.service;
 import com.food.ordering.system.kafka.producer.exception.KafkaProducerException;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.avro.specific.SpecificRecordBase;
+import org.apache.kafka.clients.producer.ProducerRecord;
 import org.springframework.kafka.KafkaException;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
@@ -12,6 +13,9 @@ import org.springframework.util.concurrent.ListenableFutureCallback;
 
 import javax.annotation.PreDestroy;
 import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
 
 @Component
 @Slf4j
@@ -25,11 +29,20 @@ public class KafkaProducerImpl<K extends Serializable, V extends SpecificRecordB
 
     @Override
     public void send(String topicName, K key, V message, ListenableFutureCallback<SendResult<K, V>> callback) {
+        send(topicName, key, message, Collections.emptyMap(), callback);
+    }
+
+    @Override
+    public void send(String topicName, K key, V message, Map<String, String> headers,
+                     ListenableFutureCallback<SendResult<K, V>> callback) {
         log.info("Sending message={} to topic={}", message, topicName);
 
         try {
+            ProducerRecord<K, V> producerRecord = new ProducerRecord<>(topicName, key, message);
+            headers.forEach((name, value) ->
+                    producerRecord.headers().add(name, value.getBytes(StandardCharsets.UTF_8)));
             ListenableFuture<SendResult<K, V>> kafkaResultFuture =
-                    kafkaTemplate.send(topicName, key, message);
+                    kafkaTemplate.send(producerRecord);
             kafkaResultFuture.addCallback(callback);
         } catch (KafkaException e) {
             log.error("Error on kafka producer with key: {}, message: {} and exception: {}", key, message,
@@ -0,0 +1,28 @@
+package com.food.ordering.system.outbox;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+public class OutboxMetrics {
+
+    private static final String OUTBOX_BACKLOG_GAUGE = "outbox.backlog";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, AtomicInteger> backlogs = new ConcurrentHashMap<>();
+
+    public OutboxMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public void updateBacklog(String outboxName, int backlog) {
+        backlogs.computeIfAbsent(outboxName, name ->
+                meterRegistry.gauge(OUTBOX_BACKLOG_GAUGE, Tags.of("outbox", name), new AtomicInteger()))
+                .set(backlog);
+    }
+}
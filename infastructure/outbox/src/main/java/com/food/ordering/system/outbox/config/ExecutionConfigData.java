@@ -0,0 +1,15 @@
+package com.food.ordering.system.outbox.config;
+
+import com.food.ordering.system.outbox.execution.ExecutionMode;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "execution-config")
+public class ExecutionConfigData {
+    private ExecutionMode mode = ExecutionMode.SEQUENTIAL;
+    private int maxConcurrentPublishes = 32;
+    private int maxConcurrentRecords = 32;
+}
@@ -1,11 +1,40 @@
 package com.food.ordering.system.outbox.config;
 
+import com.food.ordering.system.outbox.execution.BoundedExecutor;
+import com.food.ordering.system.outbox.execution.LaneTaskScheduler;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.context.annotation.Primary;
 import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.annotation.SchedulingConfigurer;
+import org.springframework.scheduling.config.ScheduledTaskRegistrar;
 
 @Configuration
 @EnableScheduling
-public class SchedulerConfig {
+public class SchedulerConfig implements SchedulingConfigurer {
+
+    private final SchedulerConfigData schedulerConfigData;
+    private final MeterRegistry meterRegistry;
+
+    public SchedulerConfig(SchedulerConfigData schedulerConfigData, MeterRegistry meterRegistry) {
+        this.schedulerConfigData = schedulerConfigData;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Bean(destroyMethod = "close")
+    public LaneTaskScheduler laneTaskScheduler() {
+        return new LaneTaskScheduler(meterRegistry, schedulerConfigData.getLanePoolSize(),
+                schedulerConfigData.getAwaitTerminationSeconds());
+    }
+
+    @Bean(destroyMethod = "close")
+    public BoundedExecutor outboxPublishExecutor(ExecutionConfigData executionConfigData) {
+        return BoundedExecutor.create("outbox-publish", executionConfigData.getMode(),
+                executionConfigData.getMaxConcurrentPublishes());
+    }
+
+    @Override
+    public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
+        taskRegistrar.setTaskScheduler(laneTaskScheduler());
+    }
 }
@@ -0,0 +1,13 @@
+package com.food.ordering.system.outbox.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "scheduler-config")
+public class SchedulerConfigData {
+    private Integer lanePoolSize = 1;
+    private Integer awaitTerminationSeconds = 30;
+}
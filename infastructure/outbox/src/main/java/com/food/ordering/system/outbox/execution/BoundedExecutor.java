@@ -0,0 +1,104 @@
+package com.food.ordering.system.outbox.execution;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+@Slf4j
+public class BoundedExecutor implements AutoCloseable {
+
+    private final String name;
+    private final ExecutorService executorService;
+    private final Semaphore permits;
+
+    private BoundedExecutor(String name, int maxConcurrency) {
+        this.name = name;
+        this.executorService = Executors.newCachedThreadPool(threadFactory(name));
+        this.permits = new Semaphore(maxConcurrency);
+    }
+
+    private BoundedExecutor(String name) {
+        this.name = name;
+        this.executorService = null;
+        this.permits = null;
+    }
+
+    public static BoundedExecutor create(String name, ExecutionMode mode, int maxConcurrency) {
+        if (mode == ExecutionMode.BOUNDED) {
+            log.info("Executor {} runs in bounded mode with {} permits", name, maxConcurrency);
+            return new BoundedExecutor(name, maxConcurrency);
+        }
+        return new BoundedExecutor(name);
+    }
+
+    public <T, K> void forEachByKey(List<T> items, Function<T, K> keyExtractor, Consumer<T> action) {
+        if (executorService == null || items.size() <= 1) {
+            items.forEach(action);
+            return;
+        }
+
+        Map<K, List<T>> lanes = new LinkedHashMap<>();
+        items.forEach(item -> lanes.computeIfAbsent(keyExtractor.apply(item), key -> new ArrayList<>()).add(item));
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>(lanes.size());
+        for (List<T> lane : lanes.values()) {
+            permits.acquireUninterruptibly();
+            try {
+                futures.add(CompletableFuture.runAsync(() -> lane.forEach(action), executorService)
+                        .whenComplete((result, throwable) -> permits.release()));
+            } catch (RejectedExecutionException e) {
+                permits.release();
+                throw e;
+            }
+        }
+
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() {
+        if (executorService == null) {
+            return;
+        }
+        executorService.shutdown();
+        try {
+            if (!executorService.awaitTermination(30, TimeUnit.SECONDS)) {
+                log.warn("Executor {} did not finish in-flight work on shutdown", name);
+                executorService.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executorService.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static ThreadFactory threadFactory(String name) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,5 @@
+package com.food.ordering.system.outbox.execution;
+
+public enum ExecutionMode {
+    SEQUENTIAL, BOUNDED
+}
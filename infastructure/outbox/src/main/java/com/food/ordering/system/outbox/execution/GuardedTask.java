@@ -0,0 +1,38 @@
+package com.food.ordering.system.outbox.execution;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Slf4j
+class GuardedTask implements Runnable {
+
+    private final String taskName;
+    private final Runnable delegate;
+    private final Timer timer;
+    private final Counter skipped;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    GuardedTask(String taskName, Runnable delegate, Timer timer, Counter skipped) {
+        this.taskName = taskName;
+        this.delegate = delegate;
+        this.timer = timer;
+        this.skipped = skipped;
+    }
+
+    @Override
+    public void run() {
+        if (!running.compareAndSet(false, true)) {
+            skipped.increment();
+            log.warn("Skipping run of {} as the previous run is still in progress", taskName);
+            return;
+        }
+        try {
+            timer.record(delegate);
+        } finally {
+            running.set(false);
+        }
+    }
+}
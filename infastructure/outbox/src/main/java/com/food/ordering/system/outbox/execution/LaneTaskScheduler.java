@@ -0,0 +1,117 @@
+package com.food.ordering.system.outbox.execution;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.Trigger;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.support.ScheduledMethodRunnable;
+import org.springframework.util.ClassUtils;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+
+@Slf4j
+public class LaneTaskScheduler implements TaskScheduler, AutoCloseable {
+
+    private static final String DEFAULT_LANE = "default";
+    private static final String TASK_TIMER = "scheduler.task.duration";
+    private static final String TASK_SKIPPED_COUNTER = "scheduler.task.skipped";
+
+    private final MeterRegistry meterRegistry;
+    private final int lanePoolSize;
+    private final int awaitTerminationSeconds;
+    private final Map<String, ThreadPoolTaskScheduler> lanes = new ConcurrentHashMap<>();
+
+    public LaneTaskScheduler(MeterRegistry meterRegistry, int lanePoolSize, int awaitTerminationSeconds) {
+        this.meterRegistry = meterRegistry;
+        this.lanePoolSize = lanePoolSize;
+        this.awaitTerminationSeconds = awaitTerminationSeconds;
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable task, Trigger trigger) {
+        return laneFor(task).schedule(guard(task), trigger);
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable task, Date startTime) {
+        return laneFor(task).schedule(guard(task), startTime);
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, Date startTime, long period) {
+        return laneFor(task).scheduleAtFixedRate(guard(task), startTime, period);
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, long period) {
+        return laneFor(task).scheduleAtFixedRate(guard(task), period);
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable task, Date startTime, long delay) {
+        return laneFor(task).scheduleWithFixedDelay(guard(task), startTime, delay);
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable task, long delay) {
+        return laneFor(task).scheduleWithFixedDelay(guard(task), delay);
+    }
+
+    @Override
+    public void close() {
+        lanes.values().forEach(ThreadPoolTaskScheduler::shutdown);
+        lanes.clear();
+    }
+
+    private ThreadPoolTaskScheduler laneFor(Runnable task) {
+        return lanes.computeIfAbsent(laneName(task), this::createLane);
+    }
+
+    private ThreadPoolTaskScheduler createLane(String laneName) {
+        ThreadPoolTaskScheduler lane = new ThreadPoolTaskScheduler();
+        lane.setPoolSize(lanePoolSize);
+        lane.setThreadNamePrefix("scheduler-" + laneName + "-");
+        lane.setWaitForTasksToCompleteOnShutdown(true);
+        lane.setAwaitTerminationSeconds(awaitTerminationSeconds);
+        lane.setErrorHandler(throwable -> log.error("Scheduled task failed in lane {}", laneName, throwable));
+        lane.initialize();
+        log.info("Created scheduler lane {} with pool size {}", laneName, lanePoolSize);
+        return lane;
+    }
+
+    private Runnable guard(Runnable task) {
+        String taskName = taskName(task);
+        String laneName = laneName(task);
+        Timer timer = Timer.builder(TASK_TIMER)
+                .tag("lane", laneName)
+                .tag("task", taskName)
+                .register(meterRegistry);
+        Counter skipped = Counter.builder(TASK_SKIPPED_COUNTER)
+                .tag("lane", laneName)
+                .tag("task", taskName)
+                .register(meterRegistry);
+        return new GuardedTask(taskName, task, timer, skipped);
+    }
+
+    private static String laneName(Runnable task) {
+        if (task instanceof ScheduledMethodRunnable scheduledMethodRunnable) {
+            return ClassUtils.getUserClass(AopUtils.getTargetClass(scheduledMethodRunnable.getTarget()))
+                    .getSimpleName();
+        }
+        return DEFAULT_LANE;
+    }
+
+    private static String taskName(Runnable task) {
+        if (task instanceof ScheduledMethodRunnable scheduledMethodRunnable) {
+            return laneName(task) + "." + scheduledMethodRunnable.getMethod().getName();
+        }
+        return task.getClass().getSimpleName();
+    }
+}
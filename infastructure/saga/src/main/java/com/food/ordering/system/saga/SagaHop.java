@@ -0,0 +1,5 @@
+package com.food.ordering.system.saga;
+
+public enum SagaHop {
+    PAYMENT_REQUEST_PUBLISHED, PAYMENT_RESPONSE_CONSUMED, APPROVAL_REQUEST_PUBLISHED, APPROVAL_RESPONSE_CONSUMED
+}
@@ -0,0 +1,116 @@
+package com.food.ordering.system.saga;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class SagaIdempotencyCache {
+
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+    private final Queue<Entry> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queuedEntries = new AtomicInteger();
+    private final int maxSize;
+    private final long ttlNanos;
+
+    public SagaIdempotencyCache(int maxSize, Duration ttl) {
+        this.maxSize = maxSize;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    public Optional<String> get(UUID sagaId, String step) {
+        Key key = new Key(sagaId, step);
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (entry.isExpired(System.nanoTime())) {
+            entries.remove(key, entry);
+            return Optional.empty();
+        }
+        return Optional.of(entry.outcome);
+    }
+
+    public void put(UUID sagaId, String step, String outcome) {
+        if (maxSize <= 0) {
+            return;
+        }
+        Entry entry = new Entry(new Key(sagaId, step), outcome, System.nanoTime() + ttlNanos);
+        entries.put(entry.key, entry);
+        insertionOrder.add(entry);
+        queuedEntries.incrementAndGet();
+        evict();
+    }
+
+    public void putAfterCommit(UUID sagaId, String step, String outcome) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            put(sagaId, step, outcome);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                put(sagaId, step, outcome);
+            }
+        });
+    }
+
+    private void evict() {
+        long now = System.nanoTime();
+        Entry oldest;
+        while ((oldest = insertionOrder.peek()) != null &&
+                (oldest.isExpired(now) || queuedEntries.get() > maxSize)) {
+            if (insertionOrder.remove(oldest)) {
+                queuedEntries.decrementAndGet();
+                entries.remove(oldest.key, oldest);
+            }
+        }
+    }
+
+    private static final class Key {
+        private final UUID sagaId;
+        private final String step;
+
+        private Key(UUID sagaId, String step) {
+            this.sagaId = sagaId;
+            this.step = step;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            Key key = (Key) o;
+            return sagaId.equals(key.sagaId) && step.equals(key.step);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(sagaId, step);
+        }
+    }
+
+    private static final class Entry {
+        private final Key key;
+        private final String outcome;
+        private final long expiresAtNanos;
+
+        private Entry(Key key, String outcome, long expiresAtNanos) {
+            this.key = key;
+            this.outcome = outcome;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        private boolean isExpired(long now) {
+            return now - expiresAtNanos >= 0;
+        }
+    }
+}
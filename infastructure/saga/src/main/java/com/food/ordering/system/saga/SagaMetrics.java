@@ -0,0 +1,59 @@
+package com.food.ordering.system.saga;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+
+import static com.food.ordering.system.domain.DomainConstants.UTC;
+
+public class SagaMetrics {
+
+    private static final String SAGA_HOP_TIMER = "saga.hop.latency";
+    private static final String SAGA_DURATION_TIMER = "saga.duration";
+
+    private final MeterRegistry meterRegistry;
+    private final String sagaName;
+
+    public SagaMetrics(MeterRegistry meterRegistry, String sagaName) {
+        this.meterRegistry = meterRegistry;
+        this.sagaName = sagaName;
+    }
+
+    public void recordHop(SagaHop sagaHop, SagaStatus sagaStatus, ZonedDateTime since) {
+        if (since == null) {
+            return;
+        }
+        Timer.builder(SAGA_HOP_TIMER)
+                .tag("saga", sagaName)
+                .tag("hop", sagaHop.name())
+                .tag("saga_status", sagaStatus.name())
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(elapsedSince(since));
+    }
+
+    public void recordHop(SagaHop sagaHop, SagaStatus sagaStatus, Instant since) {
+        recordHop(sagaHop, sagaStatus, since == null ? null : since.atZone(ZoneId.of(UTC)));
+    }
+
+    public void recordCompletion(SagaStatus sagaStatus, ZonedDateTime startedAt) {
+        if (startedAt == null) {
+            return;
+        }
+        Timer.builder(SAGA_DURATION_TIMER)
+                .tag("saga", sagaName)
+                .tag("saga_status", sagaStatus.name())
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(elapsedSince(startedAt));
+    }
+
+    private Duration elapsedSince(ZonedDateTime since) {
+        Duration elapsed = Duration.between(since, ZonedDateTime.now(ZoneId.of(UTC)));
+        return elapsed.isNegative() ? Duration.ZERO : elapsed;
+    }
+}
@@ -0,0 +1,31 @@
+package com.food.ordering.system.saga;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.ZonedDateTime;
+import java.util.UUID;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class SagaState {
+    private UUID sagaId;
+    private String type;
+    private ZonedDateTime createdAt;
+    private ZonedDateTime processedAt;
+    private SagaStatus sagaStatus;
+    private OrderStatus orderStatus;
+    private int version;
+
+    public boolean isIn(SagaStatus... sagaStatuses) {
+        for (SagaStatus status : sagaStatuses) {
+            if (status == sagaStatus) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
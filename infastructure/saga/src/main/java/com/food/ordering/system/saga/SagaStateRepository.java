@@ -0,0 +1,21 @@
+package com.food.ordering.system.saga;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+
+import java.time.ZonedDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface SagaStateRepository {
+
+    void insert(SagaState sagaState);
+
+    Optional<SagaState> findByTypeAndSagaId(String type, UUID sagaId);
+
+    boolean updateStatus(String type,
+                         UUID sagaId,
+                         int expectedVersion,
+                         SagaStatus sagaStatus,
+                         OrderStatus orderStatus,
+                         ZonedDateTime processedAt);
+}
@@ -5,4 +5,5 @@ public final class SagaConstant {
     private SagaConstant() {}
 
     public static final String ORDER_SAGA_NAME = "OrderProcessingSaga";
+    public static final String SAGA_ID_HEADER = "sagaId";
 }
@@ -0,0 +1,22 @@
+package com.food.ordering.system.loadtest;
+
+import com.food.ordering.system.loadtest.cluster.EmbeddedInfrastructure;
+import com.food.ordering.system.loadtest.cluster.ServiceCluster;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+public class LoadTestApplication {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig loadTestConfig = LoadTestConfig.fromSystemProperties();
+        try (EmbeddedInfrastructure infrastructure = EmbeddedInfrastructure.start();
+             ServiceCluster serviceCluster = ServiceCluster.start(infrastructure)) {
+            LoadTestFixtures.seed(serviceCluster);
+            log.info("Running saga load test with rates {} orders/s, {}s per step",
+                    loadTestConfig.getOrdersPerSecond(), loadTestConfig.getStepDuration().toSeconds());
+            try (OrderLoadDriver orderLoadDriver = new OrderLoadDriver(loadTestConfig, serviceCluster)) {
+                orderLoadDriver.run();
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.food.ordering.system.loadtest;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public class LoadTestConfig {
+    List<Integer> ordersPerSecond;
+    Duration stepDuration;
+    Duration reportInterval;
+    Duration drainTimeout;
+
+    public static LoadTestConfig fromSystemProperties() {
+        return LoadTestConfig.builder()
+                .ordersPerSecond(Arrays.stream(System.getProperty("load-test.orders-per-second", "10,50,100")
+                                .split(","))
+                        .map(String::trim)
+                        .map(Integer::valueOf)
+                        .collect(Collectors.toList()))
+                .stepDuration(Duration.ofSeconds(Long.getLong("load-test.step-duration-seconds", 60L)))
+                .reportInterval(Duration.ofSeconds(Long.getLong("load-test.report-interval-seconds", 5L)))
+                .drainTimeout(Duration.ofSeconds(Long.getLong("load-test.drain-timeout-seconds", 120L)))
+                .build();
+    }
+}
@@ -0,0 +1,55 @@
+package com.food.ordering.system.loadtest;
+
+import com.food.ordering.system.loadtest.cluster.ServiceCluster;
+import com.food.ordering.system.loadtest.cluster.ServiceNode;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
+import com.food.ordering.system.order.service.domain.dto.create.OrderAddress;
+import com.food.ordering.system.order.service.domain.dto.create.OrderItem;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+final class LoadTestFixtures {
+
+    static final UUID CUSTOMER_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb41");
+    static final UUID RESTAURANT_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb45");
+    static final UUID PRODUCT_ID = UUID.fromString("d215b5f8-0249-4dc5-89a3-51fd148cfb48");
+    static final BigDecimal PRODUCT_PRICE = new BigDecimal("50.00");
+    static final BigDecimal CREDIT_TOP_UP = new BigDecimal("90000000.00");
+
+    private LoadTestFixtures() {
+    }
+
+    static void seed(ServiceCluster serviceCluster) {
+        serviceCluster.getBean(ServiceNode.ORDER, JdbcTemplate.class).update(
+                "INSERT INTO \"order\".customers(id, username, first_name, last_name) VALUES (?, ?, ?, ?) " +
+                        "ON CONFLICT DO NOTHING", CUSTOMER_ID, "load_test_user", "Load", "Test");
+
+        JdbcTemplate paymentJdbcTemplate = serviceCluster.getBean(ServiceNode.PAYMENT, JdbcTemplate.class);
+        paymentJdbcTemplate.update("INSERT INTO payment.credit_history(id, customer_id, amount, type) " +
+                "VALUES (?, ?, ?, 'CREDIT')", UUID.randomUUID(), CUSTOMER_ID, CREDIT_TOP_UP);
+        paymentJdbcTemplate.update("UPDATE payment.credit_entry SET total_credit_amount = total_credit_amount + ? " +
+                "WHERE customer_id = ?", CREDIT_TOP_UP, CUSTOMER_ID);
+    }
+
+    static CreateOrderCommand createOrderCommand() {
+        return CreateOrderCommand.builder()
+                .customerId(CUSTOMER_ID)
+                .restaurantId(RESTAURANT_ID)
+                .address(OrderAddress.builder()
+                        .street("street_1")
+                        .postalCode("1000AB")
+                        .city("Paris")
+                        .build())
+                .price(PRODUCT_PRICE)
+                .orderItemList(List.of(OrderItem.builder()
+                        .productId(PRODUCT_ID)
+                        .quantity(1)
+                        .price(PRODUCT_PRICE)
+                        .subtotal(PRODUCT_PRICE)
+                        .build()))
+                .build();
+    }
+}
@@ -0,0 +1,210 @@
+package com.food.ordering.system.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.loadtest.cluster.ServiceCluster;
+import com.food.ordering.system.loadtest.cluster.ServiceNode;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderQuery;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.ports.input.service.OrderApplicationService;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+
+@Slf4j
+class OrderLoadDriver implements AutoCloseable {
+
+    private static final Set<OrderStatus> FINAL_ORDER_STATUSES =
+            EnumSet.of(OrderStatus.APPROVED, OrderStatus.CANCELLED);
+    private static final String ORDER_MEDIA_TYPE = "application/vnd.api.v1+json";
+
+    private final LoadTestConfig loadTestConfig;
+    private final OrderApplicationService orderApplicationService;
+    private final ObjectMapper objectMapper;
+    private final OutboxBacklogProbe outboxBacklogProbe;
+    private final ExecutorService responseExecutor = Executors.newFixedThreadPool(
+            Runtime.getRuntime().availableProcessors(), daemonThreadFactory("load-test-response"));
+    private final HttpClient httpClient;
+    private final HttpRequest createOrderRequest;
+
+    private final Recorder latencyRecorder = new Recorder(3);
+    private final Map<UUID, Long> pendingOrders = new ConcurrentHashMap<>();
+    private final Map<UUID, Runnable> subscriptions = new ConcurrentHashMap<>();
+    private final LongAdder createdOrders = new LongAdder();
+    private final LongAdder rejectedOrders = new LongAdder();
+    private final LongAdder approvedOrders = new LongAdder();
+    private final LongAdder cancelledOrders = new LongAdder();
+
+    OrderLoadDriver(LoadTestConfig loadTestConfig, ServiceCluster serviceCluster) throws JsonProcessingException {
+        this.loadTestConfig = loadTestConfig;
+        this.orderApplicationService = serviceCluster.getBean(ServiceNode.ORDER, OrderApplicationService.class);
+        this.objectMapper = serviceCluster.getBean(ServiceNode.ORDER, ObjectMapper.class);
+        this.outboxBacklogProbe = new OutboxBacklogProbe(serviceCluster.getBean(ServiceNode.ORDER, JdbcTemplate.class));
+        this.httpClient = HttpClient.newBuilder().executor(responseExecutor).build();
+        this.createOrderRequest = HttpRequest.newBuilder(serviceCluster.getOrdersUri())
+                .header("Content-Type", "application/json")
+                .header("Accept", ORDER_MEDIA_TYPE)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(
+                        objectMapper.writeValueAsBytes(LoadTestFixtures.createOrderCommand())))
+                .build();
+    }
+
+    void run() throws InterruptedException {
+        for (int ordersPerSecond : loadTestConfig.getOrdersPerSecond()) {
+            ScheduledExecutorService sender =
+                    Executors.newSingleThreadScheduledExecutor(daemonThreadFactory("load-test-sender"));
+            sender.scheduleAtFixedRate(this::sendOrder, 0, TimeUnit.SECONDS.toNanos(1) / ordersPerSecond,
+                    TimeUnit.NANOSECONDS);
+            try {
+                measure(ordersPerSecond + " orders/s", loadTestConfig.getStepDuration(), () -> false);
+            } finally {
+                sender.shutdownNow();
+            }
+        }
+        measure("drain", loadTestConfig.getDrainTimeout(), pendingOrders::isEmpty);
+        if (!pendingOrders.isEmpty()) {
+            log.warn("{} orders did not reach a final status within the drain timeout", pendingOrders.size());
+        }
+    }
+
+    @Override
+    public void close() {
+        subscriptions.values().forEach(Runnable::run);
+        subscriptions.clear();
+        responseExecutor.shutdownNow();
+    }
+
+    private void measure(String phase, Duration duration, BooleanSupplier finished) throws InterruptedException {
+        Histogram phaseLatencies = new Histogram(3);
+        Histogram intervalLatencies = null;
+        long phaseStart = System.nanoTime();
+        long phaseEnd = phaseStart + duration.toNanos();
+        long createdAtPhaseStart = createdOrders.sum();
+        long completedAtPhaseStart = completedOrders();
+
+        while (System.nanoTime() < phaseEnd && !finished.getAsBoolean()) {
+            long intervalStart = System.nanoTime();
+            long completedAtIntervalStart = completedOrders();
+            TimeUnit.NANOSECONDS.sleep(Math.min(loadTestConfig.getReportInterval().toNanos(),
+                    phaseEnd - intervalStart));
+            intervalLatencies = latencyRecorder.getIntervalHistogram(intervalLatencies);
+            phaseLatencies.add(intervalLatencies);
+            log.info("[{}] t={}s created={} rejected={} approved={} cancelled={} sagas/s={} p50={}ms p99={}ms " +
+                            "in-flight={} outbox backlog={}",
+                    phase,
+                    TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - phaseStart),
+                    createdOrders.sum(),
+                    rejectedOrders.sum(),
+                    approvedOrders.sum(),
+                    cancelledOrders.sum(),
+                    perSecond(completedOrders() - completedAtIntervalStart, intervalStart),
+                    millis(intervalLatencies.getValueAtPercentile(50)),
+                    millis(intervalLatencies.getValueAtPercentile(99)),
+                    pendingOrders.size(),
+                    outboxBacklogProbe.startedMessageCounts());
+        }
+
+        log.info("[{}] summary: orders/s={} sagas/s={} p50={}ms p99={}ms max={}ms",
+                phase,
+                perSecond(createdOrders.sum() - createdAtPhaseStart, phaseStart),
+                perSecond(completedOrders() - completedAtPhaseStart, phaseStart),
+                millis(phaseLatencies.getValueAtPercentile(50)),
+                millis(phaseLatencies.getValueAtPercentile(99)),
+                millis(phaseLatencies.getMaxValue()));
+    }
+
+    private void sendOrder() {
+        long startNanos = System.nanoTime();
+        httpClient.sendAsync(createOrderRequest, HttpResponse.BodyHandlers.ofString())
+                .whenComplete((response, error) -> onOrderCreated(startNanos, response, error));
+    }
+
+    private void onOrderCreated(long startNanos, HttpResponse<String> response, Throwable error) {
+        if (error != null || response.statusCode() != 200) {
+            rejectedOrders.increment();
+            log.debug("Order was rejected with status: {}", error != null ? error.getMessage() : response.body());
+            return;
+        }
+        createdOrders.increment();
+        try {
+            UUID trackingId = UUID.fromString(objectMapper.readTree(response.body()).get("orderTrackingId").asText());
+            track(trackingId, startNanos);
+        } catch (JsonProcessingException | RuntimeException e) {
+            log.warn("Could not track created order from response: {}", response.body(), e);
+        }
+    }
+
+    private void track(UUID trackingId, long startNanos) {
+        pendingOrders.put(trackingId, startNanos);
+        subscriptions.put(trackingId, orderApplicationService.subscribeOrderStatus(trackingId, this::onOrderStatus));
+        if (!pendingOrders.containsKey(trackingId)) {
+            unsubscribe(trackingId);
+            return;
+        }
+        onOrderStatus(orderApplicationService.trackOrder(TrackOrderQuery.builder().trackingId(trackingId).build()));
+    }
+
+    private void onOrderStatus(TrackOrderResponse trackOrderResponse) {
+        if (!FINAL_ORDER_STATUSES.contains(trackOrderResponse.getOrderStatus())) {
+            return;
+        }
+        Long startNanos = pendingOrders.remove(trackOrderResponse.getOrderTrackingId());
+        if (startNanos == null) {
+            return;
+        }
+        latencyRecorder.recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos));
+        if (trackOrderResponse.getOrderStatus() == OrderStatus.APPROVED) {
+            approvedOrders.increment();
+        } else {
+            cancelledOrders.increment();
+        }
+        unsubscribe(trackOrderResponse.getOrderTrackingId());
+    }
+
+    private void unsubscribe(UUID trackingId) {
+        Runnable unsubscribe = subscriptions.remove(trackingId);
+        if (unsubscribe != null) {
+            unsubscribe.run();
+        }
+    }
+
+    private long completedOrders() {
+        return approvedOrders.sum() + cancelledOrders.sum();
+    }
+
+    private static String perSecond(long count, long sinceNanos) {
+        double seconds = Math.max(System.nanoTime() - sinceNanos, 1) / 1_000_000_000.0;
+        return String.format("%.1f", count / seconds);
+    }
+
+    private static String millis(long micros) {
+        return String.format("%.1f", micros / 1_000.0);
+    }
+
+    private static ThreadFactory daemonThreadFactory(String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,29 @@
+package com.food.ordering.system.loadtest;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+class OutboxBacklogProbe {
+
+    private static final List<String> OUTBOX_TABLES = List.of(
+            "\"order\".payment_outbox",
+            "\"order\".restaurant_approval_outbox",
+            "payment.order_outbox",
+            "restaurant.order_outbox");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    OutboxBacklogProbe(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    Map<String, Long> startedMessageCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        OUTBOX_TABLES.forEach(table -> counts.put(table.replace("\"", ""), jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM " + table + " WHERE outbox_status = 'STARTED'", Long.class)));
+        return counts;
+    }
+}
@@ -0,0 +1,65 @@
+package com.food.ordering.system.loadtest.cluster;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+@Slf4j
+public class EmbeddedInfrastructure implements AutoCloseable {
+
+    private static final String DATABASE_NAME = "postgres";
+    private static final String DATABASE_USERNAME = "postgres";
+    private static final String DATABASE_PASSWORD = "postgres";
+
+    private final EmbeddedKafkaBroker kafkaBroker;
+    private final EmbeddedPostgres postgres;
+
+    private EmbeddedInfrastructure(EmbeddedKafkaBroker kafkaBroker, EmbeddedPostgres postgres) {
+        this.kafkaBroker = kafkaBroker;
+        this.postgres = postgres;
+    }
+
+    public static EmbeddedInfrastructure start() {
+        EmbeddedKafkaBroker kafkaBroker = new EmbeddedKafkaBroker(1, false);
+        kafkaBroker.afterPropertiesSet();
+        log.info("Embedded kafka broker started at {}", kafkaBroker.getBrokersAsString());
+        try {
+            EmbeddedPostgres postgres = EmbeddedPostgres.builder().start();
+            log.info("Embedded postgres started on port {}", postgres.getPort());
+            return new EmbeddedInfrastructure(kafkaBroker, postgres);
+        } catch (IOException e) {
+            kafkaBroker.destroy();
+            throw new UncheckedIOException("Could not start embedded postgres", e);
+        }
+    }
+
+    public String getBootstrapServers() {
+        return kafkaBroker.getBrokersAsString();
+    }
+
+    public String getJdbcUrl(String schema) {
+        return String.format("jdbc:postgresql://localhost:%d/%s?currentSchema=%s&binaryTransfer=true" +
+                "&reWriteBatchedInserts=true&stringtype=unspecified", postgres.getPort(), DATABASE_NAME, schema);
+    }
+
+    public String getUsername() {
+        return DATABASE_USERNAME;
+    }
+
+    public String getPassword() {
+        return DATABASE_PASSWORD;
+    }
+
+    @Override
+    public void close() {
+        kafkaBroker.destroy();
+        try {
+            postgres.close();
+        } catch (IOException e) {
+            log.warn("Could not stop embedded postgres", e);
+        }
+    }
+}
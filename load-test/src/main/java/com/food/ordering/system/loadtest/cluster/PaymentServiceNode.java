@@ -0,0 +1,15 @@
+package com.food.ordering.system.loadtest.cluster;
+
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ComponentScan;
+
+@ComponentScan(basePackages = {"com.food.ordering.system.payment.service", "com.food.ordering.system.application",
+        "com.food.ordering.system.dataaccess", "com.food.ordering.system.kafka", "com.food.ordering.system.outbox",
+        "com.food.ordering.system.saga"},
+        excludeFilters = @ComponentScan.Filter(SpringBootApplication.class))
+@EnableAutoConfiguration
+@SpringBootConfiguration
+public class PaymentServiceNode {
+}
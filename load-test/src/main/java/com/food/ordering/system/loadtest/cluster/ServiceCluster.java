@@ -0,0 +1,49 @@
+package com.food.ordering.system.loadtest.cluster;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.util.EnumMap;
+import java.util.Map;
+
+@Slf4j
+public class ServiceCluster implements AutoCloseable {
+
+    private final Map<ServiceNode, ConfigurableApplicationContext> contexts = new EnumMap<>(ServiceNode.class);
+
+    public static ServiceCluster start(EmbeddedInfrastructure infrastructure) {
+        ServiceCluster serviceCluster = new ServiceCluster();
+        try {
+            for (ServiceNode serviceNode : ServiceNode.values()) {
+                serviceCluster.contexts.put(serviceNode, serviceNode.start(infrastructure));
+                log.info("Service node {} started", serviceNode);
+            }
+        } catch (RuntimeException e) {
+            serviceCluster.close();
+            throw e;
+        }
+        return serviceCluster;
+    }
+
+    public <T> T getBean(ServiceNode serviceNode, Class<T> beanType) {
+        return contexts.get(serviceNode).getBean(beanType);
+    }
+
+    public URI getOrdersUri() {
+        WebServerApplicationContext orderContext = (WebServerApplicationContext) contexts.get(ServiceNode.ORDER);
+        return URI.create("http://localhost:" + orderContext.getWebServer().getPort() + "/orders");
+    }
+
+    @Override
+    public void close() {
+        ServiceNode[] serviceNodes = ServiceNode.values();
+        for (int i = serviceNodes.length - 1; i >= 0; i--) {
+            ConfigurableApplicationContext context = contexts.remove(serviceNodes[i]);
+            if (context != null) {
+                context.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.food.ordering.system.loadtest.cluster;
+
+import com.food.ordering.system.kafka.order.avro.serde.AvroBinaryDeserializer;
+import com.food.ordering.system.kafka.order.avro.serde.AvroBinarySerializer;
+import com.food.ordering.system.order.service.domain.OrderServiceApplication;
+import com.food.ordering.system.payment.service.domain.PaymentServiceApplication;
+import com.food.ordering.system.restaurant.service.domain.RestaurantServiceApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public enum ServiceNode {
+    RESTAURANT(RestaurantServiceNode.class, RestaurantServiceApplication.class, "restaurant", true),
+    PAYMENT(PaymentServiceNode.class, PaymentServiceApplication.class, "payment", true),
+    ORDER(OrderServiceNode.class, OrderServiceApplication.class, "order", false);
+
+    private final Class<?> nodeConfiguration;
+    private final Class<?> containerApplication;
+    private final String schema;
+    private final boolean initData;
+
+    ServiceNode(Class<?> nodeConfiguration, Class<?> containerApplication, String schema, boolean initData) {
+        this.nodeConfiguration = nodeConfiguration;
+        this.containerApplication = containerApplication;
+        this.schema = schema;
+        this.initData = initData;
+    }
+
+    public ConfigurableApplicationContext start(EmbeddedInfrastructure infrastructure) {
+        List<String> args = new ArrayList<>(List.of(
+                "--spring.config.location=" + containerResource("application.yml"),
+                "--spring.datasource.url=" + infrastructure.getJdbcUrl(schema),
+                "--spring.datasource.username=" + infrastructure.getUsername(),
+                "--spring.datasource.password=" + infrastructure.getPassword(),
+                "--spring.sql.init.schema-locations=" + containerResource("init-schema.sql"),
+                "--spring.jpa.show-sql=false",
+                "--server.port=0",
+                "--logging.level.com.food.ordering.system=WARN",
+                "--logging.level.com.food.ordering.system.loadtest=INFO",
+                "--kafka-config.bootstrap-servers=" + infrastructure.getBootstrapServers(),
+                "--kafka-config.replication-factor=1",
+                "--kafka-config.schema-store-dir=",
+                "--kafka-producer-config.value-serializer-class=" + AvroBinarySerializer.class.getName(),
+                "--kafka-consumer-config.value-deserializer=" + AvroBinaryDeserializer.class.getName()));
+        if (initData) {
+            args.add("--spring.sql.init.data-locations=" + containerResource("init-data.sql"));
+        }
+        return new SpringApplicationBuilder(nodeConfiguration).run(args.toArray(String[]::new));
+    }
+
+    private String containerResource(String resource) {
+        String location = containerApplication.getProtectionDomain().getCodeSource().getLocation().toString();
+        return location.endsWith(".jar") ? "jar:" + location + "!/" + resource : location + resource;
+    }
+}
@@ -1,5 +1,7 @@
 package com.food.ordering.system.order.service.application.rest;
 
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderBatchResponse;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderQuery;
@@ -9,9 +11,16 @@ import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 
 @RestController
@@ -21,6 +30,7 @@ import java.util.UUID;
 @Slf4j
 public class OrderController {
     OrderApplicationService orderApplicationService;
+    OrderServiceConfigData orderServiceConfigData;
 
     @PostMapping
     public ResponseEntity<CreateOrderResponse> createOrder(@RequestBody CreateOrderCommand createOrderCommand) {
@@ -33,12 +43,61 @@ public class OrderController {
         return ResponseEntity.ok(createOrderResponse);
     }
 
+    @PostMapping("/batch")
+    public ResponseEntity<CreateOrderBatchResponse> createOrders(@RequestBody List<CreateOrderCommand>
+                                                                          createOrderCommands) {
+        log.info("Creating batch of {} orders", createOrderCommands.size());
+        CreateOrderBatchResponse createOrderBatchResponse = orderApplicationService.createOrders(createOrderCommands);
+        log.info("Created {} orders of batch, {} failed", createOrderBatchResponse.getCreatedCount(),
+                createOrderBatchResponse.getFailedCount());
+
+        return ResponseEntity.ok(createOrderBatchResponse);
+    }
+
     @GetMapping("/{trackingId}")
-    public ResponseEntity<TrackOrderResponse> getOrderByTrackingId(@PathVariable UUID trackingId) {
-        TrackOrderResponse trackOrderResponse =
-                orderApplicationService.trackOrder(TrackOrderQuery.builder().trackingId(trackingId).build());
+    public ResponseEntity<TrackOrderResponse> getOrderByTrackingId(@PathVariable UUID trackingId,
+                                                                   WebRequest webRequest) {
+        TrackOrderResponse trackOrderResponse = orderApplicationService.trackOrder(TrackOrderQuery.builder()
+                .trackingId(trackingId)
+                .build());
+        String eTag = orderStatusETag(trackOrderResponse);
+        if (webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
         log.info("Returning order status with tracking id: {}", trackOrderResponse.getOrderTrackingId());
 
-        return ResponseEntity.ok(trackOrderResponse);
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .body(trackOrderResponse);
+    }
+
+    @GetMapping(value = "/{trackingId}/status-stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamOrderStatus(@PathVariable UUID trackingId) {
+        SseEmitter sseEmitter = new SseEmitter(orderServiceConfigData.getOrderStatusStreamTimeoutMs());
+        OrderStatusEmitter orderStatusEmitter = new OrderStatusEmitter(sseEmitter);
+        Runnable unsubscribe = orderApplicationService.subscribeOrderStatus(trackingId, orderStatusEmitter::send);
+        sseEmitter.onCompletion(unsubscribe);
+        sseEmitter.onTimeout(orderStatusEmitter::complete);
+        sseEmitter.onError(throwable -> unsubscribe.run());
+        try {
+            orderStatusEmitter.send(orderApplicationService.trackOrder(TrackOrderQuery.builder()
+                    .trackingId(trackingId)
+                    .build()));
+        } catch (RuntimeException e) {
+            unsubscribe.run();
+            throw e;
+        }
+        log.info("Streaming order status with tracking id: {}", trackingId);
+
+        return sseEmitter;
+    }
+
+    private String orderStatusETag(TrackOrderResponse trackOrderResponse) {
+        return "\"" + trackOrderResponse.getOrderStatus().name() + "-" +
+                Integer.toHexString(Objects.hashCode(trackOrderResponse.getFailureMessage())) + "\"";
     }
 }
@@ -0,0 +1,51 @@
+package com.food.ordering.system.order.service.application.rest;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+
+@Slf4j
+class OrderStatusEmitter {
+
+    private static final String ORDER_STATUS_EVENT = "order-status";
+
+    private final SseEmitter sseEmitter;
+    private OrderStatus lastSentStatus;
+    private boolean completed;
+
+    OrderStatusEmitter(SseEmitter sseEmitter) {
+        this.sseEmitter = sseEmitter;
+    }
+
+    synchronized void send(TrackOrderResponse trackOrderResponse) {
+        OrderStatus orderStatus = trackOrderResponse.getOrderStatus();
+        if (completed || (lastSentStatus != null && orderStatus.ordinal() <= lastSentStatus.ordinal())) {
+            return;
+        }
+        try {
+            sseEmitter.send(SseEmitter.event()
+                    .id(orderStatus.name())
+                    .name(ORDER_STATUS_EVENT)
+                    .data(trackOrderResponse, MediaType.APPLICATION_JSON));
+            lastSentStatus = orderStatus;
+            if (orderStatus == OrderStatus.APPROVED || orderStatus == OrderStatus.CANCELLED) {
+                complete();
+            }
+        } catch (IOException e) {
+            log.debug("Order status stream for tracking id: {} is closed", trackOrderResponse.getOrderTrackingId());
+            completed = true;
+            sseEmitter.completeWithError(e);
+        }
+    }
+
+    synchronized void complete() {
+        if (!completed) {
+            completed = true;
+            sseEmitter.complete();
+        }
+    }
+}
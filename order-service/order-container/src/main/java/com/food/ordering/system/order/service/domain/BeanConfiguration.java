@@ -1,8 +1,16 @@
 package com.food.ordering.system.order.service.domain;
 
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.saga.SagaIdempotencyCache;
+import com.food.ordering.system.saga.SagaMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
+import static com.food.ordering.system.saga.order.SagaConstant.ORDER_SAGA_NAME;
+
 @Configuration
 public class BeanConfiguration {
 
@@ -10,4 +18,15 @@ public class BeanConfiguration {
     public OrderDomainService orderDomainService() {
         return new OrderDomainServiceImpl();
     }
+
+    @Bean
+    public SagaMetrics sagaMetrics(MeterRegistry meterRegistry) {
+        return new SagaMetrics(meterRegistry, ORDER_SAGA_NAME);
+    }
+
+    @Bean
+    public SagaIdempotencyCache sagaIdempotencyCache(OrderServiceConfigData orderServiceConfigData) {
+        return new SagaIdempotencyCache(orderServiceConfigData.getIdempotencyCacheMaxSize(),
+                Duration.ofSeconds(orderServiceConfigData.getIdempotencyCacheTtlSeconds()));
+    }
 }
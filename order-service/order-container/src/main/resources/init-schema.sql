@@ -18,8 +18,17 @@ CREATE TABLE "order".orders
     price numeric(10,2) NOT NULL,
     order_status order_status NOT NULL,
     failure_messages character varying COLLATE pg_catalog."default",
-    CONSTRAINT orders_pkey PRIMARY KEY (id)
-);
+    created_at timestamp WITH TIME ZONE NOT NULL,
+    CONSTRAINT orders_pkey PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+-- Tracking lookups have no created_at to prune on, so they probe this index in every live partition. The live
+-- partitions span order-archive-after-days plus order-partition-months-ahead, a handful of months, which keeps the
+-- probes cheap; a global tracking_id lookup table would cost an extra write on every order insert instead.
+CREATE UNIQUE INDEX "orders_tracking_id"
+    ON "order".orders (tracking_id, created_at);
+
+CREATE TABLE "order".orders_default PARTITION OF "order".orders DEFAULT;
 
 DROP TABLE IF EXISTS "order".order_items CASCADE;
 
@@ -31,34 +40,63 @@ CREATE TABLE "order".order_items
     price numeric(10,2) NOT NULL,
     quantity integer NOT NULL,
     sub_total numeric(10,2) NOT NULL,
-    CONSTRAINT order_items_pkey PRIMARY KEY (id, order_id)
-);
+    created_at timestamp WITH TIME ZONE NOT NULL,
+    CONSTRAINT order_items_pkey PRIMARY KEY (order_id, id, created_at)
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE "order".order_items_default PARTITION OF "order".order_items DEFAULT;
 
 ALTER TABLE "order".order_items
-    ADD CONSTRAINT "FK_ORDER_ID" FOREIGN KEY (order_id)
-    REFERENCES "order".orders (id) MATCH SIMPLE
+    ADD CONSTRAINT "FK_ORDER_ID" FOREIGN KEY (order_id, created_at)
+    REFERENCES "order".orders (id, created_at) MATCH SIMPLE
     ON UPDATE NO ACTION
-    ON DELETE CASCADE
-    NOT VALID;
+    ON DELETE CASCADE;
 
 DROP TABLE IF EXISTS "order".order_address CASCADE;
 
 CREATE TABLE "order".order_address
 (
     id uuid NOT NULL,
-    order_id uuid UNIQUE NOT NULL,
+    order_id uuid NOT NULL,
     street character varying COLLATE pg_catalog."default" NOT NULL,
     postal_code character varying COLLATE pg_catalog."default" NOT NULL,
     city character varying COLLATE pg_catalog."default" NOT NULL,
-    CONSTRAINT order_address_pkey PRIMARY KEY (id, order_id)
-);
+    created_at timestamp WITH TIME ZONE NOT NULL,
+    CONSTRAINT order_address_pkey PRIMARY KEY (id, order_id, created_at),
+    CONSTRAINT order_address_order_id_key UNIQUE (order_id, created_at)
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE "order".order_address_default PARTITION OF "order".order_address DEFAULT;
 
 ALTER TABLE "order".order_address
-    ADD CONSTRAINT "FK_ORDER_ID" FOREIGN KEY (order_id)
-    REFERENCES "order".orders (id) MATCH SIMPLE
+    ADD CONSTRAINT "FK_ORDER_ID" FOREIGN KEY (order_id, created_at)
+    REFERENCES "order".orders (id, created_at) MATCH SIMPLE
     ON UPDATE NO ACTION
-    ON DELETE CASCADE
-    NOT VALID;
+    ON DELETE CASCADE;
+
+DROP TABLE IF EXISTS "order".orders_archive CASCADE;
+
+CREATE TABLE "order".orders_archive (LIKE "order".orders);
+
+CREATE INDEX "orders_archive_created_at"
+    ON "order".orders_archive USING BRIN (created_at);
+
+CREATE INDEX "orders_archive_tracking_id"
+    ON "order".orders_archive (tracking_id);
+
+DROP TABLE IF EXISTS "order".order_items_archive CASCADE;
+
+CREATE TABLE "order".order_items_archive (LIKE "order".order_items);
+
+CREATE INDEX "order_items_archive_order_id"
+    ON "order".order_items_archive (order_id);
+
+DROP TABLE IF EXISTS "order".order_address_archive CASCADE;
+
+CREATE TABLE "order".order_address_archive (LIKE "order".order_address);
+
+CREATE INDEX "order_address_archive_order_id"
+    ON "order".order_address_archive (order_id);
 
 DROP TYPE IF EXISTS saga_status;
 CREATE TYPE saga_status AS ENUM ('STARTED', 'FAILED', 'SUCCEEDED', 'PROCESSING', 'COMPENSATING', 'COMPENSATED');
@@ -111,10 +149,24 @@ CREATE INDEX "restaurant_approval_outbox_saga_status"
 CREATE UNIQUE INDEX "restaurant_approval_outbox_saga_id"
     ON "order".restaurant_approval_outbox (type, saga_id, saga_status);
 
+DROP TABLE IF EXISTS "order".saga_state CASCADE;
+
+CREATE TABLE "order".saga_state
+(
+    saga_id uuid NOT NULL,
+    type character varying COLLATE pg_catalog."default" NOT NULL,
+    created_at timestamp WITH TIME ZONE NOT NULL,
+    processed_at timestamp WITH TIME ZONE,
+    saga_status saga_status NOT NULL,
+    order_status order_status NOT NULL,
+    version INTEGER NOT NULL,
+    CONSTRAINT saga_state_pkey PRIMARY KEY (saga_id)
+);
+
 
 DROP TABLE IF EXISTS "order".customers CASCADE;
 
-CREATE TABLE "order".customer
+CREATE TABLE "order".customers
 (
     id uuid not null,
     username character varying collate pg_catalog."default" not null,
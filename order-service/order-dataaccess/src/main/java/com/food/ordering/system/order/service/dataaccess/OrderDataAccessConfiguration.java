@@ -0,0 +1,15 @@
+package com.food.ordering.system.order.service.dataaccess;
+
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+@Profile("!in-memory")
+@EnableJpaRepositories(basePackages = {"com.food.ordering.system.order.service.dataaccess",
+        "com.food.ordering.system.dataaccess"})
+@EntityScan(basePackages = {"com.food.ordering.system.order.service.dataaccess",
+        "com.food.ordering.system.dataaccess"})
+@Configuration
+public class OrderDataAccessConfiguration {
+}
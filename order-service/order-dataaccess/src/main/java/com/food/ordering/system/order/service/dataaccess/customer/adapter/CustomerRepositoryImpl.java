@@ -2,33 +2,56 @@ package com.food.ordering.system.order.service.dataaccess.customer.adapter;
 
 import com.food.ordering.system.order.service.dataaccess.customer.mapper.CustomerDataAccessMapper;
 import com.food.ordering.system.order.service.dataaccess.customer.repository.CustomerJpaRepository;
+import com.food.ordering.system.order.service.dataaccess.sharding.OrderShardRouter;
 import com.food.ordering.system.order.service.domain.entity.Customer;
 import com.food.ordering.system.order.service.domain.ports.output.repository.CustomerRepository;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
+@Profile("!in-memory")
 @Component
 public class CustomerRepositoryImpl implements CustomerRepository {
 
     private final CustomerJpaRepository customerJpaRepository;
     private final CustomerDataAccessMapper customerDataAccessMapper;
+    private final OrderShardRouter orderShardRouter;
 
     public CustomerRepositoryImpl(CustomerJpaRepository customerJpaRepository,
-                                  CustomerDataAccessMapper customerDataAccessMapper) {
+                                  CustomerDataAccessMapper customerDataAccessMapper,
+                                  OrderShardRouter orderShardRouter) {
         this.customerJpaRepository = customerJpaRepository;
         this.customerDataAccessMapper = customerDataAccessMapper;
+        this.orderShardRouter = orderShardRouter;
     }
 
     @Override
     public Optional<Customer> findCustomer(UUID customerId) {
-        return customerJpaRepository.findById(customerId).map(customerDataAccessMapper::customerEntityToCustomer);
+        return orderShardRouter.onCustomerShard(customerId, () -> customerJpaRepository.findById(customerId)
+                .map(customerDataAccessMapper::customerEntityToCustomer));
+    }
+
+    @Override
+    public List<Customer> findCustomers(Collection<UUID> customerIds) {
+        Map<Integer, List<UUID>> customerIdsByShard = customerIds.stream()
+                .collect(Collectors.groupingBy(orderShardRouter::resolveShard));
+        return customerIdsByShard.values().stream()
+                .flatMap(shardCustomerIds -> orderShardRouter.onCustomerShard(shardCustomerIds.get(0),
+                        () -> customerJpaRepository.findAllById(shardCustomerIds)).stream())
+                .map(customerDataAccessMapper::customerEntityToCustomer)
+                .collect(Collectors.toList());
     }
 
     @Override
     public Customer save(Customer customer) {
-        return customerDataAccessMapper.customerEntityToCustomer(
-                customerJpaRepository.save(customerDataAccessMapper.customerToCustomerEntity(customer)));
+        return orderShardRouter.onCustomerShard(customer.getId().getValue(),
+                () -> customerDataAccessMapper.customerEntityToCustomer(
+                        customerJpaRepository.save(customerDataAccessMapper.customerToCustomerEntity(customer))));
     }
 }
@@ -0,0 +1,49 @@
+package com.food.ordering.system.order.service.dataaccess.customer.adapter;
+
+import com.food.ordering.system.dataaccess.inmemory.InMemoryTable;
+import com.food.ordering.system.order.service.dataaccess.customer.entity.CustomerEntity;
+import com.food.ordering.system.order.service.dataaccess.customer.mapper.CustomerDataAccessMapper;
+import com.food.ordering.system.order.service.domain.entity.Customer;
+import com.food.ordering.system.order.service.domain.ports.output.repository.CustomerRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Profile("in-memory")
+@Component
+public class InMemoryCustomerRepository implements CustomerRepository {
+
+    private final InMemoryTable<UUID, CustomerEntity> customers =
+            new InMemoryTable<>("customers", CustomerEntity::getId);
+    private final CustomerDataAccessMapper customerDataAccessMapper;
+
+    public InMemoryCustomerRepository(CustomerDataAccessMapper customerDataAccessMapper) {
+        this.customerDataAccessMapper = customerDataAccessMapper;
+    }
+
+    @Override
+    public Optional<Customer> findCustomer(UUID customerId) {
+        return customers.findById(customerId).map(customerDataAccessMapper::customerEntityToCustomer);
+    }
+
+    @Override
+    public List<Customer> findCustomers(Collection<UUID> customerIds) {
+        return customerIds.stream()
+                .distinct()
+                .map(customers::findById)
+                .flatMap(Optional::stream)
+                .map(customerDataAccessMapper::customerEntityToCustomer)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Customer save(Customer customer) {
+        return customerDataAccessMapper.customerEntityToCustomer(
+                customers.save(customerDataAccessMapper.customerToCustomerEntity(customer)));
+    }
+}
@@ -0,0 +1,133 @@
+package com.food.ordering.system.order.service.dataaccess.order.adapter;
+
+import com.food.ordering.system.dataaccess.inmemory.InMemoryTable;
+import com.food.ordering.system.domain.valueobject.OrderId;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.dataaccess.order.entity.OrderEntity;
+import com.food.ordering.system.order.service.dataaccess.order.mapper.OrderAccessMapper;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderArchiveRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.ZonedDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Profile("in-memory")
+@Component
+public class InMemoryOrderRepository implements OrderRepository, OrderArchiveRepository {
+
+    private final InMemoryTable<UUID, OrderEntity> orders = new InMemoryTable<>("orders",
+            OrderEntity::getId,
+            orderEntity -> List.of(orderEntity.getTrackingId(), orderEntity.getCreatedAt()),
+            OrderEntity::getTrackingId,
+            null,
+            null);
+    private final InMemoryTable<UUID, OrderEntity> archivedOrders = new InMemoryTable<>("orders_archive",
+            OrderEntity::getId,
+            null,
+            OrderEntity::getTrackingId,
+            null,
+            null);
+    private final OrderAccessMapper orderAccessMapper;
+
+    public InMemoryOrderRepository(OrderAccessMapper orderAccessMapper) {
+        this.orderAccessMapper = orderAccessMapper;
+    }
+
+    @Override
+    public Order save(Order order) {
+        return orderAccessMapper.orderEntityToOrder(orders.save(orderAccessMapper.orderToOrderEntity(order)));
+    }
+
+    @Override
+    public Order insert(Order order) {
+        return orderAccessMapper.orderEntityToOrder(orders.insert(orderAccessMapper.orderToOrderEntity(order)));
+    }
+
+    @Override
+    public boolean updateStatus(OrderId orderId,
+                                OrderStatus expectedStatus,
+                                OrderStatus newStatus,
+                                List<String> failureMessages) {
+        return orders.update(orderId.getValue(),
+                orderEntity -> orderEntity.getOrderStatus() == expectedStatus,
+                orderEntity -> {
+                    OrderEntity updated =
+                            orderAccessMapper.orderToOrderEntity(orderAccessMapper.orderEntityToOrder(orderEntity));
+                    updated.setOrderStatus(newStatus);
+                    updated.setFailureMessages(orderAccessMapper.failureMessagesToString(failureMessages));
+                    return updated;
+                });
+    }
+
+    @Override
+    public Optional<Order> findByTrackingId(TrackingId trackingId) {
+        return findEntityByTrackingId(trackingId).map(orderAccessMapper::orderEntityToOrder);
+    }
+
+    @Override
+    public Optional<TrackOrderResponse> findTrackingByTrackingId(TrackingId trackingId) {
+        return findEntityByTrackingId(trackingId).map(this::orderEntityToTrackOrderResponse);
+    }
+
+    @Override
+    public Optional<Order> findById(OrderId orderId) {
+        return orders.findById(orderId.getValue()).map(orderAccessMapper::orderEntityToOrder);
+    }
+
+    @Override
+    public Optional<Order> findSagaViewById(OrderId orderId) {
+        return findById(orderId);
+    }
+
+    @Override
+    public void preparePartitions(ZonedDateTime until) {
+    }
+
+    @Override
+    public int archiveOrders(List<OrderStatus> orderStatuses, ZonedDateTime createdBefore, int batchSize) {
+        List<OrderEntity> batch = orders.findAll(orderEntity -> orderStatuses.contains(orderEntity.getOrderStatus())
+                        && orderEntity.getCreatedAt().isBefore(createdBefore))
+                .stream()
+                .limit(batchSize)
+                .collect(Collectors.toList());
+        Set<UUID> orderIds = batch.stream().map(OrderEntity::getId).collect(Collectors.toSet());
+        orders.deleteAll(orderEntity -> orderIds.contains(orderEntity.getId()));
+        archivedOrders.insertAll(batch);
+        return batch.size();
+    }
+
+    @Override
+    public int dropEmptyPartitions(ZonedDateTime createdBefore) {
+        return 0;
+    }
+
+    @Override
+    public Optional<TrackOrderResponse> findArchivedTrackingByTrackingId(TrackingId trackingId) {
+        return archivedOrders.findAllByIndex(trackingId.getValue()).stream()
+                .max(Comparator.comparing(OrderEntity::getCreatedAt))
+                .map(this::orderEntityToTrackOrderResponse);
+    }
+
+    private Optional<OrderEntity> findEntityByTrackingId(TrackingId trackingId) {
+        return orders.findAllByIndex(trackingId.getValue()).stream()
+                .max(Comparator.comparing(OrderEntity::getCreatedAt));
+    }
+
+    private TrackOrderResponse orderEntityToTrackOrderResponse(OrderEntity orderEntity) {
+        return TrackOrderResponse.builder()
+                .orderTrackingId(orderEntity.getTrackingId())
+                .orderStatus(orderEntity.getOrderStatus())
+                .failureMessage(orderAccessMapper.failureMessagesToList(orderEntity.getFailureMessages()))
+                .build();
+    }
+}
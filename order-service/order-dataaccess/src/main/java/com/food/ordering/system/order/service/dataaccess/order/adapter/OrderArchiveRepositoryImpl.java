@@ -0,0 +1,183 @@
+package com.food.ordering.system.order.service.dataaccess.order.adapter;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.dataaccess.order.mapper.OrderAccessMapper;
+import com.food.ordering.system.order.service.dataaccess.sharding.OrderShardRouter;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderArchiveRepository;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Profile("!in-memory")
+@Component
+public class OrderArchiveRepositoryImpl implements OrderArchiveRepository {
+
+    private static final List<String> PARTITIONED_TABLES = List.of("orders", "order_items", "order_address");
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("'p'yyyy_MM");
+    private static final Pattern ORDER_PARTITION = Pattern.compile("orders_p(\\d{4})_(\\d{2})");
+
+    private static final String ARCHIVE_ORDERS = "WITH batch AS (" +
+            "SELECT id, created_at FROM \"order\".orders " +
+            "WHERE order_status IN (:orderStatuses) AND created_at < :createdBefore " +
+            "ORDER BY created_at LIMIT :batchSize FOR UPDATE SKIP LOCKED), " +
+            "archived_items AS (DELETE FROM \"order\".order_items i USING batch b " +
+            "WHERE i.order_id = b.id AND i.created_at = b.created_at RETURNING i.*), " +
+            "archived_addresses AS (DELETE FROM \"order\".order_address a USING batch b " +
+            "WHERE a.order_id = b.id AND a.created_at = b.created_at RETURNING a.*), " +
+            "archived_orders AS (DELETE FROM \"order\".orders o USING batch b " +
+            "WHERE o.id = b.id AND o.created_at = b.created_at RETURNING o.*), " +
+            "inserted_items AS (INSERT INTO \"order\".order_items_archive SELECT * FROM archived_items), " +
+            "inserted_addresses AS (INSERT INTO \"order\".order_address_archive SELECT * FROM archived_addresses) " +
+            "INSERT INTO \"order\".orders_archive SELECT * FROM archived_orders";
+
+    private static final String ORDER_PARTITIONS = "SELECT c.relname FROM pg_inherits i " +
+            "JOIN pg_class c ON c.oid = i.inhrelid " +
+            "JOIN pg_class p ON p.oid = i.inhparent " +
+            "JOIN pg_namespace n ON n.oid = p.relnamespace " +
+            "WHERE n.nspname = 'order' AND p.relname = 'orders'";
+
+    private static final String ARCHIVED_TRACKING = "SELECT tracking_id, order_status, failure_messages " +
+            "FROM \"order\".orders_archive WHERE tracking_id = :trackingId ORDER BY created_at DESC LIMIT 1";
+
+    // every instance runs the maintenance jobs, the transaction scoped advisory lock lets one of them at a time
+    // change the partitions of a shard
+    private static final String LOCK_PARTITIONS = "SELECT pg_advisory_xact_lock(hashtext('order_partitions'))";
+    private static final String TRY_LOCK_PARTITIONS =
+            "SELECT pg_try_advisory_xact_lock(hashtext('order_partitions'))";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final OrderShardRouter orderShardRouter;
+    private final OrderAccessMapper orderAccessMapper;
+    private final TransactionTemplate transactionTemplate;
+
+    public OrderArchiveRepositoryImpl(NamedParameterJdbcTemplate jdbcTemplate,
+                                      OrderShardRouter orderShardRouter,
+                                      OrderAccessMapper orderAccessMapper,
+                                      PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.orderShardRouter = orderShardRouter;
+        this.orderAccessMapper = orderAccessMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public void preparePartitions(ZonedDateTime until) {
+        YearMonth firstMonth = YearMonth.now(ZoneOffset.UTC);
+        YearMonth lastMonth = YearMonth.from(until.withZoneSameInstant(ZoneOffset.UTC));
+        // waits for the lock instead of skipping, so no instance starts before the partitions exist
+        orderShardRouter.runOnEveryShard(() -> transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.getJdbcOperations().execute(LOCK_PARTITIONS);
+            for (YearMonth month = firstMonth; !month.isAfter(lastMonth); month = month.plusMonths(1)) {
+                createPartitions(month);
+            }
+        }));
+    }
+
+    @Override
+    public int archiveOrders(List<OrderStatus> orderStatuses, ZonedDateTime createdBefore, int batchSize) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource()
+                .addValue("orderStatuses", orderStatuses.stream().map(OrderStatus::name).collect(Collectors.toList()))
+                .addValue("createdBefore", createdBefore.toOffsetDateTime())
+                .addValue("batchSize", batchSize);
+        return orderShardRouter.onEveryShard(() -> ifPartitionsLocked(() ->
+                        List.of(jdbcTemplate.update(ARCHIVE_ORDERS, parameters))))
+                .stream()
+                .mapToInt(Integer::intValue)
+                .sum();
+    }
+
+    @Override
+    public int dropEmptyPartitions(ZonedDateTime createdBefore) {
+        YearMonth firstLiveMonth = YearMonth.from(createdBefore.withZoneSameInstant(ZoneOffset.UTC));
+        return orderShardRouter.onEveryShard(() -> ifPartitionsLocked(() ->
+                        jdbcTemplate.queryForList(ORDER_PARTITIONS, Map.of(), String.class)
+                                .stream()
+                                .map(ORDER_PARTITION::matcher)
+                                .filter(Matcher::matches)
+                                .map(matcher -> YearMonth.of(Integer.parseInt(matcher.group(1)),
+                                        Integer.parseInt(matcher.group(2))))
+                                .filter(month -> month.isBefore(firstLiveMonth))
+                                .filter(this::dropPartitionsIfEmpty)
+                                .collect(Collectors.toList())))
+                .size();
+    }
+
+    @Override
+    public Optional<TrackOrderResponse> findArchivedTrackingByTrackingId(TrackingId trackingId) {
+        return orderShardRouter.onShardOf(trackingId.getValue(), () -> jdbcTemplate.query(ARCHIVED_TRACKING,
+                        new MapSqlParameterSource("trackingId", trackingId.getValue()),
+                        (resultSet, rowNum) -> TrackOrderResponse.builder()
+                                .orderTrackingId(resultSet.getObject("tracking_id", UUID.class))
+                                .orderStatus(OrderStatus.valueOf(resultSet.getString("order_status")))
+                                .failureMessage(orderAccessMapper.failureMessagesToList(
+                                        resultSet.getString("failure_messages")))
+                                .build())
+                .stream()
+                .findFirst());
+    }
+
+    private <T> List<T> ifPartitionsLocked(Supplier<List<T>> work) {
+        return transactionTemplate.execute(status -> {
+            Boolean locked = jdbcTemplate.getJdbcOperations().queryForObject(TRY_LOCK_PARTITIONS, Boolean.class);
+            if (!Boolean.TRUE.equals(locked)) {
+                log.info("Order partitions are maintained by another instance, skipping this run");
+                return List.of();
+            }
+            return work.get();
+        });
+    }
+
+    private void createPartitions(YearMonth month) {
+        String from = month.atDay(1).atStartOfDay().atOffset(ZoneOffset.UTC).toString();
+        String to = month.plusMonths(1).atDay(1).atStartOfDay().atOffset(ZoneOffset.UTC).toString();
+        for (String table : PARTITIONED_TABLES) {
+            Boolean defaultPartitionHasRows = jdbcTemplate.getJdbcOperations().queryForObject(String.format(
+                    "SELECT EXISTS (SELECT 1 FROM \"order\".%s_default WHERE created_at >= '%s' AND created_at < '%s')",
+                    table, from, to), Boolean.class);
+            if (Boolean.TRUE.equals(defaultPartitionHasRows)) {
+                log.warn("Could not create partition of {} for {}, the default partition already holds its rows",
+                        table, month);
+                continue;
+            }
+            jdbcTemplate.getJdbcOperations().execute(String.format("CREATE TABLE IF NOT EXISTS " +
+                            "\"order\".%s_%s PARTITION OF \"order\".%s FOR VALUES FROM ('%s') TO ('%s')",
+                    table, PARTITION_SUFFIX.format(month), table, from, to));
+        }
+    }
+
+    private boolean dropPartitionsIfEmpty(YearMonth month) {
+        String suffix = PARTITION_SUFFIX.format(month);
+        Boolean empty = jdbcTemplate.getJdbcOperations().queryForObject(String.format(
+                "SELECT NOT EXISTS (SELECT 1 FROM \"order\".orders_%s)", suffix), Boolean.class);
+        if (!Boolean.TRUE.equals(empty)) {
+            return false;
+        }
+        jdbcTemplate.getJdbcOperations().execute(String.format(
+                "DROP TABLE IF EXISTS \"order\".order_items_%s, \"order\".order_address_%s", suffix, suffix));
+        jdbcTemplate.getJdbcOperations().execute(String.format(
+                "ALTER TABLE \"order\".orders DETACH PARTITION \"order\".orders_%s", suffix));
+        jdbcTemplate.getJdbcOperations().execute(String.format("DROP TABLE \"order\".orders_%s", suffix));
+        log.info("Dropped empty order partitions for {}", month);
+        return true;
+    }
+}
@@ -1,42 +1,87 @@
 package com.food.ordering.system.order.service.dataaccess.order.adapter;
 
 import com.food.ordering.system.domain.valueobject.OrderId;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
 import com.food.ordering.system.order.service.dataaccess.order.entity.OrderEntity;
 import com.food.ordering.system.order.service.dataaccess.order.mapper.OrderAccessMapper;
 import com.food.ordering.system.order.service.dataaccess.order.repository.OrderJpaRepository;
+import com.food.ordering.system.order.service.dataaccess.sharding.OrderShardRouter;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
 import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.experimental.FieldDefaults;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+@Profile("!in-memory")
 @Component
 @FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
 @AllArgsConstructor
 public class OrderRepositoryImpl implements OrderRepository {
     OrderJpaRepository orderJpaRepository;
     OrderAccessMapper orderAccessMapper;
+    OrderShardRouter orderShardRouter;
 
     @Override
     public Order save(Order order) {
-        OrderEntity savedOrderEntity = orderJpaRepository.save(orderAccessMapper.orderToOrderEntity(order));
-        return orderAccessMapper.orderEntityToOrder(savedOrderEntity);
+        return orderShardRouter.onCustomerShard(order.getCustomerId().getValue(), () -> {
+            OrderEntity savedOrderEntity = orderJpaRepository.save(orderAccessMapper.orderToOrderEntity(order));
+            return orderAccessMapper.orderEntityToOrder(savedOrderEntity);
+        });
+    }
+
+    @Override
+    public Order insert(Order order) {
+        OrderEntity orderEntity = orderAccessMapper.orderToOrderEntity(order);
+        orderEntity.setNewEntity(true);
+        return orderShardRouter.onCustomerShard(order.getCustomerId().getValue(),
+                () -> orderAccessMapper.orderEntityToOrder(orderJpaRepository.save(orderEntity)));
+    }
+
+    @Override
+    public boolean updateStatus(OrderId orderId,
+                                OrderStatus expectedStatus,
+                                OrderStatus newStatus,
+                                List<String> failureMessages) {
+        return orderShardRouter.onShardOf(orderId.getValue(),
+                () -> orderJpaRepository.updateStatus(orderId.getValue(), expectedStatus, newStatus,
+                        orderAccessMapper.failureMessagesToString(failureMessages)) == 1);
     }
 
     @Override
     public Optional<Order> findByTrackingId(TrackingId trackingId) {
-        return orderJpaRepository.findByTrackingId(trackingId.getValue())
-                .map(orderAccessMapper::orderEntityToOrder);
+        return orderShardRouter.onShardOf(trackingId.getValue(),
+                () -> orderJpaRepository.findFirstByTrackingIdOrderByCreatedAtDesc(trackingId.getValue())
+                        .map(orderAccessMapper::orderEntityToOrder));
+    }
+
+    @Override
+    public Optional<TrackOrderResponse> findTrackingByTrackingId(TrackingId trackingId) {
+        return orderShardRouter.onShardOf(trackingId.getValue(),
+                () -> orderJpaRepository.findTrackingByTrackingId(trackingId.getValue())
+                        .stream()
+                        .findFirst()
+                        .map(orderAccessMapper::orderTrackingProjectionToTrackOrderResponse));
     }
 
     @Override
     public Optional<Order> findById(OrderId orderId) {
-        return orderJpaRepository.findById(orderId.getValue())
-                .map(orderAccessMapper::orderEntityToOrder);
+        return orderShardRouter.onShardOf(orderId.getValue(),
+                () -> orderJpaRepository.findById(orderId.getValue())
+                        .map(orderAccessMapper::orderEntityToOrder));
+    }
+
+    @Override
+    public Optional<Order> findSagaViewById(OrderId orderId) {
+        return orderShardRouter.onShardOf(orderId.getValue(),
+                () -> orderJpaRepository.findSagaViewById(orderId.getValue())
+                        .map(orderAccessMapper::orderSagaProjectionToOrder));
     }
 }
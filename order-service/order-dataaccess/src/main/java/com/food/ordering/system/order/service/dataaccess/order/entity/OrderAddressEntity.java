@@ -3,6 +3,7 @@ package com.food.ordering.system.order.service.dataaccess.order.entity;
 import lombok.*;
 
 import javax.persistence.*;
+import java.time.ZonedDateTime;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -24,17 +25,19 @@ public class OrderAddressEntity {
     private String street;
     private String postalCode;
     private String city;
+    @Column(updatable = false)
+    private ZonedDateTime createdAt;
 
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         OrderAddressEntity that = (OrderAddressEntity) o;
-        return Objects.equals(id, that.id) && Objects.equals(order, that.order) && Objects.equals(street, that.street) && Objects.equals(postalCode, that.postalCode) && Objects.equals(city, that.city);
+        return id.equals(that.id);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, order, street, postalCode, city);
+        return Objects.hash(id);
     }
 }
@@ -2,9 +2,11 @@ package com.food.ordering.system.order.service.dataaccess.order.entity;
 
 import com.food.ordering.system.domain.valueobject.OrderStatus;
 import lombok.*;
+import org.springframework.data.domain.Persistable;
 
 import javax.persistence.*;
 import java.math.BigDecimal;
+import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
@@ -17,7 +19,7 @@ import java.util.UUID;
 @NoArgsConstructor
 @Entity
 @Table(name = "orders")
-public class OrderEntity {
+public class OrderEntity implements Persistable<UUID> {
     @Id
     private UUID id;
     private UUID customerId;
@@ -27,6 +29,8 @@ public class OrderEntity {
     @Enumerated(EnumType.STRING)
     private OrderStatus orderStatus;
     private String failureMessages;
+    @Column(updatable = false)
+    private ZonedDateTime createdAt;
 
     @OneToOne(mappedBy = "order", cascade = CascadeType.ALL)
     private OrderAddressEntity address;
@@ -34,16 +38,30 @@ public class OrderEntity {
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL)
     private List<OrderItemEntity> items;
 
+    @Transient
+    private boolean newEntity;
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         OrderEntity that = (OrderEntity) o;
-        return Objects.equals(id, that.id) && Objects.equals(customerId, that.customerId) && Objects.equals(restaurantId, that.restaurantId) && Objects.equals(trackingId, that.trackingId) && Objects.equals(price, that.price) && orderStatus == that.orderStatus && Objects.equals(failureMessages, that.failureMessages) && Objects.equals(address, that.address) && Objects.equals(items, that.items);
+        return id.equals(that.id);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, customerId, restaurantId, trackingId, price, orderStatus, failureMessages, address, items);
+        return Objects.hash(id);
     }
 }
@@ -4,6 +4,7 @@ import lombok.*;
 
 import javax.persistence.*;
 import java.math.BigDecimal;
+import java.time.ZonedDateTime;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -28,17 +29,19 @@ public class OrderItemEntity {
     private BigDecimal price;
     private Integer quantity;
     private BigDecimal subTotal;
+    @Column(updatable = false)
+    private ZonedDateTime createdAt;
 
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         OrderItemEntity that = (OrderItemEntity) o;
-        return Objects.equals(id, that.id) && Objects.equals(order, that.order) && Objects.equals(productId, that.productId) && Objects.equals(price, that.price) && Objects.equals(quantity, that.quantity) && Objects.equals(subTotal, that.subTotal);
+        return id.equals(that.id) && order.equals(that.order);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, order, productId, price, quantity, subTotal);
+        return Objects.hash(id, order);
     }
 }
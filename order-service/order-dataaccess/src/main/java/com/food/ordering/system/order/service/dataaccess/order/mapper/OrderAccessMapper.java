@@ -4,6 +4,9 @@ import com.food.ordering.system.domain.valueobject.*;
 import com.food.ordering.system.order.service.dataaccess.order.entity.OrderAddressEntity;
 import com.food.ordering.system.order.service.dataaccess.order.entity.OrderEntity;
 import com.food.ordering.system.order.service.dataaccess.order.entity.OrderItemEntity;
+import com.food.ordering.system.order.service.dataaccess.order.projection.OrderSagaProjection;
+import com.food.ordering.system.order.service.dataaccess.order.projection.OrderTrackingProjection;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.entity.OrderItem;
 import com.food.ordering.system.order.service.domain.entity.Product;
@@ -16,6 +19,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 import static com.food.ordering.system.order.service.domain.entity.Order.FAILURE_MESSAGE_DELIMITER;
@@ -23,6 +27,8 @@ import static com.food.ordering.system.order.service.domain.entity.Order.FAILURE
 @Component
 public class OrderAccessMapper {
 
+    private static final String NOTIFICATION_DELIMITER = ";";
+
     public OrderEntity orderToOrderEntity(Order order) {
         OrderEntity orderEntity = OrderEntity.builder()
                 .id(order.getId().getValue())
@@ -33,13 +39,16 @@ public class OrderAccessMapper {
                 .price(order.getPrice().getAmount())
                 .items(orderItemToOrderItemsEntities(order.getItems()))
                 .orderStatus(order.getOrderStatus())
-                .failureMessages(order.getFailureMessages() != null
-                        ? String.join(FAILURE_MESSAGE_DELIMITER, order.getFailureMessages())
-                        :  "")
+                .failureMessages(failureMessagesToString(order.getFailureMessages()))
+                .createdAt(order.getCreatedAt())
                 .build();
 
         orderEntity.getAddress().setOrder(orderEntity);
-        orderEntity.getItems().forEach(orderItemEntity -> orderItemEntity.setOrder(orderEntity));
+        orderEntity.getAddress().setCreatedAt(order.getCreatedAt());
+        orderEntity.getItems().forEach(orderItemEntity -> {
+            orderItemEntity.setOrder(orderEntity);
+            orderItemEntity.setCreatedAt(order.getCreatedAt());
+        });
 
         return orderEntity;
     }
@@ -54,10 +63,43 @@ public class OrderAccessMapper {
                 .price(new Money(orderEntity.getPrice()))
                 .trackingId(new TrackingId(orderEntity.getTrackingId()))
                 .orderStatus(orderEntity.getOrderStatus())
-                .failureMessages(orderEntity.getFailureMessages().isEmpty() ?
+                .failureMessages(failureMessagesToList(orderEntity.getFailureMessages()))
+                .createdAt(orderEntity.getCreatedAt())
+                .build();
+    }
+
+    public Order orderSagaProjectionToOrder(OrderSagaProjection orderSagaProjection) {
+        return Order.Builder.builder()
+                .id(new OrderId(orderSagaProjection.getId()))
+                .customerId(new CustomerId(orderSagaProjection.getCustomerId()))
+                .restaurantId(new RestaurantId(orderSagaProjection.getRestaurantId()))
+                .price(new Money(orderSagaProjection.getPrice()))
+                .trackingId(new TrackingId(orderSagaProjection.getTrackingId()))
+                .orderStatus(orderSagaProjection.getOrderStatus())
+                .failureMessages(failureMessagesToList(orderSagaProjection.getFailureMessages()))
+                .build();
+    }
+
+    public String failureMessagesToString(List<String> failureMessages) {
+        return failureMessages != null
+                ? String.join(FAILURE_MESSAGE_DELIMITER, failureMessages)
+                : "";
+    }
+
+    public List<String> failureMessagesToList(String failureMessages) {
+        return failureMessages == null || failureMessages.isEmpty()
+                ? new ArrayList<>()
+                : new ArrayList<>(Arrays.asList(failureMessages.split(FAILURE_MESSAGE_DELIMITER)));
+    }
+
+    public TrackOrderResponse orderTrackingProjectionToTrackOrderResponse(OrderTrackingProjection orderTrackingProjection) {
+        String failureMessages = orderTrackingProjection.getFailureMessages();
+        return TrackOrderResponse.builder()
+                .orderTrackingId(orderTrackingProjection.getTrackingId())
+                .orderStatus(orderTrackingProjection.getOrderStatus())
+                .failureMessage(failureMessages == null || failureMessages.isEmpty() ?
                         Collections.emptyList()
-                        : new ArrayList<>(Arrays.asList(orderEntity.getFailureMessages().split(FAILURE_MESSAGE_DELIMITER)))
-                )
+                        : Arrays.asList(failureMessages.split(FAILURE_MESSAGE_DELIMITER)))
                 .build();
     }
 
@@ -100,4 +142,19 @@ public class OrderAccessMapper {
                 address.getPostalCode(),
                 address.getCity());
     }
+
+    public String trackOrderResponseToNotification(TrackOrderResponse trackOrderResponse) {
+        return trackOrderResponse.getOrderTrackingId() + NOTIFICATION_DELIMITER +
+                trackOrderResponse.getOrderStatus().name() + NOTIFICATION_DELIMITER +
+                failureMessagesToString(trackOrderResponse.getFailureMessage());
+    }
+
+    public TrackOrderResponse notificationToTrackOrderResponse(String notification) {
+        String[] fields = notification.split(NOTIFICATION_DELIMITER, 3);
+        return TrackOrderResponse.builder()
+                .orderTrackingId(UUID.fromString(fields[0]))
+                .orderStatus(OrderStatus.valueOf(fields[1]))
+                .failureMessage(failureMessagesToList(fields[2]))
+                .build();
+    }
 }
@@ -0,0 +1,16 @@
+package com.food.ordering.system.order.service.dataaccess.order.projection;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+public interface OrderSagaProjection {
+    UUID getId();
+    UUID getCustomerId();
+    UUID getRestaurantId();
+    UUID getTrackingId();
+    BigDecimal getPrice();
+    OrderStatus getOrderStatus();
+    String getFailureMessages();
+}
@@ -0,0 +1,11 @@
+package com.food.ordering.system.order.service.dataaccess.order.projection;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+
+import java.util.UUID;
+
+public interface OrderTrackingProjection {
+    UUID getTrackingId();
+    OrderStatus getOrderStatus();
+    String getFailureMessages();
+}
@@ -1,14 +1,38 @@
 package com.food.ordering.system.order.service.dataaccess.order.repository;
 
+import com.food.ordering.system.domain.valueobject.OrderStatus;
 import com.food.ordering.system.order.service.dataaccess.order.entity.OrderEntity;
+import com.food.ordering.system.order.service.dataaccess.order.projection.OrderSagaProjection;
+import com.food.ordering.system.order.service.dataaccess.order.projection.OrderTrackingProjection;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface OrderJpaRepository extends JpaRepository<OrderEntity, UUID> {
 
-    Optional<OrderEntity> findByTrackingId(UUID tracking);
+    Optional<OrderEntity> findFirstByTrackingIdOrderByCreatedAtDesc(UUID tracking);
+
+    @Query("select o.trackingId as trackingId, o.orderStatus as orderStatus, o.failureMessages as failureMessages " +
+            "from OrderEntity o where o.trackingId = :trackingId order by o.createdAt desc")
+    List<OrderTrackingProjection> findTrackingByTrackingId(@Param("trackingId") UUID trackingId);
+
+    @Query("select o.id as id, o.customerId as customerId, o.restaurantId as restaurantId, " +
+            "o.trackingId as trackingId, o.price as price, o.orderStatus as orderStatus, " +
+            "o.failureMessages as failureMessages from OrderEntity o where o.id = :id")
+    Optional<OrderSagaProjection> findSagaViewById(@Param("id") UUID id);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update OrderEntity o set o.orderStatus = :newStatus, o.failureMessages = :failureMessages " +
+            "where o.id = :id and o.orderStatus = :expectedStatus")
+    int updateStatus(@Param("id") UUID id,
+                     @Param("expectedStatus") OrderStatus expectedStatus,
+                     @Param("newStatus") OrderStatus newStatus,
+                     @Param("failureMessages") String failureMessages);
 }
@@ -0,0 +1,34 @@
+package com.food.ordering.system.order.service.dataaccess.orderstatus.adapter;
+
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.ports.input.message.listener.orderstatus.OrderStatusChangedMessageListener;
+import com.food.ordering.system.order.service.domain.ports.output.message.publisher.orderstatus.OrderStatusChangedMessagePublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Profile("in-memory")
+@Component
+public class InMemoryOrderStatusChangedPublisher implements OrderStatusChangedMessagePublisher {
+
+    private final OrderStatusChangedMessageListener orderStatusChangedMessageListener;
+
+    public InMemoryOrderStatusChangedPublisher(OrderStatusChangedMessageListener orderStatusChangedMessageListener) {
+        this.orderStatusChangedMessageListener = orderStatusChangedMessageListener;
+    }
+
+    @Override
+    public void publish(TrackOrderResponse trackOrderResponse) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            orderStatusChangedMessageListener.orderStatusChanged(trackOrderResponse);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                orderStatusChangedMessageListener.orderStatusChanged(trackOrderResponse);
+            }
+        });
+    }
+}
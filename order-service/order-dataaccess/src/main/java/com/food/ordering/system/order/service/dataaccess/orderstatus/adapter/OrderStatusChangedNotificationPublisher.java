@@ -0,0 +1,63 @@
+package com.food.ordering.system.order.service.dataaccess.orderstatus.adapter;
+
+import com.food.ordering.system.order.service.dataaccess.order.mapper.OrderAccessMapper;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.ports.output.message.publisher.orderstatus.OrderStatusChangedMessagePublisher;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.food.ordering.system.order.service.dataaccess.orderstatus.listener.OrderStatusNotificationListener.ORDER_STATUS_CHANNEL;
+
+@Slf4j
+@Profile("!in-memory")
+@Component
+public class OrderStatusChangedNotificationPublisher implements OrderStatusChangedMessagePublisher {
+
+    private static final String NOTIFY_ORDER_STATUS = "SELECT pg_notify(:channel, :payload)";
+    private static final int MAX_PAYLOAD_BYTES = 7_999;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final OrderAccessMapper orderAccessMapper;
+
+    public OrderStatusChangedNotificationPublisher(NamedParameterJdbcTemplate jdbcTemplate,
+                                                   OrderAccessMapper orderAccessMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.orderAccessMapper = orderAccessMapper;
+    }
+
+    @Override
+    public void publish(TrackOrderResponse trackOrderResponse) {
+        // postgres queues the notification with the transaction and only delivers it on commit
+        jdbcTemplate.queryForList(NOTIFY_ORDER_STATUS, new MapSqlParameterSource()
+                .addValue("channel", ORDER_STATUS_CHANNEL)
+                .addValue("payload", toPayload(trackOrderResponse)));
+    }
+
+    private String toPayload(TrackOrderResponse trackOrderResponse) {
+        String payload = orderAccessMapper.trackOrderResponseToNotification(trackOrderResponse);
+        List<String> failureMessages = trackOrderResponse.getFailureMessage() == null ?
+                new ArrayList<>() : new ArrayList<>(trackOrderResponse.getFailureMessage());
+        while (payload.getBytes(StandardCharsets.UTF_8).length > MAX_PAYLOAD_BYTES && !failureMessages.isEmpty()) {
+            failureMessages.remove(failureMessages.size() - 1);
+            payload = orderAccessMapper.trackOrderResponseToNotification(TrackOrderResponse.builder()
+                    .orderTrackingId(trackOrderResponse.getOrderTrackingId())
+                    .orderStatus(trackOrderResponse.getOrderStatus())
+                    .failureMessage(failureMessages)
+                    .build());
+        }
+        if (trackOrderResponse.getFailureMessage() != null &&
+                failureMessages.size() < trackOrderResponse.getFailureMessage().size()) {
+            log.warn("Order status notification of tracking id: {} is too large, sending {} of {} failure messages",
+                    trackOrderResponse.getOrderTrackingId(), failureMessages.size(),
+                    trackOrderResponse.getFailureMessage().size());
+        }
+        return payload;
+    }
+}
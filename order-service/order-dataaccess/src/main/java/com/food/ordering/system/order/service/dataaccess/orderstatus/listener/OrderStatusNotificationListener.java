@@ -0,0 +1,115 @@
+package com.food.ordering.system.order.service.dataaccess.orderstatus.listener;
+
+import com.food.ordering.system.dataaccess.sharding.ShardingConfigData;
+import com.food.ordering.system.order.service.dataaccess.order.mapper.OrderAccessMapper;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.ports.input.message.listener.orderstatus.OrderStatusChangedMessageListener;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Profile("!in-memory")
+@Component
+public class OrderStatusNotificationListener implements DisposableBean {
+
+    public static final String ORDER_STATUS_CHANNEL = "order_status";
+
+    private final OrderStatusChangedMessageListener orderStatusChangedMessageListener;
+    private final OrderAccessMapper orderAccessMapper;
+    private final DataSourceProperties dataSourceProperties;
+    private final int pollTimeoutMs;
+    private final long reconnectMs;
+    private final List<Thread> listeners = new ArrayList<>();
+    private volatile boolean running = true;
+
+    public OrderStatusNotificationListener(OrderStatusChangedMessageListener orderStatusChangedMessageListener,
+                                           OrderAccessMapper orderAccessMapper,
+                                           DataSourceProperties dataSourceProperties,
+                                           ShardingConfigData shardingConfigData,
+                                           OrderServiceConfigData orderServiceConfigData) {
+        this.orderStatusChangedMessageListener = orderStatusChangedMessageListener;
+        this.orderAccessMapper = orderAccessMapper;
+        this.dataSourceProperties = dataSourceProperties;
+        this.pollTimeoutMs = (int) orderServiceConfigData.getOrderStatusNotificationPollMs();
+        this.reconnectMs = orderServiceConfigData.getOrderStatusNotificationReconnectMs();
+        // a status change is notified on the shard of its order, so every shard is listened to
+        List<String> urls = Boolean.TRUE.equals(shardingConfigData.getEnabled()) &&
+                !shardingConfigData.getShardUrls().isEmpty() ?
+                shardingConfigData.getShardUrls() : List.of(dataSourceProperties.determineUrl());
+        for (int shard = 0; shard < urls.size(); shard++) {
+            String url = urls.get(shard);
+            Thread listener = new Thread(() -> listen(url), "order-status-listener-" + shard);
+            listener.setDaemon(true);
+            listeners.add(listener);
+        }
+        listeners.forEach(Thread::start);
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        for (Thread listener : listeners) {
+            listener.interrupt();
+            listener.join(TimeUnit.SECONDS.toMillis(5));
+        }
+    }
+
+    private void listen(String url) {
+        while (running) {
+            try (Connection connection = DriverManager.getConnection(url,
+                    dataSourceProperties.determineUsername(), dataSourceProperties.determinePassword())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + ORDER_STATUS_CHANNEL);
+                }
+                // changes committed while this instance was not listening are lost, drop what they could make stale
+                orderStatusChangedMessageListener.orderStatusChangesMissed();
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(pollTimeoutMs);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            dispatch(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (running) {
+                    log.warn("Order status notification listener lost its connection, reconnecting in {} ms: {}",
+                            reconnectMs, e.getMessage());
+                    sleep();
+                }
+            }
+        }
+    }
+
+    private void dispatch(String payload) {
+        try {
+            orderStatusChangedMessageListener.orderStatusChanged(
+                    orderAccessMapper.notificationToTrackOrderResponse(payload));
+        } catch (RuntimeException e) {
+            log.error("Could not apply order status notification: {}", payload, e);
+        }
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(reconnectMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.food.ordering.system.order.service.dataaccess.outbox.payment.adapter;
+
+import com.food.ordering.system.dataaccess.inmemory.InMemoryTable;
+import com.food.ordering.system.order.service.dataaccess.outbox.payment.entity.PaymentOutboxEntity;
+import com.food.ordering.system.order.service.dataaccess.outbox.payment.mapper.PaymentOutboxDataAccessMapper;
+import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentOutboxMessage;
+import com.food.ordering.system.order.service.domain.ports.output.repository.PaymentOutboxRepository;
+import com.food.ordering.system.outbox.OutboxStatus;
+import com.food.ordering.system.saga.SagaStatus;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+@Profile("in-memory")
+@Component
+public class InMemoryPaymentOutboxRepository implements PaymentOutboxRepository {
+
+    private final InMemoryTable<UUID, PaymentOutboxEntity> paymentOutbox = new InMemoryTable<>("payment_outbox",
+            PaymentOutboxEntity::getId,
+            paymentOutboxEntity -> List.of(paymentOutboxEntity.getType(), paymentOutboxEntity.getSagaId(),
+                    paymentOutboxEntity.getSagaStatus()),
+            PaymentOutboxEntity::getVersion,
+            PaymentOutboxEntity::setVersion);
+    private final PaymentOutboxDataAccessMapper paymentOutboxDataAccessMapper;
+
+    public InMemoryPaymentOutboxRepository(PaymentOutboxDataAccessMapper paymentOutboxDataAccessMapper) {
+        this.paymentOutboxDataAccessMapper = paymentOutboxDataAccessMapper;
+    }
+
+    @Override
+    public OrderPaymentOutboxMessage save(OrderPaymentOutboxMessage orderPaymentOutboxMessage) {
+        return paymentOutboxDataAccessMapper.paymentOutboxEntityToOrderPaymentOutboxMessage(paymentOutbox.save(
+                paymentOutboxDataAccessMapper.orderPaymentOutboxMessageToOutboxEntity(orderPaymentOutboxMessage)));
+    }
+
+    @Override
+    public OrderPaymentOutboxMessage insert(OrderPaymentOutboxMessage orderPaymentOutboxMessage) {
+        return paymentOutboxDataAccessMapper.paymentOutboxEntityToOrderPaymentOutboxMessage(paymentOutbox.insert(
+                paymentOutboxDataAccessMapper.orderPaymentOutboxMessageToOutboxEntity(orderPaymentOutboxMessage)));
+    }
+
+    @Override
+    public Optional<List<OrderPaymentOutboxMessage>> findByTypeAndOutboxStatusAndSagaStatus(String sagaType,
+                                                                                            OutboxStatus outboxStatus,
+                                                                                            SagaStatus... sagaStatus) {
+        return Optional.of(paymentOutbox.findAll(matching(sagaType, outboxStatus, sagaStatus)).stream()
+                .map(paymentOutboxDataAccessMapper::paymentOutboxEntityToOrderPaymentOutboxMessage)
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    public void deleteByTypeAndOutboxStatusAndSagaStatus(String type,
+                                                         OutboxStatus outboxStatus,
+                                                         SagaStatus... sagaStatus) {
+        paymentOutbox.deleteAll(matching(type, outboxStatus, sagaStatus));
+    }
+
+    private Predicate<PaymentOutboxEntity> matching(String type, OutboxStatus outboxStatus, SagaStatus... sagaStatus) {
+        List<SagaStatus> sagaStatuses = Arrays.asList(sagaStatus);
+        return paymentOutboxEntity -> paymentOutboxEntity.getType().equals(type) &&
+                paymentOutboxEntity.getOutboxStatus() == outboxStatus &&
+                sagaStatuses.contains(paymentOutboxEntity.getSagaStatus());
+    }
+}
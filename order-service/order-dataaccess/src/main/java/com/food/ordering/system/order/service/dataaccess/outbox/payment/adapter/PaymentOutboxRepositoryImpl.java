@@ -1,66 +1,75 @@
 package com.food.ordering.system.order.service.dataaccess.outbox.payment.adapter;
 
+import com.food.ordering.system.order.service.dataaccess.outbox.payment.entity.PaymentOutboxEntity;
 import com.food.ordering.system.order.service.dataaccess.outbox.payment.exception.PaymentOutboxNotFoundException;
 import com.food.ordering.system.order.service.dataaccess.outbox.payment.mapper.PaymentOutboxDataAccessMapper;
 import com.food.ordering.system.order.service.dataaccess.outbox.payment.repository.PaymentOutboxJpaRepository;
+import com.food.ordering.system.order.service.dataaccess.sharding.OrderShardRouter;
 import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentOutboxMessage;
 import com.food.ordering.system.order.service.domain.ports.output.repository.PaymentOutboxRepository;
 import com.food.ordering.system.outbox.OutboxStatus;
 import com.food.ordering.system.saga.SagaStatus;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
-import java.util.UUID;
 import java.util.stream.Collectors;
 
+@Profile("!in-memory")
 @Component
 public class PaymentOutboxRepositoryImpl implements PaymentOutboxRepository {
 
     private final PaymentOutboxJpaRepository paymentOutboxJpaRepository;
     private final PaymentOutboxDataAccessMapper paymentOutboxDataAccessMapper;
+    private final OrderShardRouter orderShardRouter;
 
     public PaymentOutboxRepositoryImpl(PaymentOutboxJpaRepository paymentOutboxJpaRepository,
-                                       PaymentOutboxDataAccessMapper paymentOutboxDataAccessMapper) {
+                                       PaymentOutboxDataAccessMapper paymentOutboxDataAccessMapper,
+                                       OrderShardRouter orderShardRouter) {
         this.paymentOutboxJpaRepository = paymentOutboxJpaRepository;
         this.paymentOutboxDataAccessMapper = paymentOutboxDataAccessMapper;
+        this.orderShardRouter = orderShardRouter;
     }
 
     @Override
     public OrderPaymentOutboxMessage save(OrderPaymentOutboxMessage orderPaymentOutboxMessage) {
-        return paymentOutboxDataAccessMapper
-                .paymentOutboxEntityToOrderPaymentOutboxMessage(paymentOutboxJpaRepository
-                        .save(paymentOutboxDataAccessMapper
-                                .orderPaymentOutboxMessageToOutboxEntity(orderPaymentOutboxMessage)));
+        PaymentOutboxEntity paymentOutboxEntity =
+                paymentOutboxDataAccessMapper.orderPaymentOutboxMessageToOutboxEntity(orderPaymentOutboxMessage);
+        return orderShardRouter.onShardOf(orderPaymentOutboxMessage.getSagaId(),
+                () -> paymentOutboxDataAccessMapper
+                        .paymentOutboxEntityToOrderPaymentOutboxMessage(paymentOutboxJpaRepository
+                                .save(paymentOutboxEntity)));
+    }
+
+    @Override
+    public OrderPaymentOutboxMessage insert(OrderPaymentOutboxMessage orderPaymentOutboxMessage) {
+        PaymentOutboxEntity paymentOutboxEntity =
+                paymentOutboxDataAccessMapper.orderPaymentOutboxMessageToOutboxEntity(orderPaymentOutboxMessage);
+        paymentOutboxEntity.setNewEntity(true);
+        return orderShardRouter.onShardOf(orderPaymentOutboxMessage.getSagaId(),
+                () -> paymentOutboxDataAccessMapper
+                        .paymentOutboxEntityToOrderPaymentOutboxMessage(paymentOutboxJpaRepository
+                                .save(paymentOutboxEntity)));
     }
 
     @Override
     public Optional<List<OrderPaymentOutboxMessage>> findByTypeAndOutboxStatusAndSagaStatus(String sagaType,
                                                                                             OutboxStatus outboxStatus,
                                                                                             SagaStatus... sagaStatus) {
-        return Optional.of(paymentOutboxJpaRepository.findByTypeAndOutboxStatusAndSagaStatusIn(sagaType,
-                        outboxStatus,
-                        Arrays.asList(sagaStatus))
+        return Optional.of(orderShardRouter.onEveryShard(() -> paymentOutboxJpaRepository
+                .findByTypeAndOutboxStatusAndSagaStatusIn(sagaType, outboxStatus, Arrays.asList(sagaStatus))
                 .orElseThrow(() -> new PaymentOutboxNotFoundException("Payment outbox object " +
                         "could not be found for saga type " + sagaType))
                 .stream()
                 .map(paymentOutboxDataAccessMapper::paymentOutboxEntityToOrderPaymentOutboxMessage)
-                .collect(Collectors.toList()));
-    }
-
-    @Override
-    public Optional<OrderPaymentOutboxMessage> findByTypeAndSagaIdAndSagaStatus(String type,
-                                                                                UUID sagaId,
-                                                                                SagaStatus... sagaStatus) {
-        return paymentOutboxJpaRepository
-                .findByTypeAndSagaIdAndSagaStatusIn(type, sagaId, Arrays.asList(sagaStatus))
-                .map(paymentOutboxDataAccessMapper::paymentOutboxEntityToOrderPaymentOutboxMessage);
+                .collect(Collectors.toList())));
     }
 
     @Override
     public void deleteByTypeAndOutboxStatusAndSagaStatus(String type, OutboxStatus outboxStatus, SagaStatus... sagaStatus) {
-        paymentOutboxJpaRepository.deleteByTypeAndOutboxStatusAndSagaStatusIn(type, outboxStatus,
-                Arrays.asList(sagaStatus));
+        orderShardRouter.runOnEveryShard(() -> paymentOutboxJpaRepository
+                .deleteByTypeAndOutboxStatusAndSagaStatusIn(type, outboxStatus, Arrays.asList(sagaStatus)));
     }
 }
@@ -4,6 +4,7 @@ import com.food.ordering.system.domain.valueobject.OrderStatus;
 import com.food.ordering.system.outbox.OutboxStatus;
 import com.food.ordering.system.saga.SagaStatus;
 import lombok.*;
+import org.springframework.data.domain.Persistable;
 
 import javax.persistence.*;
 import java.time.ZonedDateTime;
@@ -17,7 +18,7 @@ import java.util.UUID;
 @AllArgsConstructor
 @Table(name = "payment_outbox")
 @Entity
-public class PaymentOutboxEntity {
+public class PaymentOutboxEntity implements Persistable<UUID> {
 
     @Id
     private UUID id;
@@ -35,6 +36,19 @@ public class PaymentOutboxEntity {
     @Version
     private int version;
 
+    @Transient
+    private boolean newEntity;
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
 
     @Override
     public boolean equals(Object o) {
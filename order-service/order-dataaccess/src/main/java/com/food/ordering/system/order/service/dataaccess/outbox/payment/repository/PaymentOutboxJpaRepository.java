@@ -17,10 +17,6 @@ public interface PaymentOutboxJpaRepository extends JpaRepository<PaymentOutboxE
                                                                                  OutboxStatus outboxStatus,
                                                                                  List<SagaStatus> sagaStatus);
 
-    Optional<PaymentOutboxEntity> findByTypeAndSagaIdAndSagaStatusIn(String type,
-                                                                     UUID sagaId,
-                                                                     List<SagaStatus> sagaStatus);
-
     void deleteByTypeAndOutboxStatusAndSagaStatusIn(String type,
                                                     OutboxStatus outboxStatus,
                                                     List<SagaStatus> sagaStatus);
@@ -0,0 +1,65 @@
+package com.food.ordering.system.order.service.dataaccess.outbox.restaurantapproval.adapter;
+
+import com.food.ordering.system.dataaccess.inmemory.InMemoryTable;
+import com.food.ordering.system.order.service.dataaccess.outbox.restaurantapproval.entity.ApprovalOutboxEntity;
+import com.food.ordering.system.order.service.dataaccess.outbox.restaurantapproval.mapper.ApprovalOutboxDataAccessMapper;
+import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalOutboxMessage;
+import com.food.ordering.system.order.service.domain.ports.output.repository.ApprovalOutboxRepository;
+import com.food.ordering.system.outbox.OutboxStatus;
+import com.food.ordering.system.saga.SagaStatus;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+@Profile("in-memory")
+@Component
+public class InMemoryApprovalOutboxRepository implements ApprovalOutboxRepository {
+
+    private final InMemoryTable<UUID, ApprovalOutboxEntity> approvalOutbox = new InMemoryTable<>(
+            "restaurant_approval_outbox",
+            ApprovalOutboxEntity::getId,
+            approvalOutboxEntity -> List.of(approvalOutboxEntity.getType(), approvalOutboxEntity.getSagaId(),
+                    approvalOutboxEntity.getSagaStatus()),
+            ApprovalOutboxEntity::getVersion,
+            ApprovalOutboxEntity::setVersion);
+    private final ApprovalOutboxDataAccessMapper approvalOutboxDataAccessMapper;
+
+    public InMemoryApprovalOutboxRepository(ApprovalOutboxDataAccessMapper approvalOutboxDataAccessMapper) {
+        this.approvalOutboxDataAccessMapper = approvalOutboxDataAccessMapper;
+    }
+
+    @Override
+    public OrderApprovalOutboxMessage save(OrderApprovalOutboxMessage orderApprovalOutboxMessage) {
+        return approvalOutboxDataAccessMapper.approvalOutboxEntityToOrderApprovalOutboxMessage(approvalOutbox.save(
+                approvalOutboxDataAccessMapper.orderCreatedOutboxMessageToOutboxEntity(orderApprovalOutboxMessage)));
+    }
+
+    @Override
+    public Optional<List<OrderApprovalOutboxMessage>> findByTypeAndOutboxStatusAndSagaStatus(String sagaType,
+                                                                                             OutboxStatus outboxStatus,
+                                                                                             SagaStatus... sagaStatus) {
+        return Optional.of(approvalOutbox.findAll(matching(sagaType, outboxStatus, sagaStatus)).stream()
+                .map(approvalOutboxDataAccessMapper::approvalOutboxEntityToOrderApprovalOutboxMessage)
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    public void deleteByTypeAndOutboxStatusAndSagaStatus(String type,
+                                                         OutboxStatus outboxStatus,
+                                                         SagaStatus... sagaStatus) {
+        approvalOutbox.deleteAll(matching(type, outboxStatus, sagaStatus));
+    }
+
+    private Predicate<ApprovalOutboxEntity> matching(String type, OutboxStatus outboxStatus, SagaStatus... sagaStatus) {
+        List<SagaStatus> sagaStatuses = Arrays.asList(sagaStatus);
+        return approvalOutboxEntity -> approvalOutboxEntity.getType().equals(type) &&
+                approvalOutboxEntity.getOutboxStatus() == outboxStatus &&
+                sagaStatuses.contains(approvalOutboxEntity.getSagaStatus());
+    }
+}
@@ -17,10 +17,6 @@ public interface ApprovalOutboxJpaRepository extends JpaRepository<ApprovalOutbo
                                                                                   OutboxStatus outboxStatus,
                                                                                   List<SagaStatus> sagaStatus);
 
-    Optional<ApprovalOutboxEntity> findByTypeAndSagaIdAndSagaStatusIn(String type,
-                                                                      UUID sagaId,
-                                                                      List<SagaStatus> sagaStatus);
-
     void deleteByTypeAndOutboxStatusAndSagaStatusIn(String type,
                                                     OutboxStatus outboxStatus,
                                                     List<SagaStatus> sagaStatus);
@@ -0,0 +1,47 @@
+package com.food.ordering.system.order.service.dataaccess.restaurant.adapter;
+
+import com.food.ordering.system.dataaccess.restaurant.entity.RestaurantEntity;
+import com.food.ordering.system.dataaccess.restaurant.repository.InMemoryRestaurantViewRepository;
+import com.food.ordering.system.domain.valueobject.ProductId;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.order.service.dataaccess.restaurant.mapper.RestaurantDataAccessMapper;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
+import com.food.ordering.system.order.service.domain.ports.output.repository.RestaurantRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+@Profile("in-memory")
+@Component
+public class InMemoryRestaurantRepository implements RestaurantRepository {
+
+    private final InMemoryRestaurantViewRepository restaurantViewRepository;
+    private final RestaurantDataAccessMapper restaurantDataAccessMapper;
+
+    public InMemoryRestaurantRepository(InMemoryRestaurantViewRepository restaurantViewRepository,
+                                        RestaurantDataAccessMapper restaurantDataAccessMapper) {
+        this.restaurantViewRepository = restaurantViewRepository;
+        this.restaurantDataAccessMapper = restaurantDataAccessMapper;
+    }
+
+    @Override
+    public Optional<Restaurant> findRestaurantInformation(Restaurant restaurant) {
+        return Optional.of(restaurantDataAccessMapper.restaurantEntityToRestaurant(
+                restaurantViewRepository.findByIdAndProductIdIn(restaurant.getId().getValue(),
+                        restaurantDataAccessMapper.restaurantToRestaurantProducts(restaurant))));
+    }
+
+    @Override
+    public Optional<Restaurant> findRestaurantInformation(RestaurantId restaurantId,
+                                                          Collection<ProductId> productIds) {
+        List<RestaurantEntity> restaurantEntities = restaurantViewRepository.findByIdAndProductIdIn(
+                restaurantId.getValue(), productIds.stream().map(ProductId::getValue).collect(Collectors.toList()));
+        return restaurantEntities.isEmpty()
+                ? Optional.empty()
+                : Optional.of(restaurantDataAccessMapper.restaurantEntityToRestaurant(restaurantEntities));
+    }
+}
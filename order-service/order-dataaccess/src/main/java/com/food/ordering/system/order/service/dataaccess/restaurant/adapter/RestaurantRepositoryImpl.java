@@ -2,15 +2,21 @@ package com.food.ordering.system.order.service.dataaccess.restaurant.adapter;
 
 import com.food.ordering.system.dataaccess.restaurant.entity.RestaurantEntity;
 import com.food.ordering.system.dataaccess.restaurant.repository.RestaurantJpaRepository;
+import com.food.ordering.system.domain.valueobject.ProductId;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
 import com.food.ordering.system.order.service.dataaccess.restaurant.mapper.RestaurantDataAccessMapper;
 import com.food.ordering.system.order.service.domain.entity.Restaurant;
 import com.food.ordering.system.order.service.domain.ports.output.repository.RestaurantRepository;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
+@Profile("!in-memory")
 @Component
 public class RestaurantRepositoryImpl implements RestaurantRepository {
 
@@ -32,4 +38,15 @@ public class RestaurantRepositoryImpl implements RestaurantRepository {
                         restaurantProducts);
         return restaurantEntities.map(restaurantDataAccessMapper::restaurantEntityToRestaurant);
     }
+
+    @Override
+    public Optional<Restaurant> findRestaurantInformation(RestaurantId restaurantId,
+                                                          Collection<ProductId> productIds) {
+        List<UUID> restaurantProducts = productIds.stream()
+                .map(ProductId::getValue)
+                .collect(Collectors.toList());
+        return restaurantJpaRepository.findByIdAndProductIdIn(restaurantId.getValue(), restaurantProducts)
+                .filter(restaurantEntities -> !restaurantEntities.isEmpty())
+                .map(restaurantDataAccessMapper::restaurantEntityToRestaurant);
+    }
 }
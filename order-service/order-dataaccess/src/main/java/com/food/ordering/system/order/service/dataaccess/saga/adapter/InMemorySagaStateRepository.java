@@ -0,0 +1,63 @@
+package com.food.ordering.system.order.service.dataaccess.saga.adapter;
+
+import com.food.ordering.system.dataaccess.inmemory.InMemoryTable;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.dataaccess.saga.entity.SagaStateEntity;
+import com.food.ordering.system.order.service.dataaccess.saga.mapper.SagaStateDataAccessMapper;
+import com.food.ordering.system.saga.SagaState;
+import com.food.ordering.system.saga.SagaStateRepository;
+import com.food.ordering.system.saga.SagaStatus;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.ZonedDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+@Profile("in-memory")
+@Component
+public class InMemorySagaStateRepository implements SagaStateRepository {
+
+    private final InMemoryTable<UUID, SagaStateEntity> sagaStates = new InMemoryTable<>("saga_state",
+            SagaStateEntity::getSagaId,
+            null,
+            SagaStateEntity::getVersion,
+            SagaStateEntity::setVersion);
+    private final SagaStateDataAccessMapper sagaStateDataAccessMapper;
+
+    public InMemorySagaStateRepository(SagaStateDataAccessMapper sagaStateDataAccessMapper) {
+        this.sagaStateDataAccessMapper = sagaStateDataAccessMapper;
+    }
+
+    @Override
+    public void insert(SagaState sagaState) {
+        sagaStates.insert(sagaStateDataAccessMapper.sagaStateToSagaStateEntity(sagaState));
+    }
+
+    @Override
+    public Optional<SagaState> findByTypeAndSagaId(String type, UUID sagaId) {
+        return sagaStates.findById(sagaId)
+                .filter(sagaStateEntity -> sagaStateEntity.getType().equals(type))
+                .map(sagaStateDataAccessMapper::sagaStateEntityToSagaState);
+    }
+
+    @Override
+    public boolean updateStatus(String type,
+                                UUID sagaId,
+                                int expectedVersion,
+                                SagaStatus sagaStatus,
+                                OrderStatus orderStatus,
+                                ZonedDateTime processedAt) {
+        return sagaStates.update(sagaId,
+                sagaStateEntity -> sagaStateEntity.getType().equals(type) &&
+                        sagaStateEntity.getVersion() == expectedVersion,
+                sagaStateEntity -> SagaStateEntity.builder()
+                        .sagaId(sagaStateEntity.getSagaId())
+                        .type(sagaStateEntity.getType())
+                        .createdAt(sagaStateEntity.getCreatedAt())
+                        .processedAt(processedAt)
+                        .sagaStatus(sagaStatus)
+                        .orderStatus(orderStatus)
+                        .build());
+    }
+}
@@ -0,0 +1,57 @@
+package com.food.ordering.system.order.service.dataaccess.saga.adapter;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.dataaccess.saga.entity.SagaStateEntity;
+import com.food.ordering.system.order.service.dataaccess.saga.mapper.SagaStateDataAccessMapper;
+import com.food.ordering.system.order.service.dataaccess.saga.repository.SagaStateJpaRepository;
+import com.food.ordering.system.order.service.dataaccess.sharding.OrderShardRouter;
+import com.food.ordering.system.saga.SagaState;
+import com.food.ordering.system.saga.SagaStateRepository;
+import com.food.ordering.system.saga.SagaStatus;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.time.ZonedDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+@Profile("!in-memory")
+@Component
+public class SagaStateRepositoryImpl implements SagaStateRepository {
+
+    private final SagaStateJpaRepository sagaStateJpaRepository;
+    private final SagaStateDataAccessMapper sagaStateDataAccessMapper;
+    private final OrderShardRouter orderShardRouter;
+
+    public SagaStateRepositoryImpl(SagaStateJpaRepository sagaStateJpaRepository,
+                                   SagaStateDataAccessMapper sagaStateDataAccessMapper,
+                                   OrderShardRouter orderShardRouter) {
+        this.sagaStateJpaRepository = sagaStateJpaRepository;
+        this.sagaStateDataAccessMapper = sagaStateDataAccessMapper;
+        this.orderShardRouter = orderShardRouter;
+    }
+
+    @Override
+    public void insert(SagaState sagaState) {
+        SagaStateEntity sagaStateEntity = sagaStateDataAccessMapper.sagaStateToSagaStateEntity(sagaState);
+        sagaStateEntity.setNewEntity(true);
+        orderShardRouter.onShardOf(sagaState.getSagaId(), () -> sagaStateJpaRepository.save(sagaStateEntity));
+    }
+
+    @Override
+    public Optional<SagaState> findByTypeAndSagaId(String type, UUID sagaId) {
+        return orderShardRouter.onShardOf(sagaId, () -> sagaStateJpaRepository.findByTypeAndSagaId(type, sagaId)
+                .map(sagaStateDataAccessMapper::sagaStateEntityToSagaState));
+    }
+
+    @Override
+    public boolean updateStatus(String type,
+                                UUID sagaId,
+                                int expectedVersion,
+                                SagaStatus sagaStatus,
+                                OrderStatus orderStatus,
+                                ZonedDateTime processedAt) {
+        return orderShardRouter.onShardOf(sagaId, () -> sagaStateJpaRepository.updateStatus(type, sagaId,
+                expectedVersion, sagaStatus, orderStatus, processedAt) == 1);
+    }
+}
@@ -0,0 +1,65 @@
+package com.food.ordering.system.order.service.dataaccess.saga.entity;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.saga.SagaStatus;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import javax.persistence.*;
+import java.time.ZonedDateTime;
+import java.util.Objects;
+import java.util.UUID;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "saga_state")
+@Entity
+public class SagaStateEntity implements Persistable<UUID> {
+
+    @Id
+    private UUID sagaId;
+    private String type;
+    private ZonedDateTime createdAt;
+    private ZonedDateTime processedAt;
+    @Enumerated(EnumType.STRING)
+    private SagaStatus sagaStatus;
+    @Enumerated(EnumType.STRING)
+    private OrderStatus orderStatus;
+    @Version
+    private int version;
+
+    @Transient
+    private boolean newEntity;
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+
+    @Override
+    public UUID getId() {
+        return sagaId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        SagaStateEntity that = (SagaStateEntity) o;
+        return sagaId.equals(that.sagaId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(sagaId);
+    }
+}
@@ -0,0 +1,33 @@
+package com.food.ordering.system.order.service.dataaccess.saga.mapper;
+
+import com.food.ordering.system.order.service.dataaccess.saga.entity.SagaStateEntity;
+import com.food.ordering.system.saga.SagaState;
+import org.springframework.stereotype.Component;
+
+@Component
+public class SagaStateDataAccessMapper {
+
+    public SagaStateEntity sagaStateToSagaStateEntity(SagaState sagaState) {
+        return SagaStateEntity.builder()
+                .sagaId(sagaState.getSagaId())
+                .type(sagaState.getType())
+                .createdAt(sagaState.getCreatedAt())
+                .processedAt(sagaState.getProcessedAt())
+                .sagaStatus(sagaState.getSagaStatus())
+                .orderStatus(sagaState.getOrderStatus())
+                .version(sagaState.getVersion())
+                .build();
+    }
+
+    public SagaState sagaStateEntityToSagaState(SagaStateEntity sagaStateEntity) {
+        return SagaState.builder()
+                .sagaId(sagaStateEntity.getSagaId())
+                .type(sagaStateEntity.getType())
+                .createdAt(sagaStateEntity.getCreatedAt())
+                .processedAt(sagaStateEntity.getProcessedAt())
+                .sagaStatus(sagaStateEntity.getSagaStatus())
+                .orderStatus(sagaStateEntity.getOrderStatus())
+                .version(sagaStateEntity.getVersion())
+                .build();
+    }
+}
@@ -0,0 +1,31 @@
+package com.food.ordering.system.order.service.dataaccess.saga.repository;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.dataaccess.saga.entity.SagaStateEntity;
+import com.food.ordering.system.saga.SagaStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.ZonedDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface SagaStateJpaRepository extends JpaRepository<SagaStateEntity, UUID> {
+
+    Optional<SagaStateEntity> findByTypeAndSagaId(String type, UUID sagaId);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update SagaStateEntity s set s.sagaStatus = :sagaStatus, s.orderStatus = :orderStatus, " +
+            "s.processedAt = :processedAt, s.version = s.version + 1 " +
+            "where s.type = :type and s.sagaId = :sagaId and s.version = :version")
+    int updateStatus(@Param("type") String type,
+                     @Param("sagaId") UUID sagaId,
+                     @Param("version") int version,
+                     @Param("sagaStatus") SagaStatus sagaStatus,
+                     @Param("orderStatus") OrderStatus orderStatus,
+                     @Param("processedAt") ZonedDateTime processedAt);
+}
@@ -0,0 +1,58 @@
+package com.food.ordering.system.order.service.dataaccess.sharding;
+
+import com.food.ordering.system.dataaccess.sharding.ShardRouter;
+import com.food.ordering.system.domain.ShardKeys;
+import com.food.ordering.system.order.service.domain.ports.output.sharding.CustomerShardResolver;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+@Component
+public class OrderShardRouter implements CustomerShardResolver {
+
+    private final ShardRouter shardRouter;
+
+    public OrderShardRouter(ObjectProvider<ShardRouter> shardRouter) {
+        this.shardRouter = shardRouter.getIfAvailable();
+    }
+
+    @Override
+    public int resolveShard(UUID customerId) {
+        if (shardRouter == null || customerId == null) {
+            return 0;
+        }
+        return ShardKeys.bucketOf(customerId) % shardRouter.getShardCount();
+    }
+
+    public <T> T onCustomerShard(UUID customerId, Supplier<T> work) {
+        if (shardRouter == null) {
+            return work.get();
+        }
+        return shardRouter.onShard(resolveShard(customerId), work);
+    }
+
+    public <T> T onShardOf(UUID shardKeyedId, Supplier<T> work) {
+        if (shardRouter == null) {
+            return work.get();
+        }
+        return shardRouter.onShard(ShardKeys.embeddedBucketOf(shardKeyedId) % shardRouter.getShardCount(), work);
+    }
+
+    public <T> List<T> onEveryShard(Supplier<List<T>> work) {
+        if (shardRouter == null) {
+            return work.get();
+        }
+        return shardRouter.onEveryShard(work);
+    }
+
+    public void runOnEveryShard(Runnable work) {
+        if (shardRouter == null) {
+            work.run();
+            return;
+        }
+        shardRouter.runOnEveryShard(work);
+    }
+}
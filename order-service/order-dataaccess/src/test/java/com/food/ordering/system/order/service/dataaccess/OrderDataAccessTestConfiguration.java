@@ -0,0 +1,11 @@
+package com.food.ordering.system.order.service.dataaccess;
+
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+@SpringBootApplication(scanBasePackages = "com.food.ordering.system.order.service.dataaccess")
+@EnableJpaRepositories(basePackages = "com.food.ordering.system.order.service.dataaccess")
+@EntityScan(basePackages = "com.food.ordering.system.order.service.dataaccess")
+public class OrderDataAccessTestConfiguration {
+}
@@ -0,0 +1,177 @@
+package com.food.ordering.system.order.service.dataaccess.order.adapter;
+
+import com.food.ordering.system.dataaccess.inmemory.InMemoryTransactionManager;
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.OrderId;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.domain.valueobject.ProductId;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.order.service.dataaccess.order.mapper.OrderAccessMapper;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.OrderItem;
+import com.food.ordering.system.order.service.domain.entity.Product;
+import com.food.ordering.system.order.service.domain.valueobject.StreetAddress;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class InMemoryOrderRepositoryTest {
+
+    private static final BigDecimal PRICE = new BigDecimal("10.00");
+
+    private final InMemoryOrderRepository orderRepository = new InMemoryOrderRepository(new OrderAccessMapper());
+    private final TransactionTemplate transactionTemplate = new TransactionTemplate(new InMemoryTransactionManager());
+    private final ExecutorService executorService = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    public void shutdown() {
+        executorService.shutdownNow();
+    }
+
+    @Test
+    public void testCommittedWritesBecomeVisible() {
+        Order order = createOrder();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            orderRepository.insert(order);
+            assertTrue(orderRepository.updateStatus(order.getId(), OrderStatus.PENDING, OrderStatus.PAID, List.of()));
+            assertEquals(OrderStatus.PAID, orderRepository.findById(order.getId()).orElseThrow().getOrderStatus());
+        });
+
+        assertEquals(OrderStatus.PAID, orderRepository.findById(order.getId()).orElseThrow().getOrderStatus());
+        assertEquals(OrderStatus.PAID,
+                orderRepository.findTrackingByTrackingId(order.getTrackingId()).orElseThrow().getOrderStatus());
+    }
+
+    @Test
+    public void testRolledBackWritesAreDiscarded() {
+        Order order = createOrder();
+        Order rolledBackOrder = createOrder();
+        orderRepository.insert(order);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            orderRepository.insert(rolledBackOrder);
+            orderRepository.updateStatus(order.getId(), OrderStatus.PENDING, OrderStatus.CANCELLED,
+                    List.of("payment failed"));
+            status.setRollbackOnly();
+        });
+
+        assertFalse(orderRepository.findById(rolledBackOrder.getId()).isPresent());
+        assertFalse(orderRepository.findTrackingByTrackingId(rolledBackOrder.getTrackingId()).isPresent());
+        assertEquals(OrderStatus.PENDING, orderRepository.findById(order.getId()).orElseThrow().getOrderStatus());
+    }
+
+    @Test
+    public void testUncommittedWritesAreInvisibleToOtherTransactions() throws Exception {
+        Order order = createOrder();
+        Order uncommittedOrder = createOrder();
+        orderRepository.insert(order);
+        CountDownLatch written = new CountDownLatch(1);
+        CountDownLatch read = new CountDownLatch(1);
+
+        Future<?> writer = executorService.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+            orderRepository.insert(uncommittedOrder);
+            orderRepository.updateStatus(order.getId(), OrderStatus.PENDING, OrderStatus.PAID, List.of());
+            written.countDown();
+            awaitQuietly(read);
+        }));
+        assertTrue(written.await(10, TimeUnit.SECONDS));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            assertFalse(orderRepository.findById(uncommittedOrder.getId()).isPresent());
+            assertFalse(orderRepository.findTrackingByTrackingId(uncommittedOrder.getTrackingId()).isPresent());
+            assertEquals(OrderStatus.PENDING, orderRepository.findById(order.getId()).orElseThrow().getOrderStatus());
+        });
+        read.countDown();
+        writer.get(10, TimeUnit.SECONDS);
+
+        assertTrue(orderRepository.findById(uncommittedOrder.getId()).isPresent());
+        assertEquals(OrderStatus.PAID, orderRepository.findById(order.getId()).orElseThrow().getOrderStatus());
+    }
+
+    @Test
+    public void testConcurrentUpdateOfSameOrderFailsOnCommit() throws Exception {
+        Order order = createOrder();
+        orderRepository.insert(order);
+        CountDownLatch updated = new CountDownLatch(1);
+        CountDownLatch committed = new CountDownLatch(1);
+
+        Future<?> loser = executorService.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+            orderRepository.updateStatus(order.getId(), OrderStatus.PENDING, OrderStatus.CANCELLED, List.of());
+            updated.countDown();
+            awaitQuietly(committed);
+        }));
+        assertTrue(updated.await(10, TimeUnit.SECONDS));
+        transactionTemplate.executeWithoutResult(status ->
+                orderRepository.updateStatus(order.getId(), OrderStatus.PENDING, OrderStatus.PAID, List.of()));
+        committed.countDown();
+
+        Exception failure = assertThrows(Exception.class, () -> loser.get(10, TimeUnit.SECONDS));
+        assertTrue(failure.getCause() instanceof ObjectOptimisticLockingFailureException);
+        assertEquals(OrderStatus.PAID, orderRepository.findById(order.getId()).orElseThrow().getOrderStatus());
+    }
+
+    @Test
+    public void testTrackingIdCanBeReusedAcrossOrders() {
+        Order order = createOrder();
+        Order reusedTrackingIdOrder = Order.Builder.builder()
+                .id(new OrderId(UUID.randomUUID()))
+                .customerId(order.getCustomerId())
+                .restaurantId(order.getRestaurantId())
+                .deliveryAddress(order.getDeliveryAddress())
+                .price(order.getPrice())
+                .items(order.getItems())
+                .trackingId(order.getTrackingId())
+                .orderStatus(OrderStatus.PAID)
+                .failureMessages(List.of())
+                .createdAt(order.getCreatedAt().plusMonths(1))
+                .build();
+
+        orderRepository.insert(order);
+        orderRepository.insert(reusedTrackingIdOrder);
+
+        assertEquals(OrderStatus.PAID,
+                orderRepository.findTrackingByTrackingId(order.getTrackingId()).orElseThrow().getOrderStatus());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Order createOrder() {
+        Order order = Order.Builder.builder()
+                .customerId(new CustomerId(UUID.randomUUID()))
+                .restaurantId(new RestaurantId(UUID.randomUUID()))
+                .deliveryAddress(new StreetAddress(UUID.randomUUID(), "street_1", "1000AB", "Paris"))
+                .price(new Money(PRICE))
+                .items(List.of(OrderItem.Builder.builder()
+                        .product(new Product(new ProductId(UUID.randomUUID()), "product-1", new Money(PRICE)))
+                        .price(new Money(PRICE))
+                        .quantity(1)
+                        .subtotal(new Money(PRICE))
+                        .build()))
+                .build();
+        order.initializeOrder();
+        return order;
+    }
+}
@@ -0,0 +1,151 @@
+package com.food.ordering.system.order.service.dataaccess.order.adapter;
+
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.domain.valueobject.Money;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.domain.valueobject.ProductId;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
+import com.food.ordering.system.order.service.dataaccess.order.entity.OrderEntity;
+import com.food.ordering.system.order.service.dataaccess.order.mapper.OrderAccessMapper;
+import com.food.ordering.system.order.service.dataaccess.sharding.OrderShardRouter;
+import com.food.ordering.system.order.service.domain.entity.Order;
+import com.food.ordering.system.order.service.domain.entity.OrderItem;
+import com.food.ordering.system.order.service.domain.entity.Product;
+import com.food.ordering.system.order.service.domain.valueobject.StreetAddress;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import javax.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+        "spring.jpa.properties.hibernate.order_inserts=true",
+        "spring.jpa.properties.hibernate.order_updates=true"
+})
+@Import({OrderRepositoryImpl.class, OrderAccessMapper.class, OrderShardRouter.class})
+public class OrderRepositoryImplTest {
+
+    private static final BigDecimal PRICE = new BigDecimal("10.00");
+
+    @Autowired
+    private OrderRepositoryImpl orderRepository;
+
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void init() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    public void testInsertOrderUsesConstantNumberOfStatements() {
+        orderRepository.insert(createOrder(1));
+        testEntityManager.flush();
+        long singleItemStatements = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        orderRepository.insert(createOrder(20));
+        testEntityManager.flush();
+
+        assertEquals(3, singleItemStatements);
+        assertEquals(singleItemStatements, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(22, statistics.getEntityInsertCount());
+    }
+
+    @Test
+    public void testUpdateStatusIsSingleConditionalUpdate() {
+        Order order = orderRepository.insert(createOrder(20));
+        testEntityManager.flush();
+        testEntityManager.clear();
+        statistics.clear();
+
+        assertTrue(orderRepository.updateStatus(order.getId(), OrderStatus.PENDING, OrderStatus.PAID, List.of()));
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+
+        assertFalse(orderRepository.updateStatus(order.getId(), OrderStatus.PENDING, OrderStatus.CANCELLED,
+                List.of("payment failed")));
+        assertEquals(OrderStatus.PAID, orderRepository.findById(order.getId()).orElseThrow().getOrderStatus());
+    }
+
+    @Test
+    public void testSagaViewReadsOnlyOrderColumns() {
+        Order order = orderRepository.insert(createOrder(20));
+        testEntityManager.flush();
+        testEntityManager.clear();
+        statistics.clear();
+
+        Order sagaView = orderRepository.findSagaViewById(order.getId()).orElseThrow();
+
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(OrderStatus.PENDING, sagaView.getOrderStatus());
+        assertEquals(order.getPrice(), sagaView.getPrice());
+        assertNull(sagaView.getItems());
+    }
+
+    @Test
+    public void testTrackingReadsLatestOrderOfReusedTrackingId() {
+        Order order = orderRepository.insert(createOrder(1));
+        testEntityManager.persist(OrderEntity.builder()
+                .id(UUID.randomUUID())
+                .customerId(order.getCustomerId().getValue())
+                .restaurantId(order.getRestaurantId().getValue())
+                .trackingId(order.getTrackingId().getValue())
+                .price(PRICE)
+                .orderStatus(OrderStatus.PAID)
+                .failureMessages("")
+                .createdAt(order.getCreatedAt().plusMonths(1))
+                .build());
+        testEntityManager.flush();
+        testEntityManager.clear();
+
+        assertEquals(OrderStatus.PAID,
+                orderRepository.findTrackingByTrackingId(order.getTrackingId()).orElseThrow().getOrderStatus());
+    }
+
+    private Order createOrder(int itemCount) {
+        List<OrderItem> items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            items.add(OrderItem.Builder.builder()
+                    .product(new Product(new ProductId(UUID.randomUUID()), "product-" + i, new Money(PRICE)))
+                    .price(new Money(PRICE))
+                    .quantity(1)
+                    .subtotal(new Money(PRICE))
+                    .build());
+        }
+        Order order = Order.Builder.builder()
+                .customerId(new CustomerId(UUID.randomUUID()))
+                .restaurantId(new RestaurantId(UUID.randomUUID()))
+                .deliveryAddress(new StreetAddress(UUID.randomUUID(), "street_1", "1000AB", "Paris"))
+                .price(new Money(PRICE.multiply(BigDecimal.valueOf(itemCount))))
+                .items(items)
+                .build();
+        order.initializeOrder();
+        return order;
+    }
+}
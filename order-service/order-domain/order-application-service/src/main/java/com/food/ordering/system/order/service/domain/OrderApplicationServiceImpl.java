@@ -1,9 +1,13 @@
 package com.food.ordering.system.order.service.domain;
 
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderBatchResponse;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderQuery;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
 import com.food.ordering.system.order.service.domain.ports.input.service.OrderApplicationService;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -12,6 +16,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
 
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
 @Service
 @Slf4j
 @Validated
@@ -23,15 +31,39 @@ class OrderApplicationServiceImpl implements OrderApplicationService {
 
     OrderTrackCommandHandler orderTrackCommandHandler;
 
+    OrderCreateGroupCommitter orderCreateGroupCommitter;
+
+    OrderStatusSubscriptionRegistry orderStatusSubscriptionRegistry;
+
+    OrderDataMapper orderDataMapper;
 
+    OrderServiceConfigData orderServiceConfigData;
 
     @Override
     public CreateOrderResponse createOrder(CreateOrderCommand createOrderCommand) {
+        if (orderCreateGroupCommitter.isEnabled()) {
+            return orderCreateGroupCommitter.createOrder(createOrderCommand);
+        }
         return orderCreateCommandHandler.createOrder(createOrderCommand);
     }
 
+    @Override
+    public CreateOrderBatchResponse createOrders(List<CreateOrderCommand> createOrderCommands) {
+        if (createOrderCommands.size() > orderServiceConfigData.getCreateOrderBatchMaxSize()) {
+            throw new OrderDomainException(String.format("Order batch of %d exceeds the maximum of %d orders!",
+                    createOrderCommands.size(), orderServiceConfigData.getCreateOrderBatchMaxSize()));
+        }
+        return orderDataMapper.orderCreateResultsToCreateOrderBatchResponse(
+                orderCreateGroupCommitter.createOrders(createOrderCommands));
+    }
+
     @Override
     public TrackOrderResponse trackOrder(TrackOrderQuery trackOrderQuery) {
         return orderTrackCommandHandler.trackOrder(trackOrderQuery);
     }
+
+    @Override
+    public Runnable subscribeOrderStatus(UUID trackingId, Consumer<TrackOrderResponse> subscriber) {
+        return orderStatusSubscriptionRegistry.subscribe(trackingId, subscriber);
+    }
 }
@@ -4,13 +4,12 @@ import com.food.ordering.system.domain.valueobject.OrderStatus;
 import com.food.ordering.system.order.service.domain.dto.message.RestaurantApprovalResponse;
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.event.OrderCancelledEvent;
-import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
 import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
-import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalOutboxMessage;
-import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentOutboxMessage;
-import com.food.ordering.system.order.service.domain.outbox.scheduler.approval.ApprovalOutboxHelper;
 import com.food.ordering.system.order.service.domain.outbox.scheduler.payment.PaymentOutboxHelper;
 import com.food.ordering.system.outbox.OutboxStatus;
+import com.food.ordering.system.saga.SagaHop;
+import com.food.ordering.system.saga.SagaMetrics;
+import com.food.ordering.system.saga.SagaState;
 import com.food.ordering.system.saga.SagaStatus;
 import com.food.ordering.system.saga.SagaStep;
 import lombok.AccessLevel;
@@ -20,12 +19,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.ZoneId;
-import java.time.ZonedDateTime;
 import java.util.Optional;
-import java.util.UUID;
-
-import static com.food.ordering.system.domain.DomainConstants.UTC;
 
 @Slf4j
 @Component
@@ -36,31 +30,29 @@ public class OrderApprovalSaga implements SagaStep<RestaurantApprovalResponse> {
     OrderDomainService orderDomainService;
     OrderSagaHelper orderSagaHelper;
     PaymentOutboxHelper paymentOutboxHelper;
-    ApprovalOutboxHelper approvalOutboxHelper;
     OrderDataMapper orderDataMapper;
+    SagaMetrics sagaMetrics;
 
     @Override
     @Transactional
     public void process(RestaurantApprovalResponse data) {
-        Optional<OrderApprovalOutboxMessage> approvalOutboxMessageBySagaIdAndSagaStatus =
-                approvalOutboxHelper.getApprovalOutboxMessageBySagaIdAndSagaStatus(
-                        UUID.fromString(data.getSagaId()),
-                        SagaStatus.PROCESSING
-                );
-
-        if (approvalOutboxMessageBySagaIdAndSagaStatus.isEmpty()) {
-            log.info("An outbox message with saga id: {} is already processed!", data.getSagaId());
+        Optional<SagaState> sagaStateResponse = orderSagaHelper.findSagaState(data.getSagaId(), SagaStatus.PROCESSING);
+
+        if (sagaStateResponse.isEmpty()) {
+            log.info("A saga with id: {} is already processed!", data.getSagaId());
             return;
         }
 
-        OrderApprovalOutboxMessage orderApprovalOutboxMessage = approvalOutboxMessageBySagaIdAndSagaStatus.get();
-
+        SagaState sagaState = sagaStateResponse.get();
         Order order = approveOrder(data);
         SagaStatus sagaStatus = orderSagaHelper.orderStatusToSagaStatus(order.getOrderStatus());
 
-        approvalOutboxHelper.save(getUpdatedApprovalOutboxMessage(orderApprovalOutboxMessage, order.getOrderStatus(), sagaStatus));
+        orderSagaHelper.updateSagaState(sagaState, order.getOrderStatus(), sagaStatus);
+        orderSagaHelper.cacheSagaHopAfterCommit(data.getSagaId(), SagaHop.APPROVAL_RESPONSE_CONSUMED,
+                data.getOrderApprovalStatus(), sagaStatus);
 
-        paymentOutboxHelper.save(getUpdatedPaymentOutboxMessage(data.getSagaId(), order.getOrderStatus(), sagaStatus));
+        sagaMetrics.recordHop(SagaHop.APPROVAL_RESPONSE_CONSUMED, sagaStatus, data.getCreatedAt());
+        sagaMetrics.recordCompletion(sagaStatus, sagaState.getCreatedAt());
 
         log.info("Order with id: {} is approved", data.getOrderId());
     }
@@ -68,86 +60,52 @@ public class OrderApprovalSaga implements SagaStep<RestaurantApprovalResponse> {
     @Override
     @Transactional
     public void rollback(RestaurantApprovalResponse data) {
-        Optional<OrderApprovalOutboxMessage> approvalOutboxMessageBySagaIdAndSagaStatus =
-                approvalOutboxHelper.getApprovalOutboxMessageBySagaIdAndSagaStatus(
-                        UUID.fromString(data.getSagaId()),
-                        SagaStatus.PROCESSING
-                );
-
-        if (approvalOutboxMessageBySagaIdAndSagaStatus.isEmpty()) {
-            log.info("An outbox message with saga id: {} is already roll backed!", data.getSagaId());
+        Optional<SagaState> sagaStateResponse = orderSagaHelper.findSagaState(data.getSagaId(), SagaStatus.PROCESSING);
+
+        if (sagaStateResponse.isEmpty()) {
+            log.info("A saga with id: {} is already roll backed!", data.getSagaId());
             return;
         }
 
-        OrderApprovalOutboxMessage orderApprovalOutboxMessage = approvalOutboxMessageBySagaIdAndSagaStatus.get();
-
+        SagaState sagaState = sagaStateResponse.get();
         OrderCancelledEvent orderCancelledEvent = rollbackOrder(data);
 
         Order order = orderCancelledEvent.getOrder();
         SagaStatus sagaStatus = orderSagaHelper.orderStatusToSagaStatus(order.getOrderStatus());
 
-        approvalOutboxHelper.save(
-                getUpdatedApprovalOutboxMessage(
-                        orderApprovalOutboxMessage,
-                        order.getOrderStatus(),
-                        sagaStatus)
-        );
+        orderSagaHelper.updateSagaState(sagaState, order.getOrderStatus(), sagaStatus);
+        orderSagaHelper.cacheSagaHopAfterCommit(data.getSagaId(), SagaHop.APPROVAL_RESPONSE_CONSUMED,
+                data.getOrderApprovalStatus(), sagaStatus);
 
         paymentOutboxHelper.savePaymentOutboxMessage(
                 orderDataMapper.orderCancelledEventToOrderPaymentEventPayload(orderCancelledEvent),
                 order.getOrderStatus(),
                 sagaStatus,
                 OutboxStatus.STARTED,
-                UUID.fromString(data.getSagaId())
+                data.getSagaId()
         );
 
+        sagaMetrics.recordHop(SagaHop.APPROVAL_RESPONSE_CONSUMED, sagaStatus, data.getCreatedAt());
+
         log.info("Order with id: {} is cancelling", order.getId().getValue());
     }
 
     private Order approveOrder(RestaurantApprovalResponse data) {
         log.info("Approving order with id: {}", data.getOrderId());
-        Order order = orderSagaHelper.findOrder(data.getOrderId());
+        Order order = orderSagaHelper.findOrderSagaView(data.getOrderId());
+        OrderStatus expectedStatus = order.getOrderStatus();
         orderDomainService.approveOrder(order);
-        orderSagaHelper.saveOrder(order);
+        orderSagaHelper.saveOrder(order, expectedStatus);
         return order;
     }
 
-    private OrderApprovalOutboxMessage getUpdatedApprovalOutboxMessage(OrderApprovalOutboxMessage orderApprovalOutboxMessage,
-                                                                       OrderStatus orderStatus,
-                                                                       SagaStatus sagaStatus) {
-
-        orderApprovalOutboxMessage.setProcessedAt(ZonedDateTime.now(ZoneId.of(UTC)));
-        orderApprovalOutboxMessage.setOrderStatus(orderStatus);
-        orderApprovalOutboxMessage.setSagaStatus(sagaStatus);
-        return orderApprovalOutboxMessage;
-    }
-
-    private OrderPaymentOutboxMessage getUpdatedPaymentOutboxMessage(String sagaId,
-                                                                     OrderStatus orderStatus,
-                                                                     SagaStatus sagaStatus) {
-        Optional<OrderPaymentOutboxMessage> paymentOutboxMessageBySagaIdAndSagaStatus = paymentOutboxHelper
-                .getPaymentOutboxMessageBySagaIdAndSagaStatus(UUID.fromString(sagaId), SagaStatus.PROCESSING);
-        if (paymentOutboxMessageBySagaIdAndSagaStatus.isEmpty()) {
-            throw new OrderDomainException(
-                    String.format("Payment outbox message cannot be found in %s state",
-                            SagaStatus.PROCESSING.name())
-            );
-        }
-
-        OrderPaymentOutboxMessage orderPaymentOutboxMessage = paymentOutboxMessageBySagaIdAndSagaStatus.get();
-        orderPaymentOutboxMessage.setProcessedAt(ZonedDateTime.now(ZoneId.of(UTC)));
-        orderPaymentOutboxMessage.setOrderStatus(orderStatus);
-        orderPaymentOutboxMessage.setSagaStatus(sagaStatus);
-
-        return orderPaymentOutboxMessage;
-    }
-
     private OrderCancelledEvent rollbackOrder(RestaurantApprovalResponse data) {
         log.info("Cancelling order with id: {}", data.getOrderId());
-        Order order = orderSagaHelper.findOrder(data.getOrderId());
+        Order order = orderSagaHelper.findOrderSagaView(data.getOrderId());
+        OrderStatus expectedStatus = order.getOrderStatus();
         OrderCancelledEvent orderCancelledEvent = orderDomainService.cancelOrderPayment(order,
                 data.getFailureMessages());
-        orderSagaHelper.saveOrder(order);
+        orderSagaHelper.saveOrder(order, expectedStatus);
         return orderCancelledEvent;
     }
 
@@ -1,8 +1,11 @@
 package com.food.ordering.system.order.service.domain;
 
+import com.food.ordering.system.domain.ShardKeys;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
+import com.food.ordering.system.order.service.domain.entity.Restaurant;
 import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
 import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
 import com.food.ordering.system.order.service.domain.outbox.scheduler.payment.PaymentOutboxHelper;
 import com.food.ordering.system.outbox.OutboxStatus;
@@ -13,6 +16,10 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 @Component
@@ -28,18 +35,53 @@ public class OrderCreateCommandHandler {
 
     @Transactional
     public CreateOrderResponse createOrder(CreateOrderCommand createOrderCommand) {
-        OrderCreatedEvent orderCreatedEvent = orderCreateHelper.persistOrder(createOrderCommand);
+        return startSaga(orderCreateHelper.persistOrder(createOrderCommand));
+    }
+
+    @Transactional
+    public List<OrderCreateResult> createOrders(List<CreateOrderCommand> createOrderCommands) {
+        Set<UUID> existingCustomerIds = orderCreateHelper.findExistingCustomerIds(createOrderCommands);
+        Map<UUID, Restaurant> restaurants = orderCreateHelper.findRestaurants(createOrderCommands);
+        // every order is validated before the first insert, so a failure while persisting rolls back the whole
+        // batch instead of leaving the rows of a rejected order behind
+        List<OrderCreatedEvent> orderCreatedEvents = new ArrayList<>(createOrderCommands.size());
+        List<OrderCreateResult> orderCreateResults = new ArrayList<>(createOrderCommands.size());
+        for (CreateOrderCommand createOrderCommand : createOrderCommands) {
+            try {
+                orderCreatedEvents.add(
+                        orderCreateHelper.initiateOrder(createOrderCommand, existingCustomerIds, restaurants));
+                orderCreateResults.add(null);
+            } catch (OrderDomainException e) {
+                log.warn("Order for customer id: {} is rejected: {}", createOrderCommand.getCustomerId(),
+                        e.getMessage());
+                orderCreatedEvents.add(null);
+                orderCreateResults.add(OrderCreateResult.failure(e));
+            }
+        }
+        for (int i = 0; i < orderCreatedEvents.size(); i++) {
+            if (orderCreatedEvents.get(i) != null) {
+                orderCreateResults.set(i, OrderCreateResult.success(
+                        startSaga(orderCreateHelper.persistOrder(orderCreatedEvents.get(i)))));
+            }
+        }
+        return orderCreateResults;
+    }
+
+    private CreateOrderResponse startSaga(OrderCreatedEvent orderCreatedEvent) {
         log.info("Order is created with id: {}", orderCreatedEvent.getOrder().getId().getValue());
 
         CreateOrderResponse createOrderResponse =
                 orderDataMapper.orderToCreateOrderResponse(orderCreatedEvent.getOrder(), "Order Created successfully");
 
+        UUID sagaId = ShardKeys.newId(orderCreatedEvent.getOrder().getCustomerId().getValue());
+        orderSagaHelper.startSaga(sagaId, orderCreatedEvent.getOrder().getOrderStatus(), orderCreatedEvent.getCreatedAt());
+
         paymentOutboxHelper.savePaymentOutboxMessage(
                 orderDataMapper.orderCreatedEventToOrderPaymentEventPayload(orderCreatedEvent),
                 orderCreatedEvent.getOrder().getOrderStatus(),
                 orderSagaHelper.orderStatusToSagaStatus(orderCreatedEvent.getOrder().getOrderStatus()),
                 OutboxStatus.STARTED,
-                UUID.randomUUID());
+                sagaId);
 
         log.info("Returning CreateOrderResponse with order id: {}", orderCreatedEvent.getOrder().getId());
 
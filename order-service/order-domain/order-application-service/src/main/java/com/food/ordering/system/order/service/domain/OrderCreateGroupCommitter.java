@@ -0,0 +1,206 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.ports.output.sharding.CustomerShardResolver;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+public class OrderCreateGroupCommitter implements DisposableBean {
+
+    private final OrderCreateCommandHandler orderCreateCommandHandler;
+    private final CustomerShardResolver customerShardResolver;
+    private final BlockingQueue<PendingOrder> pendingOrders = new LinkedBlockingQueue<>();
+    private final boolean enabled;
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+    private final long timeoutMs;
+    private final Thread committer;
+    private volatile boolean running = true;
+
+    public OrderCreateGroupCommitter(OrderCreateCommandHandler orderCreateCommandHandler,
+                                     CustomerShardResolver customerShardResolver,
+                                     OrderServiceConfigData orderServiceConfigData) {
+        this.orderCreateCommandHandler = orderCreateCommandHandler;
+        this.customerShardResolver = customerShardResolver;
+        this.enabled = orderServiceConfigData.isCreateOrderGroupCommitEnabled();
+        this.maxBatchSize = Math.max(1, orderServiceConfigData.getCreateOrderGroupCommitMaxBatchSize());
+        this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(orderServiceConfigData.getCreateOrderGroupCommitMaxDelayMs());
+        this.timeoutMs = orderServiceConfigData.getCreateOrderGroupCommitTimeoutMs();
+        this.committer = new Thread(this::run, "order-group-commit");
+        this.committer.setDaemon(true);
+        if (enabled) {
+            committer.start();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public CreateOrderResponse createOrder(CreateOrderCommand createOrderCommand) {
+        if (!running) {
+            throw new OrderDomainException("Order service is shutting down, order could not be created!");
+        }
+        PendingOrder pendingOrder = new PendingOrder(createOrderCommand);
+        pendingOrders.add(pendingOrder);
+        if (!running && pendingOrders.remove(pendingOrder)) {
+            throw new OrderDomainException("Order service is shutting down, order could not be created!");
+        }
+        try {
+            return pendingOrder.result.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new OrderDomainException("Order could not be created!", e.getCause());
+        } catch (TimeoutException e) {
+            if (pendingOrders.remove(pendingOrder)) {
+                throw new OrderDomainException("Order was not committed within " + timeoutMs +
+                        " ms, order could not be created!");
+            }
+            throw new OrderDomainException("Order commit did not finish within " + timeoutMs +
+                    " ms, order status is unknown!");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new OrderDomainException("Interrupted while waiting for the order to be created!", e);
+        }
+    }
+
+    public List<OrderCreateResult> createOrders(List<CreateOrderCommand> createOrderCommands) {
+        Map<Integer, List<Integer>> commandIndexesByShard = new LinkedHashMap<>();
+        for (int i = 0; i < createOrderCommands.size(); i++) {
+            commandIndexesByShard.computeIfAbsent(
+                    customerShardResolver.resolveShard(createOrderCommands.get(i).getCustomerId()),
+                    shard -> new ArrayList<>()).add(i);
+        }
+        if (commandIndexesByShard.size() <= 1) {
+            return createShardOrders(createOrderCommands);
+        }
+        OrderCreateResult[] orderCreateResults = new OrderCreateResult[createOrderCommands.size()];
+        commandIndexesByShard.values().forEach(commandIndexes -> {
+            List<OrderCreateResult> shardOrderCreateResults = createShardOrders(commandIndexes.stream()
+                    .map(createOrderCommands::get)
+                    .collect(Collectors.toList()));
+            for (int i = 0; i < commandIndexes.size(); i++) {
+                orderCreateResults[commandIndexes.get(i)] = shardOrderCreateResults.get(i);
+            }
+        });
+        return Arrays.asList(orderCreateResults);
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        committer.interrupt();
+        committer.join(TimeUnit.SECONDS.toMillis(30));
+        List<PendingOrder> remaining = new ArrayList<>();
+        pendingOrders.drainTo(remaining);
+        remaining.forEach(pendingOrder -> pendingOrder.result.completeExceptionally(
+                new OrderDomainException("Order service is shutting down, order could not be created!")));
+    }
+
+    private void run() {
+        while (running) {
+            PendingOrder first;
+            try {
+                first = pendingOrders.poll(100, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (first != null) {
+                List<PendingOrder> batch = collectBatch(first);
+                try {
+                    commit(batch);
+                } catch (Throwable e) {
+                    log.error("Group commit of {} orders failed unexpectedly", batch.size(), e);
+                    batch.forEach(pendingOrder -> pendingOrder.result.completeExceptionally(e));
+                }
+            }
+        }
+    }
+
+    private List<PendingOrder> collectBatch(PendingOrder first) {
+        List<PendingOrder> batch = new ArrayList<>(maxBatchSize);
+        batch.add(first);
+        long deadline = System.nanoTime() + maxDelayNanos;
+        while (batch.size() < maxBatchSize) {
+            long remaining = deadline - System.nanoTime();
+            PendingOrder next;
+            try {
+                next = remaining > 0 ? pendingOrders.poll(remaining, TimeUnit.NANOSECONDS) : pendingOrders.poll();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    private void commit(List<PendingOrder> batch) {
+        List<OrderCreateResult> orderCreateResults = createOrders(batch.stream()
+                .map(pendingOrder -> pendingOrder.createOrderCommand)
+                .collect(Collectors.toList()));
+        for (int i = 0; i < batch.size(); i++) {
+            OrderCreateResult orderCreateResult = orderCreateResults.get(i);
+            if (orderCreateResult.isSuccess()) {
+                batch.get(i).result.complete(orderCreateResult.getCreateOrderResponse());
+            } else {
+                batch.get(i).result.completeExceptionally(orderCreateResult.getException());
+            }
+        }
+    }
+
+    private List<OrderCreateResult> createShardOrders(List<CreateOrderCommand> createOrderCommands) {
+        try {
+            List<OrderCreateResult> orderCreateResults = orderCreateCommandHandler.createOrders(createOrderCommands);
+            log.info("Group commit persisted {} orders in one transaction", createOrderCommands.size());
+            return orderCreateResults;
+        } catch (RuntimeException e) {
+            log.warn("Group commit of {} orders failed, retrying them one by one", createOrderCommands.size(), e);
+            return createOrderCommands.stream()
+                    .map(this::createOrderAlone)
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private OrderCreateResult createOrderAlone(CreateOrderCommand createOrderCommand) {
+        try {
+            return OrderCreateResult.success(orderCreateCommandHandler.createOrder(createOrderCommand));
+        } catch (RuntimeException e) {
+            return OrderCreateResult.failure(e);
+        }
+    }
+
+    private static final class PendingOrder {
+        private final CreateOrderCommand createOrderCommand;
+        private final CompletableFuture<CreateOrderResponse> result = new CompletableFuture<>();
+
+        private PendingOrder(CreateOrderCommand createOrderCommand) {
+            this.createOrderCommand = createOrderCommand;
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.food.ordering.system.order.service.domain;
 
+import com.food.ordering.system.domain.valueobject.ProductId;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
 import com.food.ordering.system.order.service.domain.entity.Customer;
 import com.food.ordering.system.order.service.domain.entity.Order;
@@ -17,8 +19,14 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Component
 @Slf4j
@@ -35,15 +43,62 @@ public class OrderCreateHelper {
     public OrderCreatedEvent persistOrder(CreateOrderCommand createOrderCommand) {
         checkCustomer(createOrderCommand.getCustomerId());
         Restaurant restaurant = checkRestaurant(createOrderCommand);
+        return persistOrder(initiateOrder(createOrderCommand, restaurant));
+    }
 
-        Order order = orderDataMapper.createOrderCommandToOrder(createOrderCommand);
-        OrderCreatedEvent orderCreatedEvent = orderDomainService.validateAndInitiateOrder(order, restaurant);
-        saveOrder(order);
-
+    public OrderCreatedEvent persistOrder(OrderCreatedEvent orderCreatedEvent) {
+        saveOrder(orderCreatedEvent.getOrder());
         log.info("Order is created with id: {}", orderCreatedEvent.getOrder().getId().getValue());
         return orderCreatedEvent;
     }
 
+    public OrderCreatedEvent initiateOrder(CreateOrderCommand createOrderCommand,
+                                           Set<UUID> existingCustomerIds,
+                                           Map<UUID, Restaurant> restaurants) {
+        if (!existingCustomerIds.contains(createOrderCommand.getCustomerId())) {
+            log.warn("Could not find customer with customer id: {}", createOrderCommand.getCustomerId());
+            throw new OrderDomainException(
+                    String.format("Could not find customer with customer id: %s", createOrderCommand.getCustomerId())
+            );
+        }
+        Restaurant restaurant = restaurants.get(createOrderCommand.getRestaurantId());
+        if (restaurant == null) {
+            log.warn("Could not find restaurant with restaurant id: {}", createOrderCommand.getRestaurantId());
+            throw new OrderDomainException(
+                    String.format("Could not find restaurant with restaurant id: %s", createOrderCommand.getRestaurantId())
+            );
+        }
+        return initiateOrder(createOrderCommand, restaurant);
+    }
+
+    public Set<UUID> findExistingCustomerIds(List<CreateOrderCommand> createOrderCommands) {
+        Set<UUID> customerIds = createOrderCommands.stream()
+                .map(CreateOrderCommand::getCustomerId)
+                .collect(Collectors.toSet());
+        return customerRepository.findCustomers(customerIds).stream()
+                .map(customer -> customer.getId().getValue())
+                .collect(Collectors.toSet());
+    }
+
+    public Map<UUID, Restaurant> findRestaurants(List<CreateOrderCommand> createOrderCommands) {
+        Map<UUID, Set<ProductId>> productIdsByRestaurant = new LinkedHashMap<>();
+        createOrderCommands.forEach(createOrderCommand -> createOrderCommand.getOrderItemList()
+                .forEach(orderItem -> productIdsByRestaurant
+                        .computeIfAbsent(createOrderCommand.getRestaurantId(), id -> new LinkedHashSet<>())
+                        .add(new ProductId(orderItem.getProductId()))));
+
+        Map<UUID, Restaurant> restaurants = new LinkedHashMap<>();
+        productIdsByRestaurant.forEach((restaurantId, productIds) -> restaurantRepository
+                .findRestaurantInformation(new RestaurantId(restaurantId), productIds)
+                .ifPresent(restaurant -> restaurants.put(restaurantId, restaurant)));
+        return restaurants;
+    }
+
+    private OrderCreatedEvent initiateOrder(CreateOrderCommand createOrderCommand, Restaurant restaurant) {
+        Order order = orderDataMapper.createOrderCommandToOrder(createOrderCommand);
+        return orderDomainService.validateAndInitiateOrder(order, restaurant);
+    }
+
     private Restaurant checkRestaurant(CreateOrderCommand createOrderCommand) {
         Restaurant orderCommandToRestaurant = orderDataMapper.createOrderCommandToRestaurant(createOrderCommand);
         Optional<Restaurant> restaurantInformation = restaurantRepository.findRestaurantInformation(orderCommandToRestaurant);
@@ -68,7 +123,7 @@ public class OrderCreateHelper {
     }
 
     private Order saveOrder(Order order) {
-        Order savedOrder = orderRepository.save(order);
+        Order savedOrder = orderRepository.insert(order);
         if (savedOrder == null) {
             log.error("Could not save order!");
             throw new OrderDomainException("Could not save order!");
@@ -0,0 +1,28 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public class OrderCreateResult {
+
+    CreateOrderResponse createOrderResponse;
+    RuntimeException exception;
+
+    public static OrderCreateResult success(CreateOrderResponse createOrderResponse) {
+        return new OrderCreateResult(createOrderResponse, null);
+    }
+
+    public static OrderCreateResult failure(RuntimeException exception) {
+        return new OrderCreateResult(null, exception);
+    }
+
+    public boolean isSuccess() {
+        return exception == null;
+    }
+}
@@ -5,13 +5,12 @@ import com.food.ordering.system.domain.valueobject.PaymentStatus;
 import com.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
-import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
 import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
-import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalOutboxMessage;
-import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentOutboxMessage;
 import com.food.ordering.system.order.service.domain.outbox.scheduler.approval.ApprovalOutboxHelper;
-import com.food.ordering.system.order.service.domain.outbox.scheduler.payment.PaymentOutboxHelper;
 import com.food.ordering.system.outbox.OutboxStatus;
+import com.food.ordering.system.saga.SagaHop;
+import com.food.ordering.system.saga.SagaMetrics;
+import com.food.ordering.system.saga.SagaState;
 import com.food.ordering.system.saga.SagaStatus;
 import com.food.ordering.system.saga.SagaStep;
 import lombok.AccessLevel;
@@ -21,12 +20,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.ZoneId;
-import java.time.ZonedDateTime;
 import java.util.Optional;
-import java.util.UUID;
-
-import static com.food.ordering.system.domain.DomainConstants.UTC;
 
 
 @Slf4j
@@ -37,124 +31,90 @@ public class OrderPaymentSaga implements SagaStep<PaymentResponse> {
 
     OrderDomainService orderDomainService;
     OrderSagaHelper orderSagaHelper;
-    PaymentOutboxHelper paymentOutboxHelper;
     ApprovalOutboxHelper approvalOutboxHelper;
     OrderDataMapper orderDataMapper;
+    SagaMetrics sagaMetrics;
 
     @Override
     @Transactional
     public void process(PaymentResponse paymentResponse) {
-        Optional<OrderPaymentOutboxMessage> paymentOutboxMessageBySagaIdAndSagaStatus = paymentOutboxHelper
-                .getPaymentOutboxMessageBySagaIdAndSagaStatus(
-                        UUID.fromString(paymentResponse.getSagaId()),
-                        SagaStatus.STARTED
-                );
-
-        if (paymentOutboxMessageBySagaIdAndSagaStatus.isEmpty()) {
-            log.info("An outbox with saga id: {} is already processed!", paymentResponse.getSagaId());
+        Optional<SagaState> sagaStateResponse =
+                orderSagaHelper.findSagaState(paymentResponse.getSagaId(), SagaStatus.STARTED);
+
+        if (sagaStateResponse.isEmpty()) {
+            log.info("A saga with id: {} is already processed!", paymentResponse.getSagaId());
             return;
         }
 
-        OrderPaymentOutboxMessage orderPaymentOutboxMessage = paymentOutboxMessageBySagaIdAndSagaStatus.get();
+        SagaState sagaState = sagaStateResponse.get();
         OrderPaidEvent orderPaidEvent = completePaymentForOrder(paymentResponse);
         SagaStatus sagaStatus = orderSagaHelper.orderStatusToSagaStatus(orderPaidEvent.getOrder().getOrderStatus());
 
-        paymentOutboxHelper.save(getUpdatedPaymentOutboxMessage(orderPaymentOutboxMessage,
-                orderPaidEvent.getOrder().getOrderStatus(), sagaStatus));
+        orderSagaHelper.updateSagaState(sagaState, orderPaidEvent.getOrder().getOrderStatus(), sagaStatus);
+        orderSagaHelper.cacheSagaHopAfterCommit(paymentResponse.getSagaId(), SagaHop.PAYMENT_RESPONSE_CONSUMED,
+                paymentResponse.getPaymentStatus(), sagaStatus);
 
         approvalOutboxHelper.saveApprovalOutboxMessage(orderDataMapper.toOrderApprovalEventPayload(orderPaidEvent),
                 orderPaidEvent.getOrder().getOrderStatus(),
                 sagaStatus,
                 OutboxStatus.STARTED,
-                UUID.fromString(paymentResponse.getSagaId())
+                paymentResponse.getSagaId()
         );
 
+        sagaMetrics.recordHop(SagaHop.PAYMENT_RESPONSE_CONSUMED, sagaStatus, paymentResponse.getCreatedAt());
+
         log.info("Order with id: {} is paid", orderPaidEvent.getOrder().getId().getValue());
     }
 
     @Override
     @Transactional
     public void rollback(PaymentResponse data) {
+        Optional<SagaState> sagaStateResponse =
+                orderSagaHelper.findSagaState(data.getSagaId(), getCurrentSagaStatus(data.getPaymentStatus()));
 
-        Optional<OrderPaymentOutboxMessage> paymentOutboxMessageBySagaIdAndSagaStatus = paymentOutboxHelper
-                .getPaymentOutboxMessageBySagaIdAndSagaStatus(
-                        UUID.fromString(data.getSagaId()),
-                        getCurrentSagaStatus(data.getPaymentStatus())
-                );
-
-        if (paymentOutboxMessageBySagaIdAndSagaStatus.isEmpty()) {
-            log.info("An outbox with saga id: {} is already roll backed!", data.getSagaId());
+        if (sagaStateResponse.isEmpty()) {
+            log.info("A saga with id: {} is already roll backed!", data.getSagaId());
             return;
         }
 
-        OrderPaymentOutboxMessage orderPaymentOutboxMessage = paymentOutboxMessageBySagaIdAndSagaStatus.get();
-
+        SagaState sagaState = sagaStateResponse.get();
         Order order = rollbackPaymentForOrder(data);
         SagaStatus sagaStatus = orderSagaHelper.orderStatusToSagaStatus(order.getOrderStatus());
 
-        paymentOutboxHelper.save(getUpdatedPaymentOutboxMessage(
-                orderPaymentOutboxMessage,
-                order.getOrderStatus(),
-                sagaStatus));
+        orderSagaHelper.updateSagaState(sagaState, order.getOrderStatus(), sagaStatus);
+        orderSagaHelper.cacheSagaHopAfterCommit(data.getSagaId(), SagaHop.PAYMENT_RESPONSE_CONSUMED,
+                data.getPaymentStatus(), sagaStatus);
 
-        if (data.getPaymentStatus() == PaymentStatus.CANCELLED) {
-            approvalOutboxHelper.save(getUpdatedApprovalOutboxMessage(data.getSagaId(),
-                    order.getOrderStatus(), sagaStatus));
-        }
+        sagaMetrics.recordHop(SagaHop.PAYMENT_RESPONSE_CONSUMED, sagaStatus, data.getCreatedAt());
+        sagaMetrics.recordCompletion(sagaStatus, sagaState.getCreatedAt());
 
         log.info("Order with id: {} is cancelled", order.getId().getValue());
     }
 
-    private OrderPaymentOutboxMessage getUpdatedPaymentOutboxMessage(OrderPaymentOutboxMessage orderPaymentOutboxMessage,
-                                                                     OrderStatus orderStatus,
-                                                                     SagaStatus sagaStatus) {
-        orderPaymentOutboxMessage.setProcessedAt(ZonedDateTime.now(ZoneId.of(UTC)));
-        orderPaymentOutboxMessage.setOrderStatus(orderStatus);
-        orderPaymentOutboxMessage.setSagaStatus(sagaStatus);
-        return orderPaymentOutboxMessage;
-    }
-
     private OrderPaidEvent completePaymentForOrder(PaymentResponse paymentResponse) {
         log.info("Completing payment for order with id: {}", paymentResponse.getOrderId());
         Order order = orderSagaHelper.findOrder(paymentResponse.getOrderId());
+        OrderStatus expectedStatus = order.getOrderStatus();
         OrderPaidEvent orderPaidEvent = orderDomainService.payOrder(order);
-        orderSagaHelper.saveOrder(order);
+        orderSagaHelper.saveOrder(order, expectedStatus);
         return orderPaidEvent;
     }
 
     private SagaStatus[] getCurrentSagaStatus(PaymentStatus paymentStatus) {
         return switch (paymentStatus) {
             case COMPLETED -> new SagaStatus[] {SagaStatus.STARTED};
-            case CANCELLED -> new SagaStatus[] {SagaStatus.PROCESSING};
+            case CANCELLED -> new SagaStatus[] {SagaStatus.COMPENSATING};
             case FAILED -> new SagaStatus[] {SagaStatus.STARTED, SagaStatus.PROCESSING};
         };
     }
 
     private Order rollbackPaymentForOrder(PaymentResponse data) {
         log.info("Cancelling payment for order with id: {}", data.getOrderId());
-        Order order = orderSagaHelper.findOrder(data.getOrderId());
+        Order order = orderSagaHelper.findOrderSagaView(data.getOrderId());
+        OrderStatus expectedStatus = order.getOrderStatus();
         orderDomainService.cancelOrder(order, data.getFailureMessages());
-        orderSagaHelper.saveOrder(order);
+        orderSagaHelper.saveOrder(order, expectedStatus);
         return order;
     }
 
-    private OrderApprovalOutboxMessage getUpdatedApprovalOutboxMessage(String sagaId, OrderStatus orderStatus, SagaStatus sagaStatus) {
-
-
-        Optional<OrderApprovalOutboxMessage> approvalOutboxMessageBySagaIdAndSagaStatus = approvalOutboxHelper
-                .getApprovalOutboxMessageBySagaIdAndSagaStatus(UUID.fromString(sagaId), SagaStatus.COMPENSATING);
-
-        if (approvalOutboxMessageBySagaIdAndSagaStatus.isEmpty()) {
-            throw new OrderDomainException("Approval outbox message could not be found in " + SagaStatus.COMPENSATING.name() + " status");
-        }
-
-        OrderApprovalOutboxMessage orderApprovalOutboxMessage = approvalOutboxMessageBySagaIdAndSagaStatus.get();
-        orderApprovalOutboxMessage.setProcessedAt(ZonedDateTime.now(ZoneId.of(UTC)));
-        orderApprovalOutboxMessage.setOrderStatus(orderStatus);
-        orderApprovalOutboxMessage.setSagaStatus(sagaStatus);
-        return orderApprovalOutboxMessage;
-    }
-
-
-
 }
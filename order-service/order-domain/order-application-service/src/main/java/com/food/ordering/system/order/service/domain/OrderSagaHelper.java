@@ -5,35 +5,101 @@ import com.food.ordering.system.domain.valueobject.OrderId;
 import com.food.ordering.system.domain.valueobject.OrderStatus;
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.exception.OrderNotFoundException;
+import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
+import com.food.ordering.system.order.service.domain.ports.output.message.publisher.orderstatus.OrderStatusChangedMessagePublisher;
 import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import com.food.ordering.system.saga.SagaHop;
+import com.food.ordering.system.saga.SagaIdempotencyCache;
+import com.food.ordering.system.saga.SagaState;
+import com.food.ordering.system.saga.SagaStateRepository;
 import com.food.ordering.system.saga.SagaStatus;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
 
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
 import java.util.Optional;
 import java.util.UUID;
 
+import static com.food.ordering.system.domain.DomainConstants.UTC;
+import static com.food.ordering.system.saga.order.SagaConstant.ORDER_SAGA_NAME;
+
 @Slf4j
 @Component
 @FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
 @AllArgsConstructor
 public class OrderSagaHelper {
     OrderRepository orderRepository;
+    SagaStateRepository sagaStateRepository;
+    OrderDataMapper orderDataMapper;
+    SagaIdempotencyCache sagaIdempotencyCache;
+    OrderStatusChangedMessagePublisher orderStatusChangedMessagePublisher;
 
-    public Order findOrder(String orderId) {
-        Optional<Order> order = orderRepository.findById(new OrderId(UUID.fromString(orderId)));
-        if (order.isEmpty()) {
-            log.error("Order with id: {} could not be found!", orderId);
-            throw new OrderNotFoundException(String.format("Order with id: %s could not be found!", orderId));
+    public Order findOrder(UUID orderId) {
+        return checkOrder(orderRepository.findById(new OrderId(orderId)), orderId);
+    }
+
+    public Order findOrderSagaView(UUID orderId) {
+        return checkOrder(orderRepository.findSagaViewById(new OrderId(orderId)), orderId);
+    }
+
+    public void saveOrder(Order order, OrderStatus expectedStatus) {
+        boolean updated = orderRepository.updateStatus(order.getId(), expectedStatus, order.getOrderStatus(),
+                order.getFailureMessages());
+        if (!updated) {
+            log.error("Order with id: {} is no longer in {} status, could not move it to {}",
+                    order.getId().getValue(), expectedStatus, order.getOrderStatus());
+            throw new OptimisticLockingFailureException(String.format(
+                    "Order with id: %s is no longer in %s status, could not move it to %s",
+                    order.getId().getValue(), expectedStatus, order.getOrderStatus()));
         }
-        return order.get();
+        orderStatusChangedMessagePublisher.publish(orderDataMapper.orderToTrackOrderResponse(order));
+    }
+
+    public void startSaga(UUID sagaId, OrderStatus orderStatus, ZonedDateTime createdAt) {
+        sagaStateRepository.insert(SagaState.builder()
+                .sagaId(sagaId)
+                .type(ORDER_SAGA_NAME)
+                .createdAt(createdAt)
+                .sagaStatus(orderStatusToSagaStatus(orderStatus))
+                .orderStatus(orderStatus)
+                .build());
     }
 
-    public void saveOrder(Order order) {
-        orderRepository.save(order);
+    public Optional<SagaState> findSagaState(UUID sagaId, SagaStatus... sagaStatuses) {
+        return sagaStateRepository.findByTypeAndSagaId(ORDER_SAGA_NAME, sagaId)
+                .filter(sagaState -> sagaState.isIn(sagaStatuses));
+    }
+
+    public void updateSagaState(SagaState sagaState, OrderStatus orderStatus, SagaStatus sagaStatus) {
+        boolean updated = sagaStateRepository.updateStatus(ORDER_SAGA_NAME,
+                sagaState.getSagaId(),
+                sagaState.getVersion(),
+                sagaStatus,
+                orderStatus,
+                ZonedDateTime.now(ZoneId.of(UTC)));
+        if (!updated) {
+            log.error("Saga with id: {} was updated concurrently, expected version: {}",
+                    sagaState.getSagaId(), sagaState.getVersion());
+            throw new OptimisticLockingFailureException(String.format(
+                    "Saga with id: %s was updated concurrently, expected version: %d",
+                    sagaState.getSagaId(), sagaState.getVersion()));
+        }
+    }
+
+    public boolean isSagaHopProcessed(UUID sagaId, SagaHop sagaHop, Enum<?> responseStatus) {
+        Optional<String> outcome = sagaIdempotencyCache.get(sagaId, sagaHopStep(sagaHop, responseStatus));
+        outcome.ifPresent(sagaStatus -> log.info("A saga with id: {} already processed {} for {} with saga status: {}",
+                sagaId, sagaHop, responseStatus, sagaStatus));
+        return outcome.isPresent();
+    }
+
+    public void cacheSagaHopAfterCommit(UUID sagaId, SagaHop sagaHop, Enum<?> responseStatus, SagaStatus sagaStatus) {
+        sagaIdempotencyCache.putAfterCommit(sagaId, sagaHopStep(sagaHop, responseStatus), sagaStatus.name());
     }
 
     public SagaStatus orderStatusToSagaStatus(OrderStatus orderStatus) {
@@ -45,4 +111,16 @@ public class OrderSagaHelper {
             default -> SagaStatus.STARTED;
         };
     }
+
+    private String sagaHopStep(SagaHop sagaHop, Enum<?> responseStatus) {
+        return sagaHop.name() + ":" + responseStatus.name();
+    }
+
+    private Order checkOrder(Optional<Order> order, UUID orderId) {
+        if (order.isEmpty()) {
+            log.error("Order with id: {} could not be found!", orderId);
+            throw new OrderNotFoundException(String.format("Order with id: %s could not be found!", orderId));
+        }
+        return order.get();
+    }
 }
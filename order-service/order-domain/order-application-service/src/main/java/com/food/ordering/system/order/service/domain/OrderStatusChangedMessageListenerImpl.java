@@ -0,0 +1,32 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.ports.input.message.listener.orderstatus.OrderStatusChangedMessageListener;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+@Service
+@Slf4j
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+@AllArgsConstructor
+public class OrderStatusChangedMessageListenerImpl implements OrderStatusChangedMessageListener {
+    OrderTrackingCache orderTrackingCache;
+    OrderStatusSubscriptionRegistry orderStatusSubscriptionRegistry;
+
+    @Override
+    public void orderStatusChanged(TrackOrderResponse trackOrderResponse) {
+        orderTrackingCache.put(trackOrderResponse);
+        orderStatusSubscriptionRegistry.publish(trackOrderResponse);
+        log.debug("Order status of tracking id: {} changed to {}", trackOrderResponse.getOrderTrackingId(),
+                trackOrderResponse.getOrderStatus());
+    }
+
+    @Override
+    public void orderStatusChangesMissed() {
+        orderTrackingCache.evictNonFinal();
+        log.info("Order status changes may have been missed, evicted cached non-final order statuses");
+    }
+}
@@ -0,0 +1,101 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+@Slf4j
+@Component
+public class OrderStatusSubscriptionRegistry implements DisposableBean {
+
+    private final Map<UUID, Set<Subscription>> subscribers = new ConcurrentHashMap<>();
+    private final ExecutorService dispatcher;
+
+    public OrderStatusSubscriptionRegistry(OrderServiceConfigData orderServiceConfigData) {
+        AtomicInteger threadCount = new AtomicInteger();
+        this.dispatcher = Executors.newFixedThreadPool(
+                Math.max(1, orderServiceConfigData.getOrderStatusDispatcherThreads()), runnable -> {
+                    Thread thread = new Thread(runnable, "order-status-dispatcher-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    public Runnable subscribe(UUID trackingId, Consumer<TrackOrderResponse> subscriber) {
+        Subscription subscription = new Subscription(subscriber);
+        subscribers.compute(trackingId, (id, trackingSubscribers) -> {
+            Set<Subscription> updatedSubscribers =
+                    trackingSubscribers == null ? ConcurrentHashMap.newKeySet() : trackingSubscribers;
+            updatedSubscribers.add(subscription);
+            return updatedSubscribers;
+        });
+        return () -> subscribers.computeIfPresent(trackingId, (id, trackingSubscribers) -> {
+            trackingSubscribers.remove(subscription);
+            return trackingSubscribers.isEmpty() ? null : trackingSubscribers;
+        });
+    }
+
+    public void publish(TrackOrderResponse trackOrderResponse) {
+        Set<Subscription> trackingSubscribers = subscribers.get(trackOrderResponse.getOrderTrackingId());
+        if (trackingSubscribers != null) {
+            trackingSubscribers.forEach(subscription -> subscription.offer(trackOrderResponse));
+        }
+    }
+
+    @Override
+    public void destroy() {
+        dispatcher.shutdownNow();
+        subscribers.clear();
+    }
+
+    private final class Subscription {
+        private final Consumer<TrackOrderResponse> subscriber;
+        private final AtomicReference<TrackOrderResponse> pending = new AtomicReference<>();
+
+        private Subscription(Consumer<TrackOrderResponse> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        private void offer(TrackOrderResponse trackOrderResponse) {
+            if (pending.getAndSet(trackOrderResponse) == null) {
+                schedule(trackOrderResponse);
+            }
+        }
+
+        private void deliver() {
+            TrackOrderResponse trackOrderResponse = pending.get();
+            try {
+                subscriber.accept(trackOrderResponse);
+            } catch (RuntimeException e) {
+                log.warn("Could not notify order status subscriber for tracking id: {}",
+                        trackOrderResponse.getOrderTrackingId(), e);
+            }
+            if (!pending.compareAndSet(trackOrderResponse, null)) {
+                schedule(pending.get());
+            }
+        }
+
+        private void schedule(TrackOrderResponse trackOrderResponse) {
+            try {
+                dispatcher.execute(this::deliver);
+            } catch (RejectedExecutionException e) {
+                pending.set(null);
+                log.warn("Order status dispatcher is shut down, dropping status {} for tracking id: {}",
+                        trackOrderResponse.getOrderStatus(), trackOrderResponse.getOrderTrackingId());
+            }
+        }
+    }
+}
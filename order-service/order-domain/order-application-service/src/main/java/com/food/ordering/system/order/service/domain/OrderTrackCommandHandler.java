@@ -2,17 +2,13 @@ package com.food.ordering.system.order.service.domain;
 
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderQuery;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
-import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.exception.OrderNotFoundException;
-import com.food.ordering.system.order.service.domain.mapper.OrderDataMapper;
-import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
 import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -22,14 +18,18 @@ import java.util.Optional;
 @AllArgsConstructor
 public class OrderTrackCommandHandler {
 
-    OrderDataMapper orderDataMapper;
-    OrderRepository orderRepository;
+    OrderTrackHelper orderTrackHelper;
+    OrderTrackingCache orderTrackingCache;
 
-    @Transactional(readOnly = true)
     public TrackOrderResponse trackOrder(TrackOrderQuery trackOrderQuery) {
-        Optional<Order> optionalOrder = orderRepository.findByTrackingId(new TrackingId(trackOrderQuery.getTrackingId()));
+        Optional<TrackOrderResponse> cachedResponse = orderTrackingCache.get(trackOrderQuery.getTrackingId());
+        if (cachedResponse.isPresent()) {
+            return cachedResponse.get();
+        }
 
-        if (optionalOrder.isEmpty()) {
+        Optional<TrackOrderResponse> trackOrderResponse =
+                orderTrackHelper.findTracking(new TrackingId(trackOrderQuery.getTrackingId()));
+        if (trackOrderResponse.isEmpty()) {
             log.warn("Could not find order with tracking id: {}", trackOrderQuery.getTrackingId());
             throw new OrderNotFoundException(
                     String.format("Could not find order with tracking id: %s",
@@ -37,6 +37,7 @@ public class OrderTrackCommandHandler {
             );
         }
 
-        return orderDataMapper.orderToTrackOrderResponse(optionalOrder.get());
+        orderTrackingCache.putIfAbsent(trackOrderResponse.get());
+        return trackOrderResponse.get();
     }
 }
@@ -0,0 +1,28 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderArchiveRepository;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderRepository;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+@Component
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+@AllArgsConstructor
+public class OrderTrackHelper {
+
+    OrderRepository orderRepository;
+    OrderArchiveRepository orderArchiveRepository;
+
+    @Transactional
+    public Optional<TrackOrderResponse> findTracking(TrackingId trackingId) {
+        return orderRepository.findTrackingByTrackingId(trackingId)
+                .or(() -> orderArchiveRepository.findArchivedTrackingByTrackingId(trackingId));
+    }
+}
@@ -0,0 +1,91 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+public class OrderTrackingCache {
+
+    private static final Set<OrderStatus> FINAL_ORDER_STATUSES =
+            EnumSet.of(OrderStatus.APPROVED, OrderStatus.CANCELLED);
+
+    private final Map<UUID, CachedTracking> trackingResponses;
+    private final long ttlNanos;
+
+    public OrderTrackingCache(OrderServiceConfigData orderServiceConfigData) {
+        int maxSize = orderServiceConfigData.getTrackingCacheMaxSize();
+        this.ttlNanos = TimeUnit.MILLISECONDS.toNanos(orderServiceConfigData.getTrackingCacheTtlMs());
+        // access ordered, so the least recently read tracking id is evicted once the cache is full
+        this.trackingResponses = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, CachedTracking> eldest) {
+                if (size() <= maxSize) {
+                    return false;
+                }
+                log.debug("Tracking cache is full, evicted tracking id: {}", eldest.getKey());
+                return true;
+            }
+        };
+    }
+
+    public synchronized Optional<TrackOrderResponse> get(UUID trackingId) {
+        CachedTracking cachedTracking = trackingResponses.get(trackingId);
+        if (cachedTracking == null) {
+            return Optional.empty();
+        }
+        if (cachedTracking.isExpired(System.nanoTime())) {
+            trackingResponses.remove(trackingId);
+            return Optional.empty();
+        }
+        return Optional.of(cachedTracking.trackOrderResponse);
+    }
+
+    public synchronized void put(TrackOrderResponse trackOrderResponse) {
+        trackingResponses.put(trackOrderResponse.getOrderTrackingId(), toCachedTracking(trackOrderResponse));
+    }
+
+    public synchronized void putIfAbsent(TrackOrderResponse trackOrderResponse) {
+        CachedTracking current = trackingResponses.get(trackOrderResponse.getOrderTrackingId());
+        if (current == null || current.isExpired(System.nanoTime())) {
+            put(trackOrderResponse);
+        }
+    }
+
+    public synchronized void evictNonFinal() {
+        trackingResponses.values().removeIf(cachedTracking -> !cachedTracking.finalStatus);
+    }
+
+    private CachedTracking toCachedTracking(TrackOrderResponse trackOrderResponse) {
+        return new CachedTracking(trackOrderResponse,
+                FINAL_ORDER_STATUSES.contains(trackOrderResponse.getOrderStatus()),
+                System.nanoTime() + ttlNanos);
+    }
+
+    private static class CachedTracking {
+        private final TrackOrderResponse trackOrderResponse;
+        private final boolean finalStatus;
+        private final long expiresAtNanos;
+
+        private CachedTracking(TrackOrderResponse trackOrderResponse, boolean finalStatus, long expiresAtNanos) {
+            this.trackOrderResponse = trackOrderResponse;
+            this.finalStatus = finalStatus;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+
+        private boolean isExpired(long nowNanos) {
+            return !finalStatus && nowNanos - expiresAtNanos >= 0;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.food.ordering.system.order.service.domain;
 
 import com.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
 import com.food.ordering.system.order.service.domain.ports.input.message.listener.payment.PaymentResponseMessageListener;
+import com.food.ordering.system.saga.SagaHop;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.experimental.FieldDefaults;
@@ -18,18 +19,30 @@ import static com.food.ordering.system.order.service.domain.entity.Order.FAILURE
 public class PaymentResponseMessageListenerImpl implements PaymentResponseMessageListener {
 
     OrderPaymentSaga orderPaymentSaga;
+    OrderSagaHelper orderSagaHelper;
 
     @Override
     public void paymentCompleted(PaymentResponse paymentResponse) {
+        if (isProcessed(paymentResponse)) {
+            return;
+        }
         orderPaymentSaga.process(paymentResponse);
         log.info("Order payment Saga for order id: {} is completed", paymentResponse.getOrderId());
     }
 
     @Override
     public void paymentCancelled(PaymentResponse paymentResponse) {
+        if (isProcessed(paymentResponse)) {
+            return;
+        }
         orderPaymentSaga.rollback(paymentResponse);
         log.info("Order is roll backed for order id: {} with failure messages: {}",
                 paymentResponse.getOrderId(),
                 String.join(FAILURE_MESSAGE_DELIMITER, paymentResponse.getFailureMessages()));
     }
+
+    private boolean isProcessed(PaymentResponse paymentResponse) {
+        return orderSagaHelper.isSagaHopProcessed(paymentResponse.getSagaId(), SagaHop.PAYMENT_RESPONSE_CONSUMED,
+                paymentResponse.getPaymentStatus());
+    }
 }
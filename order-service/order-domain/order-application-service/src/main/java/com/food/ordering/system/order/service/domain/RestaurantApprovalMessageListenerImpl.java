@@ -3,6 +3,7 @@ package com.food.ordering.system.order.service.domain;
 import com.food.ordering.system.order.service.domain.dto.message.RestaurantApprovalResponse;
 import com.food.ordering.system.order.service.domain.event.OrderCancelledEvent;
 import com.food.ordering.system.order.service.domain.ports.input.message.listener.restaurantapproval.RestaurantApprovalMessageListener;
+import com.food.ordering.system.saga.SagaHop;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.experimental.FieldDefaults;
@@ -19,18 +20,30 @@ import static com.food.ordering.system.order.service.domain.entity.Order.FAILURE
 @AllArgsConstructor
 public class RestaurantApprovalMessageListenerImpl implements RestaurantApprovalMessageListener {
     OrderApprovalSaga orderApprovalSaga;
+    OrderSagaHelper orderSagaHelper;
 
     @Override
     public void orderApproved(RestaurantApprovalResponse restaurantApprovalResponse) {
+        if (isProcessed(restaurantApprovalResponse)) {
+            return;
+        }
         orderApprovalSaga.process(restaurantApprovalResponse);
         log.info("Order is approved for order id: {}", restaurantApprovalResponse.getOrderId());
     }
 
     @Override
     public void orderRejected(RestaurantApprovalResponse restaurantApprovalResponse) {
+        if (isProcessed(restaurantApprovalResponse)) {
+            return;
+        }
         orderApprovalSaga.rollback(restaurantApprovalResponse);
         log.info("Order cancelled saga for order id: {} with failure messages: {} is completed",
                 restaurantApprovalResponse.getOrderId(),
                 String.join(FAILURE_MESSAGE_DELIMITER, restaurantApprovalResponse.getFailureMessages()));
     }
+
+    private boolean isProcessed(RestaurantApprovalResponse restaurantApprovalResponse) {
+        return orderSagaHelper.isSagaHopProcessed(restaurantApprovalResponse.getSagaId(),
+                SagaHop.APPROVAL_RESPONSE_CONSUMED, restaurantApprovalResponse.getOrderApprovalStatus());
+    }
 }
@@ -0,0 +1,58 @@
+package com.food.ordering.system.order.service.domain.archive;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.ports.output.repository.OrderArchiveRepository;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.experimental.FieldDefaults;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+import static com.food.ordering.system.domain.DomainConstants.UTC;
+
+@Slf4j
+@Component
+@AllArgsConstructor
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public class OrderArchiveScheduler implements InitializingBean {
+
+    private static final List<OrderStatus> TERMINAL_ORDER_STATUSES =
+            List.of(OrderStatus.APPROVED, OrderStatus.CANCELLED);
+
+    OrderArchiveRepository orderArchiveRepository;
+    OrderServiceConfigData orderServiceConfigData;
+
+    @Override
+    public void afterPropertiesSet() {
+        preparePartitions();
+    }
+
+    @Scheduled(cron = "@midnight")
+    public void archiveOrders() {
+        preparePartitions();
+        ZonedDateTime createdBefore = ZonedDateTime.now(ZoneId.of(UTC))
+                .minusDays(orderServiceConfigData.getOrderArchiveAfterDays());
+        int archivedOrders = 0;
+        int archivedBatch;
+        do {
+            archivedBatch = orderArchiveRepository.archiveOrders(TERMINAL_ORDER_STATUSES, createdBefore,
+                    orderServiceConfigData.getOrderArchiveBatchSize());
+            archivedOrders += archivedBatch;
+        } while (archivedBatch > 0);
+        int droppedPartitions = orderArchiveRepository.dropEmptyPartitions(createdBefore);
+        log.info("Archived {} orders created before {} and dropped {} empty order partitions",
+                archivedOrders, createdBefore, droppedPartitions);
+    }
+
+    private void preparePartitions() {
+        orderArchiveRepository.preparePartitions(ZonedDateTime.now(ZoneId.of(UTC))
+                .plusMonths(orderServiceConfigData.getOrderPartitionMonthsAhead()));
+    }
+}
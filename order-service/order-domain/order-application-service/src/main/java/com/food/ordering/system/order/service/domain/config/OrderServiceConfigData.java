@@ -12,4 +12,20 @@ public class OrderServiceConfigData {
     private String paymentResponseTopicName;
     private String restaurantApprovalRequestTopicName;
     private String restaurantApprovalResponseTopicName;
+    private int trackingCacheMaxSize = 100_000;
+    private long trackingCacheTtlMs = 2_000;
+    private int idempotencyCacheMaxSize = 100_000;
+    private long idempotencyCacheTtlSeconds = 600;
+    private boolean createOrderGroupCommitEnabled = false;
+    private int createOrderGroupCommitMaxBatchSize = 64;
+    private long createOrderGroupCommitMaxDelayMs = 5;
+    private long createOrderGroupCommitTimeoutMs = 30_000;
+    private int createOrderBatchMaxSize = 500;
+    private long orderStatusStreamTimeoutMs = 300_000;
+    private int orderStatusDispatcherThreads = 4;
+    private long orderStatusNotificationPollMs = 500;
+    private long orderStatusNotificationReconnectMs = 5_000;
+    private int orderArchiveAfterDays = 30;
+    private int orderArchiveBatchSize = 1_000;
+    private int orderPartitionMonthsAhead = 2;
 }
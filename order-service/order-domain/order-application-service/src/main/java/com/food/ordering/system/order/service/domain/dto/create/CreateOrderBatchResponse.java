@@ -0,0 +1,23 @@
+package com.food.ordering.system.order.service.domain.dto.create;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+
+import javax.validation.constraints.NotNull;
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public class CreateOrderBatchResponse {
+    int createdCount;
+
+    int failedCount;
+
+    @NotNull
+    List<CreateOrderBatchResult> results;
+}
@@ -0,0 +1,21 @@
+package com.food.ordering.system.order.service.domain.dto.create;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public class CreateOrderBatchResult {
+    int index;
+
+    boolean created;
+
+    CreateOrderResponse order;
+
+    String failureMessage;
+}
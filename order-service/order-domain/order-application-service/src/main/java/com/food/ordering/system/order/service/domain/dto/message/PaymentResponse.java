@@ -10,6 +10,7 @@ import lombok.experimental.FieldDefaults;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.List;
+import java.util.UUID;
 
 @Getter
 @Builder
@@ -17,11 +18,11 @@ import java.util.List;
 @FieldDefaults(level = AccessLevel.PRIVATE)
 public class PaymentResponse {
 
-    String id;
-    String sagaId;
-    String orderId;
-    String paymentId;
-    String customerId;
+    UUID id;
+    UUID sagaId;
+    UUID orderId;
+    UUID paymentId;
+    UUID customerId;
     BigDecimal price;
     Instant createdAt;
     PaymentStatus paymentStatus;
@@ -9,16 +9,17 @@ import lombok.experimental.FieldDefaults;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.UUID;
 
 @Getter
 @Builder
 @AllArgsConstructor
 @FieldDefaults(level = AccessLevel.PRIVATE)
 public class RestaurantApprovalResponse {
-    String id;
-    String sagaId;
-    String orderId;
-    String restaurantId;
+    UUID id;
+    UUID sagaId;
+    UUID orderId;
+    UUID restaurantId;
     Instant createdAt;
     OrderApprovalStatus orderApprovalStatus;
     List<String> failureMessages;
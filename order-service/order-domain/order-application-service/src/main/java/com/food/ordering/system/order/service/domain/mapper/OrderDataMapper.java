@@ -1,6 +1,10 @@
 package com.food.ordering.system.order.service.domain.mapper;
 
+import com.food.ordering.system.domain.IdGenerator;
 import com.food.ordering.system.domain.valueobject.*;
+import com.food.ordering.system.order.service.domain.OrderCreateResult;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderBatchResponse;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderBatchResult;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
 import com.food.ordering.system.order.service.domain.dto.create.OrderAddress;
@@ -10,6 +14,7 @@ import com.food.ordering.system.order.service.domain.entity.*;
 import com.food.ordering.system.order.service.domain.event.OrderCancelledEvent;
 import com.food.ordering.system.order.service.domain.event.OrderCreatedEvent;
 import com.food.ordering.system.order.service.domain.event.OrderPaidEvent;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
 import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalEventPayload;
 import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalEventProduct;
 import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentEventPayload;
@@ -19,6 +24,7 @@ import org.springframework.stereotype.Component;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 @Component
 public class OrderDataMapper {
@@ -51,6 +57,19 @@ public class OrderDataMapper {
                 .build();
     }
 
+    public CreateOrderBatchResponse orderCreateResultsToCreateOrderBatchResponse(List<OrderCreateResult>
+                                                                                         orderCreateResults) {
+        List<CreateOrderBatchResult> results = IntStream.range(0, orderCreateResults.size())
+                .mapToObj(index -> orderCreateResultToCreateOrderBatchResult(index, orderCreateResults.get(index)))
+                .collect(Collectors.toList());
+        int createdCount = (int) results.stream().filter(CreateOrderBatchResult::isCreated).count();
+        return CreateOrderBatchResponse.builder()
+                .createdCount(createdCount)
+                .failedCount(results.size() - createdCount)
+                .results(results)
+                .build();
+    }
+
     public OrderPaymentEventPayload orderCreatedEventToOrderPaymentEventPayload(OrderCreatedEvent orderCreatedEvent) {
         return OrderPaymentEventPayload.builder()
                 .customerId(orderCreatedEvent.getOrder().getCustomerId().getValue().toString())
@@ -116,10 +135,27 @@ public class OrderDataMapper {
 
     private StreetAddress orderToAddressToStreetAddress(OrderAddress address) {
         return new StreetAddress(
-                UUID.randomUUID(),
+                IdGenerator.newId(),
                 address.getStreet(),
                 address.getPostalCode(),
                 address.getCity()
         );
     }
+
+    private CreateOrderBatchResult orderCreateResultToCreateOrderBatchResult(int index,
+                                                                            OrderCreateResult orderCreateResult) {
+        if (orderCreateResult.isSuccess()) {
+            return CreateOrderBatchResult.builder()
+                    .index(index)
+                    .created(true)
+                    .order(orderCreateResult.getCreateOrderResponse())
+                    .build();
+        }
+        return CreateOrderBatchResult.builder()
+                .index(index)
+                .created(false)
+                .failureMessage(orderCreateResult.getException() instanceof OrderDomainException ?
+                        orderCreateResult.getException().getMessage() : "Unexpected error")
+                .build();
+    }
 }
@@ -30,10 +30,7 @@ public class ApprovalOutboxCleanerScheduler implements OutboxScheduler {
         Optional<List<OrderApprovalOutboxMessage>> outboxMessagesResponse =
                 approvalOutboxHelper.getApprovalOutboxMessageByOutboxStatusAndSagaStatus(
                         OutboxStatus.COMPLETED,
-                        SagaStatus.SUCCEEDED,
-                        SagaStatus.FAILED,
-                        SagaStatus.COMPENSATED
-        );
+                    SagaStatus.values());
 
         if (outboxMessagesResponse.isPresent()) {
             List<OrderApprovalOutboxMessage> messages = outboxMessagesResponse.get();
@@ -45,10 +42,7 @@ public class ApprovalOutboxCleanerScheduler implements OutboxScheduler {
                     ));
             approvalOutboxHelper.deleteApprovalOutboxMessageByOutboxStatusAndSagaStatus(
                     OutboxStatus.COMPLETED,
-                    SagaStatus.SUCCEEDED,
-                    SagaStatus.FAILED,
-                    SagaStatus.COMPENSATED
-            );
+                    SagaStatus.values());
             log.info("{} orderApprovalOutboxMessage deleted!", messages.size());
         }
 
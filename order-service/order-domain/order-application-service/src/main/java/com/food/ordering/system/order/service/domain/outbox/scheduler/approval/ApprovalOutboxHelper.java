@@ -2,6 +2,7 @@ package com.food.ordering.system.order.service.domain.outbox.scheduler.approval;
 
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.food.ordering.system.domain.IdGenerator;
 import com.food.ordering.system.domain.valueobject.OrderStatus;
 import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
 import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalEventPayload;
@@ -32,20 +33,13 @@ public class ApprovalOutboxHelper {
     ApprovalOutboxRepository approvalOutboxRepository;
     ObjectMapper objectMapper;
 
-    @Transactional(readOnly = true)
+    @Transactional
     public Optional<List<OrderApprovalOutboxMessage>> getApprovalOutboxMessageByOutboxStatusAndSagaStatus(
             OutboxStatus outboxStatus, SagaStatus... sagaStatuses
     ) {
         return approvalOutboxRepository.findByTypeAndOutboxStatusAndSagaStatus(ORDER_SAGA_NAME, outboxStatus, sagaStatuses);
     }
 
-    @Transactional(readOnly = true)
-    public Optional<OrderApprovalOutboxMessage> getApprovalOutboxMessageBySagaIdAndSagaStatus(
-            UUID sagaId, SagaStatus... sagaStatuses
-    ) {
-        return approvalOutboxRepository.findByTypeAndSagaIdAndSagaStatus(ORDER_SAGA_NAME, sagaId, sagaStatuses);
-    }
-
     @Transactional
     public void save(OrderApprovalOutboxMessage orderApprovalOutboxMessage) {
         OrderApprovalOutboxMessage response = approvalOutboxRepository.save(orderApprovalOutboxMessage);
@@ -65,7 +59,7 @@ public class ApprovalOutboxHelper {
                                           OutboxStatus outboxStatus,
                                           UUID sagaId) {
         save(OrderApprovalOutboxMessage.builder()
-                .id(UUID.randomUUID())
+                .id(IdGenerator.newId())
                 .sagaId(sagaId)
                 .createdAt(orderApprovalEventPayload.getCreatedAt())
                 .type(ORDER_SAGA_NAME)
@@ -2,8 +2,12 @@ package com.food.ordering.system.order.service.domain.outbox.scheduler.approval;
 
 import com.food.ordering.system.order.service.domain.outbox.model.approval.OrderApprovalOutboxMessage;
 import com.food.ordering.system.order.service.domain.ports.output.message.publisher.restaurantapproval.RestaurantApprovalRequestMessagePublisher;
+import com.food.ordering.system.outbox.OutboxMetrics;
 import com.food.ordering.system.outbox.OutboxScheduler;
 import com.food.ordering.system.outbox.OutboxStatus;
+import com.food.ordering.system.outbox.execution.BoundedExecutor;
+import com.food.ordering.system.saga.SagaHop;
+import com.food.ordering.system.saga.SagaMetrics;
 import com.food.ordering.system.saga.SagaStatus;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -11,7 +15,6 @@ import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -23,11 +26,15 @@ import java.util.stream.Collectors;
 @FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
 public class ApprovalOutboxScheduler implements OutboxScheduler {
 
+    private static final String OUTBOX_NAME = "restaurant_approval_outbox";
+
     RestaurantApprovalRequestMessagePublisher restaurantApprovalRequestMessagePublisher;
     ApprovalOutboxHelper approvalOutboxHelper;
+    OutboxMetrics outboxMetrics;
+    SagaMetrics sagaMetrics;
+    BoundedExecutor outboxPublishExecutor;
 
     @Override
-    @Transactional
     @Scheduled(fixedDelayString = "${order-service.outbox-scheduler-fixed-rate",
             initialDelayString = "${order-service.outbox-scheduler-initial-delay}")
     public void processOutboxMessage() {
@@ -35,12 +42,14 @@ public class ApprovalOutboxScheduler implements OutboxScheduler {
                 .getApprovalOutboxMessageByOutboxStatusAndSagaStatus(OutboxStatus.STARTED,
                         SagaStatus.PROCESSING);
 
+        outboxMetrics.updateBacklog(OUTBOX_NAME, outboxMessages.map(List::size).orElse(0));
+
         if (outboxMessages.isPresent() && outboxMessages.get().size() > 0) {
             List<OrderApprovalOutboxMessage> messages = outboxMessages.get();
             log.info("Received {} OrderApprovalOutboxMessage with ids: {}, sending to message bus!",
                     messages.size(),
                     messages.stream().map(m -> m.getId().toString()).collect(Collectors.joining(",")));
-            messages.forEach(outboxMessage ->
+            outboxPublishExecutor.forEachByKey(messages, OrderApprovalOutboxMessage::getSagaId, outboxMessage ->
                     restaurantApprovalRequestMessagePublisher.publish(outboxMessage, this::updateOutboxStatus)
             );
             log.info("{} OrderApprovalOutboxMessage sent to message bus!", messages.size());
@@ -50,6 +59,10 @@ public class ApprovalOutboxScheduler implements OutboxScheduler {
     private void updateOutboxStatus(OrderApprovalOutboxMessage orderApprovalOutboxMessage, OutboxStatus outboxStatus) {
         orderApprovalOutboxMessage.setOutBoxStatus(outboxStatus);
         approvalOutboxHelper.save(orderApprovalOutboxMessage);
+        if (outboxStatus == OutboxStatus.COMPLETED) {
+            sagaMetrics.recordHop(SagaHop.APPROVAL_REQUEST_PUBLISHED, orderApprovalOutboxMessage.getSagaStatus(),
+                    orderApprovalOutboxMessage.getCreatedAt());
+        }
         log.info("OrderApprovalOutboxMessage is updated with outbox status: {}", outboxStatus.name());
     }
 }
@@ -28,10 +28,7 @@ public class PaymentOutboxCleanerScheduler implements OutboxScheduler {
     public void processOutboxMessage() {
         Optional<List<OrderPaymentOutboxMessage>> outboxMessagesResponse = paymentOutboxHelper.getPaymentOutboxMessageByOutboxStatusAndSagaStatus(
                 OutboxStatus.COMPLETED,
-                SagaStatus.SUCCEEDED,
-                SagaStatus.FAILED,
-                SagaStatus.COMPENSATED
-        );
+                SagaStatus.values());
 
         if (outboxMessagesResponse.isPresent()) {
             List<OrderPaymentOutboxMessage> messages = outboxMessagesResponse.get();
@@ -43,10 +40,7 @@ public class PaymentOutboxCleanerScheduler implements OutboxScheduler {
                     ));
             paymentOutboxHelper.deletePaymentOutboxMessageByOutboxStatusAndSagaStatus(
                     OutboxStatus.COMPLETED,
-                    SagaStatus.SUCCEEDED,
-                    SagaStatus.FAILED,
-                    SagaStatus.COMPENSATED
-            );
+                    SagaStatus.values());
             log.info("{} OrderPaymentOutboxMessage deleted!", messages.size());
         }
 
@@ -2,6 +2,7 @@ package com.food.ordering.system.order.service.domain.outbox.scheduler.payment;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.food.ordering.system.domain.IdGenerator;
 import com.food.ordering.system.domain.valueobject.OrderStatus;
 import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
 import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentEventPayload;
@@ -31,7 +32,7 @@ public class PaymentOutboxHelper {
     PaymentOutboxRepository paymentOutboxRepository;
     ObjectMapper objectMapper;
 
-    @Transactional(readOnly = true)
+    @Transactional
     public Optional<List<OrderPaymentOutboxMessage>> getPaymentOutboxMessageByOutboxStatusAndSagaStatus(OutboxStatus outboxStatus,
                                                                                                         SagaStatus... sagaStatuses) {
         return paymentOutboxRepository
@@ -42,11 +43,6 @@ public class PaymentOutboxHelper {
                 );
     }
 
-    @Transactional(readOnly = true)
-    public Optional<OrderPaymentOutboxMessage> getPaymentOutboxMessageBySagaIdAndSagaStatus(UUID sagaId, SagaStatus... sagaStatuses) {
-        return paymentOutboxRepository.findByTypeAndSagaIdAndSagaStatus(ORDER_SAGA_NAME, sagaId, sagaStatuses);
-    }
-
     @Transactional
     public void save(OrderPaymentOutboxMessage orderPaymentOutboxMessage) {
         OrderPaymentOutboxMessage response = paymentOutboxRepository.save(orderPaymentOutboxMessage);
@@ -59,13 +55,24 @@ public class PaymentOutboxHelper {
         log.info("OrderPaymentOutboxMessage saved with outbox id: {}", orderPaymentOutboxMessage.getId());
     }
 
+    private void insert(OrderPaymentOutboxMessage orderPaymentOutboxMessage) {
+        OrderPaymentOutboxMessage response = paymentOutboxRepository.insert(orderPaymentOutboxMessage);
+        if (response == null) {
+            log.error("Could not save OrderPaymentOutboxMessage with outbox id: {}", orderPaymentOutboxMessage.getId());
+            throw new OrderDomainException(
+                    String.format("Could not save OrderPaymentOutboxMessage with outbox id: %s", orderPaymentOutboxMessage.getId())
+            );
+        }
+        log.info("OrderPaymentOutboxMessage inserted with outbox id: {}", orderPaymentOutboxMessage.getId());
+    }
+
     public void savePaymentOutboxMessage(OrderPaymentEventPayload paymentEventPayload,
                                          OrderStatus orderStatus,
                                          SagaStatus sagaStatus,
                                          OutboxStatus outboxStatus,
                                          UUID sagaId) {
-        save(OrderPaymentOutboxMessage.builder()
-                .id(UUID.randomUUID())
+        insert(OrderPaymentOutboxMessage.builder()
+                .id(IdGenerator.newId())
                 .sagaId(sagaId)
                 .createdAt(paymentEventPayload.getCreatedAt())
                 .type(ORDER_SAGA_NAME)
@@ -2,8 +2,12 @@ package com.food.ordering.system.order.service.domain.outbox.scheduler.payment;
 
 import com.food.ordering.system.order.service.domain.outbox.model.payment.OrderPaymentOutboxMessage;
 import com.food.ordering.system.order.service.domain.ports.output.message.publisher.payment.PaymentRequestMessagePublisher;
+import com.food.ordering.system.outbox.OutboxMetrics;
 import com.food.ordering.system.outbox.OutboxScheduler;
 import com.food.ordering.system.outbox.OutboxStatus;
+import com.food.ordering.system.outbox.execution.BoundedExecutor;
+import com.food.ordering.system.saga.SagaHop;
+import com.food.ordering.system.saga.SagaMetrics;
 import com.food.ordering.system.saga.SagaStatus;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -11,7 +15,6 @@ import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -23,11 +26,15 @@ import java.util.stream.Collectors;
 @FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
 public class PaymentOutboxScheduler implements OutboxScheduler {
 
+    private static final String OUTBOX_NAME = "payment_outbox";
+
     PaymentRequestMessagePublisher paymentRequestMessagePublisher;
     PaymentOutboxHelper paymentOutboxHelper;
+    OutboxMetrics outboxMetrics;
+    SagaMetrics sagaMetrics;
+    BoundedExecutor outboxPublishExecutor;
 
     @Override
-    @Transactional
     @Scheduled(fixedDelayString = "${order-service.outbox-scheduler-fixed-rate",
             initialDelayString = "${order-service.outbox-scheduler-initial-delay}")
     public void processOutboxMessage() {
@@ -36,14 +43,15 @@ public class PaymentOutboxScheduler implements OutboxScheduler {
                         SagaStatus.STARTED,
                         SagaStatus.COMPENSATING);
 
+        outboxMetrics.updateBacklog(OUTBOX_NAME, outboxMessages.map(List::size).orElse(0));
+
         if (outboxMessages.isPresent() && outboxMessages.get().size() > 0) {
             List<OrderPaymentOutboxMessage> messages = outboxMessages.get();
             log.info("Received {} OrderPaymentOutboxMessage with ids: {}, sending to message bus!",
                     messages.size(),
                     messages.stream().map(m -> m.getId().toString()).collect(Collectors.joining(",")));
-            messages.forEach(outboxMessage -> {
-                paymentRequestMessagePublisher.publish(outboxMessage, this::updateOutboxStatus);
-            });
+            outboxPublishExecutor.forEachByKey(messages, OrderPaymentOutboxMessage::getSagaId, outboxMessage ->
+                    paymentRequestMessagePublisher.publish(outboxMessage, this::updateOutboxStatus));
             log.info("{} OrderPaymentOutboxMessage sent to message bus!", messages.size());
         }
     }
@@ -51,6 +59,10 @@ public class PaymentOutboxScheduler implements OutboxScheduler {
     private void updateOutboxStatus(OrderPaymentOutboxMessage orderPaymentOutboxMessage, OutboxStatus outboxStatus) {
         orderPaymentOutboxMessage.setOutboxStatus(outboxStatus);
         paymentOutboxHelper.save(orderPaymentOutboxMessage);
+        if (outboxStatus == OutboxStatus.COMPLETED) {
+            sagaMetrics.recordHop(SagaHop.PAYMENT_REQUEST_PUBLISHED, orderPaymentOutboxMessage.getSagaStatus(),
+                    orderPaymentOutboxMessage.getCreatedAt());
+        }
         log.info("OrderPaymentOutboxMessage is updated with outbox status: {}", outboxStatus.name());
     }
 }
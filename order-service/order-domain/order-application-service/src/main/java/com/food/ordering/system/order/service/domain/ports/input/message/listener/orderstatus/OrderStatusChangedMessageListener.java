@@ -0,0 +1,9 @@
+package com.food.ordering.system.order.service.domain.ports.input.message.listener.orderstatus;
+
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+
+public interface OrderStatusChangedMessageListener {
+    void orderStatusChanged(TrackOrderResponse trackOrderResponse);
+
+    void orderStatusChangesMissed();
+}
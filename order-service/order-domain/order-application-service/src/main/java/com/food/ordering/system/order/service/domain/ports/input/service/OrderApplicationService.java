@@ -1,15 +1,23 @@
 package com.food.ordering.system.order.service.domain.ports.input.service;
 
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderBatchResponse;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
 import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderQuery;
 import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
 
 import javax.validation.Valid;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
 
 public interface OrderApplicationService {
 
     CreateOrderResponse createOrder(@Valid CreateOrderCommand createOrderCommand);
 
+    CreateOrderBatchResponse createOrders(List<@Valid CreateOrderCommand> createOrderCommands);
+
     TrackOrderResponse trackOrder(@Valid TrackOrderQuery trackOrderQuery);
+
+    Runnable subscribeOrderStatus(UUID trackingId, Consumer<TrackOrderResponse> subscriber);
 }
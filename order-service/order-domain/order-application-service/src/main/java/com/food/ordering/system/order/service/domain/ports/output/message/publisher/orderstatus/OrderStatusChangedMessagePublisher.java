@@ -0,0 +1,8 @@
+package com.food.ordering.system.order.service.domain.ports.output.message.publisher.orderstatus;
+
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+
+public interface OrderStatusChangedMessagePublisher {
+    // delivered to every order service instance once the current transaction commits
+    void publish(TrackOrderResponse trackOrderResponse);
+}
@@ -6,7 +6,6 @@ import com.food.ordering.system.saga.SagaStatus;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.UUID;
 
 public interface ApprovalOutboxRepository {
 
@@ -16,10 +15,6 @@ public interface ApprovalOutboxRepository {
                                                                                      OutboxStatus outboxStatus,
                                                                                      SagaStatus... sagaStatuses);
 
-    Optional<OrderApprovalOutboxMessage> findByTypeAndSagaIdAndSagaStatus(String type,
-                                                                         UUID sagaId,
-                                                                         SagaStatus... sagaStatuses);
-
     void deleteByTypeAndOutboxStatusAndSagaStatus(String type,
                                                   OutboxStatus outboxStatus,
                                                   SagaStatus... sagaStatuses);
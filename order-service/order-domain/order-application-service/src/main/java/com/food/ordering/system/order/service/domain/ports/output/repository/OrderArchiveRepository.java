@@ -0,0 +1,20 @@
+package com.food.ordering.system.order.service.domain.ports.output.repository;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
+
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface OrderArchiveRepository {
+
+    void preparePartitions(ZonedDateTime until);
+
+    int archiveOrders(List<OrderStatus> orderStatuses, ZonedDateTime createdBefore, int batchSize);
+
+    int dropEmptyPartitions(ZonedDateTime createdBefore);
+
+    Optional<TrackOrderResponse> findArchivedTrackingByTrackingId(TrackingId trackingId);
+}
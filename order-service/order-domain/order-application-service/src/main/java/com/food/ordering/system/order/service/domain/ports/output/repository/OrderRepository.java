@@ -1,16 +1,30 @@
 package com.food.ordering.system.order.service.domain.ports.output.repository;
 
 import com.food.ordering.system.domain.valueobject.OrderId;
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface OrderRepository {
 
     Order save(Order order);
 
+    Order insert(Order order);
+
+    boolean updateStatus(OrderId orderId,
+                         OrderStatus expectedStatus,
+                         OrderStatus newStatus,
+                         List<String> failureMessages);
+
     Optional<Order> findByTrackingId(TrackingId trackingId);
 
+    Optional<TrackOrderResponse> findTrackingByTrackingId(TrackingId trackingId);
+
     Optional<Order> findById(OrderId orderId);
+
+    Optional<Order> findSagaViewById(OrderId orderId);
 }
@@ -6,20 +6,17 @@ import com.food.ordering.system.saga.SagaStatus;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.UUID;
 
 public interface PaymentOutboxRepository {
 
     OrderPaymentOutboxMessage save(OrderPaymentOutboxMessage orderPaymentOutboxMessage);
 
+    OrderPaymentOutboxMessage insert(OrderPaymentOutboxMessage orderPaymentOutboxMessage);
+
     Optional<List<OrderPaymentOutboxMessage>> findByTypeAndOutboxStatusAndSagaStatus(String type,
                                                                                      OutboxStatus outboxStatus,
                                                                                      SagaStatus... sagaStatuses);
 
-    Optional<OrderPaymentOutboxMessage> findByTypeAndSagaIdAndSagaStatus(String type,
-                                                                         UUID sagaId,
-                                                                         SagaStatus... sagaStatuses);
-
     void deleteByTypeAndOutboxStatusAndSagaStatus(String type,
                                                   OutboxStatus outboxStatus,
                                                   SagaStatus... sagaStatuses);
@@ -1,11 +1,15 @@
 package com.food.ordering.system.order.service.domain.ports.output.repository;
 
-
+import com.food.ordering.system.domain.valueobject.ProductId;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
 import com.food.ordering.system.order.service.domain.entity.Restaurant;
 
+import java.util.Collection;
 import java.util.Optional;
 
 public interface RestaurantRepository {
 
     Optional<Restaurant> findRestaurantInformation(Restaurant restaurant);
+
+    Optional<Restaurant> findRestaurantInformation(RestaurantId restaurantId, Collection<ProductId> productIds);
 }
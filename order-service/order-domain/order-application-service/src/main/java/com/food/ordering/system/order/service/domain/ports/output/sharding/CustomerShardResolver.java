@@ -0,0 +1,8 @@
+package com.food.ordering.system.order.service.domain.ports.output.sharding;
+
+import java.util.UUID;
+
+public interface CustomerShardResolver {
+
+    int resolveShard(UUID customerId);
+}
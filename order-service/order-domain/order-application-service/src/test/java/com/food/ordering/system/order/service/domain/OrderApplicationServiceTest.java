@@ -161,6 +161,8 @@ public class OrderApplicationServiceTest {
         when(restaurantRepository.findRestaurantInformation(orderDataMapper.createOrderCommandToRestaurant(createOrderCommand)))
                 .thenReturn(Optional.of(restaurantResponse));
         when(orderRepository.save(any(Order.class))).thenReturn(order);
+        when(orderRepository.insert(any(Order.class))).thenReturn(order);
+        when(paymentOutboxRepository.insert(any(OrderPaymentOutboxMessage.class))).thenReturn(getOrderPaymentOutboxMessage());
         when(paymentOutboxRepository.save(any(OrderPaymentOutboxMessage.class))).thenReturn(getOrderPaymentOutboxMessage())
     }
 
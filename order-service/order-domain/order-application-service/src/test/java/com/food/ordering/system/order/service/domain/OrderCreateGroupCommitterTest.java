@@ -0,0 +1,176 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderCommand;
+import com.food.ordering.system.order.service.domain.dto.create.CreateOrderResponse;
+import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
+import com.food.ordering.system.order.service.domain.ports.output.sharding.CustomerShardResolver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class OrderCreateGroupCommitterTest {
+
+    private final OrderCreateCommandHandler orderCreateCommandHandler = mock(OrderCreateCommandHandler.class);
+    private final CustomerShardResolver customerShardResolver = mock(CustomerShardResolver.class);
+    private final ExecutorService callers = Executors.newCachedThreadPool();
+    private OrderCreateGroupCommitter orderCreateGroupCommitter;
+
+    @AfterEach
+    public void destroy() throws InterruptedException {
+        if (orderCreateGroupCommitter != null) {
+            orderCreateGroupCommitter.destroy();
+        }
+        callers.shutdownNow();
+    }
+
+    @Test
+    public void testTimeoutWhileBatchIsInFlightReportsUnknownStatus() throws InterruptedException {
+        orderCreateGroupCommitter = orderCreateGroupCommitter(1, 0, 200);
+        CountDownLatch inFlight = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CreateOrderCommand createOrderCommand = createOrderCommand();
+        when(orderCreateCommandHandler.createOrders(anyList())).thenAnswer(invocation -> {
+            inFlight.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return List.of(OrderCreateResult.success(createOrderResponse()));
+        });
+
+        OrderDomainException orderDomainException = assertThrows(OrderDomainException.class,
+                () -> orderCreateGroupCommitter.createOrder(createOrderCommand));
+
+        assertTrue(inFlight.await(0, TimeUnit.MILLISECONDS));
+        assertEquals("Order commit did not finish within 200 ms, order status is unknown!",
+                orderDomainException.getMessage());
+        release.countDown();
+    }
+
+    @Test
+    public void testUnexpectedThrowableFailsWholeBatch() {
+        orderCreateGroupCommitter = orderCreateGroupCommitter(2, 10_000, 10_000);
+        OutOfMemoryError outOfMemoryError = new OutOfMemoryError("Java heap space");
+        when(orderCreateCommandHandler.createOrders(anyList())).thenThrow(outOfMemoryError);
+
+        CompletableFuture<CreateOrderResponse> first = createOrderAsync(createOrderCommand());
+        CompletableFuture<CreateOrderResponse> second = createOrderAsync(createOrderCommand());
+
+        for (CompletableFuture<CreateOrderResponse> caller : List.of(first, second)) {
+            Throwable failure = assertThrows(Exception.class, caller::join).getCause();
+            assertInstanceOf(OrderDomainException.class, failure);
+            assertSame(outOfMemoryError, failure.getCause());
+        }
+        verify(orderCreateCommandHandler, times(1)).createOrders(anyList());
+    }
+
+    @Test
+    public void testShutdownCompletesInFlightBatchAndRejectsQueuedOrders() throws InterruptedException {
+        orderCreateGroupCommitter = orderCreateGroupCommitter(1, 0, 10_000);
+        CountDownLatch inFlight = new CountDownLatch(1);
+        CreateOrderResponse createOrderResponse = createOrderResponse();
+        when(orderCreateCommandHandler.createOrders(anyList())).thenAnswer(invocation -> {
+            inFlight.countDown();
+            try {
+                new CountDownLatch(1).await();
+            } catch (InterruptedException e) {
+                // destroy interrupts the committer, the batch still completes
+            }
+            return List.of(OrderCreateResult.success(createOrderResponse));
+        });
+
+        CompletableFuture<CreateOrderResponse> inFlightCaller = createOrderAsync(createOrderCommand());
+        assertTrue(inFlight.await(10, TimeUnit.SECONDS));
+        CompletableFuture<CreateOrderResponse> queuedCaller = new CompletableFuture<>();
+        Thread queuedCallerThread = new Thread(() -> {
+            try {
+                queuedCaller.complete(orderCreateGroupCommitter.createOrder(createOrderCommand()));
+            } catch (RuntimeException e) {
+                queuedCaller.completeExceptionally(e);
+            }
+        });
+        queuedCallerThread.start();
+        while (queuedCallerThread.getState() != Thread.State.TIMED_WAITING && !queuedCaller.isDone()) {
+            Thread.onSpinWait();
+        }
+
+        orderCreateGroupCommitter.destroy();
+
+        assertSame(createOrderResponse, inFlightCaller.join());
+        Throwable rejection = assertThrows(Exception.class, queuedCaller::join).getCause();
+        assertEquals("Order service is shutting down, order could not be created!", rejection.getMessage());
+        assertThrows(OrderDomainException.class, () -> orderCreateGroupCommitter.createOrder(createOrderCommand()));
+        verify(orderCreateCommandHandler, times(1)).createOrders(anyList());
+    }
+
+    @Test
+    public void testFailedBatchFallsBackToPerOrderCreation() {
+        orderCreateGroupCommitter = orderCreateGroupCommitter(64, 0, 10_000);
+        CreateOrderCommand accepted = createOrderCommand();
+        CreateOrderCommand rejected = createOrderCommand();
+        CreateOrderResponse createOrderResponse = createOrderResponse();
+        OrderDomainException orderDomainException = new OrderDomainException("Could not find customer!");
+        when(orderCreateCommandHandler.createOrders(anyList())).thenThrow(new IllegalStateException("Deadlock"));
+        when(orderCreateCommandHandler.createOrder(accepted)).thenReturn(createOrderResponse);
+        when(orderCreateCommandHandler.createOrder(rejected)).thenThrow(orderDomainException);
+
+        List<OrderCreateResult> orderCreateResults =
+                orderCreateGroupCommitter.createOrders(List.of(accepted, rejected));
+
+        assertTrue(orderCreateResults.get(0).isSuccess());
+        assertSame(createOrderResponse, orderCreateResults.get(0).getCreateOrderResponse());
+        assertFalse(orderCreateResults.get(1).isSuccess());
+        assertSame(orderDomainException, orderCreateResults.get(1).getException());
+        verify(orderCreateCommandHandler, times(1)).createOrders(List.of(accepted, rejected));
+        verify(orderCreateCommandHandler, times(1)).createOrder(accepted);
+        verify(orderCreateCommandHandler, times(1)).createOrder(rejected);
+    }
+
+    private OrderCreateGroupCommitter orderCreateGroupCommitter(int maxBatchSize, long maxDelayMs, long timeoutMs) {
+        OrderServiceConfigData orderServiceConfigData = new OrderServiceConfigData();
+        orderServiceConfigData.setCreateOrderGroupCommitEnabled(true);
+        orderServiceConfigData.setCreateOrderGroupCommitMaxBatchSize(maxBatchSize);
+        orderServiceConfigData.setCreateOrderGroupCommitMaxDelayMs(maxDelayMs);
+        orderServiceConfigData.setCreateOrderGroupCommitTimeoutMs(timeoutMs);
+        return new OrderCreateGroupCommitter(orderCreateCommandHandler, customerShardResolver,
+                orderServiceConfigData);
+    }
+
+    private CompletableFuture<CreateOrderResponse> createOrderAsync(CreateOrderCommand createOrderCommand) {
+        return CompletableFuture.supplyAsync(() -> orderCreateGroupCommitter.createOrder(createOrderCommand), callers);
+    }
+
+    private CreateOrderCommand createOrderCommand() {
+        return CreateOrderCommand.builder()
+                .customerId(UUID.randomUUID())
+                .restaurantId(UUID.randomUUID())
+                .orderItemList(List.of())
+                .build();
+    }
+
+    private CreateOrderResponse createOrderResponse() {
+        return CreateOrderResponse.builder()
+                .orderTrackingId(UUID.randomUUID())
+                .orderStatus(OrderStatus.PENDING)
+                .message("Order created successfully")
+                .build();
+    }
+}
@@ -1,12 +1,23 @@
 package com.food.ordering.system.order.service.domain;
 
+import com.food.ordering.system.order.service.domain.ports.output.message.publisher.orderstatus.OrderStatusChangedMessagePublisher;
 import com.food.ordering.system.order.service.domain.ports.output.message.publisher.payment.PaymentRequestMessagePublisher;
 import com.food.ordering.system.order.service.domain.ports.output.message.publisher.restaurantapproval.RestaurantApprovalRequestMessagePublisher;
 import com.food.ordering.system.order.service.domain.ports.output.repository.*;
+import com.food.ordering.system.order.service.domain.ports.output.sharding.CustomerShardResolver;
+import com.food.ordering.system.saga.SagaIdempotencyCache;
+import com.food.ordering.system.saga.SagaMetrics;
+import com.food.ordering.system.saga.SagaStateRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.mockito.Mockito;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.Bean;
 
+import java.time.Duration;
+
+import static com.food.ordering.system.saga.order.SagaConstant.ORDER_SAGA_NAME;
+
 @SpringBootApplication(scanBasePackages = "com.food.ordering.system")
 public class OrderTestConfiguration {
 
@@ -20,6 +31,11 @@ public class OrderTestConfiguration {
         return Mockito.mock(RestaurantApprovalRequestMessagePublisher.class);
     }
 
+    @Bean
+    public OrderStatusChangedMessagePublisher orderStatusChangedMessagePublisher() {
+        return Mockito.mock(OrderStatusChangedMessagePublisher.class);
+    }
+
     @Bean
     public OrderRepository orderRepository() {
         return Mockito.mock(OrderRepository.class);
@@ -45,9 +61,39 @@ public class OrderTestConfiguration {
         return Mockito.mock(ApprovalOutboxRepository.class);
     }
 
+    @Bean
+    public SagaStateRepository sagaStateRepository() {
+        return Mockito.mock(SagaStateRepository.class);
+    }
+
+    @Bean
+    public OrderArchiveRepository orderArchiveRepository() {
+        return Mockito.mock(OrderArchiveRepository.class);
+    }
+
+    @Bean
+    public CustomerShardResolver customerShardResolver() {
+        return Mockito.mock(CustomerShardResolver.class);
+    }
+
 
     @Bean
     public OrderDomainService orderDomainService() {
         return new OrderDomainServiceImpl();
     }
+
+    @Bean
+    public MeterRegistry meterRegistry() {
+        return new SimpleMeterRegistry();
+    }
+
+    @Bean
+    public SagaMetrics sagaMetrics(MeterRegistry meterRegistry) {
+        return new SagaMetrics(meterRegistry, ORDER_SAGA_NAME);
+    }
+
+    @Bean
+    public SagaIdempotencyCache sagaIdempotencyCache() {
+        return new SagaIdempotencyCache(1_000, Duration.ofMinutes(10));
+    }
 }
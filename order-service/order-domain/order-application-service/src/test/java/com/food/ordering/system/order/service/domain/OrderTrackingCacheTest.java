@@ -0,0 +1,85 @@
+package com.food.ordering.system.order.service.domain;
+
+import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.order.service.domain.config.OrderServiceConfigData;
+import com.food.ordering.system.order.service.domain.dto.track.TrackOrderResponse;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class OrderTrackingCacheTest {
+
+    @Test
+    public void testFullCacheEvictsLeastRecentlyReadTrackingId() {
+        OrderTrackingCache orderTrackingCache = orderTrackingCache(2, 60_000);
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID third = UUID.randomUUID();
+        orderTrackingCache.put(trackOrderResponse(first, OrderStatus.PENDING));
+        orderTrackingCache.put(trackOrderResponse(second, OrderStatus.PENDING));
+        assertTrue(orderTrackingCache.get(first).isPresent());
+
+        orderTrackingCache.put(trackOrderResponse(third, OrderStatus.PENDING));
+
+        assertTrue(orderTrackingCache.get(first).isPresent());
+        assertFalse(orderTrackingCache.get(second).isPresent());
+        assertTrue(orderTrackingCache.get(third).isPresent());
+    }
+
+    @Test
+    public void testOnlyNonFinalStatusesExpire() {
+        OrderTrackingCache orderTrackingCache = orderTrackingCache(10, 0);
+        UUID pending = UUID.randomUUID();
+        UUID approved = UUID.randomUUID();
+        orderTrackingCache.put(trackOrderResponse(pending, OrderStatus.PENDING));
+        orderTrackingCache.put(trackOrderResponse(approved, OrderStatus.APPROVED));
+
+        assertFalse(orderTrackingCache.get(pending).isPresent());
+        assertTrue(orderTrackingCache.get(approved).isPresent());
+    }
+
+    @Test
+    public void testPutIfAbsentKeepsNewerStatus() {
+        OrderTrackingCache orderTrackingCache = orderTrackingCache(10, 60_000);
+        UUID trackingId = UUID.randomUUID();
+        orderTrackingCache.put(trackOrderResponse(trackingId, OrderStatus.PAID));
+
+        orderTrackingCache.putIfAbsent(trackOrderResponse(trackingId, OrderStatus.PENDING));
+
+        assertEquals(OrderStatus.PAID, orderTrackingCache.get(trackingId).orElseThrow().getOrderStatus());
+    }
+
+    @Test
+    public void testEvictNonFinalKeepsFinalStatuses() {
+        OrderTrackingCache orderTrackingCache = orderTrackingCache(10, 60_000);
+        UUID paid = UUID.randomUUID();
+        UUID cancelled = UUID.randomUUID();
+        orderTrackingCache.put(trackOrderResponse(paid, OrderStatus.PAID));
+        orderTrackingCache.put(trackOrderResponse(cancelled, OrderStatus.CANCELLED));
+
+        orderTrackingCache.evictNonFinal();
+
+        assertFalse(orderTrackingCache.get(paid).isPresent());
+        assertTrue(orderTrackingCache.get(cancelled).isPresent());
+    }
+
+    private OrderTrackingCache orderTrackingCache(int maxSize, long ttlMs) {
+        OrderServiceConfigData orderServiceConfigData = new OrderServiceConfigData();
+        orderServiceConfigData.setTrackingCacheMaxSize(maxSize);
+        orderServiceConfigData.setTrackingCacheTtlMs(ttlMs);
+        return new OrderTrackingCache(orderServiceConfigData);
+    }
+
+    private TrackOrderResponse trackOrderResponse(UUID trackingId, OrderStatus orderStatus) {
+        return TrackOrderResponse.builder()
+                .orderTrackingId(trackingId)
+                .orderStatus(orderStatus)
+                .failureMessage(List.of())
+                .build();
+    }
+}
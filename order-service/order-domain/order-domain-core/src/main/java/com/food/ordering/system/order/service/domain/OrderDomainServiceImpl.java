@@ -1,6 +1,7 @@
 package com.food.ordering.system.order.service.domain;
 
 import com.food.ordering.system.domain.event.publisher.DomainEventPublisher;
+import com.food.ordering.system.domain.valueobject.ProductId;
 import com.food.ordering.system.order.service.domain.entity.Order;
 import com.food.ordering.system.order.service.domain.entity.Product;
 import com.food.ordering.system.order.service.domain.entity.Restaurant;
@@ -13,6 +14,7 @@ import lombok.extern.slf4j.Slf4j;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.List;
+import java.util.Map;
 
 import static com.food.ordering.system.domain.DomainConstants.UTC;
 
@@ -27,7 +29,7 @@ public class OrderDomainServiceImpl implements OrderDomainService {
         order.validateOrder();
         order.initializeOrder();
         log.info("Order with id: {} is initiated", order.getId().getValue());
-        return new OrderCreatedEvent(order, ZonedDateTime.now(ZoneId.of(UTC)));
+        return new OrderCreatedEvent(order, order.getCreatedAt());
     }
 
     @Override
@@ -66,14 +68,16 @@ public class OrderDomainServiceImpl implements OrderDomainService {
     }
 
     private void setOrderProductInformation(Order order, Restaurant restaurant) {
-        order.getItems().forEach(orderItem -> restaurant.getProductList().forEach(restarauntProduct -> {
+        Map<ProductId, Product> restaurantProducts = restaurant.getProductIndex();
+        order.getItems().forEach(orderItem -> {
             Product currentProduct = orderItem.getProduct();
-            if (currentProduct.equals(restarauntProduct)) {
+            Product restaurantProduct = restaurantProducts.get(currentProduct.getId());
+            if (restaurantProduct != null) {
                 currentProduct.updateWithConfirmedNameAndPrice(
-                        restarauntProduct.getName(),
-                        restarauntProduct.getPrice());
+                        restaurantProduct.getName(),
+                        restaurantProduct.getPrice());
             }
-        }));
+        });
     }
 
 }
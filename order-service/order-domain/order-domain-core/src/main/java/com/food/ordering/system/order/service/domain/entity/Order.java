@@ -1,5 +1,6 @@
 package com.food.ordering.system.order.service.domain.entity;
 
+import com.food.ordering.system.domain.ShardKeys;
 import com.food.ordering.system.domain.entity.AggregateRoot;
 import com.food.ordering.system.domain.valueobject.*;
 import com.food.ordering.system.order.service.domain.exception.OrderDomainException;
@@ -7,8 +8,11 @@ import com.food.ordering.system.order.service.domain.valueobject.OrderItemId;
 import com.food.ordering.system.order.service.domain.valueobject.StreetAddress;
 import com.food.ordering.system.order.service.domain.valueobject.TrackingId;
 
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
 import java.util.List;
-import java.util.UUID;
+
+import static com.food.ordering.system.domain.DomainConstants.UTC;
 
 public class Order extends AggregateRoot<OrderId> {
     private final CustomerId customerId;
@@ -20,6 +24,7 @@ public class Order extends AggregateRoot<OrderId> {
     private TrackingId trackingId;
     private OrderStatus orderStatus;
     private List<String> failureMessages;
+    private ZonedDateTime createdAt;
 
     public static final String FAILURE_MESSAGE_DELIMITER = ",";
 
@@ -68,9 +73,10 @@ public class Order extends AggregateRoot<OrderId> {
     }
 
     public void initializeOrder() {
-        setId(new OrderId(UUID.randomUUID()));
-        trackingId = new TrackingId(UUID.randomUUID());
+        setId(new OrderId(ShardKeys.newId(customerId.getValue())));
+        trackingId = new TrackingId(ShardKeys.newTrackingId(customerId.getValue()));
         orderStatus = OrderStatus.PENDING;
+        createdAt = ZonedDateTime.now(ZoneId.of(UTC));
         initializeOrderItems();
     }
 
@@ -134,6 +140,7 @@ public class Order extends AggregateRoot<OrderId> {
         trackingId = builder.trackingId;
         orderStatus = builder.orderStatus;
         failureMessages = builder.failureMessages;
+        createdAt = builder.createdAt;
     }
 
     public CustomerId getCustomerId() {
@@ -168,6 +175,10 @@ public class Order extends AggregateRoot<OrderId> {
         return failureMessages;
     }
 
+    public ZonedDateTime getCreatedAt() {
+        return createdAt;
+    }
+
     public static final class Builder {
         private OrderId id;
         private CustomerId customerId;
@@ -178,6 +189,7 @@ public class Order extends AggregateRoot<OrderId> {
         private TrackingId trackingId;
         private OrderStatus orderStatus;
         private List<String> failureMessages;
+        private ZonedDateTime createdAt;
 
         private Builder() {
         }
@@ -231,6 +243,11 @@ public class Order extends AggregateRoot<OrderId> {
             return this;
         }
 
+        public Builder createdAt(ZonedDateTime val) {
+            createdAt = val;
+            return this;
+        }
+
         public Order build() {
             return new Order(this);
         }
@@ -1,24 +1,43 @@
 package com.food.ordering.system.order.service.domain.entity;
 
 import com.food.ordering.system.domain.entity.AggregateRoot;
+import com.food.ordering.system.domain.valueobject.ProductId;
 import com.food.ordering.system.domain.valueobject.RestaurantId;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public class Restaurant extends AggregateRoot<RestaurantId> {
     private final List<Product> productList;
+    private final Map<ProductId, Product> productIndex;
     private boolean active;
 
     private Restaurant(Builder builder) {
         super.setId(builder.id);
         productList = builder.productList;
+        productIndex = indexProducts(productList);
         active = builder.active;
     }
 
+    private static Map<ProductId, Product> indexProducts(List<Product> products) {
+        if (products == null) {
+            return Collections.emptyMap();
+        }
+        Map<ProductId, Product> index = new HashMap<>(products.size() * 4 / 3 + 1);
+        products.forEach(product -> index.put(product.getId(), product));
+        return Collections.unmodifiableMap(index);
+    }
+
     public List<Product> getProductList() {
         return productList;
     }
 
+    public Map<ProductId, Product> getProductIndex() {
+        return productIndex;
+    }
+
     public boolean isActive() {
         return active;
     }
@@ -4,6 +4,7 @@ import com.food.ordering.system.kafka.consumer.KafkaConsumer;
 import com.food.ordering.system.kafka.order.avro.model.CustomerAvroModel;
 import com.food.ordering.system.order.service.domain.ports.input.message.listener.customer.CustomerMessageListener;
 import com.food.ordering.system.order.service.messaging.mapper.OrderMessagingDataMapper;
+import com.food.ordering.system.outbox.execution.BoundedExecutor;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.experimental.FieldDefaults;
@@ -24,6 +25,7 @@ public class CustomerKafkaListener implements KafkaConsumer<CustomerAvroModel> {
 
     CustomerMessageListener customerMessageListener;
     OrderMessagingDataMapper orderMessagingDataMapper;
+    BoundedExecutor kafkaRecordExecutor;
 
 
     @Override
@@ -38,7 +40,7 @@ public class CustomerKafkaListener implements KafkaConsumer<CustomerAvroModel> {
                 partitions.toString(),
                 offsets.toString());
 
-        messages.forEach(customerAvroModel ->
+        kafkaRecordExecutor.forEachByKey(messages, CustomerAvroModel::getId, customerAvroModel ->
                 customerMessageListener.customerCreated(orderMessagingDataMapper
                         .customerAvroModeltoCustomerModel(customerAvroModel)));
     }
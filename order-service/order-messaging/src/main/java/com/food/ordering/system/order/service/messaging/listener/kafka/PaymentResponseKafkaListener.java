@@ -6,6 +6,7 @@ import com.food.ordering.system.kafka.order.avro.model.PaymentStatus;
 import com.food.ordering.system.order.service.domain.exception.OrderNotFoundException;
 import com.food.ordering.system.order.service.domain.ports.input.message.listener.payment.PaymentResponseMessageListener;
 import com.food.ordering.system.order.service.messaging.mapper.OrderMessagingDataMapper;
+import com.food.ordering.system.outbox.execution.BoundedExecutor;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.experimental.FieldDefaults;
@@ -27,6 +28,7 @@ public class PaymentResponseKafkaListener implements KafkaConsumer<PaymentRespon
 
     OrderMessagingDataMapper mapper;
     PaymentResponseMessageListener paymentResponseMessageListener;
+    BoundedExecutor kafkaRecordExecutor;
 
     @Override
     @KafkaListener(id = "${kafka-consumer-config.payment-consumer-group-id}",
@@ -40,7 +42,7 @@ public class PaymentResponseKafkaListener implements KafkaConsumer<PaymentRespon
                 keys.toString(),
                 partitions.toString(),
                 offsets.toString());
-        messages.forEach(paymentResponseAvroModel -> {
+        kafkaRecordExecutor.forEachByKey(messages, PaymentResponseAvroModel::getOrderId, paymentResponseAvroModel -> {
             try {
                 if (PaymentStatus.COMPLETED == paymentResponseAvroModel.getPaymentStatus()) {
                     log.info("Processing successful for order id: {}",  paymentResponseAvroModel.getOrderId());
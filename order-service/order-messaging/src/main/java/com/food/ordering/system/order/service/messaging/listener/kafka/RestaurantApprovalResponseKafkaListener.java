@@ -7,6 +7,7 @@ import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRespons
 import com.food.ordering.system.order.service.domain.exception.OrderNotFoundException;
 import com.food.ordering.system.order.service.domain.ports.input.message.listener.restaurantapproval.RestaurantApprovalMessageListener;
 import com.food.ordering.system.order.service.messaging.mapper.OrderMessagingDataMapper;
+import com.food.ordering.system.outbox.execution.BoundedExecutor;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.experimental.FieldDefaults;
@@ -28,6 +29,7 @@ public class RestaurantApprovalResponseKafkaListener implements KafkaConsumer<Re
 
     OrderMessagingDataMapper mapper;
     RestaurantApprovalMessageListener restaurantApprovalMessageListener;
+    BoundedExecutor kafkaRecordExecutor;
 
     @Override
     @KafkaListener(id = "${kafka-consumer-config.restaurant-approval-consumer-group-id}",
@@ -41,7 +43,8 @@ public class RestaurantApprovalResponseKafkaListener implements KafkaConsumer<Re
                 keys.toString(),
                 partitions.toString(),
                 offsets.toString());
-        messages.forEach(restaurantApprovalResponse -> {
+        kafkaRecordExecutor.forEachByKey(messages, RestaurantApprovalResponseAvroModel::getOrderId,
+                restaurantApprovalResponse -> {
             try {
                 if (OrderApprovalStatus.APPROVED == restaurantApprovalResponse.getOrderApprovalStatus()) {
                     log.info("Processing approved for order id: {}",  restaurantApprovalResponse.getOrderId());
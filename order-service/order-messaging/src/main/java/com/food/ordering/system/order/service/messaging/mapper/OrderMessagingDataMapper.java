@@ -1,6 +1,8 @@
 package com.food.ordering.system.order.service.messaging.mapper;
 
+import com.food.ordering.system.domain.IdGenerator;
 import com.food.ordering.system.kafka.order.avro.model.*;
+import com.food.ordering.system.kafka.order.avro.serde.AvroUuidConverter;
 import com.food.ordering.system.order.service.domain.dto.message.CustomerModel;
 import com.food.ordering.system.order.service.domain.dto.message.PaymentResponse;
 import com.food.ordering.system.order.service.domain.dto.message.RestaurantApprovalResponse;
@@ -17,11 +19,15 @@ public class OrderMessagingDataMapper {
     public PaymentResponse paymentResponseAvroModelToPaymentResponse(PaymentResponseAvroModel
                                                                              paymentResponseAvroModel) {
         return PaymentResponse.builder()
-                .id(paymentResponseAvroModel.getId())
-                .sagaId(paymentResponseAvroModel.getSagaId())
-                .paymentId(paymentResponseAvroModel.getPaymentId())
-                .customerId(paymentResponseAvroModel.getCustomerId())
-                .orderId(paymentResponseAvroModel.getOrderId())
+                .id(AvroUuidConverter.toUUID(paymentResponseAvroModel.getIdFixed(), paymentResponseAvroModel.getId()))
+                .sagaId(AvroUuidConverter.toUUID(paymentResponseAvroModel.getSagaIdFixed(),
+                        paymentResponseAvroModel.getSagaId()))
+                .paymentId(AvroUuidConverter.toUUID(paymentResponseAvroModel.getPaymentIdFixed(),
+                        paymentResponseAvroModel.getPaymentId()))
+                .customerId(AvroUuidConverter.toUUID(paymentResponseAvroModel.getCustomerIdFixed(),
+                        paymentResponseAvroModel.getCustomerId()))
+                .orderId(AvroUuidConverter.toUUID(paymentResponseAvroModel.getOrderIdFixed(),
+                        paymentResponseAvroModel.getOrderId()))
                 .price(paymentResponseAvroModel.getPrice())
                 .createdAt(paymentResponseAvroModel.getCreatedAt())
                 .paymentStatus(com.food.ordering.system.domain.valueobject.PaymentStatus.valueOf(
@@ -34,10 +40,14 @@ public class OrderMessagingDataMapper {
     approvalResponseAvroModelToApprovalResponse(RestaurantApprovalResponseAvroModel
                                                         restaurantApprovalResponseAvroModel) {
         return RestaurantApprovalResponse.builder()
-                .id(restaurantApprovalResponseAvroModel.getId())
-                .sagaId(restaurantApprovalResponseAvroModel.getSagaId())
-                .restaurantId(restaurantApprovalResponseAvroModel.getRestaurantId())
-                .orderId(restaurantApprovalResponseAvroModel.getOrderId())
+                .id(AvroUuidConverter.toUUID(restaurantApprovalResponseAvroModel.getIdFixed(),
+                        restaurantApprovalResponseAvroModel.getId()))
+                .sagaId(AvroUuidConverter.toUUID(restaurantApprovalResponseAvroModel.getSagaIdFixed(),
+                        restaurantApprovalResponseAvroModel.getSagaId()))
+                .restaurantId(AvroUuidConverter.toUUID(restaurantApprovalResponseAvroModel.getRestaurantIdFixed(),
+                        restaurantApprovalResponseAvroModel.getRestaurantId()))
+                .orderId(AvroUuidConverter.toUUID(restaurantApprovalResponseAvroModel.getOrderIdFixed(),
+                        restaurantApprovalResponseAvroModel.getOrderId()))
                 .createdAt(restaurantApprovalResponseAvroModel.getCreatedAt())
                 .orderApprovalStatus(com.food.ordering.system.domain.valueobject.OrderApprovalStatus.valueOf(
                         restaurantApprovalResponseAvroModel.getOrderApprovalStatus().name()))
@@ -45,13 +55,18 @@ public class OrderMessagingDataMapper {
                 .build();
     }
 
-    public PaymentRequestAvroModel orderPaymentEventToPaymentRequestAvroModel(String sagaId, OrderPaymentEventPayload
+    public PaymentRequestAvroModel orderPaymentEventToPaymentRequestAvroModel(UUID sagaId, OrderPaymentEventPayload
                                                                               orderPaymentEventPayload) {
+        UUID id = IdGenerator.newId();
         return PaymentRequestAvroModel.newBuilder()
-                .setId(UUID.randomUUID().toString())
-                .setSagaId(sagaId)
+                .setId(id.toString())
+                .setIdFixed(AvroUuidConverter.toAvro(id))
+                .setSagaId(sagaId.toString())
+                .setSagaIdFixed(AvroUuidConverter.toAvro(sagaId))
                 .setCustomerId(orderPaymentEventPayload.getCustomerId())
+                .setCustomerIdFixed(AvroUuidConverter.toAvro(orderPaymentEventPayload.getCustomerId()))
                 .setOrderId(orderPaymentEventPayload.getOrderId())
+                .setOrderIdFixed(AvroUuidConverter.toAvro(orderPaymentEventPayload.getOrderId()))
                 .setPrice(orderPaymentEventPayload.getPrice())
                 .setCreatedAt(orderPaymentEventPayload.getCreatedAt().toInstant())
                 .setPaymentOrderStatus(PaymentOrderStatus.valueOf(orderPaymentEventPayload.getPaymentOrderStatus()))
@@ -59,18 +74,24 @@ public class OrderMessagingDataMapper {
     }
 
     public RestaurantApprovalRequestAvroModel
-    orderApprovalEventToRestaurantApprovalRequestAvroModel(String sagaId, OrderApprovalEventPayload
+    orderApprovalEventToRestaurantApprovalRequestAvroModel(UUID sagaId, OrderApprovalEventPayload
             orderApprovalEventPayload) {
+        UUID id = IdGenerator.newId();
         return RestaurantApprovalRequestAvroModel.newBuilder()
-                .setId(UUID.randomUUID().toString())
-                .setSagaId(sagaId)
+                .setId(id.toString())
+                .setIdFixed(AvroUuidConverter.toAvro(id))
+                .setSagaId(sagaId.toString())
+                .setSagaIdFixed(AvroUuidConverter.toAvro(sagaId))
                 .setOrderId(orderApprovalEventPayload.getOrderId())
+                .setOrderIdFixed(AvroUuidConverter.toAvro(orderApprovalEventPayload.getOrderId()))
                 .setRestaurantId(orderApprovalEventPayload.getRestaurantId())
+                .setRestaurantIdFixed(AvroUuidConverter.toAvro(orderApprovalEventPayload.getRestaurantId()))
                 .setRestaurantOrderStatus(RestaurantOrderStatus
                         .valueOf(orderApprovalEventPayload.getRestaurantOrderStatus()))
                 .setProducts(orderApprovalEventPayload.getProducts().stream().map(orderApprovalEventProduct ->
                         com.food.ordering.system.kafka.order.avro.model.Product.newBuilder()
                                 .setId(orderApprovalEventProduct.getId())
+                                .setIdFixed(AvroUuidConverter.toAvro(orderApprovalEventProduct.getId()))
                                 .setQuantity(orderApprovalEventProduct.getQuantity())
                                 .build()).collect(Collectors.toList()))
                 .setPrice(orderApprovalEventPayload.getPrice())
@@ -15,8 +15,11 @@ import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.Map;
 import java.util.function.BiConsumer;
 
+import static com.food.ordering.system.saga.order.SagaConstant.SAGA_ID_HEADER;
+
 
 @Slf4j
 @Component
@@ -44,11 +47,12 @@ public class OrderApprovalEventKafkaPublisher implements RestaurantApprovalReque
 
         try {
             RestaurantApprovalRequestAvroModel restaurantApprovalRequestAvroModel = dataMapper
-                    .orderApprovalEventToRestaurantApprovalRequestAvroModel(sagaId, payload);
+                    .orderApprovalEventToRestaurantApprovalRequestAvroModel(orderApprovalOutboxMessage.getSagaId(), payload);
 
             kafkaProducer.send(configData.getRestaurantApprovalRequestTopicName(),
                     sagaId,
                     restaurantApprovalRequestAvroModel,
+                    Map.of(SAGA_ID_HEADER, sagaId),
                     kafkaMessageHelper.getKafkaCallback(
                             configData.getPaymentRequestTopicName(),
                             restaurantApprovalRequestAvroModel,
@@ -15,8 +15,11 @@ import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.Map;
 import java.util.function.BiConsumer;
 
+import static com.food.ordering.system.saga.order.SagaConstant.SAGA_ID_HEADER;
+
 
 @Slf4j
 @Component
@@ -43,11 +46,13 @@ public class OrderPaymentEventKafkaPublisher implements PaymentRequestMessagePub
 
         try {
             PaymentRequestAvroModel paymentRequestAvroModel = dataMapper
-                    .orderPaymentEventToPaymentRequestAvroModel(sagaId, orderPaymentEventPayload);
+                    .orderPaymentEventToPaymentRequestAvroModel(orderPaymentOutboxMessage.getSagaId(),
+                            orderPaymentEventPayload);
 
             kafkaProducer.send(configData.getPaymentRequestTopicName(),
                     sagaId,
                     paymentRequestAvroModel,
+                    Map.of(SAGA_ID_HEADER, sagaId),
                     kafkaMessageHelper.getKafkaCallback(
                             configData.getPaymentRequestTopicName(),
                             paymentRequestAvroModel,
@@ -1,8 +1,12 @@
 package com.food.ordering.system.payment.service.domain;
 
+import com.food.ordering.system.payment.service.domain.config.PaymentServiceConfigData;
+import com.food.ordering.system.saga.SagaIdempotencyCache;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 @Configuration
 public class BeanConfiguration {
 
@@ -10,4 +14,10 @@ public class BeanConfiguration {
     public PaymentDomainService paymentDomainService() {
         return new PaymentDomainServiceImpl();
     }
+
+    @Bean
+    public SagaIdempotencyCache sagaIdempotencyCache(PaymentServiceConfigData paymentServiceConfigData) {
+        return new SagaIdempotencyCache(paymentServiceConfigData.getIdempotencyCacheMaxSize(),
+                Duration.ofSeconds(paymentServiceConfigData.getIdempotencyCacheTtlSeconds()));
+    }
 }
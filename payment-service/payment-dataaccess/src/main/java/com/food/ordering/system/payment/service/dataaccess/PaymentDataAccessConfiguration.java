@@ -0,0 +1,13 @@
+package com.food.ordering.system.payment.service.dataaccess;
+
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+@Profile("!in-memory")
+@EnableJpaRepositories(basePackages = "com.food.ordering.system.payment.service.dataaccess")
+@EntityScan(basePackages = "com.food.ordering.system.payment.service.dataaccess")
+@Configuration
+public class PaymentDataAccessConfiguration {
+}
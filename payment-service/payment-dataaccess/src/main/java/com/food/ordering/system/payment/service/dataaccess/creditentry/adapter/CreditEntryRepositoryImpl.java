@@ -5,10 +5,12 @@ import com.food.ordering.system.payment.service.dataaccess.creditentry.mapper.Cr
 import com.food.ordering.system.payment.service.dataaccess.creditentry.repository.CreditEntryJpaRepository;
 import com.food.ordering.system.payment.service.domain.entity.CreditEntry;
 import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditEntryRepository;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
 import java.util.Optional;
 
+@Profile("!in-memory")
 @Component
 public class CreditEntryRepositoryImpl implements CreditEntryRepository {
 
@@ -0,0 +1,39 @@
+package com.food.ordering.system.payment.service.dataaccess.creditentry.adapter;
+
+import com.food.ordering.system.dataaccess.inmemory.InMemoryTable;
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.payment.service.dataaccess.creditentry.entity.CreditEntryEntity;
+import com.food.ordering.system.payment.service.dataaccess.creditentry.mapper.CreditEntryDataAccessMapper;
+import com.food.ordering.system.payment.service.domain.entity.CreditEntry;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditEntryRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Profile("in-memory")
+@Component
+public class InMemoryCreditEntryRepository implements CreditEntryRepository {
+
+    private final InMemoryTable<UUID, CreditEntryEntity> creditEntries =
+            new InMemoryTable<>("credit_entry", CreditEntryEntity::getId);
+    private final CreditEntryDataAccessMapper creditEntryDataAccessMapper;
+
+    public InMemoryCreditEntryRepository(CreditEntryDataAccessMapper creditEntryDataAccessMapper) {
+        this.creditEntryDataAccessMapper = creditEntryDataAccessMapper;
+    }
+
+    @Override
+    public CreditEntry save(CreditEntry creditEntry) {
+        return creditEntryDataAccessMapper.creditEntryEntityToCreditEntry(
+                creditEntries.save(creditEntryDataAccessMapper.creditEntryToCreditEntryEntity(creditEntry)));
+    }
+
+    @Override
+    public Optional<CreditEntry> findByCustomerId(CustomerId customerId) {
+        return creditEntries.findFirst(creditEntryEntity ->
+                        creditEntryEntity.getCustomerId().equals(customerId.getValue()))
+                .map(creditEntryDataAccessMapper::creditEntryEntityToCreditEntry);
+    }
+}
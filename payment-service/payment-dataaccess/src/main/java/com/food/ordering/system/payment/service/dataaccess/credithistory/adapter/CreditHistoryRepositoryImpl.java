@@ -6,12 +6,14 @@ import com.food.ordering.system.payment.service.dataaccess.credithistory.mapper.
 import com.food.ordering.system.payment.service.dataaccess.credithistory.repository.CreditHistoryJpaRepository;
 import com.food.ordering.system.payment.service.domain.entity.CreditHistory;
 import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditHistoryRepository;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+@Profile("!in-memory")
 @Component
 public class CreditHistoryRepositoryImpl implements CreditHistoryRepository {
 
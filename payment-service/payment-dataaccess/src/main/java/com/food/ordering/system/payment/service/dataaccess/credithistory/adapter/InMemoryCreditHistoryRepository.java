@@ -0,0 +1,42 @@
+package com.food.ordering.system.payment.service.dataaccess.credithistory.adapter;
+
+import com.food.ordering.system.dataaccess.inmemory.InMemoryTable;
+import com.food.ordering.system.domain.valueobject.CustomerId;
+import com.food.ordering.system.payment.service.dataaccess.credithistory.entity.CreditHistoryEntity;
+import com.food.ordering.system.payment.service.dataaccess.credithistory.mapper.CreditHistoryDataAccessMapper;
+import com.food.ordering.system.payment.service.domain.entity.CreditHistory;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditHistoryRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Profile("in-memory")
+@Component
+public class InMemoryCreditHistoryRepository implements CreditHistoryRepository {
+
+    private final InMemoryTable<UUID, CreditHistoryEntity> creditHistories =
+            new InMemoryTable<>("credit_history", CreditHistoryEntity::getId);
+    private final CreditHistoryDataAccessMapper creditHistoryDataAccessMapper;
+
+    public InMemoryCreditHistoryRepository(CreditHistoryDataAccessMapper creditHistoryDataAccessMapper) {
+        this.creditHistoryDataAccessMapper = creditHistoryDataAccessMapper;
+    }
+
+    @Override
+    public CreditHistory save(CreditHistory creditHistory) {
+        return creditHistoryDataAccessMapper.creditHistoryEntityToCreditHistory(
+                creditHistories.save(creditHistoryDataAccessMapper.creditHistoryToCreditHistoryEntity(creditHistory)));
+    }
+
+    @Override
+    public Optional<List<CreditHistory>> findByCustomerId(CustomerId customerId) {
+        return Optional.of(creditHistories.findAll(creditHistoryEntity ->
+                        creditHistoryEntity.getCustomerId().equals(customerId.getValue())).stream()
+                .map(creditHistoryDataAccessMapper::creditHistoryEntityToCreditHistory)
+                .collect(Collectors.toList()));
+    }
+}
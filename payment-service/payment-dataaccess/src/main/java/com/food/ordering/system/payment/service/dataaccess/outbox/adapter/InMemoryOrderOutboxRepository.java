@@ -0,0 +1,65 @@
+package com.food.ordering.system.payment.service.dataaccess.outbox.adapter;
+
+import com.food.ordering.system.dataaccess.inmemory.InMemoryTable;
+import com.food.ordering.system.domain.valueobject.PaymentStatus;
+import com.food.ordering.system.outbox.OutboxStatus;
+import com.food.ordering.system.payment.service.dataaccess.outbox.entity.OrderOutboxEntity;
+import com.food.ordering.system.payment.service.dataaccess.outbox.mapper.OrderOutboxDataAccessMapper;
+import com.food.ordering.system.payment.service.domain.outbox.model.OrderOutboxMessage;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.OrderOutboxRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Profile("in-memory")
+@Component
+public class InMemoryOrderOutboxRepository implements OrderOutboxRepository {
+
+    private final InMemoryTable<UUID, OrderOutboxEntity> orderOutbox = new InMemoryTable<>("order_outbox",
+            OrderOutboxEntity::getId,
+            orderOutboxEntity -> List.of(orderOutboxEntity.getType(), orderOutboxEntity.getSagaId(),
+                    orderOutboxEntity.getPaymentStatus(), orderOutboxEntity.getOutboxStatus()),
+            OrderOutboxEntity::getVersion,
+            OrderOutboxEntity::setVersion);
+    private final OrderOutboxDataAccessMapper orderOutboxDataAccessMapper;
+
+    public InMemoryOrderOutboxRepository(OrderOutboxDataAccessMapper orderOutboxDataAccessMapper) {
+        this.orderOutboxDataAccessMapper = orderOutboxDataAccessMapper;
+    }
+
+    @Override
+    public OrderOutboxMessage save(OrderOutboxMessage orderOutboxMessage) {
+        return orderOutboxDataAccessMapper.orderOutboxEntityToOrderOutboxMessage(
+                orderOutbox.save(orderOutboxDataAccessMapper.orderOutboxMessageToOutboxEntity(orderOutboxMessage)));
+    }
+
+    @Override
+    public Optional<List<OrderOutboxMessage>> findByTypeAndOutboxStatus(String sagaType, OutboxStatus outboxStatus) {
+        return Optional.of(orderOutbox.findAll(orderOutboxEntity -> orderOutboxEntity.getType().equals(sagaType) &&
+                        orderOutboxEntity.getOutboxStatus() == outboxStatus).stream()
+                .map(orderOutboxDataAccessMapper::orderOutboxEntityToOrderOutboxMessage)
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    public Optional<OrderOutboxMessage> findByTypeAndSagaIdAndPaymentStatusAndOutboxStatus(String sagaType,
+                                                                                           UUID sagaId,
+                                                                                           PaymentStatus paymentStatus,
+                                                                                           OutboxStatus outboxStatus) {
+        return orderOutbox.findFirst(orderOutboxEntity -> orderOutboxEntity.getType().equals(sagaType) &&
+                        orderOutboxEntity.getSagaId().equals(sagaId) &&
+                        orderOutboxEntity.getPaymentStatus() == paymentStatus &&
+                        orderOutboxEntity.getOutboxStatus() == outboxStatus)
+                .map(orderOutboxDataAccessMapper::orderOutboxEntityToOrderOutboxMessage);
+    }
+
+    @Override
+    public void deleteByTypeAndOutboxStatus(String sagaType, OutboxStatus outboxStatus) {
+        orderOutbox.deleteAll(orderOutboxEntity -> orderOutboxEntity.getType().equals(sagaType) &&
+                orderOutboxEntity.getOutboxStatus() == outboxStatus);
+    }
+}
@@ -7,6 +7,7 @@ import com.food.ordering.system.payment.service.dataaccess.outbox.mapper.OrderOu
 import com.food.ordering.system.payment.service.dataaccess.outbox.repository.OrderOutboxJpaRepository;
 import com.food.ordering.system.payment.service.domain.outbox.model.OrderOutboxMessage;
 import com.food.ordering.system.payment.service.domain.ports.output.repository.OrderOutboxRepository;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -14,6 +15,7 @@ import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+@Profile("!in-memory")
 @Component
 public class OrderOutboxRepositoryImpl implements OrderOutboxRepository {
 
@@ -0,0 +1,36 @@
+package com.food.ordering.system.payment.service.dataaccess.payment.adapter;
+
+import com.food.ordering.system.dataaccess.inmemory.InMemoryTable;
+import com.food.ordering.system.payment.service.dataaccess.payment.entity.PaymentEntity;
+import com.food.ordering.system.payment.service.dataaccess.payment.mapper.PaymentDataAccessMapper;
+import com.food.ordering.system.payment.service.domain.entity.Payment;
+import com.food.ordering.system.payment.service.domain.ports.output.repository.PaymentRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Profile("in-memory")
+@Component
+public class InMemoryPaymentRepository implements PaymentRepository {
+
+    private final InMemoryTable<UUID, PaymentEntity> payments = new InMemoryTable<>("payments", PaymentEntity::getId);
+    private final PaymentDataAccessMapper paymentDataAccessMapper;
+
+    public InMemoryPaymentRepository(PaymentDataAccessMapper paymentDataAccessMapper) {
+        this.paymentDataAccessMapper = paymentDataAccessMapper;
+    }
+
+    @Override
+    public Payment save(Payment payment) {
+        return paymentDataAccessMapper.paymentEntityToPayment(
+                payments.save(paymentDataAccessMapper.paymentToPaymentEntity(payment)));
+    }
+
+    @Override
+    public Optional<Payment> findByOrderId(UUID orderId) {
+        return payments.findFirst(paymentEntity -> paymentEntity.getOrderId().equals(orderId))
+                .map(paymentDataAccessMapper::paymentEntityToPayment);
+    }
+}
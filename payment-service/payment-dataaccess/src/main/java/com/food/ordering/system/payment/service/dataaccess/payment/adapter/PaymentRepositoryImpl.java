@@ -4,11 +4,13 @@ import com.food.ordering.system.payment.service.dataaccess.payment.mapper.Paymen
 import com.food.ordering.system.payment.service.dataaccess.payment.repository.PaymentJpaRepository;
 import com.food.ordering.system.payment.service.domain.entity.Payment;
 import com.food.ordering.system.payment.service.domain.ports.output.repository.PaymentRepository;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
 import java.util.Optional;
 import java.util.UUID;
 
+@Profile("!in-memory")
 @Component
 public class PaymentRepositoryImpl implements PaymentRepository {
 
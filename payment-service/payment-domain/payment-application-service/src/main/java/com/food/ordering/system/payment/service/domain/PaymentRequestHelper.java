@@ -17,6 +17,7 @@ import com.food.ordering.system.payment.service.domain.ports.output.mesage.publi
 import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditEntryRepository;
 import com.food.ordering.system.payment.service.domain.ports.output.repository.CreditHistoryRepository;
 import com.food.ordering.system.payment.service.domain.ports.output.repository.PaymentRepository;
+import com.food.ordering.system.saga.SagaIdempotencyCache;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.experimental.FieldDefaults;
@@ -27,7 +28,6 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.UUID;
 
 @Component
 @Slf4j
@@ -41,7 +41,14 @@ public class PaymentRequestHelper {
     CreditHistoryRepository creditHistoryRepository;
     OrderOutboxHelper orderOutboxHelper;
     PaymentResponseMessagePublisher paymentResponseMessagePublisher;
+    SagaIdempotencyCache sagaIdempotencyCache;
 
+    public boolean isPaymentProcessed(PaymentRequest paymentRequest, PaymentStatus paymentStatus) {
+        Optional<String> outcome = sagaIdempotencyCache.get(paymentRequest.getSagaId(), paymentStatus.name());
+        outcome.ifPresent(paymentOutcome -> log.info("Payment request for saga id: {} is already processed " +
+                "with payment status: {}", paymentRequest.getSagaId(), paymentOutcome));
+        return outcome.isPresent();
+    }
 
     @Transactional
     public void persistPayment(PaymentRequest paymentRequest) {
@@ -63,7 +70,9 @@ public class PaymentRequestHelper {
         orderOutboxHelper.saveOrderOutboxMessage(mapper.paymentEventToOrderEventPayload(paymentEvent),
                 paymentEvent.getPayment().getPaymentStatus(),
                 OutboxStatus.STARTED,
-                UUID.fromString(paymentRequest.getSagaId()));
+                paymentRequest.getSagaId());
+        sagaIdempotencyCache.putAfterCommit(paymentRequest.getSagaId(), PaymentStatus.COMPLETED.name(),
+                paymentEvent.getPayment().getPaymentStatus().name());
     }
 
     @Transactional
@@ -75,7 +84,7 @@ public class PaymentRequestHelper {
 
         log.info("Received payment rollback event for order id: {}", paymentRequest.getOrderId());
         Optional<Payment> paymentResponse = paymentRepository
-                .findByOrderId(UUID.fromString(paymentRequest.getId()));
+                .findByOrderId(paymentRequest.getId());
         if (paymentResponse.isEmpty()) {
             log.error("Payment with order id: {} could not be found!", paymentRequest.getOrderId());
             throw new PaymentNotFoundException(
@@ -97,7 +106,9 @@ public class PaymentRequestHelper {
         orderOutboxHelper.saveOrderOutboxMessage(mapper.paymentEventToOrderEventPayload(paymentEvent),
                 paymentEvent.getPayment().getPaymentStatus(),
                 OutboxStatus.STARTED,
-                UUID.fromString(paymentRequest.getSagaId()));
+                paymentRequest.getSagaId());
+        sagaIdempotencyCache.putAfterCommit(paymentRequest.getSagaId(), PaymentStatus.CANCELLED.name(),
+                paymentEvent.getPayment().getPaymentStatus().name());
     }
 
     private CreditEntry getCreditEntry(CustomerId customerId) {
@@ -138,10 +149,12 @@ public class PaymentRequestHelper {
     private boolean publishIfOutboxMessageProcessedForPayment(PaymentRequest paymentRequest,
                                                               PaymentStatus paymentStatus) {
         Optional<OrderOutboxMessage> completedOrderOutboxMessageBySagaIdAndPaymentStatus = orderOutboxHelper.getCompletedOrderOutboxMessageBySagaIdAndPaymentStatus(
-                UUID.fromString(paymentRequest.getSagaId()),
+                paymentRequest.getSagaId(),
                 paymentStatus);
 
         if (completedOrderOutboxMessageBySagaIdAndPaymentStatus.isPresent()) {
+            sagaIdempotencyCache.put(paymentRequest.getSagaId(), paymentStatus.name(),
+                    completedOrderOutboxMessageBySagaIdAndPaymentStatus.get().getPaymentStatus().name());
             paymentResponseMessagePublisher.publish(completedOrderOutboxMessageBySagaIdAndPaymentStatus.get(),
                     orderOutboxHelper::updateOutboxMessage);
             return true;
@@ -1,5 +1,6 @@
 package com.food.ordering.system.payment.service.domain;
 
+import com.food.ordering.system.domain.valueobject.PaymentStatus;
 import com.food.ordering.system.payment.service.domain.dto.PaymentRequest;
 import com.food.ordering.system.payment.service.domain.event.PaymentEvent;
 import com.food.ordering.system.payment.service.domain.ports.input.message.listener.PaymentRequestMessageListener;
@@ -18,11 +19,17 @@ public class PaymentRequestMessageListenerImpl implements PaymentRequestMessageL
 
     @Override
     public void completePayment(PaymentRequest paymentRequest) {
+       if (helper.isPaymentProcessed(paymentRequest, PaymentStatus.COMPLETED)) {
+           return;
+       }
        helper.persistPayment(paymentRequest);
     }
 
     @Override
     public void cancelPayment(PaymentRequest paymentRequest) {
+       if (helper.isPaymentProcessed(paymentRequest, PaymentStatus.CANCELLED)) {
+           return;
+       }
        helper.persistCancelPayment(paymentRequest);
     }
 
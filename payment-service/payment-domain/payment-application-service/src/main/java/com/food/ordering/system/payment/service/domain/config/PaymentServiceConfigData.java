@@ -10,4 +10,6 @@ import org.springframework.context.annotation.Configuration;
 public class PaymentServiceConfigData {
     private String paymentRequestTopicName;
     private String paymentResponseTopicName;
+    private int idempotencyCacheMaxSize = 100_000;
+    private long idempotencyCacheTtlSeconds = 600;
 }
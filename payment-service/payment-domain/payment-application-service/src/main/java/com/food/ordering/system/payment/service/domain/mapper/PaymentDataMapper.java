@@ -9,15 +9,14 @@ import com.food.ordering.system.payment.service.domain.event.PaymentEvent;
 import com.food.ordering.system.payment.service.domain.outbox.model.OrderEventPayload;
 import org.springframework.stereotype.Component;
 
-import java.util.UUID;
 
 @Component
 public class PaymentDataMapper {
 
     public Payment paymentRequestModelToPayment(PaymentRequest paymentRequest) {
         return Payment.Builder.builder()
-                .orderId(new OrderId(UUID.fromString(paymentRequest.getOrderId())))
-                .customerId(new CustomerId(UUID.fromString(paymentRequest.getCustomerId())))
+                .orderId(new OrderId(paymentRequest.getOrderId()))
+                .customerId(new CustomerId(paymentRequest.getCustomerId()))
                 .price(new Money(paymentRequest.getPrice()))
                 .build();
     }
@@ -2,6 +2,7 @@ package com.food.ordering.system.payment.service.domain.outbox.scheduler;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.food.ordering.system.domain.IdGenerator;
 import com.food.ordering.system.domain.valueobject.PaymentStatus;
 import com.food.ordering.system.outbox.OutboxStatus;
 import com.food.ordering.system.payment.service.domain.exception.PaymentDomainException;
@@ -33,7 +34,7 @@ public class OrderOutboxHelper {
     private final OrderOutboxRepository orderOutboxRepository;
     private final ObjectMapper objectMapper;
 
-    @Transactional(readOnly = true)
+    @Transactional
     public Optional<OrderOutboxMessage> getCompletedOrderOutboxMessageBySagaIdAndPaymentStatus(UUID sagaId,
                                                                                                PaymentStatus
                                                                                                        paymentStatus) {
@@ -41,7 +42,7 @@ public class OrderOutboxHelper {
                 paymentStatus, OutboxStatus.COMPLETED);
     }
 
-    @Transactional(readOnly = true)
+    @Transactional
     public Optional<List<OrderOutboxMessage>> getOrderOutboxMessageByOutboxStatus(OutboxStatus outboxStatus) {
         return orderOutboxRepository.findByTypeAndOutboxStatus(ORDER_SAGA_NAME, outboxStatus);
     }
@@ -57,7 +58,7 @@ public class OrderOutboxHelper {
                                        OutboxStatus outboxStatus,
                                        UUID sagaId) {
         save(OrderOutboxMessage.builder()
-                .id(UUID.randomUUID())
+                .id(IdGenerator.newId())
                 .sagaId(sagaId)
                 .createdAt(orderEventPayload.getCreatedAt())
                 .processedAt(ZonedDateTime.now(ZoneId.of(UTC)))
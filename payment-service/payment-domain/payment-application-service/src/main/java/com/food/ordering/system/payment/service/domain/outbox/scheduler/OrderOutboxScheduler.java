@@ -1,7 +1,9 @@
 package com.food.ordering.system.payment.service.domain.outbox.scheduler;
 
+import com.food.ordering.system.outbox.OutboxMetrics;
 import com.food.ordering.system.outbox.OutboxScheduler;
 import com.food.ordering.system.outbox.OutboxStatus;
+import com.food.ordering.system.outbox.execution.BoundedExecutor;
 import com.food.ordering.system.payment.service.domain.outbox.model.OrderOutboxMessage;
 import com.food.ordering.system.payment.service.domain.ports.output.mesage.publisher.PaymentResponseMessagePublisher;
 import lombok.AccessLevel;
@@ -22,8 +24,12 @@ import java.util.stream.Collectors;
 @AllArgsConstructor
 public class OrderOutboxScheduler implements OutboxScheduler {
 
+    private static final String OUTBOX_NAME = "order_outbox";
+
     OrderOutboxHelper orderOutboxHelper;
     PaymentResponseMessagePublisher paymentResponseMessagePublisher;
+    OutboxMetrics outboxMetrics;
+    BoundedExecutor outboxPublishExecutor;
 
     @Override
     @Transactional
@@ -32,12 +38,13 @@ public class OrderOutboxScheduler implements OutboxScheduler {
     public void processOutboxMessage() {
         Optional<List<OrderOutboxMessage>> outboxMessagesResponse =
                 orderOutboxHelper.getOrderOutboxMessageByOutboxStatus(OutboxStatus.STARTED);
+        outboxMetrics.updateBacklog(OUTBOX_NAME, outboxMessagesResponse.map(List::size).orElse(0));
         if (outboxMessagesResponse.isPresent() && outboxMessagesResponse.get().size() > 0) {
             List<OrderOutboxMessage> outboxMessages = outboxMessagesResponse.get();
             log.info("Received {} OrderOutboxMessage with ids {}, sending to message bus!", outboxMessages.size(),
                     outboxMessages.stream().map(outboxMessage ->
                             outboxMessage.getId().toString()).collect(Collectors.joining(",")));
-            outboxMessages.forEach(orderOutboxMessage ->
+            outboxPublishExecutor.forEachByKey(outboxMessages, OrderOutboxMessage::getSagaId, orderOutboxMessage ->
                     paymentResponseMessagePublisher.publish(orderOutboxMessage,
                             orderOutboxHelper::updateOutboxMessage));
             log.info("{} OrderOutboxMessage sent to message bus!", outboxMessages.size());
@@ -1,5 +1,6 @@
 package com.food.ordering.system.payment.service.domain;
 
+import com.food.ordering.system.domain.IdGenerator;
 import com.food.ordering.system.domain.event.publisher.DomainEventPublisher;
 import com.food.ordering.system.domain.valueobject.Money;
 import com.food.ordering.system.domain.valueobject.PaymentStatus;
@@ -17,7 +18,6 @@ import lombok.extern.slf4j.Slf4j;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.List;
-import java.util.UUID;
 
 import static com.food.ordering.system.domain.DomainConstants.UTC;
 
@@ -92,7 +92,7 @@ public class PaymentDomainServiceImpl implements PaymentDomainService {
     private void updateCreditHistory(Payment payment, List<CreditHistory> historyList, TransactionType transactionType) {
         historyList.add(CreditHistory.Builder
                 .builder()
-                .id(new CreditHistoryId(UUID.randomUUID()))
+                .id(new CreditHistoryId(IdGenerator.newId()))
                 .customerId(payment.getCustomerId())
                 .amount(payment.getPrice())
                 .transactionType(transactionType)
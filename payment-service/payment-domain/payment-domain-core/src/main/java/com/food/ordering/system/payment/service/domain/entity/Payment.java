@@ -1,5 +1,6 @@
 package com.food.ordering.system.payment.service.domain.entity;
 
+import com.food.ordering.system.domain.IdGenerator;
 import com.food.ordering.system.domain.entity.AggregateRoot;
 import com.food.ordering.system.domain.valueobject.CustomerId;
 import com.food.ordering.system.domain.valueobject.Money;
@@ -10,7 +11,6 @@ import com.food.ordering.system.payment.service.domain.valueobject.PaymentId;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.List;
-import java.util.UUID;
 
 public class Payment extends AggregateRoot<PaymentId> {
     private final OrderId orderId;
@@ -21,7 +21,7 @@ public class Payment extends AggregateRoot<PaymentId> {
     private ZonedDateTime createdAt;
 
     public void initializePayment() {
-        setId(new PaymentId(UUID.randomUUID()));
+        setId(new PaymentId(IdGenerator.newId()));
         createdAt = ZonedDateTime.now(ZoneId.of("UTC"));
     }
 
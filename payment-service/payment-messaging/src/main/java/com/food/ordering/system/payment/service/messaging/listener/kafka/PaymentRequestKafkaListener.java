@@ -3,6 +3,7 @@ package com.food.ordering.system.payment.service.messaging.listener.kafka;
 import com.food.ordering.system.kafka.consumer.KafkaConsumer;
 import com.food.ordering.system.kafka.order.avro.model.PaymentOrderStatus;
 import com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel;
+import com.food.ordering.system.outbox.execution.BoundedExecutor;
 import com.food.ordering.system.payment.service.domain.exception.PaymentApplicationServiceException;
 import com.food.ordering.system.payment.service.domain.exception.PaymentNotFoundException;
 import com.food.ordering.system.payment.service.domain.ports.input.message.listener.PaymentRequestMessageListener;
@@ -30,6 +31,7 @@ public class PaymentRequestKafkaListener implements KafkaConsumer<PaymentRequest
 
     PaymentRequestMessageListener paymentRequestMessageListener;
     PaymentMessagingDataMapper paymentMessagingDataMapper;
+    BoundedExecutor kafkaRecordExecutor;
 
     @Override
     @KafkaListener(id = "${kafka-consumer-config.payment-consumer-group-id}",
@@ -44,7 +46,7 @@ public class PaymentRequestKafkaListener implements KafkaConsumer<PaymentRequest
                 partitions.toString(),
                 offsets.toString());
 
-        messages.forEach(paymentRequestAvroModel -> {
+        kafkaRecordExecutor.forEachByKey(messages, PaymentRequestAvroModel::getOrderId, paymentRequestAvroModel -> {
             try {
                 if (PaymentOrderStatus.PENDING == paymentRequestAvroModel.getPaymentOrderStatus()) {
                     log.info("Processing payment for order id: {}", paymentRequestAvroModel.getOrderId());
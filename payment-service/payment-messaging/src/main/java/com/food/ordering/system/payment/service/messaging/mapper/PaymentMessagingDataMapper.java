@@ -1,9 +1,11 @@
 package com.food.ordering.system.payment.service.messaging.mapper;
 
+import com.food.ordering.system.domain.IdGenerator;
 import com.food.ordering.system.domain.valueobject.PaymentOrderStatus;
 import com.food.ordering.system.kafka.order.avro.model.PaymentRequestAvroModel;
 import com.food.ordering.system.kafka.order.avro.model.PaymentResponseAvroModel;
 import com.food.ordering.system.kafka.order.avro.model.PaymentStatus;
+import com.food.ordering.system.kafka.order.avro.serde.AvroUuidConverter;
 import com.food.ordering.system.payment.service.domain.dto.PaymentRequest;
 import com.food.ordering.system.payment.service.domain.outbox.model.OrderEventPayload;
 import org.springframework.stereotype.Component;
@@ -15,24 +17,33 @@ public class PaymentMessagingDataMapper {
 
     public PaymentRequest paymentRequestAvroModelToPaymentRequest(PaymentRequestAvroModel paymentRequestAvroModel) {
         return PaymentRequest.builder()
-                .id(paymentRequestAvroModel.getId())
-                .sagaId(paymentRequestAvroModel.getSagaId())
-                .customerId(paymentRequestAvroModel.getCustomerId())
-                .orderId(paymentRequestAvroModel.getOrderId())
+                .id(AvroUuidConverter.toUUID(paymentRequestAvroModel.getIdFixed(), paymentRequestAvroModel.getId()))
+                .sagaId(AvroUuidConverter.toUUID(paymentRequestAvroModel.getSagaIdFixed(),
+                        paymentRequestAvroModel.getSagaId()))
+                .customerId(AvroUuidConverter.toUUID(paymentRequestAvroModel.getCustomerIdFixed(),
+                        paymentRequestAvroModel.getCustomerId()))
+                .orderId(AvroUuidConverter.toUUID(paymentRequestAvroModel.getOrderIdFixed(),
+                        paymentRequestAvroModel.getOrderId()))
                 .price(paymentRequestAvroModel.getPrice())
                 .createdAt(paymentRequestAvroModel.getCreatedAt())
                 .paymentOrderStatus(PaymentOrderStatus.valueOf(paymentRequestAvroModel.getPaymentOrderStatus().name()))
                 .build();
     }
 
-    public PaymentResponseAvroModel orderEventPayloadToPaymentResponseAvroModel(String sagaId,
+    public PaymentResponseAvroModel orderEventPayloadToPaymentResponseAvroModel(UUID sagaId,
                                                                                 OrderEventPayload orderEventPayload) {
+        UUID id = IdGenerator.newId();
         return PaymentResponseAvroModel.newBuilder()
-                .setId(UUID.randomUUID().toString())
-                .setSagaId(sagaId)
+                .setId(id.toString())
+                .setIdFixed(AvroUuidConverter.toAvro(id))
+                .setSagaId(sagaId.toString())
+                .setSagaIdFixed(AvroUuidConverter.toAvro(sagaId))
                 .setPaymentId(orderEventPayload.getPaymentId())
+                .setPaymentIdFixed(AvroUuidConverter.toAvro(orderEventPayload.getPaymentId()))
                 .setCustomerId(orderEventPayload.getCustomerId())
+                .setCustomerIdFixed(AvroUuidConverter.toAvro(orderEventPayload.getCustomerId()))
                 .setOrderId(orderEventPayload.getOrderId())
+                .setOrderIdFixed(AvroUuidConverter.toAvro(orderEventPayload.getOrderId()))
                 .setPrice(orderEventPayload.getPrice())
                 .setCreatedAt(orderEventPayload.getCreatedAt().toInstant())//??
                 .setPaymentStatus(PaymentStatus.valueOf(orderEventPayload.getPaymentStatus()))
@@ -15,8 +15,11 @@ import lombok.experimental.FieldDefaults;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.Map;
 import java.util.function.BiConsumer;
 
+import static com.food.ordering.system.saga.order.SagaConstant.SAGA_ID_HEADER;
+
 @Slf4j
 @Component
 @AllArgsConstructor
@@ -42,11 +45,12 @@ public class PaymentEventKafkaPublisher implements PaymentResponseMessagePublish
 
         try {
             PaymentResponseAvroModel paymentResponseAvroModel = paymentMessagingDataMapper
-                    .orderEventPayloadToPaymentResponseAvroModel(sagaId, orderEventPayload);
+                    .orderEventPayloadToPaymentResponseAvroModel(orderOutboxMessage.getSagaId(), orderEventPayload);
 
             kafkaProducer.send(paymentServiceConfigData.getPaymentResponseTopicName(),
                     sagaId,
                     paymentResponseAvroModel,
+                    Map.of(SAGA_ID_HEADER, sagaId),
                     kafkaMessageHelper.getKafkaCallback(paymentServiceConfigData.getPaymentResponseTopicName(),
                             paymentResponseAvroModel,
                             orderOutboxMessage,
@@ -55,7 +59,7 @@ public class PaymentEventKafkaPublisher implements PaymentResponseMessagePublish
                             "PaymentResponseAvroModel"));
 
             log.info("PaymentResponseAvroModel sent to kafka for order id: {} and saga id: {}",
-                    paymentResponseAvroModel.getOrderId(), sagaId);
+                    orderEventPayload.getOrderId(), sagaId);
         } catch (Exception e) {
             log.error("Error while sending PaymentRequestAvroModel message" +
                             " to kafka with order id: {} and saga id: {}, error: {}",
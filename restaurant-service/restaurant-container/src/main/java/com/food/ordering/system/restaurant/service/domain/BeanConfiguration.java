@@ -1,8 +1,12 @@
 package com.food.ordering.system.restaurant.service.domain;
 
+import com.food.ordering.system.restaurant.service.domain.config.RestaurantServiceConfigData;
+import com.food.ordering.system.saga.SagaIdempotencyCache;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 @Configuration
 public class BeanConfiguration {
 
@@ -11,4 +15,10 @@ public class BeanConfiguration {
         return new RestaurantDomainServiceImpl();
     }
 
+    @Bean
+    public SagaIdempotencyCache sagaIdempotencyCache(RestaurantServiceConfigData restaurantServiceConfigData) {
+        return new SagaIdempotencyCache(restaurantServiceConfigData.getIdempotencyCacheMaxSize(),
+                Duration.ofSeconds(restaurantServiceConfigData.getIdempotencyCacheTtlSeconds()));
+    }
+
 }
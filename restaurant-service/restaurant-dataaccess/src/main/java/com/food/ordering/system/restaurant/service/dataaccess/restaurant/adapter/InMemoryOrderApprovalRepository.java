@@ -0,0 +1,42 @@
+package com.food.ordering.system.restaurant.service.dataaccess.restaurant.adapter;
+
+import com.food.ordering.system.dataaccess.inmemory.InMemoryTable;
+import com.food.ordering.system.restaurant.service.dataaccess.restaurant.entity.OrderApprovalEntity;
+import com.food.ordering.system.restaurant.service.dataaccess.restaurant.mapper.RestaurantDataAccessMapper;
+import com.food.ordering.system.restaurant.service.domain.entity.OrderApproval;
+import com.food.ordering.system.restaurant.service.domain.ports.output.repository.OrderApprovalRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Profile("in-memory")
+@Component
+public class InMemoryOrderApprovalRepository implements OrderApprovalRepository {
+
+    private final InMemoryTable<UUID, OrderApprovalEntity> orderApprovals =
+            new InMemoryTable<>("order_approval", OrderApprovalEntity::getId);
+    private final RestaurantDataAccessMapper restaurantDataAccessMapper;
+
+    public InMemoryOrderApprovalRepository(RestaurantDataAccessMapper restaurantDataAccessMapper) {
+        this.restaurantDataAccessMapper = restaurantDataAccessMapper;
+    }
+
+    @Override
+    public OrderApproval save(OrderApproval orderApproval) {
+        return restaurantDataAccessMapper.orderApprovalEntityToOrderApproval(
+                orderApprovals.save(restaurantDataAccessMapper.orderApprovalToOrderApprovalEntity(orderApproval)));
+    }
+
+    @Override
+    public List<OrderApproval> insertAll(List<OrderApproval> orderApprovals) {
+        return this.orderApprovals.insertAll(orderApprovals.stream()
+                        .map(restaurantDataAccessMapper::orderApprovalToOrderApprovalEntity)
+                        .collect(Collectors.toList()))
+                .stream()
+                .map(restaurantDataAccessMapper::orderApprovalEntityToOrderApproval)
+                .collect(Collectors.toList());
+    }
+}
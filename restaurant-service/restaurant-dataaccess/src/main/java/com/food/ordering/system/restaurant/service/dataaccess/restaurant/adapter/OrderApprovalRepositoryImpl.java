@@ -1,11 +1,17 @@
 package com.food.ordering.system.restaurant.service.dataaccess.restaurant.adapter;
 
+import com.food.ordering.system.restaurant.service.dataaccess.restaurant.entity.OrderApprovalEntity;
 import com.food.ordering.system.restaurant.service.dataaccess.restaurant.repository.OrderApprovalJpaRepository;
 import com.food.ordering.system.restaurant.service.dataaccess.restaurant.mapper.RestaurantDataAccessMapper;
 import com.food.ordering.system.restaurant.service.domain.entity.OrderApproval;
 import com.food.ordering.system.restaurant.service.domain.ports.output.repository.OrderApprovalRepository;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Profile("!in-memory")
 @Component
 public class OrderApprovalRepositoryImpl implements OrderApprovalRepository {
 
@@ -25,4 +31,15 @@ public class OrderApprovalRepositoryImpl implements OrderApprovalRepository {
                         .save(restaurantDataAccessMapper.orderApprovalToOrderApprovalEntity(orderApproval)));
     }
 
+    @Override
+    public List<OrderApproval> insertAll(List<OrderApproval> orderApprovals) {
+        List<OrderApprovalEntity> orderApprovalEntities = orderApprovals.stream()
+                .map(restaurantDataAccessMapper::orderApprovalToOrderApprovalEntity)
+                .collect(Collectors.toList());
+        orderApprovalEntities.forEach(orderApprovalEntity -> orderApprovalEntity.setNewEntity(true));
+        return orderApprovalJpaRepository.saveAll(orderApprovalEntities).stream()
+                .map(restaurantDataAccessMapper::orderApprovalEntityToOrderApproval)
+                .collect(Collectors.toList());
+    }
+
 }
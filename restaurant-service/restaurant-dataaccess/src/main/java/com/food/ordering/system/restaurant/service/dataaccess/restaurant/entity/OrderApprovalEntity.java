@@ -2,8 +2,10 @@ package com.food.ordering.system.restaurant.service.dataaccess.restaurant.entity
 
 import com.food.ordering.system.domain.valueobject.OrderApprovalStatus;
 import lombok.*;
+import org.springframework.data.domain.Persistable;
 
 import javax.persistence.*;
+import java.util.Objects;
 import java.util.UUID;
 
 @Getter
@@ -13,7 +15,7 @@ import java.util.UUID;
 @AllArgsConstructor
 @Table(name = "order_approval", schema = "restaurant")
 @Entity
-public class OrderApprovalEntity {
+public class OrderApprovalEntity implements Persistable<UUID> {
 
     @Id
     private UUID id;
@@ -21,4 +23,31 @@ public class OrderApprovalEntity {
     private UUID orderId;
     @Enumerated(EnumType.STRING)
     private OrderApprovalStatus status;
+
+    @Transient
+    private boolean newEntity;
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        OrderApprovalEntity that = (OrderApprovalEntity) o;
+        return id.equals(that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
 }
@@ -0,0 +1,83 @@
+package com.food.ordering.system.restaurant.service.dataaccess.restaurant.outbox.adapter;
+
+import com.food.ordering.system.dataaccess.inmemory.InMemoryTable;
+import com.food.ordering.system.outbox.OutboxStatus;
+import com.food.ordering.system.restaurant.service.dataaccess.restaurant.outbox.entity.OrderOutboxEntity;
+import com.food.ordering.system.restaurant.service.dataaccess.restaurant.outbox.mapper.OrderOutboxDataAccessMapper;
+import com.food.ordering.system.restaurant.service.domain.outbox.model.OrderOutboxMessage;
+import com.food.ordering.system.restaurant.service.domain.ports.output.repository.OrderOutboxRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Profile("in-memory")
+@Component
+public class InMemoryOrderOutboxRepository implements OrderOutboxRepository {
+
+    private final InMemoryTable<UUID, OrderOutboxEntity> orderOutbox = new InMemoryTable<>("order_outbox",
+            OrderOutboxEntity::getId,
+            orderOutboxEntity -> List.of(orderOutboxEntity.getType(), orderOutboxEntity.getSagaId(),
+                    orderOutboxEntity.getApprovalStatus(), orderOutboxEntity.getOutboxStatus()));
+    private final OrderOutboxDataAccessMapper orderOutboxDataAccessMapper;
+
+    public InMemoryOrderOutboxRepository(OrderOutboxDataAccessMapper orderOutboxDataAccessMapper) {
+        this.orderOutboxDataAccessMapper = orderOutboxDataAccessMapper;
+    }
+
+    @Override
+    public OrderOutboxMessage save(OrderOutboxMessage orderOutboxMessage) {
+        return orderOutboxDataAccessMapper.orderOutboxEntityToOrderOutboxMessage(
+                orderOutbox.save(orderOutboxDataAccessMapper.orderOutboxMessageToOutboxEntity(orderOutboxMessage)));
+    }
+
+    @Override
+    public List<OrderOutboxMessage> insertAll(List<OrderOutboxMessage> orderOutboxMessages) {
+        return orderOutbox.insertAll(orderOutboxMessages.stream()
+                        .map(orderOutboxDataAccessMapper::orderOutboxMessageToOutboxEntity)
+                        .collect(Collectors.toList()))
+                .stream()
+                .map(orderOutboxDataAccessMapper::orderOutboxEntityToOrderOutboxMessage)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Optional<List<OrderOutboxMessage>> findByTypeAndOutboxStatus(String sagaType, OutboxStatus outboxStatus) {
+        return Optional.of(orderOutbox.findAll(orderOutboxEntity -> orderOutboxEntity.getType().equals(sagaType) &&
+                        orderOutboxEntity.getOutboxStatus() == outboxStatus).stream()
+                .map(orderOutboxDataAccessMapper::orderOutboxEntityToOrderOutboxMessage)
+                .collect(Collectors.toList()));
+    }
+
+    @Override
+    public Optional<OrderOutboxMessage> findByTypeAndSagaIdAndOutboxStatus(String type, UUID sagaId,
+                                                                           OutboxStatus outboxStatus) {
+        return orderOutbox.findFirst(orderOutboxEntity -> orderOutboxEntity.getType().equals(type) &&
+                        orderOutboxEntity.getSagaId().equals(sagaId) &&
+                        orderOutboxEntity.getOutboxStatus() == outboxStatus)
+                .map(orderOutboxDataAccessMapper::orderOutboxEntityToOrderOutboxMessage);
+    }
+
+    @Override
+    public List<OrderOutboxMessage> findByTypeAndSagaIdInAndOutboxStatus(String type, Collection<UUID> sagaIds,
+                                                                         OutboxStatus outboxStatus) {
+        Set<UUID> sagaIdSet = new HashSet<>(sagaIds);
+        return orderOutbox.findAll(orderOutboxEntity -> orderOutboxEntity.getType().equals(type) &&
+                        sagaIdSet.contains(orderOutboxEntity.getSagaId()) &&
+                        orderOutboxEntity.getOutboxStatus() == outboxStatus).stream()
+                .map(orderOutboxDataAccessMapper::orderOutboxEntityToOrderOutboxMessage)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void deleteByTypeAndOutboxStatus(String type, OutboxStatus outboxStatus) {
+        orderOutbox.deleteAll(orderOutboxEntity -> orderOutboxEntity.getType().equals(type) &&
+                orderOutboxEntity.getOutboxStatus() == outboxStatus);
+    }
+}
@@ -1,18 +1,22 @@
 package com.food.ordering.system.restaurant.service.dataaccess.restaurant.outbox.adapter;
 
 import com.food.ordering.system.outbox.OutboxStatus;
+import com.food.ordering.system.restaurant.service.dataaccess.restaurant.outbox.entity.OrderOutboxEntity;
 import com.food.ordering.system.restaurant.service.dataaccess.restaurant.outbox.exception.OrderOutboxNotFoundException;
 import com.food.ordering.system.restaurant.service.dataaccess.restaurant.outbox.mapper.OrderOutboxDataAccessMapper;
 import com.food.ordering.system.restaurant.service.dataaccess.restaurant.outbox.repository.OrderOutboxJpaRepository;
 import com.food.ordering.system.restaurant.service.domain.outbox.model.OrderOutboxMessage;
 import com.food.ordering.system.restaurant.service.domain.ports.output.repository.OrderOutboxRepository;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+@Profile("!in-memory")
 @Component
 public class OrderOutboxRepositoryImpl implements OrderOutboxRepository {
 
@@ -33,6 +37,17 @@ public class OrderOutboxRepositoryImpl implements OrderOutboxRepository {
                                 .orderOutboxMessageToOutboxEntity(orderPaymentOutboxMessage)));
     }
 
+    @Override
+    public List<OrderOutboxMessage> insertAll(List<OrderOutboxMessage> orderOutboxMessages) {
+        List<OrderOutboxEntity> orderOutboxEntities = orderOutboxMessages.stream()
+                .map(orderOutboxDataAccessMapper::orderOutboxMessageToOutboxEntity)
+                .collect(Collectors.toList());
+        orderOutboxEntities.forEach(orderOutboxEntity -> orderOutboxEntity.setNewEntity(true));
+        return orderOutboxJpaRepository.saveAll(orderOutboxEntities).stream()
+                .map(orderOutboxDataAccessMapper::orderOutboxEntityToOrderOutboxMessage)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public Optional<List<OrderOutboxMessage>> findByTypeAndOutboxStatus(String sagaType, OutboxStatus outboxStatus) {
         return Optional.of(orderOutboxJpaRepository.findByTypeAndOutboxStatus(sagaType, outboxStatus)
@@ -50,6 +65,15 @@ public class OrderOutboxRepositoryImpl implements OrderOutboxRepository {
                 .map(orderOutboxDataAccessMapper::orderOutboxEntityToOrderOutboxMessage);
     }
 
+    @Override
+    public List<OrderOutboxMessage> findByTypeAndSagaIdInAndOutboxStatus(String type, Collection<UUID> sagaIds,
+                                                                         OutboxStatus outboxStatus) {
+        return orderOutboxJpaRepository.findByTypeAndSagaIdInAndOutboxStatus(type, sagaIds, outboxStatus)
+                .stream()
+                .map(orderOutboxDataAccessMapper::orderOutboxEntityToOrderOutboxMessage)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public void deleteByTypeAndOutboxStatus(String type, OutboxStatus outboxStatus) {
         orderOutboxJpaRepository.deleteByTypeAndOutboxStatus(type, outboxStatus);
@@ -3,6 +3,7 @@ package com.food.ordering.system.restaurant.service.dataaccess.restaurant.outbox
 import com.food.ordering.system.domain.valueobject.OrderApprovalStatus;
 import com.food.ordering.system.outbox.OutboxStatus;
 import lombok.*;
+import org.springframework.data.domain.Persistable;
 
 import javax.persistence.*;
 import java.time.ZonedDateTime;
@@ -16,7 +17,7 @@ import java.util.UUID;
 @AllArgsConstructor
 @Table(name = "order_outbox")
 @Entity
-public class OrderOutboxEntity {
+public class OrderOutboxEntity implements Persistable<UUID> {
 
     @Id
     private UUID id;
@@ -31,6 +32,19 @@ public class OrderOutboxEntity {
     private OrderApprovalStatus approvalStatus;
     private int version;
 
+    @Transient
+    private boolean newEntity;
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newEntity = false;
+    }
 
     @Override
     public boolean equals(Object o) {
@@ -5,6 +5,7 @@ import com.food.ordering.system.restaurant.service.dataaccess.restaurant.outbox.
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -16,6 +17,9 @@ public interface OrderOutboxJpaRepository extends JpaRepository<OrderOutboxEntit
 
     Optional<OrderOutboxEntity> findByTypeAndSagaIdAndOutboxStatus(String type, UUID sagaId, OutboxStatus outboxStatus);
 
+    List<OrderOutboxEntity> findByTypeAndSagaIdInAndOutboxStatus(String type, Collection<UUID> sagaIds,
+                                                                 OutboxStatus outboxStatus);
+
     void deleteByTypeAndOutboxStatus(String type, OutboxStatus outboxStatus);
 
 }
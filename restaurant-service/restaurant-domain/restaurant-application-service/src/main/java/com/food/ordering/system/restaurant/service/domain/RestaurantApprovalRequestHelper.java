@@ -1,8 +1,12 @@
 package com.food.ordering.system.restaurant.service.domain;
 
 import com.food.ordering.system.domain.valueobject.OrderId;
+import com.food.ordering.system.domain.valueobject.ProductId;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
 import com.food.ordering.system.outbox.OutboxStatus;
 import com.food.ordering.system.restaurant.service.domain.dto.RestaurantApprovalRequest;
+import com.food.ordering.system.restaurant.service.domain.entity.OrderApproval;
+import com.food.ordering.system.restaurant.service.domain.entity.Product;
 import com.food.ordering.system.restaurant.service.domain.entity.Restaurant;
 import com.food.ordering.system.restaurant.service.domain.event.OrderApprovalEvent;
 import com.food.ordering.system.restaurant.service.domain.exception.RestaurantNotFoundException;
@@ -12,14 +16,22 @@ import com.food.ordering.system.restaurant.service.domain.outbox.scheduler.Order
 import com.food.ordering.system.restaurant.service.domain.ports.output.message.publisher.RestaurantApprovalResponseMessagePublisher;
 import com.food.ordering.system.restaurant.service.domain.ports.output.repository.OrderApprovalRepository;
 import com.food.ordering.system.restaurant.service.domain.ports.output.repository.RestaurantRepository;
+import com.food.ordering.system.saga.SagaIdempotencyCache;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Component
@@ -31,8 +43,7 @@ public class RestaurantApprovalRequestHelper {
     private final OrderApprovalRepository orderApprovalRepository;
     private final OrderOutboxHelper orderOutboxHelper;
     private final RestaurantApprovalResponseMessagePublisher restaurantApprovalResponseMessagePublisher;
-
-
+    private final SagaIdempotencyCache sagaIdempotencyCache;
 
     public RestaurantApprovalRequestHelper(RestaurantDomainService restaurantDomainService,
                                            RestaurantDataMapper restaurantDataMapper,
@@ -40,13 +51,23 @@ public class RestaurantApprovalRequestHelper {
                                            OrderApprovalRepository orderApprovalRepository,
                                            OrderOutboxHelper orderOutboxHelper,
                                            RestaurantApprovalResponseMessagePublisher
-                                                   restaurantApprovalResponseMessagePublisher) {
+                                                   restaurantApprovalResponseMessagePublisher,
+                                           SagaIdempotencyCache sagaIdempotencyCache) {
         this.restaurantDomainService = restaurantDomainService;
         this.restaurantDataMapper = restaurantDataMapper;
         this.restaurantRepository = restaurantRepository;
         this.orderApprovalRepository = orderApprovalRepository;
         this.orderOutboxHelper = orderOutboxHelper;
         this.restaurantApprovalResponseMessagePublisher = restaurantApprovalResponseMessagePublisher;
+        this.sagaIdempotencyCache = sagaIdempotencyCache;
+    }
+
+    public boolean isApprovalProcessed(RestaurantApprovalRequest restaurantApprovalRequest) {
+        Optional<String> outcome = sagaIdempotencyCache.get(restaurantApprovalRequest.getSagaId(),
+                restaurantApprovalRequest.getRestaurantOrderStatus().name());
+        outcome.ifPresent(approvalOutcome -> log.info("Restaurant approval for saga id: {} is already processed " +
+                "with approval status: {}", restaurantApprovalRequest.getSagaId(), approvalOutcome));
+        return outcome.isPresent();
     }
 
     @Transactional
@@ -70,10 +91,65 @@ public class RestaurantApprovalRequestHelper {
                 .saveOrderOutboxMessage(restaurantDataMapper.orderApprovalEventToOrderEventPayload(orderApprovalEvent),
                         orderApprovalEvent.getOrderApproval().getApprovalStatus(),
                         OutboxStatus.STARTED,
-                        UUID.fromString(restaurantApprovalRequest.getSagaId()));
+                        restaurantApprovalRequest.getSagaId());
+        cacheApprovalAfterCommit(restaurantApprovalRequest, orderApprovalEvent);
 
     }
 
+    @Transactional
+    public void persistOrderApprovals(List<RestaurantApprovalRequest> restaurantApprovalRequests) {
+        Set<UUID> seenSagaIds = new HashSet<>(publishIfOutboxMessagesProcessed(restaurantApprovalRequests));
+        Map<UUID, List<RestaurantApprovalRequest>> requestsByRestaurant = new LinkedHashMap<>();
+        restaurantApprovalRequests.stream()
+                .filter(restaurantApprovalRequest -> seenSagaIds.add(restaurantApprovalRequest.getSagaId()))
+                .forEach(restaurantApprovalRequest -> requestsByRestaurant
+                        .computeIfAbsent(restaurantApprovalRequest.getRestaurantId(), id -> new ArrayList<>())
+                        .add(restaurantApprovalRequest));
+
+        List<OrderApproval> orderApprovals = new ArrayList<>();
+        List<OrderOutboxMessage> orderOutboxMessages = new ArrayList<>();
+        requestsByRestaurant.forEach((restaurantId, requests) -> {
+            List<Restaurant> restaurants = requests.stream()
+                    .map(restaurantDataMapper::restaurantApprovalRequestToRestaurant)
+                    .collect(Collectors.toList());
+            Optional<Restaurant> restaurantResult = findRestaurantMenu(new RestaurantId(restaurantId), restaurants);
+            if (restaurantResult.isEmpty()) {
+                log.error("Restaurant with id {} not found, skipping {} approval requests!",
+                        restaurantId, requests.size());
+                return;
+            }
+
+            log.info("Processing {} restaurant approvals for restaurant id: {}", requests.size(), restaurantId);
+            for (int i = 0; i < requests.size(); i++) {
+                RestaurantApprovalRequest restaurantApprovalRequest = requests.get(i);
+                Restaurant restaurant = restaurants.get(i);
+                applyRestaurantInformation(restaurant, restaurantResult.get(), restaurantApprovalRequest.getOrderId());
+                OrderApprovalEvent orderApprovalEvent =
+                        restaurantDomainService.validateOrder(restaurant, new ArrayList<>());
+                orderApprovals.add(restaurant.getOrderApproval());
+                orderOutboxMessages.add(orderOutboxHelper.createOrderOutboxMessage(
+                        restaurantDataMapper.orderApprovalEventToOrderEventPayload(orderApprovalEvent),
+                        orderApprovalEvent.getOrderApproval().getApprovalStatus(),
+                        OutboxStatus.STARTED,
+                        restaurantApprovalRequest.getSagaId()));
+                cacheApprovalAfterCommit(restaurantApprovalRequest, orderApprovalEvent);
+            }
+        });
+
+        if (orderApprovals.isEmpty()) {
+            return;
+        }
+        orderApprovalRepository.insertAll(orderApprovals);
+        orderOutboxHelper.insertOrderOutboxMessages(orderOutboxMessages);
+    }
+
+    private void cacheApprovalAfterCommit(RestaurantApprovalRequest restaurantApprovalRequest,
+                                          OrderApprovalEvent orderApprovalEvent) {
+        sagaIdempotencyCache.putAfterCommit(restaurantApprovalRequest.getSagaId(),
+                restaurantApprovalRequest.getRestaurantOrderStatus().name(),
+                orderApprovalEvent.getOrderApproval().getApprovalStatus().name());
+    }
+
     private Restaurant findRestaurant(RestaurantApprovalRequest restaurantApprovalRequest) {
         Restaurant restaurant = restaurantDataMapper
                 .restaurantApprovalRequestToRestaurant(restaurantApprovalRequest);
@@ -84,28 +160,61 @@ public class RestaurantApprovalRequestHelper {
                     " not found!");
         }
 
-        Restaurant restaurantEntity = restaurantResult.get();
+        applyRestaurantInformation(restaurant, restaurantResult.get(), restaurantApprovalRequest.getOrderId());
+        return restaurant;
+    }
+
+    private Optional<Restaurant> findRestaurantMenu(RestaurantId restaurantId, List<Restaurant> restaurants) {
+        Set<ProductId> productIds = new LinkedHashSet<>();
+        restaurants.forEach(restaurant -> restaurant.getOrderDetail().getProducts()
+                .forEach(product -> productIds.add(product.getId())));
+        return restaurantRepository.findRestaurantInformation(restaurantId, productIds);
+    }
+
+    private void applyRestaurantInformation(Restaurant restaurant, Restaurant restaurantEntity, UUID orderId) {
         restaurant.setActive(restaurantEntity.isActive());
-        restaurant.getOrderDetail().getProducts().forEach(product ->
-                restaurantEntity.getOrderDetail().getProducts().forEach(p -> {
-            if (p.getId().equals(product.getId())) {
+        Map<ProductId, Product> restaurantProducts = restaurantEntity.getProductIndex();
+        restaurant.getOrderDetail().getProducts().forEach(product -> {
+            Product p = restaurantProducts.get(product.getId());
+            if (p != null) {
                 product.updateWithConfirmedNamePriceAndAvailability(p.getName(), p.getPrice(), p.isAvailable());
             }
-        }));
-        restaurant.getOrderDetail().setId(new OrderId(UUID.fromString(restaurantApprovalRequest.getOrderId())));
-
-        return restaurant;
+        });
+        restaurant.getOrderDetail().setId(new OrderId(orderId));
     }
 
     private boolean publishIfOutboxMessageProcessed(RestaurantApprovalRequest restaurantApprovalRequest) {
         Optional<OrderOutboxMessage> orderOutboxMessage =
-                orderOutboxHelper.getCompletedOrderOutboxMessageBySagaIdAndOutboxStatus(UUID
-                        .fromString(restaurantApprovalRequest.getSagaId()), OutboxStatus.COMPLETED);
+                orderOutboxHelper.getCompletedOrderOutboxMessageBySagaIdAndOutboxStatus(restaurantApprovalRequest.getSagaId(), OutboxStatus.COMPLETED);
         if (orderOutboxMessage.isPresent()) {
+            sagaIdempotencyCache.put(restaurantApprovalRequest.getSagaId(),
+                    restaurantApprovalRequest.getRestaurantOrderStatus().name(),
+                    orderOutboxMessage.get().getApprovalStatus().name());
             restaurantApprovalResponseMessagePublisher.publish(orderOutboxMessage.get(),
                     orderOutboxHelper::updateOutboxStatus);
             return true;
         }
         return false;
     }
+
+    private Set<UUID> publishIfOutboxMessagesProcessed(List<RestaurantApprovalRequest> restaurantApprovalRequests) {
+        Map<UUID, RestaurantApprovalRequest> requestsBySagaId = restaurantApprovalRequests.stream()
+                .collect(Collectors.toMap(RestaurantApprovalRequest::getSagaId, Function.identity(),
+                        (first, duplicate) -> first));
+        List<OrderOutboxMessage> orderOutboxMessages =
+                orderOutboxHelper.getCompletedOrderOutboxMessagesBySagaIdsAndOutboxStatus(requestsBySagaId.keySet(),
+                        OutboxStatus.COMPLETED);
+        orderOutboxMessages.forEach(orderOutboxMessage -> {
+            log.info("An outbox message with saga id: {} already saved to database!",
+                    orderOutboxMessage.getSagaId());
+            sagaIdempotencyCache.put(orderOutboxMessage.getSagaId(),
+                    requestsBySagaId.get(orderOutboxMessage.getSagaId()).getRestaurantOrderStatus().name(),
+                    orderOutboxMessage.getApprovalStatus().name());
+            restaurantApprovalResponseMessagePublisher.publish(orderOutboxMessage,
+                    orderOutboxHelper::updateOutboxStatus);
+        });
+        return orderOutboxMessages.stream()
+                .map(OrderOutboxMessage::getSagaId)
+                .collect(Collectors.toSet());
+    }
 }
@@ -5,6 +5,9 @@ import com.food.ordering.system.restaurant.service.domain.ports.input.message.li
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 @Slf4j
 @Service
 public class RestaurantApprovalRequestMessageListenerImpl implements RestaurantApprovalRequestMessageListener {
@@ -18,6 +21,20 @@ public class RestaurantApprovalRequestMessageListenerImpl implements RestaurantA
 
     @Override
     public void approveOrder(RestaurantApprovalRequest restaurantApprovalRequest) {
+        if (restaurantApprovalRequestHelper.isApprovalProcessed(restaurantApprovalRequest)) {
+            return;
+        }
         restaurantApprovalRequestHelper.persistOrderApproval(restaurantApprovalRequest);
     }
+
+    @Override
+    public void approveOrders(List<RestaurantApprovalRequest> restaurantApprovalRequests) {
+        List<RestaurantApprovalRequest> unprocessedRequests = restaurantApprovalRequests.stream()
+                .filter(restaurantApprovalRequest ->
+                        !restaurantApprovalRequestHelper.isApprovalProcessed(restaurantApprovalRequest))
+                .collect(Collectors.toList());
+        if (!unprocessedRequests.isEmpty()) {
+            restaurantApprovalRequestHelper.persistOrderApprovals(unprocessedRequests);
+        }
+    }
 }
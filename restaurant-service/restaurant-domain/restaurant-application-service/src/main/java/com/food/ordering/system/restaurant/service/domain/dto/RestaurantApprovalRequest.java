@@ -6,14 +6,16 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.util.UUID;
+
 @Getter
 @Builder
 @AllArgsConstructor
 public class RestaurantApprovalRequest {
-    private String id;
-    private String sagaId;
-    private String restaurantId;
-    private String orderId;
+    private UUID id;
+    private UUID sagaId;
+    private UUID restaurantId;
+    private UUID orderId;
     private RestaurantOrderStatus restaurantOrderStatus;
     private java.util.List<Product> products;
     private java.math.BigDecimal price;
@@ -12,7 +12,6 @@ import com.food.ordering.system.restaurant.service.domain.event.OrderApprovalEve
 import com.food.ordering.system.restaurant.service.domain.outbox.model.OrderEventPayload;
 import org.springframework.stereotype.Component;
 
-import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Component
@@ -20,9 +19,9 @@ public class RestaurantDataMapper {
     public Restaurant restaurantApprovalRequestToRestaurant(RestaurantApprovalRequest
                                                                              restaurantApprovalRequest) {
         return Restaurant.builder()
-                .restaurantId(new RestaurantId(UUID.fromString(restaurantApprovalRequest.getRestaurantId())))
+                .restaurantId(new RestaurantId(restaurantApprovalRequest.getRestaurantId()))
                 .orderDetail(OrderDetail.builder()
-                        .orderId(new OrderId(UUID.fromString(restaurantApprovalRequest.getOrderId())))
+                        .orderId(new OrderId(restaurantApprovalRequest.getOrderId()))
                         .products(restaurantApprovalRequest.getProducts().stream().map(
                                 product -> Product.builder()
                                         .productId(product.getId())
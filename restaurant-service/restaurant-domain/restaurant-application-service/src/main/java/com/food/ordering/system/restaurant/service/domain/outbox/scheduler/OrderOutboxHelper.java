@@ -2,6 +2,7 @@ package com.food.ordering.system.restaurant.service.domain.outbox.scheduler;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.food.ordering.system.domain.IdGenerator;
 import com.food.ordering.system.domain.valueobject.OrderApprovalStatus;
 import com.food.ordering.system.outbox.OutboxStatus;
 import com.food.ordering.system.restaurant.service.domain.exception.RestaurantDomainException;
@@ -14,6 +15,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -34,14 +36,21 @@ public class OrderOutboxHelper {
         this.objectMapper = objectMapper;
     }
 
-    @Transactional(readOnly = true)
+    @Transactional
     public Optional<OrderOutboxMessage> getCompletedOrderOutboxMessageBySagaIdAndOutboxStatus(UUID sagaId,
                                                                                               OutboxStatus
                                                                                                       outboxStatus) {
         return orderOutboxRepository.findByTypeAndSagaIdAndOutboxStatus(ORDER_SAGA_NAME, sagaId, outboxStatus);
     }
 
-    @Transactional(readOnly = true)
+    @Transactional
+    public List<OrderOutboxMessage> getCompletedOrderOutboxMessagesBySagaIdsAndOutboxStatus(Collection<UUID> sagaIds,
+                                                                                            OutboxStatus
+                                                                                                    outboxStatus) {
+        return orderOutboxRepository.findByTypeAndSagaIdInAndOutboxStatus(ORDER_SAGA_NAME, sagaIds, outboxStatus);
+    }
+
+    @Transactional
     public Optional<List<OrderOutboxMessage>> getOrderOutboxMessageByOutboxStatus(OutboxStatus outboxStatus) {
         return orderOutboxRepository.findByTypeAndOutboxStatus(ORDER_SAGA_NAME, outboxStatus);
     }
@@ -56,8 +65,24 @@ public class OrderOutboxHelper {
                                        OrderApprovalStatus approvalStatus,
                                        OutboxStatus outboxStatus,
                                        UUID sagaId) {
-        save(OrderOutboxMessage.builder()
-                .id(UUID.randomUUID())
+        save(createOrderOutboxMessage(orderEventPayload, approvalStatus, outboxStatus, sagaId));
+    }
+
+    @Transactional
+    public void insertOrderOutboxMessages(List<OrderOutboxMessage> orderOutboxMessages) {
+        List<OrderOutboxMessage> response = orderOutboxRepository.insertAll(orderOutboxMessages);
+        if (response.size() != orderOutboxMessages.size()) {
+            throw new RestaurantDomainException("Could not save OrderOutboxMessages!");
+        }
+        log.info("{} OrderOutboxMessages saved", response.size());
+    }
+
+    public OrderOutboxMessage createOrderOutboxMessage(OrderEventPayload orderEventPayload,
+                                                       OrderApprovalStatus approvalStatus,
+                                                       OutboxStatus outboxStatus,
+                                                       UUID sagaId) {
+        return OrderOutboxMessage.builder()
+                .id(IdGenerator.newId())
                 .sagaId(sagaId)
                 .createdAt(orderEventPayload.getCreatedAt())
                 .processedAt(ZonedDateTime.now(ZoneId.of(UTC)))
@@ -65,7 +90,7 @@ public class OrderOutboxHelper {
                 .payload(createPayload(orderEventPayload))
                 .approvalStatus(approvalStatus)
                 .outboxStatus(outboxStatus)
-                .build());
+                .build();
     }
 
     @Transactional
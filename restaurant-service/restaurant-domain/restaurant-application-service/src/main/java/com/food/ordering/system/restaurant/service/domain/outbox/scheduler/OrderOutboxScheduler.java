@@ -1,7 +1,9 @@
 package com.food.ordering.system.restaurant.service.domain.outbox.scheduler;
 
+import com.food.ordering.system.outbox.OutboxMetrics;
 import com.food.ordering.system.outbox.OutboxScheduler;
 import com.food.ordering.system.outbox.OutboxStatus;
+import com.food.ordering.system.outbox.execution.BoundedExecutor;
 import com.food.ordering.system.restaurant.service.domain.outbox.model.OrderOutboxMessage;
 import com.food.ordering.system.restaurant.service.domain.ports.output.message.publisher.RestaurantApprovalResponseMessagePublisher;
 import lombok.extern.slf4j.Slf4j;
@@ -17,13 +19,21 @@ import java.util.stream.Collectors;
 @Component
 public class OrderOutboxScheduler implements OutboxScheduler {
 
+    private static final String OUTBOX_NAME = "order_outbox";
+
     private final OrderOutboxHelper orderOutboxHelper;
     private final RestaurantApprovalResponseMessagePublisher responseMessagePublisher;
+    private final OutboxMetrics outboxMetrics;
+    private final BoundedExecutor outboxPublishExecutor;
 
     public OrderOutboxScheduler(OrderOutboxHelper orderOutboxHelper,
-                                RestaurantApprovalResponseMessagePublisher responseMessagePublisher) {
+                                RestaurantApprovalResponseMessagePublisher responseMessagePublisher,
+                                OutboxMetrics outboxMetrics,
+                                BoundedExecutor outboxPublishExecutor) {
         this.orderOutboxHelper = orderOutboxHelper;
         this.responseMessagePublisher = responseMessagePublisher;
+        this.outboxMetrics = outboxMetrics;
+        this.outboxPublishExecutor = outboxPublishExecutor;
     }
 
     @Transactional
@@ -33,12 +43,13 @@ public class OrderOutboxScheduler implements OutboxScheduler {
     public void processOutboxMessage() {
         Optional<List<OrderOutboxMessage>> outboxMessagesResponse =
                 orderOutboxHelper.getOrderOutboxMessageByOutboxStatus(OutboxStatus.STARTED);
+        outboxMetrics.updateBacklog(OUTBOX_NAME, outboxMessagesResponse.map(List::size).orElse(0));
         if (outboxMessagesResponse.isPresent() && outboxMessagesResponse.get().size() > 0) {
             List<OrderOutboxMessage> outboxMessages = outboxMessagesResponse.get();
             log.info("Received {} OrderOutboxMessage with ids {}, sending to message bus!", outboxMessages.size(),
                     outboxMessages.stream().map(outboxMessage ->
                             outboxMessage.getId().toString()).collect(Collectors.joining(",")));
-            outboxMessages.forEach(orderOutboxMessage ->
+            outboxPublishExecutor.forEachByKey(outboxMessages, OrderOutboxMessage::getSagaId, orderOutboxMessage ->
                     responseMessagePublisher.publish(orderOutboxMessage,
                             orderOutboxHelper::updateOutboxStatus));
             log.info("{} OrderOutboxMessage sent to message bus!", outboxMessages.size());
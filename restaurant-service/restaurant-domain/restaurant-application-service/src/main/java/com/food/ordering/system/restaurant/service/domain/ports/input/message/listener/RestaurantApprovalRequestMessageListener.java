@@ -2,6 +2,10 @@ package com.food.ordering.system.restaurant.service.domain.ports.input.message.l
 
 import com.food.ordering.system.restaurant.service.domain.dto.RestaurantApprovalRequest;
 
+import java.util.List;
+
 public interface RestaurantApprovalRequestMessageListener {
     void approveOrder(RestaurantApprovalRequest restaurantApprovalRequest);
+
+    void approveOrders(List<RestaurantApprovalRequest> restaurantApprovalRequests);
 }
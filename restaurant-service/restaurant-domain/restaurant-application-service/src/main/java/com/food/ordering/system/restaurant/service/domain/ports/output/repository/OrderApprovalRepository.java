@@ -2,6 +2,10 @@ package com.food.ordering.system.restaurant.service.domain.ports.output.reposito
 
 import com.food.ordering.system.restaurant.service.domain.entity.OrderApproval;
 
+import java.util.List;
+
 public interface OrderApprovalRepository {
     OrderApproval save(OrderApproval orderApproval);
+
+    List<OrderApproval> insertAll(List<OrderApproval> orderApprovals);
 }
@@ -3,6 +3,7 @@ package com.food.ordering.system.restaurant.service.domain.ports.output.reposito
 import com.food.ordering.system.outbox.OutboxStatus;
 import com.food.ordering.system.restaurant.service.domain.outbox.model.OrderOutboxMessage;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -11,11 +12,16 @@ public interface OrderOutboxRepository {
 
     OrderOutboxMessage save(OrderOutboxMessage orderOutboxMessage);
 
+    List<OrderOutboxMessage> insertAll(List<OrderOutboxMessage> orderOutboxMessages);
+
     Optional<List<OrderOutboxMessage>> findByTypeAndOutboxStatus(String type, OutboxStatus outboxStatus);
 
     Optional<OrderOutboxMessage> findByTypeAndSagaIdAndOutboxStatus(String type, UUID sagaId,
                                                                     OutboxStatus outboxStatus);
 
+    List<OrderOutboxMessage> findByTypeAndSagaIdInAndOutboxStatus(String type, Collection<UUID> sagaIds,
+                                                                  OutboxStatus outboxStatus);
+
     void deleteByTypeAndOutboxStatus(String type, OutboxStatus outboxStatus);
 
 }
@@ -1,9 +1,14 @@
 package com.food.ordering.system.restaurant.service.domain.ports.output.repository;
 
+import com.food.ordering.system.domain.valueobject.ProductId;
+import com.food.ordering.system.domain.valueobject.RestaurantId;
 import com.food.ordering.system.restaurant.service.domain.entity.Restaurant;
 
+import java.util.Collection;
 import java.util.Optional;
 
 public interface RestaurantRepository {
     Optional<Restaurant> findRestaurantInformation(Restaurant restaurant);
+
+    Optional<Restaurant> findRestaurantInformation(RestaurantId restaurantId, Collection<ProductId> productIds);
 }
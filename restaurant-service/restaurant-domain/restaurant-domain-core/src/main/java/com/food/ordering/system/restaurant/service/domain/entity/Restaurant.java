@@ -1,19 +1,24 @@
 package com.food.ordering.system.restaurant.service.domain.entity;
 
+import com.food.ordering.system.domain.IdGenerator;
 import com.food.ordering.system.domain.entity.AggregateRoot;
 import com.food.ordering.system.domain.valueobject.Money;
 import com.food.ordering.system.domain.valueobject.OrderApprovalStatus;
 import com.food.ordering.system.domain.valueobject.OrderStatus;
+import com.food.ordering.system.domain.valueobject.ProductId;
 import com.food.ordering.system.domain.valueobject.RestaurantId;
 import com.food.ordering.system.restaurant.service.domain.valueobject.OrderApprovalId;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
-import java.util.UUID;
+import java.util.Map;
 
 public class Restaurant extends AggregateRoot<RestaurantId> {
    private OrderApproval orderApproval;
    private boolean active;
    private final OrderDetail orderDetail;
+   private final Map<ProductId, Product> productIndex;
 
    public void validateOrder(List<String> failureMessages) {
        if (orderDetail.getOrderStatus() != OrderStatus.PAID) {
@@ -34,7 +39,7 @@ public class Restaurant extends AggregateRoot<RestaurantId> {
 
    public void constructOrderApproval(OrderApprovalStatus orderApprovalStatus) {
        this.orderApproval = OrderApproval.builder()
-               .orderApprovalId(new OrderApprovalId(UUID.randomUUID()))
+               .orderApprovalId(new OrderApprovalId(IdGenerator.newId()))
                .restaurantId(this.getId())
                .orderId(this.getOrderDetail().getId())
                .approvalStatus(orderApprovalStatus)
@@ -50,6 +55,17 @@ public class Restaurant extends AggregateRoot<RestaurantId> {
         orderApproval = builder.orderApproval;
         active = builder.active;
         orderDetail = builder.orderDetail;
+        productIndex = indexProducts(orderDetail);
+    }
+
+    private static Map<ProductId, Product> indexProducts(OrderDetail orderDetail) {
+        if (orderDetail == null || orderDetail.getProducts() == null) {
+            return Collections.emptyMap();
+        }
+        List<Product> products = orderDetail.getProducts();
+        Map<ProductId, Product> index = new HashMap<>(products.size() * 4 / 3 + 1);
+        products.forEach(product -> index.put(product.getId(), product));
+        return Collections.unmodifiableMap(index);
     }
 
     public static Builder builder() {
@@ -68,6 +84,10 @@ public class Restaurant extends AggregateRoot<RestaurantId> {
         return orderDetail;
     }
 
+    public Map<ProductId, Product> getProductIndex() {
+        return productIndex;
+    }
+
     public static final class Builder {
         private RestaurantId restaurantId;
         private OrderApproval orderApproval;
@@ -2,6 +2,7 @@ package com.food.ordering.system.restaurant.service.messaging.listener.kafka;
 
 import com.food.ordering.system.kafka.consumer.KafkaConsumer;
 import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel;
+import com.food.ordering.system.outbox.execution.BoundedExecutor;
 import com.food.ordering.system.restaurant.service.domain.exception.RestaurantApplicationServiceException;
 import com.food.ordering.system.restaurant.service.domain.exception.RestaurantNotFoundException;
 import com.food.ordering.system.restaurant.service.domain.ports.input.message.listener.RestaurantApprovalRequestMessageListener;
@@ -17,6 +18,7 @@ import org.springframework.stereotype.Component;
 
 import java.sql.SQLException;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Component
@@ -24,13 +26,16 @@ public class RestaurantApprovalRequestKafkaListener implements KafkaConsumer<Res
 
     private final RestaurantApprovalRequestMessageListener restaurantApprovalRequestMessageListener;
     private final RestaurantMessagingDataMapper restaurantMessagingDataMapper;
+    private final BoundedExecutor kafkaRecordExecutor;
 
     public RestaurantApprovalRequestKafkaListener(RestaurantApprovalRequestMessageListener
                                                           restaurantApprovalRequestMessageListener,
                                                   RestaurantMessagingDataMapper
-                                                          restaurantMessagingDataMapper) {
+                                                          restaurantMessagingDataMapper,
+                                                  BoundedExecutor kafkaRecordExecutor) {
         this.restaurantApprovalRequestMessageListener = restaurantApprovalRequestMessageListener;
         this.restaurantMessagingDataMapper = restaurantMessagingDataMapper;
+        this.kafkaRecordExecutor = kafkaRecordExecutor;
     }
 
     @Override
@@ -47,30 +52,50 @@ public class RestaurantApprovalRequestKafkaListener implements KafkaConsumer<Res
                 partitions.toString(),
                 offsets.toString());
 
-        messages.forEach(restaurantApprovalRequestAvroModel -> {
-            try {
-                log.info("Processing order approval for order id: {}", restaurantApprovalRequestAvroModel.getOrderId());
-                restaurantApprovalRequestMessageListener.approveOrder(restaurantMessagingDataMapper.
-                        restaurantApprovalRequestAvroModelToRestaurantApproval(restaurantApprovalRequestAvroModel));
-            } catch (DataAccessException e) {
-                SQLException sqlException = (SQLException) e.getRootCause();
-                if (sqlException != null && sqlException.getSQLState() != null &&
-                        PSQLState.UNIQUE_VIOLATION.getState().equals(sqlException.getSQLState())) {
-                    //NO-OP for unique constraint exception
-                    log.error("Caught unique constraint exception with sql state: {} " +
-                                    "in RestaurantApprovalRequestKafkaListener for order id: {}",
-                            sqlException.getSQLState(), restaurantApprovalRequestAvroModel.getOrderId());
-                } else {
-                    throw new RestaurantApplicationServiceException("Throwing DataAccessException in" +
-                            " RestaurantApprovalRequestKafkaListener: " + e.getMessage(), e);
-                }
-            } catch (RestaurantNotFoundException e) {
-                //NO-OP for RestaurantNotFoundException
-                log.error("No restaurant found for restaurant id: {}, and order id: {}",
-                        restaurantApprovalRequestAvroModel.getRestaurantId(),
+        try {
+            restaurantApprovalRequestMessageListener.approveOrders(messages.stream()
+                    .map(restaurantMessagingDataMapper::restaurantApprovalRequestAvroModelToRestaurantApproval)
+                    .collect(Collectors.toList()));
+        } catch (DataAccessException e) {
+            if (!isUniqueViolation(e)) {
+                throw new RestaurantApplicationServiceException("Throwing DataAccessException in" +
+                        " RestaurantApprovalRequestKafkaListener: " + e.getMessage(), e);
+            }
+            log.warn("Caught unique constraint exception in batch approval of {} requests, " +
+                    "retrying one by one", messages.size());
+            kafkaRecordExecutor.forEachByKey(messages, RestaurantApprovalRequestAvroModel::getOrderId,
+                    this::approveOrder);
+        }
+    }
+
+    private void approveOrder(RestaurantApprovalRequestAvroModel restaurantApprovalRequestAvroModel) {
+        try {
+            log.info("Processing order approval for order id: {}",
+                    restaurantApprovalRequestAvroModel.getOrderId());
+            restaurantApprovalRequestMessageListener.approveOrder(restaurantMessagingDataMapper.
+                    restaurantApprovalRequestAvroModelToRestaurantApproval(restaurantApprovalRequestAvroModel));
+        } catch (DataAccessException e) {
+            if (isUniqueViolation(e)) {
+                //NO-OP for unique constraint exception
+                log.error("Caught unique constraint exception with sql state: {} " +
+                                "in RestaurantApprovalRequestKafkaListener for order id: {}",
+                        ((SQLException) e.getRootCause()).getSQLState(),
                         restaurantApprovalRequestAvroModel.getOrderId());
+            } else {
+                throw new RestaurantApplicationServiceException("Throwing DataAccessException in" +
+                        " RestaurantApprovalRequestKafkaListener: " + e.getMessage(), e);
             }
-        });
+        } catch (RestaurantNotFoundException e) {
+            //NO-OP for RestaurantNotFoundException
+            log.error("No restaurant found for restaurant id: {}, and order id: {}",
+                    restaurantApprovalRequestAvroModel.getRestaurantId(),
+                    restaurantApprovalRequestAvroModel.getOrderId());
+        }
+    }
+
+    private boolean isUniqueViolation(DataAccessException e) {
+        return e.getRootCause() instanceof SQLException sqlException && sqlException.getSQLState() != null &&
+                PSQLState.UNIQUE_VIOLATION.getState().equals(sqlException.getSQLState());
     }
 
 }
@@ -1,10 +1,12 @@
 package com.food.ordering.system.restaurant.service.messaging.mapper;
 
+import com.food.ordering.system.domain.IdGenerator;
 import com.food.ordering.system.domain.valueobject.ProductId;
 import com.food.ordering.system.domain.valueobject.RestaurantOrderStatus;
 import com.food.ordering.system.kafka.order.avro.model.OrderApprovalStatus;
 import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalRequestAvroModel;
 import com.food.ordering.system.kafka.order.avro.model.RestaurantApprovalResponseAvroModel;
+import com.food.ordering.system.kafka.order.avro.serde.AvroUuidConverter;
 import com.food.ordering.system.restaurant.service.domain.dto.RestaurantApprovalRequest;
 import com.food.ordering.system.restaurant.service.domain.entity.Product;
 import com.food.ordering.system.restaurant.service.domain.event.OrderApprovedEvent;
@@ -22,16 +24,21 @@ public class RestaurantMessagingDataMapper {
     restaurantApprovalRequestAvroModelToRestaurantApproval(RestaurantApprovalRequestAvroModel
                                                                    restaurantApprovalRequestAvroModel) {
         return RestaurantApprovalRequest.builder()
-                .id(restaurantApprovalRequestAvroModel.getId())
-                .sagaId(restaurantApprovalRequestAvroModel.getSagaId())
-                .restaurantId(restaurantApprovalRequestAvroModel.getRestaurantId())
-                .orderId(restaurantApprovalRequestAvroModel.getOrderId())
+                .id(AvroUuidConverter.toUUID(restaurantApprovalRequestAvroModel.getIdFixed(),
+                        restaurantApprovalRequestAvroModel.getId()))
+                .sagaId(AvroUuidConverter.toUUID(restaurantApprovalRequestAvroModel.getSagaIdFixed(),
+                        restaurantApprovalRequestAvroModel.getSagaId()))
+                .restaurantId(AvroUuidConverter.toUUID(restaurantApprovalRequestAvroModel.getRestaurantIdFixed(),
+                        restaurantApprovalRequestAvroModel.getRestaurantId()))
+                .orderId(AvroUuidConverter.toUUID(restaurantApprovalRequestAvroModel.getOrderIdFixed(),
+                        restaurantApprovalRequestAvroModel.getOrderId()))
                 .restaurantOrderStatus(RestaurantOrderStatus.valueOf(restaurantApprovalRequestAvroModel
                         .getRestaurantOrderStatus().name()))
                 .products(restaurantApprovalRequestAvroModel.getProducts()
                         .stream().map(avroModel ->
                                 Product.builder()
-                                        .productId(new ProductId(UUID.fromString(avroModel.getId())))
+                                        .productId(new ProductId(AvroUuidConverter.toUUID(avroModel.getIdFixed(),
+                                                avroModel.getId())))
                                         .quantity(avroModel.getQuantity())
                                         .build())
                         .collect(Collectors.toList()))
@@ -41,12 +48,17 @@ public class RestaurantMessagingDataMapper {
     }
 
     public RestaurantApprovalResponseAvroModel
-    orderEventPayloadToRestaurantApprovalResponseAvroModel(String sagaId, OrderEventPayload orderEventPayload) {
+    orderEventPayloadToRestaurantApprovalResponseAvroModel(UUID sagaId, OrderEventPayload orderEventPayload) {
+        UUID id = IdGenerator.newId();
         return RestaurantApprovalResponseAvroModel.newBuilder()
-                .setId(UUID.randomUUID().toString())
-                .setSagaId(sagaId)
+                .setId(id.toString())
+                .setIdFixed(AvroUuidConverter.toAvro(id))
+                .setSagaId(sagaId.toString())
+                .setSagaIdFixed(AvroUuidConverter.toAvro(sagaId))
                 .setOrderId(orderEventPayload.getOrderId())
+                .setOrderIdFixed(AvroUuidConverter.toAvro(orderEventPayload.getOrderId()))
                 .setRestaurantId(orderEventPayload.getRestaurantId())
+                .setRestaurantIdFixed(AvroUuidConverter.toAvro(orderEventPayload.getRestaurantId()))
                 .setCreatedAt(orderEventPayload.getCreatedAt().toInstant())
                 .setOrderApprovalStatus(OrderApprovalStatus.valueOf(orderEventPayload.getOrderApprovalStatus()))
                 .setFailureMessages(orderEventPayload.getFailureMessages())
@@ -12,8 +12,11 @@ import com.food.ordering.system.restaurant.service.messaging.mapper.RestaurantMe
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.Map;
 import java.util.function.BiConsumer;
 
+import static com.food.ordering.system.saga.order.SagaConstant.SAGA_ID_HEADER;
+
 @Slf4j
 @Component
 public class RestaurantApprovalEventKafkaPublisher implements RestaurantApprovalResponseMessagePublisher {
@@ -50,11 +53,13 @@ public class RestaurantApprovalEventKafkaPublisher implements RestaurantApproval
         try {
             RestaurantApprovalResponseAvroModel restaurantApprovalResponseAvroModel =
                     restaurantMessagingDataMapper
-                            .orderEventPayloadToRestaurantApprovalResponseAvroModel(sagaId, orderEventPayload);
+                            .orderEventPayloadToRestaurantApprovalResponseAvroModel(
+                                    orderOutboxMessage.getSagaId(), orderEventPayload);
 
             kafkaProducer.send(restaurantServiceConfigData.getRestaurantApprovalResponseTopicName(),
                     sagaId,
                     restaurantApprovalResponseAvroModel,
+                    Map.of(SAGA_ID_HEADER, sagaId),
                     kafkaMessageHelper.getKafkaCallback(restaurantServiceConfigData
                                     .getRestaurantApprovalResponseTopicName(),
                             restaurantApprovalResponseAvroModel,
@@ -64,7 +69,7 @@ public class RestaurantApprovalEventKafkaPublisher implements RestaurantApproval
                             "RestaurantApprovalResponseAvroModel"));
 
             log.info("RestaurantApprovalResponseAvroModel sent to kafka for order id: {} and saga id: {}",
-                    restaurantApprovalResponseAvroModel.getOrderId(), sagaId);
+                    orderEventPayload.getOrderId(), sagaId);
         } catch (Exception e) {
             log.error("Error while sending RestaurantApprovalResponseAvroModel message" +
                             " to kafka with order id: {} and saga id: {}, error: {}",